@@ -11,6 +11,14 @@ if [[ $selected_backends == *"opencl"* ]]; then
   echo -e "\nTesting the Native OpenCL API\n"
   tornado uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLJITCompiler
   tornado uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLTornadoCompiler
+  tornado -Dtornado.experimental.tiling=True uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLLocalMemoryTiling
+  tornado uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLReadOnlyArguments
+  tornado uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLLIROptimisations
+  tornado -Dtornado.experimental.reduce.singlepass=True uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLSinglePassReduction
+  tornado uk.ac.manchester.tornado.drivers.opencl.tests.TestAutoTuner
+  tornado uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLVirtualRegisterAllocation
+  tornado -Dtornado.experimental.virtual.registers=True uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLVirtualRegisterAllocation
+  tornado -Dtornado.experimental.vectorisation=True -Dtornado.experimental.vectorisation.width=4 uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLLoopVectorisation
 fi
 
 echo " " 
@@ -67,6 +67,8 @@ __SKIP_SERIAL__   = " -Dtornado.benchmarks.skipserial=True "
 __SKIP_PARALLEL__ = " -Dtornado.enable=False "
 __SKIP_DEVICES__  = " -Dtornado.blacklist.devices="
 __VALIDATE__      = " -Dtornado.benchmarks.validate=True "
+__RESULTS_CSV__   = " -Dtornado.benchmarks.results.csv="
+__RESULTS_JSON__  = " -Dtornado.benchmarks.results.json="
 ## ========================================================================================
 
 ## Include here benchmarks to run
@@ -86,8 +88,14 @@ __BENCHMARKS__ = [
 	"dgemm",
 	"mandelbrot",
 	"dft",
+	"sort",
+	"histogram",
+	"vectorwidth",
 ]
 
+## Vector widths compared by the vectorwidth benchmark
+__VECTOR_WIDTHS__ = [8, 16]
+
 def getSize():
 	return ITERATIONS
 
@@ -102,6 +110,9 @@ allSizes = {
 	"blackscholes": [[512, 1024, 2048, 4096, 8192, 16384, 32798, 65536, 1048576, 4194304], [__MAX_ITERATIONS__]],
 	"dft": [[256, 512, 1024, 2048, 4096, 8192], [__MAX_ITERATIONS__]],
 	"blurFilter": [[256, 512, 1024, 2048, 8192, 16384], [__MAX_ITERATIONS__]],
+	"sort": [[65536, 262144, 1048576, 4194304, 16777216], [__MAX_ITERATIONS__]],
+	"histogram": [[65536, 262144, 1048576, 4194304, 16777216], [__MAX_ITERATIONS__]],
+	"vectorwidth": [[65536, 262144, 1048576, 4194304, 16777216], [__MAX_ITERATIONS__]],
 }
 
 mediumSizes = {
@@ -113,6 +124,9 @@ mediumSizes = {
 	"blackscholes": [[512, 1024, 2048, 4096, 8192, 16384, 32798, 65536], ["getSize()"]],
 	"dft": [[256, 512, 1024, 2048, 4096], ["getSize()"]],
 	"blurFilter": [[256, 512, 1024, 2048], ["getSize()"]],
+	"sort": [[65536, 262144, 1048576], ["getSize()"]],
+	"histogram": [[65536, 262144, 1048576], ["getSize()"]],
+	"vectorwidth": [[65536, 262144, 1048576], ["getSize()"]],
 }
 
 ## ========================================================================================
@@ -126,6 +140,10 @@ def composeAllOptions(args):
 		options = options + __VALIDATE__
 	if args.skip_devices != None:
 		options = options + __SKIP_DEVICES__ + args.skip_devices  + " "
+	if args.csv != None:
+		options = options + __RESULTS_CSV__ + args.csv + " "
+	if args.json != None:
+		options = options + __RESULTS_JSON__ + args.json + " "
 	return options
 
 def printBenchmarks(indent=""):
@@ -140,6 +158,10 @@ def runBenchmarksFullCoverage(args):
 			command = __TORNADO_COMMAND__ + options + " " + __RUNNER__ + key + " " + str(allSizes[key][1][0]) + " " + str(size)
 			if key is 'sgemm':
 				command = command + " " + str(size)
+			if key is 'vectorwidth':
+				for width in __VECTOR_WIDTHS__:
+					os.system(command + " " + str(width))
+				continue
 			os.system(command)
 
 def runMediumConfiguration(args):
@@ -151,6 +173,10 @@ def runMediumConfiguration(args):
 			command = __TORNADO_COMMAND__ + options + " " + __RUNNER__ + key + " " + str(numIterations) + " " + str(size)
 			if key is 'sgemm':
 				command = command + " " + str(size)
+			if key is 'vectorwidth':
+				for width in __VECTOR_WIDTHS__:
+					os.system(command + " " + str(width))
+				continue
 			os.system(command)
 
 def runWithJMH(args):
@@ -168,6 +194,13 @@ def runDefaultSizePerBenchmark(args):
 		command = __TORNADO_COMMAND__ + options + " " + __RUNNER__ + b
 		os.system(command)
 
+def compareResults(args):
+	command = __TORNADO_COMMAND__ + " uk.ac.manchester.tornado.benchmarks.BenchmarkComparator " + " ".join(args.compare)
+	if args.threshold != None:
+		command = command + " " + str(args.threshold)
+	status = os.system(command)
+	sys.exit(1 if status != 0 else 0)
+
 def parseArguments():
 	parser = argparse.ArgumentParser(description="""Tool to execute benchmarks in TornadoVM. With no options, it runs all benchmarks with the default size""")
 	parser.add_argument('--validate', action="store_true", dest="validate", default=False, help="Enable result validation")
@@ -179,6 +212,10 @@ def parseArguments():
 	parser.add_argument('--skipDevices', action="store", dest="skip_devices", default=None, help="Skip devices. Provide a list of devices (e.g., 0,1)")
 	parser.add_argument('--printBenchmarks', action="store_true", dest="benchmarks", default=False, help="Print the list of available benchmarks")
 	parser.add_argument('--jmh', action="store_true", dest="jmh", default=False, help="Run with JMH")
+	parser.add_argument('--csv', action="store", dest="csv", default=None, help="Append the results of each benchmark to a CSV file")
+	parser.add_argument('--json', action="store", dest="json", default=None, help="Append the results of each benchmark to a JSON file (one object per line)")
+	parser.add_argument('--compare', action="store", nargs=2, dest="compare", default=None, metavar=("BASELINE", "NEW"), help="Compare two result files and report the regressions")
+	parser.add_argument('--threshold', action="store", type=float, dest="threshold", default=None, help="Regression threshold in percentage for --compare (default 5)")
 	args = parser.parse_args()
 	return args
 
@@ -188,7 +225,9 @@ def main():
 	if (args.iterations > 0):
 		ITERATIONS = args.iterations
 
-	if args.benchmarks:
+	if args.compare != None:
+		compareResults(args)
+	elif args.benchmarks:
 		printBenchmarks()
 	elif args.full:
 		runBenchmarksFullCoverage(args)
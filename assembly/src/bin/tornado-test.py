@@ -36,15 +36,19 @@ import time
 __TEST_THE_WORLD__ = [
 	"uk.ac.manchester.tornado.unittests.TestHello",
 	"uk.ac.manchester.tornado.unittests.arrays.TestArrays",
+	"uk.ac.manchester.tornado.unittests.arrays.TestOffHeapArrays",
+	"uk.ac.manchester.tornado.unittests.arrays.TestStructOfArrays",
 	"uk.ac.manchester.tornado.unittests.functional.TestLambdas",
 	"uk.ac.manchester.tornado.unittests.vectortypes.TestFloats",
 	"uk.ac.manchester.tornado.unittests.vectortypes.TestDoubles",
 	"uk.ac.manchester.tornado.unittests.vectortypes.TestInts",
 	"uk.ac.manchester.tornado.unittests.vectortypes.TestVectorAllocation",
+	"uk.ac.manchester.tornado.unittests.vectortypes.TestHalfFloats",
 	"uk.ac.manchester.tornado.unittests.prebuilt.PrebuiltTest",
 	"uk.ac.manchester.tornado.unittests.virtualization.TestsVirtualLayer",
 	"uk.ac.manchester.tornado.unittests.tasks.TestSingleTaskSingleDevice",
 	"uk.ac.manchester.tornado.unittests.tasks.TestMultipleTasksSingleDevice",
+	"uk.ac.manchester.tornado.unittests.tasks.TestReplay",
 	"uk.ac.manchester.tornado.unittests.images.TestImages",
 	"uk.ac.manchester.tornado.unittests.images.TestResizeImage",
 	"uk.ac.manchester.tornado.unittests.branching.TestConditionals",
@@ -56,6 +60,7 @@ __TEST_THE_WORLD__ = [
 	"uk.ac.manchester.tornado.unittests.reductions.TestReductionsDoubles",
 	"uk.ac.manchester.tornado.unittests.reductions.TestReductionsLong",
 	"uk.ac.manchester.tornado.unittests.reductions.InstanceReduction",
+	"uk.ac.manchester.tornado.unittests.reductions.TestReductionsCombiner",
 	"uk.ac.manchester.tornado.unittests.instances.TestInstances",
 	"uk.ac.manchester.tornado.unittests.matrices.TestMatrixTypes",
 	"uk.ac.manchester.tornado.unittests.api.TestAPI",
@@ -63,6 +68,10 @@ __TEST_THE_WORLD__ = [
 	"uk.ac.manchester.tornado.unittests.batches.TestBatches",
 	"uk.ac.manchester.tornado.unittests.lambdas.TestLambdas",
 	"uk.ac.manchester.tornado.unittests.flatmap.TestFlatMap",
+	"uk.ac.manchester.tornado.unittests.scan.TestPrefixSum",
+	"uk.ac.manchester.tornado.unittests.scan.TestStreamCompaction",
+	"uk.ac.manchester.tornado.unittests.sort.TestRadixSort",
+	"uk.ac.manchester.tornado.unittests.histogram.TestHistogram",
 	"uk.ac.manchester.tornado.unittests.logic.TestLogic",
 	"uk.ac.manchester.tornado.unittests.reductions.TestReductionsAutomatic",
 	"uk.ac.manchester.tornado.unittests.fields.TestFields",
@@ -71,6 +80,7 @@ __TEST_THE_WORLD__ = [
 	"uk.ac.manchester.tornado.unittests.bitsets.BitSetTests",
 	"uk.ac.manchester.tornado.unittests.fails.TestFails",
     "uk.ac.manchester.tornado.unittests.math.TestTornadoMathCollection",
+    "uk.ac.manchester.tornado.unittests.math.TestTornadoRandom",
     "uk.ac.manchester.tornado.unittests.arrays.TestNewArrays",
 	"uk.ac.manchester.tornado.unittests.dynsize.Resize",
 	"uk.ac.manchester.tornado.unittests.loops.TestLoopTransformations",
@@ -8,6 +8,7 @@ module tornado.benchmarks {
     requires transitive lucene.core;
     requires transitive tornado.api;
     requires transitive tornado.matrices;
+    requires tornado.runtime;
 
     exports uk.ac.manchester.tornado.benchmarks;
     exports uk.ac.manchester.tornado.benchmarks.addImage;
@@ -33,6 +34,8 @@ module tornado.benchmarks {
     exports uk.ac.manchester.tornado.benchmarks.euler.generated;
     exports uk.ac.manchester.tornado.benchmarks.hilbert;
     exports uk.ac.manchester.tornado.benchmarks.hilbert.generated;
+    exports uk.ac.manchester.tornado.benchmarks.histogram;
+    exports uk.ac.manchester.tornado.benchmarks.histogram.generated;
     exports uk.ac.manchester.tornado.benchmarks.mandelbrot;
     exports uk.ac.manchester.tornado.benchmarks.mandelbrot.generated;
     exports uk.ac.manchester.tornado.benchmarks.montecarlo;
@@ -45,14 +48,20 @@ module tornado.benchmarks {
     exports uk.ac.manchester.tornado.benchmarks.rotateimage.generated;
     exports uk.ac.manchester.tornado.benchmarks.rotatevector;
     exports uk.ac.manchester.tornado.benchmarks.rotatevector.generated;
+    exports uk.ac.manchester.tornado.benchmarks.runtime;
+    exports uk.ac.manchester.tornado.benchmarks.runtime.generated;
     exports uk.ac.manchester.tornado.benchmarks.saxpy;
     exports uk.ac.manchester.tornado.benchmarks.saxpy.generated;
     exports uk.ac.manchester.tornado.benchmarks.sgemm;
     exports uk.ac.manchester.tornado.benchmarks.sgemm.generated;
     exports uk.ac.manchester.tornado.benchmarks.sgemv;
     exports uk.ac.manchester.tornado.benchmarks.sgemv.generated;
+    exports uk.ac.manchester.tornado.benchmarks.sort;
+    exports uk.ac.manchester.tornado.benchmarks.sort.generated;
     exports uk.ac.manchester.tornado.benchmarks.spmv;
     exports uk.ac.manchester.tornado.benchmarks.spmv.generated;
     exports uk.ac.manchester.tornado.benchmarks.stencil;
     exports uk.ac.manchester.tornado.benchmarks.stencil.generated;
+    exports uk.ac.manchester.tornado.benchmarks.vectorwidth;
+    exports uk.ac.manchester.tornado.benchmarks.vectorwidth.generated;
 }
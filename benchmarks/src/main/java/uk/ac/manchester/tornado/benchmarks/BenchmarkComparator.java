@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two benchmark result files (CSV or JSON, see
+ * {@link BenchmarkReporter}) and flags the regressions.
+ *
+ * A benchmark regresses when its mean is slower than the baseline by more than
+ * the threshold (in %) and the 95% confidence intervals of both runs do not
+ * overlap. The process exits with status 1 if any regression is found, so it
+ * can be used as a gate.
+ *
+ * How to run:
+ *
+ * <code>
+ *     tornado uk.ac.manchester.tornado.benchmarks.BenchmarkComparator baseline.csv new.csv [threshold]
+ * </code>
+ */
+public class BenchmarkComparator {
+
+    private static final double DEFAULT_THRESHOLD = 5.0;
+
+    private static Map<String, BenchmarkResult> load(String fileName) throws IOException {
+        final List<String> lines = Files.readAllLines(Paths.get(fileName));
+        final Map<String, BenchmarkResult> results = new LinkedHashMap<>();
+        if (fileName.endsWith(".json")) {
+            for (String line : lines) {
+                if (!line.trim().isEmpty()) {
+                    BenchmarkResult result = BenchmarkResult.fromJSON(line);
+                    results.put(result.getKey(), result);
+                }
+            }
+        } else if (!lines.isEmpty()) {
+            final String[] header = lines.get(0).split(",");
+            for (String line : lines.subList(1, lines.size())) {
+                if (!line.trim().isEmpty()) {
+                    BenchmarkResult result = BenchmarkResult.fromCSV(header, line);
+                    results.put(result.getKey(), result);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return number of regressions found.
+     */
+    public static int compare(Map<String, BenchmarkResult> baseline, Map<String, BenchmarkResult> current, double threshold) {
+        int regressions = 0;
+        for (Map.Entry<String, BenchmarkResult> entry : current.entrySet()) {
+            final BenchmarkResult base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf("NEW         bm=%-30s, device=%-15s\n", entry.getValue().get("id"), entry.getValue().get("device"));
+                continue;
+            }
+            final BenchmarkResult result = entry.getValue();
+            final double baseMean = base.getDouble("mean");
+            final double newMean = result.getDouble("mean");
+            final double change = ((newMean - baseMean) / baseMean) * 100;
+            final boolean overlap = (newMean - result.getDouble("ci95")) <= (baseMean + base.getDouble("ci95"))
+                    && (baseMean - base.getDouble("ci95")) <= (newMean + result.getDouble("ci95"));
+
+            String status = "UNCHANGED";
+            if (!overlap && change > threshold) {
+                status = "REGRESSION";
+                regressions++;
+            } else if (!overlap && change < -threshold) {
+                status = "IMPROVEMENT";
+            }
+            System.out.printf("%-11s bm=%-30s, device=%-15s, baseline=%6e, new=%6e, change=%+.2f%%\n", status, result.get("id"), result.get("device"), baseMean, newMean, change);
+        }
+        return regressions;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: BenchmarkComparator <baseline file> <new file> [threshold %]");
+            System.exit(2);
+        }
+        final double threshold = (args.length > 2) ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        final int regressions = compare(load(args[0]), load(args[1]), threshold);
+        System.out.printf("%d regression(s) found with a threshold of %.2f%%\n", regressions, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+}
@@ -18,6 +18,7 @@
 package uk.ac.manchester.tornado.benchmarks;
 
 import static java.lang.Math.toIntExact;
+import static java.util.Arrays.copyOfRange;
 import static java.util.Arrays.sort;
 import static uk.ac.manchester.tornado.api.utils.TornadoUtilities.humanReadableByteCount;
 
@@ -32,11 +33,28 @@ public abstract class BenchmarkDriver {
 
     public static final float MAX_ULP = Float.parseFloat(System.getProperty("tornado.benchmarks.maxulp", "1000.0"));
 
+    /**
+     * Number of consecutive iterations used to detect the steady state.
+     */
+    private static final int STEADY_STATE_WINDOW = Integer.parseInt(System.getProperty("tornado.benchmarks.steadystate.window", "10"));
+
+    /**
+     * Maximum coefficient of variation (in %) of a window of iterations to be
+     * considered in steady state.
+     */
+    private static final double STEADY_STATE_MAX_CV = Double.parseDouble(System.getProperty("tornado.benchmarks.steadystate.cv", "5.0"));
+
+    /**
+     * Number of iterations skipped when the steady state is not reached.
+     */
+    private static final int DEFAULT_STARTING_INDEX = 30;
+
     protected final long iterations;
     private double elapsed;
     private boolean validResult;
     private double[] timers;
-    private int startingIndex = 30;
+    private int startingIndex = DEFAULT_STARTING_INDEX;
+    private boolean steadyState;
 
     public BenchmarkDriver(long iterations) {
         this.iterations = iterations;
@@ -95,10 +113,21 @@ public abstract class BenchmarkDriver {
                 timers[toIntExact(i)] = (end - start);
             }
             barrier();
+            detectSteadyState();
         }
         tearDown();
     }
 
+    private void detectSteadyState() {
+        final int index = BenchmarkStatistics.findSteadyState(timers, STEADY_STATE_WINDOW, STEADY_STATE_MAX_CV);
+        steadyState = (index != -1);
+        if (steadyState) {
+            startingIndex = index;
+        } else {
+            startingIndex = (timers.length > DEFAULT_STARTING_INDEX) ? DEFAULT_STARTING_INDEX : 0;
+        }
+    }
+
     public double getBestExecution() {
         double minValue = timers[0];
         for (int i = 1; i < timers.length; i++) {
@@ -114,7 +143,7 @@ public abstract class BenchmarkDriver {
     }
 
     public double getMedian() {
-        double[] temp = timers.clone();
+        double[] temp = copyOfRange(timers, firstSample(), timers.length);
         sort(temp);
         if (temp.length % 2 == 0) {
             return ((temp[temp.length / 2] + temp[temp.length / 2 - 1]) / 2);
@@ -123,34 +152,62 @@ public abstract class BenchmarkDriver {
         }
     }
 
+    private int firstSample() {
+        return (timers.length <= startingIndex) ? 0 : startingIndex;
+    }
+
     public double getMean() {
-        double sum = 0.0;
-        if (timers.length <= startingIndex) {
-            startingIndex = 0;
-        }
-        for (int i = startingIndex; i < timers.length; i++) {
-            sum += timers[i];
-        }
-        return sum / (iterations - startingIndex);
+        return BenchmarkStatistics.mean(timers, firstSample(), timers.length);
     }
 
+    /**
+     * @return sample variance (Bessel corrected) of the steady-state iterations,
+     *         consistent with the confidence interval.
+     */
     public double getVariance() {
-        double mean = getMean();
-        double temp = 0;
-        for (int i = startingIndex; i < timers.length; i++) {
-            temp += (timers[i] - mean) * (timers[i] - mean);
-        }
-        return (temp / (iterations - startingIndex));
+        final double stdDev = getStdDev();
+        return stdDev * stdDev;
     }
 
     public double getStdDev() {
-        return Math.sqrt(getVariance());
+        return BenchmarkStatistics.sampleStdDev(timers, firstSample(), timers.length);
     }
 
     public double getCV() {
         return (getStdDev() / getMean()) * 100;
     }
 
+    /**
+     * @return true if a window of iterations with a low coefficient of variation
+     *         was found. Otherwise the statistics skip a fixed number of warm-up
+     *         iterations.
+     */
+    public boolean isSteadyState() {
+        return steadyState;
+    }
+
+    /**
+     * @return index of the first iteration used for the statistics.
+     */
+    public int getSteadyStateIndex() {
+        return firstSample();
+    }
+
+    public int getNumSamples() {
+        return timers.length - firstSample();
+    }
+
+    /**
+     * @return half-width of the 95% confidence interval of the mean.
+     */
+    public double getConfidenceInterval() {
+        return BenchmarkStatistics.confidenceInterval95(timers, firstSample(), timers.length);
+    }
+
+    public int getNumOutliers() {
+        return BenchmarkStatistics.countOutliers(timers, firstSample(), timers.length);
+    }
+
     public double getElapsed() {
         return elapsed;
     }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * It appends the {@link BenchmarkResult}s to the files selected with:
+ *
+ * <ul>
+ * <li>{@code -Dtornado.benchmarks.results.csv=<file>}</li>
+ * <li>{@code -Dtornado.benchmarks.results.json=<file>}</li>
+ * </ul>
+ *
+ * The JSON file contains one object per line.
+ */
+public final class BenchmarkReporter {
+
+    private static final String CSV_FILE = System.getProperty("tornado.benchmarks.results.csv", "");
+
+    private static final String JSON_FILE = System.getProperty("tornado.benchmarks.results.json", "");
+
+    private BenchmarkReporter() {
+    }
+
+    public static void report(BenchmarkResult result) {
+        if (!CSV_FILE.isEmpty()) {
+            final boolean writeHeader = !new File(CSV_FILE).exists();
+            append(CSV_FILE, writeHeader ? BenchmarkResult.csvHeader() + "\n" + result.toCSV() : result.toCSV());
+        }
+        if (!JSON_FILE.isEmpty()) {
+            append(JSON_FILE, result.toJSON());
+        }
+    }
+
+    private static void append(String fileName, String line) {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(fileName, true))) {
+            writer.println(line);
+        } catch (IOException e) {
+            System.err.println("[ERROR] Unable to write the benchmark results into " + fileName + ": " + e.getMessage());
+        }
+    }
+}
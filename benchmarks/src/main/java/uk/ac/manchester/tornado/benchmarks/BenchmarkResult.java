@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Machine-readable summary of one benchmark execution on one device (or the
+ * Java reference). Results are stored as CSV rows or as JSON objects, one per
+ * line, so that independent benchmark runs can append to the same file.
+ */
+public class BenchmarkResult {
+
+    public static final String JAVA_REFERENCE = "java-reference";
+
+    static final String[] FIELDS = { "benchmark", "id", "config", "device", "deviceName", "iterations", "samples", "steadyStateIndex", "steadyState", "mean", "median", "stdDev", "cv",
+            "ci95", "best", "firstIteration", "outliers", "speedup" };
+
+    private static final Pattern JSON_FIELD = Pattern.compile("\"(\\w+)\"\\s*:\\s*(\"(?:[^\"\\\\]|\\\\.)*\"|[^,}]+)");
+
+    private final Map<String, String> values;
+
+    private BenchmarkResult(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static BenchmarkResult create(String benchmark, String id, String config, String device, String deviceName, BenchmarkDriver driver, double speedup) {
+        Map<String, String> values = new HashMap<>();
+        values.put("benchmark", benchmark);
+        values.put("id", id);
+        values.put("config", config);
+        values.put("device", device);
+        values.put("deviceName", deviceName);
+        values.put("iterations", Long.toString(driver.iterations));
+        values.put("samples", Integer.toString(driver.getNumSamples()));
+        values.put("steadyStateIndex", Integer.toString(driver.getSteadyStateIndex()));
+        values.put("steadyState", Boolean.toString(driver.isSteadyState()));
+        values.put("mean", toString(driver.getMean()));
+        values.put("median", toString(driver.getMedian()));
+        values.put("stdDev", toString(driver.getStdDev()));
+        values.put("cv", toString(driver.getCV()));
+        values.put("ci95", toString(driver.getConfidenceInterval()));
+        values.put("best", toString(driver.getBestExecution()));
+        values.put("firstIteration", toString(driver.getFirstIteration()));
+        values.put("outliers", Integer.toString(driver.getNumOutliers()));
+        values.put("speedup", toString(speedup));
+        return new BenchmarkResult(values);
+    }
+
+    private static String toString(double value) {
+        return String.format(Locale.ROOT, "%.6e", value);
+    }
+
+    public String get(String field) {
+        return values.get(field);
+    }
+
+    public double getDouble(String field) {
+        return Double.parseDouble(values.get(field));
+    }
+
+    /**
+     * Key used to match results between two runs: the benchmark configuration
+     * and the device.
+     */
+    public String getKey() {
+        return get("id") + " " + get("device");
+    }
+
+    public static String csvHeader() {
+        return String.join(",", FIELDS);
+    }
+
+    public String toCSV() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (i > 0) {
+                sb.append(",");
+            }
+            sb.append("\"").append(values.get(FIELDS[i]).replace("\"", "\"\"")).append("\"");
+        }
+        return sb.toString();
+    }
+
+    public String toJSON() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append("\"").append(FIELDS[i]).append("\": \"").append(values.get(FIELDS[i]).replace("\\", "\\\\").replace("\"", "\\\"")).append("\"");
+        }
+        return sb.append("}").toString();
+    }
+
+    private static List<String> splitCSV(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    public static BenchmarkResult fromCSV(String[] header, String line) {
+        List<String> cells = splitCSV(line);
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < header.length && i < cells.size(); i++) {
+            values.put(header[i].trim(), cells.get(i));
+        }
+        return new BenchmarkResult(values);
+    }
+
+    public static BenchmarkResult fromJSON(String line) {
+        Map<String, String> values = new HashMap<>();
+        Matcher matcher = JSON_FIELD.matcher(line);
+        while (matcher.find()) {
+            String value = matcher.group(2).trim();
+            if (value.startsWith("\"")) {
+                value = value.substring(1, value.length() - 1).replace("\\\"", "\"").replace("\\\\", "\\");
+            }
+            values.put(matcher.group(1), value);
+        }
+        return new BenchmarkResult(values);
+    }
+}
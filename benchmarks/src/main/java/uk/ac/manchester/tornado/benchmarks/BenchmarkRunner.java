@@ -61,7 +61,8 @@ public abstract class BenchmarkRunner {
             final BenchmarkDriver referenceTest = getJavaDriver();
             referenceTest.benchmark(null);
 
-            System.out.printf("bm=%-15s, id=%-20s, %s\n", id, "java-reference", referenceTest.getPreciseSummary());
+            System.out.printf("bm=%-15s, id=%-20s, %s\n", id, BenchmarkResult.JAVA_REFERENCE, referenceTest.getPreciseSummary());
+            report(id, BenchmarkResult.JAVA_REFERENCE, "java", referenceTest, 1.0);
 
             refElapsed = referenceTest.getMean();
             refElapsedMedian = referenceTest.getMedian();
@@ -122,6 +123,7 @@ public abstract class BenchmarkRunner {
                 System.out.printf("bm=%-15s, device=%-5s, %s, speedupAvg=%.4f, speedupMedian=%.4f, speedupFirstIteration=%.4f, CV=%.4f%%, deviceName=%s\n", id, driverIndex + ":" + deviceIndex,
                         deviceTest.getPreciseSummary(), refElapsed / deviceTest.getMean(), refElapsedMedian / deviceTest.getMedian(), refFirstIteration / deviceTest.getFirstIteration(),
                         deviceTest.getCV(), driver.getDevice(deviceIndex));
+                report(id, driverIndex + ":" + deviceIndex, driver.getDevice(deviceIndex).toString(), deviceTest, refElapsed / deviceTest.getMean());
 
             }
         }
@@ -143,9 +145,17 @@ public abstract class BenchmarkRunner {
             System.out.printf("bm=%-15s, device=%-5s, %s, speedupAvg=%.4f, speedupMedian=%.4f, speedupFirstIteration=%.4f, CV=%.4f, deviceName=%s\n", id, driverIndex + ":" + deviceIndex,
                     deviceTest.getPreciseSummary(), refElapsed / deviceTest.getMean(), refElapsedMedian / deviceTest.getMedian(), refFirstIteration / deviceTest.getFirstIteration(),
                     deviceTest.getCV(), driver.getDevice(deviceIndex));
+            report(id, driverIndex + ":" + deviceIndex, driver.getDevice(deviceIndex).toString(), deviceTest, refElapsed / deviceTest.getMean());
         }
     }
 
+    private void report(String id, String device, String deviceName, BenchmarkDriver driver, double speedup) {
+        if (!driver.isSteadyState()) {
+            System.out.printf("[WARNING] bm=%s, device=%s did not reach a steady state. Skipping the first %d iterations\n", id, device, driver.getSteadyStateIndex());
+        }
+        BenchmarkReporter.report(BenchmarkResult.create(getName(), id, getConfigString(), device, deviceName, driver, speedup));
+    }
+
     public abstract void parseArgs(String[] args);
 
     public static void main(String[] args) {
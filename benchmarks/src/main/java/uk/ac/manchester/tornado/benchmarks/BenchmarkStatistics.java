@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks;
+
+import java.util.Arrays;
+
+/**
+ * Statistics used by the {@link BenchmarkDriver} to summarise the timers of a
+ * benchmark: steady-state detection, confidence intervals and outliers.
+ */
+public final class BenchmarkStatistics {
+
+    /**
+     * Two-sided Student's t critical values for a 95% confidence level, indexed
+     * by degrees of freedom (1..30). Larger samples use the normal
+     * approximation.
+     */
+    private static final double[] T_95 = { 12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228, 2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086, 2.080,
+            2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042 };
+
+    private static final double Z_95 = 1.960;
+
+    private static final double TUKEY_FENCE = 1.5;
+
+    private BenchmarkStatistics() {
+    }
+
+    public static double mean(double[] values, int from, int to) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum / (to - from);
+    }
+
+    /**
+     * Sample standard deviation (Bessel corrected) of values[from, to).
+     */
+    public static double sampleStdDev(double[] values, int from, int to) {
+        final int n = to - from;
+        if (n < 2) {
+            return 0.0;
+        }
+        final double mean = mean(values, from, to);
+        double temp = 0.0;
+        for (int i = from; i < to; i++) {
+            temp += (values[i] - mean) * (values[i] - mean);
+        }
+        return Math.sqrt(temp / (n - 1));
+    }
+
+    /**
+     * It finds the first iteration from which the timers are in steady state. The
+     * steady state starts at the first window of {@code window} consecutive
+     * iterations whose coefficient of variation is below {@code maxCV} (in %) and
+     * whose mean is within {@code maxCV} of the mean of the last window. The
+     * second condition avoids taking a stable phase during warm-up (e.g., before
+     * the JIT compilation of the host code) as the steady state.
+     *
+     * @return index of the first steady-state iteration, or -1 if the timers never
+     *         reach a steady state.
+     */
+    public static int findSteadyState(double[] timers, int window, double maxCV) {
+        if (window < 2 || timers.length < window) {
+            return -1;
+        }
+        final double reference = mean(timers, timers.length - window, timers.length);
+        for (int i = 0; i + window <= timers.length; i++) {
+            final double mean = mean(timers, i, i + window);
+            final double cv = (sampleStdDev(timers, i, i + window) / mean) * 100;
+            final double distance = (Math.abs(mean - reference) / reference) * 100;
+            if (cv <= maxCV && distance <= maxCV) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Half-width of the 95% confidence interval of the mean of values[from, to).
+     */
+    public static double confidenceInterval95(double[] values, int from, int to) {
+        final int n = to - from;
+        if (n < 2) {
+            return 0.0;
+        }
+        final int degreesOfFreedom = n - 1;
+        final double t = (degreesOfFreedom <= T_95.length) ? T_95[degreesOfFreedom - 1] : Z_95;
+        return t * sampleStdDev(values, from, to) / Math.sqrt(n);
+    }
+
+    public static double percentile(double[] sorted, double p) {
+        if (sorted.length == 1) {
+            return sorted[0];
+        }
+        final double rank = p * (sorted.length - 1);
+        final int lower = (int) Math.floor(rank);
+        final int upper = (int) Math.ceil(rank);
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    /**
+     * Number of outliers in values[from, to) using Tukey's fences (1.5 times the
+     * inter-quartile range below the first quartile or above the third
+     * quartile).
+     */
+    public static int countOutliers(double[] values, int from, int to) {
+        if (to - from < 4) {
+            return 0;
+        }
+        final double[] sorted = Arrays.copyOfRange(values, from, to);
+        Arrays.sort(sorted);
+        final double q1 = percentile(sorted, 0.25);
+        final double q3 = percentile(sorted, 0.75);
+        final double iqr = q3 - q1;
+        final double low = q1 - TUKEY_FENCE * iqr;
+        final double high = q3 + TUKEY_FENCE * iqr;
+        int outliers = 0;
+        for (double value : sorted) {
+            if (value < low || value > high) {
+                outliers++;
+            }
+        }
+        return outliers;
+    }
+}
@@ -24,13 +24,17 @@ import java.util.stream.IntStream;
 
 import uk.ac.manchester.tornado.api.annotations.Parallel;
 import uk.ac.manchester.tornado.api.collections.types.Float3;
+import uk.ac.manchester.tornado.api.collections.types.Float16;
 import uk.ac.manchester.tornado.api.collections.types.Float4;
+import uk.ac.manchester.tornado.api.collections.types.Float8;
 import uk.ac.manchester.tornado.api.collections.types.ImageFloat;
 import uk.ac.manchester.tornado.api.collections.types.ImageFloat3;
 import uk.ac.manchester.tornado.api.collections.types.ImageFloat4;
 import uk.ac.manchester.tornado.api.collections.types.Matrix4x4Float;
 import uk.ac.manchester.tornado.api.collections.types.VectorFloat3;
+import uk.ac.manchester.tornado.api.collections.types.VectorFloat16;
 import uk.ac.manchester.tornado.api.collections.types.VectorFloat4;
+import uk.ac.manchester.tornado.api.collections.types.VectorFloat8;
 
 public final class GraphicsKernels {
 
@@ -56,6 +60,18 @@ public final class GraphicsKernels {
         }
     }
 
+    public static void addVector8(VectorFloat8 a, VectorFloat8 b, VectorFloat8 c) {
+        for (@Parallel int i = 0; i < c.getLength(); i++) {
+            c.set(i, Float8.add(a.get(i), b.get(i)));
+        }
+    }
+
+    public static void addVector16(VectorFloat16 a, VectorFloat16 b, VectorFloat16 c) {
+        for (@Parallel int i = 0; i < c.getLength(); i++) {
+            c.set(i, Float16.add(a.get(i), b.get(i)));
+        }
+    }
+
     public static void rotateImage(ImageFloat3 output, Matrix4x4Float m, ImageFloat3 input) {
         for (@Parallel int i = 0; i < output.Y(); i++) {
             for (@Parallel int j = 0; j < output.X(); j++) {
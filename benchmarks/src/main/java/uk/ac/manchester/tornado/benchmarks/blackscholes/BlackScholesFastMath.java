@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.blackscholes;
+
+import static uk.ac.manchester.tornado.api.collections.math.TornadoMath.findULPDistance;
+import static uk.ac.manchester.tornado.benchmarks.BenchmarkDriver.MAX_ULP;
+
+import java.util.Arrays;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+import uk.ac.manchester.tornado.benchmarks.ComputeKernels;
+
+/**
+ * Compares the default compilation of the Black-Scholes kernel with the
+ * fast-math mode ({@code -D<schedule>.fastmath=True}). It reports the median
+ * kernel time of both versions, the speedup, and the maximum ULP and absolute
+ * errors of each version with respect to the sequential Java implementation. A
+ * version is valid if its ULP error is below
+ * {@code -Dtornado.benchmarks.maxulp} ({@link BenchmarkDriver#MAX_ULP}).
+ *
+ * How to run:
+ *
+ * <code>
+ *     tornado uk.ac.manchester.tornado.benchmarks.blackscholes.BlackScholesFastMath [size] [iterations]
+ * </code>
+ */
+public class BlackScholesFastMath {
+
+    private static final int DEFAULT_SIZE = 1048576;
+    private static final int DEFAULT_ITERATIONS = 100;
+
+    private static class Result {
+        private final String name;
+        private final float[] put;
+        private final float[] call;
+        private final long medianTime;
+
+        Result(String name, float[] put, float[] call, long medianTime) {
+            this.name = name;
+            this.put = put;
+            this.call = call;
+            this.medianTime = medianTime;
+        }
+    }
+
+    private static float maxAbsoluteError(float[] value, float[] expected) {
+        float maxError = 0;
+        for (int i = 0; i < value.length; i++) {
+            maxError = Math.max(maxError, Math.abs(value[i] - expected[i]));
+        }
+        return maxError;
+    }
+
+    private static Result run(String scheduleName, boolean fastMath, float[] randArray, int iterations) {
+        System.setProperty(scheduleName + ".fastmath", Boolean.toString(fastMath));
+        float[] put = new float[randArray.length];
+        float[] call = new float[randArray.length];
+
+        TaskSchedule schedule = new TaskSchedule(scheduleName) //
+                .streamIn(randArray) //
+                .task("t0", ComputeKernels::blackscholes, randArray, put, call) //
+                .streamOut(put, call);
+
+        // The first execution includes the JIT compilation
+        schedule.execute();
+
+        long[] times = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            schedule.execute();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return new Result(fastMath ? "fast-math" : "default", put, call, times[iterations / 2]);
+    }
+
+    private static void report(Result result, float[] putSeq, float[] callSeq) {
+        float maxULP = Math.max(findULPDistance(result.put, putSeq), findULPDistance(result.call, callSeq));
+        float maxError = Math.max(maxAbsoluteError(result.put, putSeq), maxAbsoluteError(result.call, callSeq));
+        System.out.printf("%-10s median=%10.3f ms, max ULP=%12.2f, max abs. error=%e, valid=%b\n", result.name, result.medianTime * 1e-6, maxULP, maxError, maxULP < MAX_ULP);
+    }
+
+    public static void main(String[] args) {
+        final int size = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        final int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+
+        float[] randArray = new float[size];
+        for (int i = 0; i < size; i++) {
+            randArray[i] = (i * 1.0f) / size;
+        }
+
+        float[] putSeq = new float[size];
+        float[] callSeq = new float[size];
+        ComputeKernels.blackscholes(randArray, putSeq, callSeq);
+
+        Result reference = run("precise", false, randArray, iterations);
+        Result fast = run("fast", true, randArray, iterations);
+
+        System.out.printf("BlackScholes: size=%d, iterations=%d\n", size, iterations);
+        report(reference, putSeq, callSeq);
+        report(fast, putSeq, callSeq);
+        System.out.printf("Speedup: %.2fx\n", (double) reference.medianTime / fast.medianTime);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package uk.ac.manchester.tornado.benchmarks.histogram;
+
+import uk.ac.manchester.tornado.api.collections.algorithms.Histogram;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+
+public class HistogramJava extends BenchmarkDriver {
+
+    private final int numElements;
+    private final int numBuckets;
+    private final int skew;
+
+    private int[] keys;
+    private float[] values;
+    private int[] counts;
+    private float[] sums;
+    private float[] mins;
+    private float[] maxs;
+
+    public HistogramJava(int iterations, int numElements, int numBuckets, int skew) {
+        super(iterations);
+        this.numElements = numElements;
+        this.numBuckets = numBuckets;
+        this.skew = skew;
+    }
+
+    @Override
+    public void setUp() {
+        keys = HistogramTornado.createSkewedKeys(numElements, numBuckets, skew);
+        values = HistogramTornado.createValues(numElements);
+        counts = new int[numBuckets];
+        sums = new float[numBuckets];
+        mins = new float[numBuckets];
+        maxs = new float[numBuckets];
+    }
+
+    @Override
+    public void tearDown() {
+        keys = null;
+        values = null;
+        counts = null;
+        sums = null;
+        mins = null;
+        maxs = null;
+        super.tearDown();
+    }
+
+    @Override
+    public void benchmarkMethod(TornadoDevice device) {
+        Histogram.histogramSequential(keys, values, counts, sums, mins, maxs);
+    }
+
+    @Override
+    public void barrier() {
+
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+        return true;
+    }
+
+    public void printSummary() {
+        System.out.printf("id=java-serial, elapsed=%f, per iteration=%f\n", getElapsed(), getElapsedPerIteration());
+    }
+
+}
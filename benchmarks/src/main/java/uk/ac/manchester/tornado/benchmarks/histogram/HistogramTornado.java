@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package uk.ac.manchester.tornado.benchmarks.histogram;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.collections.algorithms.Histogram;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+
+public class HistogramTornado extends BenchmarkDriver {
+
+    private final int numElements;
+    private final int numBuckets;
+    private final int skew;
+
+    private int[] keys;
+    private float[] values;
+
+    private Histogram histogram;
+    private TaskSchedule graph;
+
+    public HistogramTornado(int iterations, int numElements, int numBuckets, int skew) {
+        super(iterations);
+        this.numElements = numElements;
+        this.numBuckets = numBuckets;
+        this.skew = skew;
+    }
+
+    /**
+     * Power-law keys: bucket {@code numBuckets * u^skew} for a uniform
+     * {@code u}. A skew of 1 is uniform; larger values concentrate the keys in
+     * the first buckets.
+     */
+    static int[] createSkewedKeys(int size, int numBuckets, int skew) {
+        int[] keys = new int[size];
+        Random r = new Random(7);
+        for (int i = 0; i < size; i++) {
+            keys[i] = (int) (numBuckets * Math.pow(r.nextDouble(), skew));
+        }
+        return keys;
+    }
+
+    static float[] createValues(int size) {
+        float[] values = new float[size];
+        Random r = new Random(7);
+        for (int i = 0; i < size; i++) {
+            values[i] = r.nextFloat();
+        }
+        return values;
+    }
+
+    @Override
+    public void setUp() {
+        keys = createSkewedKeys(numElements, numBuckets, skew);
+        values = createValues(numElements);
+
+        histogram = new Histogram(keys, values, numBuckets);
+        graph = histogram.getTaskSchedule();
+        graph.warmup();
+    }
+
+    @Override
+    public void tearDown() {
+        graph.dumpProfiles();
+
+        keys = null;
+        values = null;
+
+        graph.getDevice().reset();
+        super.tearDown();
+    }
+
+    @Override
+    public void benchmarkMethod(TornadoDevice device) {
+        graph.mapAllTo(device);
+        histogram.execute();
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+
+        final int[] counts = new int[numBuckets];
+        final float[] sums = new float[numBuckets];
+        final float[] mins = new float[numBuckets];
+        final float[] maxs = new float[numBuckets];
+
+        benchmarkMethod(device);
+        graph.clearProfiles();
+
+        Histogram.histogramSequential(keys, values, counts, sums, mins, maxs);
+
+        return Arrays.equals(counts, histogram.getCounts()) && Arrays.equals(mins, histogram.getMins()) && Arrays.equals(maxs, histogram.getMaxs());
+    }
+
+    public void printSummary() {
+        if (isValid()) {
+            System.out.printf("id=%s, elapsed=%f, per iteration=%f\n", TornadoRuntime.getProperty("benchmark.device"), getElapsed(), getElapsedPerIteration());
+        } else {
+            System.out.printf("id=%s produced invalid result\n", TornadoRuntime.getProperty("benchmark.device"));
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.runtime;
+
+import java.io.IOException;
+import java.lang.module.ModuleReader;
+import java.lang.module.ResolvedModule;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.runtime.TornadoAcceleratorDriver;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.common.TornadoAcceleratorDevice;
+import uk.ac.manchester.tornado.runtime.profiler.CompilerPhaseProfiler;
+import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
+import uk.ac.manchester.tornado.runtime.tasks.TornadoTaskSchedule;
+
+/**
+ * Measures the latency of the Tornado JIT compiler. It compiles every kernel
+ * found in the benchmarks and unittests modules to OpenCL C and PTX (one device
+ * per installed driver) and reports the time spent in each phase of the
+ * compiler: sketch tier, high/mid/low tiers, LIR and code emission. It also
+ * reports the size of the generated code in bytes and in statements (OpenCL C
+ * statements or PTX instructions), which can be compared with
+ * {@code -Dtornado.lir.optimisations=False} to measure the LIR optimisations.
+ *
+ * <p>
+ * The generated code is neither built by the driver nor installed on the
+ * device, so the numbers only reflect the cost of the Tornado compiler.
+ * Kernels are discovered as the static void methods that receive at least one
+ * array or Tornado collection. Methods whose arguments cannot be created, or
+ * that cannot be compiled, are reported as skipped.
+ * </p>
+ *
+ * How to run:
+ *
+ * <code>
+ *     tornado uk.ac.manchester.tornado.benchmarks.runtime.CompilationPipeline [module ...]
+ * </code>
+ *
+ * <p>
+ * Options:
+ * <ul>
+ * <li>{@code -Dtornado.benchmarks.compile.size=<N>}: size of the arrays used as
+ * arguments. Default is 1024.</li>
+ * <li>{@code -Dtornado.benchmarks.compile.iterations=<N>}: number of times
+ * each kernel is compiled. Sketches are built only in the first iteration.
+ * Default is 1.</li>
+ * <li>{@code -Dtornado.benchmarks.compile.verbose=True}: prints the kernels
+ * that could not be compiled.</li>
+ * </ul>
+ * </p>
+ */
+public class CompilationPipeline {
+
+    private static final String[] DEFAULT_MODULES = { "tornado.benchmarks", "tornado.unittests" };
+
+    private static final int SIZE = Integer.parseInt(System.getProperty("tornado.benchmarks.compile.size", "1024"));
+    private static final int ITERATIONS = Integer.parseInt(System.getProperty("tornado.benchmarks.compile.iterations", "1"));
+    private static final boolean VERBOSE = Boolean.parseBoolean(System.getProperty("tornado.benchmarks.compile.verbose", "False"));
+
+    private int compiled;
+    private int skipped;
+    private long generatedBytes;
+    private long generatedStatements;
+
+    private static List<String> findClasses(String moduleName) {
+        Optional<ResolvedModule> module = ModuleLayer.boot().configuration().findModule(moduleName);
+        if (!module.isPresent()) {
+            System.out.println("[WARNING] Module " + moduleName + " not found");
+            return new ArrayList<>();
+        }
+        try (ModuleReader reader = module.get().reference().open(); Stream<String> resources = reader.list()) {
+            return resources //
+                    .filter(name -> name.endsWith(".class")) //
+                    .filter(name -> !name.equals("module-info.class")) //
+                    .filter(name -> !name.contains("/generated/")) //
+                    .map(name -> name.substring(0, name.length() - ".class".length()).replace('/', '.')) //
+                    .sorted() //
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            System.out.println("[WARNING] Module " + moduleName + " cannot be read: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private static boolean isCollection(Class<?> type) {
+        return type.getName().startsWith("uk.ac.manchester.tornado.api.collections.types");
+    }
+
+    private static boolean isCandidateKernel(Method method) {
+        if (!Modifier.isStatic(method.getModifiers()) || method.isSynthetic() || method.getReturnType() != void.class || method.getName().equals("main")) {
+            return false;
+        }
+        boolean hasData = false;
+        for (Class<?> type : method.getParameterTypes()) {
+            if (type.isArray() || isCollection(type)) {
+                hasData = true;
+            } else if (!type.isPrimitive()) {
+                return false;
+            }
+        }
+        return hasData;
+    }
+
+    private static Object createArray(Class<?> type) {
+        Class<?> component = type.getComponentType();
+        if (component.isArray()) {
+            // 2D arrays: square matrices of SIZE x SIZE are too big, use its square root
+            int rows = (int) Math.sqrt(SIZE);
+            Object array = Array.newInstance(component, rows);
+            for (int i = 0; i < rows; i++) {
+                Array.set(array, i, Array.newInstance(component.getComponentType(), rows));
+            }
+            return array;
+        }
+        return Array.newInstance(component, SIZE);
+    }
+
+    private static Object createCollection(Class<?> type) throws ReflectiveOperationException {
+        int rows = (int) Math.sqrt(SIZE);
+        for (Constructor<?> constructor : type.getConstructors()) {
+            Class<?>[] parameters = constructor.getParameterTypes();
+            if (parameters.length == 2 && parameters[0] == int.class && parameters[1] == int.class) {
+                return constructor.newInstance(rows, rows);
+            }
+        }
+        for (Constructor<?> constructor : type.getConstructors()) {
+            Class<?>[] parameters = constructor.getParameterTypes();
+            if (parameters.length == 1 && parameters[0] == int.class) {
+                return constructor.newInstance(SIZE);
+            }
+        }
+        return type.getConstructor().newInstance();
+    }
+
+    private static Object createPrimitive(Class<?> type) {
+        if (type == int.class) {
+            return SIZE;
+        } else if (type == long.class) {
+            return (long) SIZE;
+        } else if (type == float.class) {
+            return 2.0f;
+        } else if (type == double.class) {
+            return 2.0;
+        } else if (type == short.class) {
+            return (short) 1;
+        } else if (type == byte.class) {
+            return (byte) 1;
+        } else if (type == char.class) {
+            return 'a';
+        } else {
+            return false;
+        }
+    }
+
+    private static Object[] createArguments(Method method) throws ReflectiveOperationException {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (types[i].isArray()) {
+                args[i] = createArray(types[i]);
+            } else if (types[i].isPrimitive()) {
+                args[i] = createPrimitive(types[i]);
+            } else {
+                args[i] = createCollection(types[i]);
+            }
+        }
+        return args;
+    }
+
+    private static long countStatements(String code) {
+        return code.chars().filter(c -> c == ';').count();
+    }
+
+    private void compile(Method method, TornadoAcceleratorDevice device) {
+        String id = "compile-" + method.getDeclaringClass().getSimpleName() + "-" + method.getName();
+        try {
+            Object[] args = createArguments(method);
+            TornadoTaskSchedule schedule = new TornadoTaskSchedule(id);
+            CompilableTask task = new CompilableTask(schedule.meta(), "t0", method, args);
+            task.meta().setDevice(device);
+            schedule.addInner(task);
+            for (int i = 0; i < ITERATIONS; i++) {
+                String code = device.compileToSource(task);
+                generatedBytes += code.length();
+                generatedStatements += countStatements(code);
+            }
+            compiled++;
+        } catch (Throwable e) {
+            skipped++;
+            if (VERBOSE) {
+                System.out.println("[SKIPPED] " + method.getDeclaringClass().getName() + "." + method.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void run(TornadoAcceleratorDevice device, List<Method> kernels) {
+        compiled = 0;
+        skipped = 0;
+        generatedBytes = 0;
+        generatedStatements = 0;
+        CompilerPhaseProfiler.reset();
+
+        long start = System.nanoTime();
+        for (Method kernel : kernels) {
+            compile(kernel, device);
+        }
+        long end = System.nanoTime();
+
+        System.out.printf("Device: %s\n", device);
+        System.out.printf("Kernels: compiled=%d, skipped=%d, iterations=%d, generated code=%d bytes, %d statements\n", compiled, skipped, ITERATIONS, generatedBytes, generatedStatements);
+        System.out.printf("Total time: %.3f ms (%.3f ms per kernel)\n\n", (end - start) * 1e-6, compiled == 0 ? 0 : ((end - start) * 1e-6) / (compiled * ITERATIONS));
+        System.out.println(CompilerPhaseProfiler.dump());
+    }
+
+    private static List<Method> findKernels(String[] modules) {
+        List<Method> kernels = new ArrayList<>();
+        for (String moduleName : modules) {
+            ClassLoader loader = ModuleLayer.boot().findLoader(moduleName);
+            for (String className : findClasses(moduleName)) {
+                try {
+                    Class<?> klass = Class.forName(className, false, loader);
+                    for (Method method : klass.getDeclaredMethods()) {
+                        if (isCandidateKernel(method)) {
+                            kernels.add(method);
+                        }
+                    }
+                } catch (Throwable e) {
+                    // Classes that cannot be loaded (e.g., missing optional
+                    // dependencies) do not contain kernels we can compile.
+                }
+            }
+        }
+        return kernels;
+    }
+
+    public static void main(String[] args) {
+        String[] modules = (args.length > 0) ? args : DEFAULT_MODULES;
+        List<Method> kernels = findKernels(modules);
+        System.out.printf("Found %d candidate kernels in %s\n\n", kernels.size(), String.join(", ", modules));
+
+        CompilerPhaseProfiler.setEnabled(true);
+        CompilationPipeline benchmark = new CompilationPipeline();
+        TornadoCoreRuntime runtime = TornadoCoreRuntime.getTornadoRuntime();
+        for (int i = 0; i < runtime.getNumDrivers(); i++) {
+            TornadoAcceleratorDriver driver = runtime.getDriver(i);
+            TornadoDevice device = driver.getDefaultDevice();
+            benchmark.run((TornadoAcceleratorDevice) device, kernels);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.common.TaskPackage;
+import uk.ac.manchester.tornado.benchmarks.LinearAlgebraArrays;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.TornadoVM;
+import uk.ac.manchester.tornado.runtime.common.CallStack;
+import uk.ac.manchester.tornado.runtime.common.TornadoAcceleratorDevice;
+import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
+import uk.ac.manchester.tornado.runtime.graph.TornadoGraph;
+import uk.ac.manchester.tornado.runtime.graph.TornadoGraphBuilder;
+import uk.ac.manchester.tornado.runtime.graph.TornadoVMGraphCompilationResult;
+import uk.ac.manchester.tornado.runtime.graph.TornadoVMGraphCompiler;
+import uk.ac.manchester.tornado.runtime.profiler.EmptyProfiler;
+import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
+import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
+import uk.ac.manchester.tornado.runtime.tasks.TornadoTaskSchedule;
+
+/**
+ * JMH suite that isolates the costs of the TornadoVM runtime from the cost of
+ * the kernels. Each benchmark measures one stage of the dispatch path for a
+ * single saxpy task:
+ *
+ * <ul>
+ * <li>TaskSchedule construction (including the sketch request).</li>
+ * <li>Graph building ({@link TornadoGraphBuilder}).</li>
+ * <li>TornadoVM bytecode generation ({@link TornadoVMGraphCompiler}).</li>
+ * <li>TornadoVM bytecode interpretation on a {@link NoOpDevice}, with the
+ * replay disabled.</li>
+ * <li>Replay of the recorded driver operations on a {@link NoOpDevice}.</li>
+ * <li>Call-stack marshalling on the default device.</li>
+ * <li>Event management on the default device.</li>
+ * <li>Sketch lookup ({@link TornadoSketcher}).</li>
+ * </ul>
+ *
+ * How to run:
+ *
+ * <code>
+ *     tornado uk.ac.manchester.tornado.benchmarks.runtime.JMHRuntimeOverheads
+ * </code>
+ */
+public class JMHRuntimeOverheads {
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        private int numElements = Integer.parseInt(System.getProperty("x", "1024"));
+        private float[] x;
+        private float[] y;
+        private final float alpha = 2f;
+
+        private TornadoExecutionContext executionContext;
+        private TornadoTaskSchedule taskSchedule;
+        private TornadoGraph graph;
+
+        private TornadoVM noOpVM;
+        private TornadoVM noOpReplayVM;
+
+        private TornadoAcceleratorDevice device;
+        private CallStack stack;
+
+        private ResolvedJavaMethod method;
+        private int driverIndex;
+        private int deviceIndex;
+
+        private TornadoVM createNoOpVM(String name) {
+            TornadoTaskSchedule noOpSchedule = createTaskSchedule(name);
+            noOpSchedule.mapAllToInner(new NoOpDevice());
+            TornadoExecutionContext noOpContext = noOpSchedule.getExecutionContext();
+            TornadoGraph noOpGraph = TornadoGraphBuilder.buildGraph(noOpContext, noOpSchedule.getHighLevelCode());
+            TornadoVMGraphCompilationResult noOpResult = TornadoVMGraphCompiler.compile(noOpGraph, noOpContext, -1);
+            TornadoVM vm = new TornadoVM(noOpContext, noOpResult.getCode(), noOpResult.getCodeSize(), new EmptyProfiler(), null);
+            vm.warmup();
+            return vm;
+        }
+
+        private TornadoTaskSchedule createTaskSchedule(String name) {
+            TornadoTaskSchedule schedule = new TornadoTaskSchedule(name);
+            schedule.streamInInner(x);
+            schedule.addTask(TaskPackage.createPackage("saxpy", LinearAlgebraArrays::saxpy, alpha, x, y));
+            schedule.streamOutInner(y);
+            return schedule;
+        }
+
+        @Setup(Level.Trial)
+        public void doSetup() throws NoSuchMethodException {
+            x = new float[numElements];
+            y = new float[numElements];
+
+            for (int i = 0; i < numElements; i++) {
+                x[i] = i;
+            }
+
+            // Task-schedule on the default device for graph building and bytecode generation
+            taskSchedule = createTaskSchedule("overheads");
+            executionContext = taskSchedule.getExecutionContext();
+            executionContext.assignToDevices();
+            graph = TornadoGraphBuilder.buildGraph(executionContext, taskSchedule.getHighLevelCode());
+
+            // Task-schedules on the no-op device for the bytecode interpreter and the replay
+            noOpVM = createNoOpVM("noop");
+            noOpVM.disableReplay();
+            noOpReplayVM = createNoOpVM("noopReplay");
+            // The first execution records the driver operations
+            noOpReplayVM.execute();
+
+            device = TornadoCoreRuntime.getTornadoRuntime().getDefaultDevice();
+            stack = device.createStack(3);
+
+            method = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(LinearAlgebraArrays.class.getMethod("saxpy", float.class, float[].class, float[].class));
+            driverIndex = device.getDriverIndex();
+            deviceIndex = device.getDeviceContext().getDeviceIndex();
+
+            // Make sure the sketch is available for the lookup benchmark
+            TaskSchedule ts = new TaskSchedule("sketch").task("saxpy", LinearAlgebraArrays::saxpy, alpha, x, y);
+            ts.warmup();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void taskScheduleConstruction(BenchmarkSetup state, Blackhole blackhole) {
+        TaskSchedule ts = new TaskSchedule("construction") //
+                .streamIn(state.x) //
+                .task("saxpy", LinearAlgebraArrays::saxpy, state.alpha, state.x, state.y) //
+                .streamOut(state.y);
+        blackhole.consume(ts);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void graphBuilding(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(TornadoGraphBuilder.buildGraph(state.executionContext, state.taskSchedule.getHighLevelCode()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void bytecodeGeneration(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(TornadoVMGraphCompiler.compile(state.graph, state.executionContext, -1));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void bytecodeInterpretation(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.noOpVM.execute());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void bytecodeReplay(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.noOpReplayVM.execute());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void callStackMarshalling(BenchmarkSetup state, Blackhole blackhole) {
+        CallStack stack = state.stack;
+        stack.reset();
+        stack.push(state.alpha);
+        stack.push(state.numElements);
+        stack.push(state.numElements);
+        blackhole.consume(stack.getArgCount());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void eventManagement(BenchmarkSetup state, Blackhole blackhole) {
+        TornadoAcceleratorDevice device = state.device;
+        int event = device.enqueueMarker();
+        blackhole.consume(device.resolveEvent(event));
+        device.flushEvents();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void sketchLookup(BenchmarkSetup state, Blackhole blackhole) {
+        Sketch sketch = TornadoSketcher.lookup(state.method, state.driverIndex, state.deviceIndex);
+        blackhole.consume(sketch);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHRuntimeOverheads.class.getName() + ".*") //
+                .mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.NANOSECONDS) //
+                .warmupTime(TimeValue.seconds(10)) //
+                .warmupIterations(2) //
+                .measurementTime(TimeValue.seconds(10)) //
+                .measurementIterations(5) //
+                .forks(1) //
+                .build();
+        new Runner(opt).run();
+    }
+}
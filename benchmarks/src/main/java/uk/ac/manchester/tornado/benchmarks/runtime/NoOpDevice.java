@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.api.mm.TornadoDeviceObjectState;
+import uk.ac.manchester.tornado.api.mm.TornadoMemoryProvider;
+import uk.ac.manchester.tornado.runtime.JVMMapping;
+import uk.ac.manchester.tornado.runtime.common.CallStack;
+import uk.ac.manchester.tornado.runtime.common.DeviceBuffer;
+import uk.ac.manchester.tornado.runtime.common.DeviceObjectState;
+import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Device that accepts every TornadoVM operation and performs no work. It is
+ * used to measure the cost of the TornadoVM dispatch path (bytecode
+ * interpretation, object-state bookkeeping and call-stack handling) without
+ * any driver or kernel time.
+ */
+public class NoOpDevice extends JVMMapping {
+
+    private final NoOpDeviceContext deviceContext = new NoOpDeviceContext();
+    private final NoOpInstalledCode installedCode = new NoOpInstalledCode();
+
+    @Override
+    public int ensureAllocated(Object object, long batchSize, TornadoDeviceObjectState state) {
+        ((DeviceObjectState) state).setValid(true);
+        return -1;
+    }
+
+    @Override
+    public List<Integer> ensurePresent(Object object, TornadoDeviceObjectState objectState, int[] events, long size, long offset) {
+        ((DeviceObjectState) objectState).setValid(true);
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Integer> streamIn(Object object, long batchSize, long hostOffset, TornadoDeviceObjectState objectState, int[] events) {
+        ((DeviceObjectState) objectState).setValid(true);
+        return Collections.emptyList();
+    }
+
+    @Override
+    public int streamOutBlocking(Object object, long hostOffset, TornadoDeviceObjectState objectState, int[] list) {
+        return -1;
+    }
+
+    @Override
+    public int streamOutBlocking(Object object, long hostOffset, long partialCopySize, TornadoDeviceObjectState objectState, int[] list) {
+        return -1;
+    }
+
+    @Override
+    public int enqueueMarker() {
+        return -1;
+    }
+
+    @Override
+    public int enqueueMarker(int[] events) {
+        return -1;
+    }
+
+    @Override
+    public int enqueueBarrier(int[] events) {
+        return -1;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void enableThreadSharing() {
+    }
+
+    @Override
+    public CallStack createStack(int numArgs) {
+        return new NoOpCallStack(numArgs);
+    }
+
+    @Override
+    public TornadoInstalledCode installCode(SchedulableTask task) {
+        return installedCode;
+    }
+
+    @Override
+    public TornadoInstalledCode getCodeFromCache(SchedulableTask task) {
+        return installedCode;
+    }
+
+    @Override
+    public TornadoDeviceContext getDeviceContext() {
+        return deviceContext;
+    }
+
+    @Override
+    public String getDeviceName() {
+        return "noop";
+    }
+
+    @Override
+    public String getPlatformName() {
+        return "noop";
+    }
+
+    @Override
+    public String toString() {
+        return "NoOp Device";
+    }
+
+    /**
+     * Call stack that only records the arguments pushed by the TornadoVM. As
+     * for a real device, the header is set and the arguments are pushed on
+     * every launch.
+     */
+    public static class NoOpCallStack implements CallStack {
+
+        private final Object[] arguments;
+        private int index;
+
+        NoOpCallStack(int numArgs) {
+            arguments = new Object[numArgs];
+        }
+
+        @Override
+        public void reset() {
+            index = 0;
+        }
+
+        @Override
+        public long getDeoptValue() {
+            return 0;
+        }
+
+        @Override
+        public long getReturnValue() {
+            return 0;
+        }
+
+        @Override
+        public int getArgCount() {
+            return index;
+        }
+
+        @Override
+        public void push(Object arg) {
+            arguments[index++] = arg;
+        }
+
+        @Override
+        public void push(int arg) {
+            index++;
+        }
+
+        @Override
+        public void push(long arg) {
+            index++;
+        }
+
+        @Override
+        public void push(float arg) {
+            index++;
+        }
+
+        @Override
+        public void push(double arg) {
+            index++;
+        }
+
+        @Override
+        public void push(Object arg, DeviceObjectState state) {
+            arguments[index++] = arg;
+        }
+
+        @Override
+        public boolean isOnDevice() {
+            return false;
+        }
+
+        @Override
+        public void dump() {
+        }
+
+        @Override
+        public void setHeader(HashMap<Integer, Integer> map) {
+            index = 0;
+        }
+    }
+
+    private static class NoOpInstalledCode implements TornadoInstalledCode {
+
+        @Override
+        public int launchWithDependencies(CallStack stack, DeviceBuffer atomicSpace, TaskMetaData meta, long batchThreads, int[] waitEvents) {
+            return -1;
+        }
+
+        @Override
+        public int launchWithoutDependencies(CallStack stack, DeviceBuffer atomicSpace, TaskMetaData meta, long batchThreads) {
+            return -1;
+        }
+    }
+
+    private static class NoOpDeviceContext implements TornadoDeviceContext {
+
+        @Override
+        public TornadoMemoryProvider getMemoryManager() {
+            return null;
+        }
+
+        @Override
+        public boolean needsBump() {
+            return false;
+        }
+
+        @Override
+        public boolean wasReset() {
+            return false;
+        }
+
+        @Override
+        public void setResetToFalse() {
+        }
+
+        @Override
+        public boolean isPlatformFPGA() {
+            return false;
+        }
+
+        @Override
+        public boolean useRelativeAddresses() {
+            return false;
+        }
+
+        @Override
+        public boolean isCached(String methodName, SchedulableTask task) {
+            return true;
+        }
+
+        @Override
+        public int getDeviceIndex() {
+            return 0;
+        }
+
+        @Override
+        public int getDevicePlatform() {
+            return 0;
+        }
+
+        @Override
+        public String getDeviceName() {
+            return "noop";
+        }
+
+        @Override
+        public int getDriverIndex() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package uk.ac.manchester.tornado.benchmarks.sort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+
+/**
+ * Reference driver: sorts the keys with {@link Arrays#parallelSort(int[])}.
+ */
+public class SortJava extends BenchmarkDriver {
+
+    private final int numElements;
+
+    private int[] input;
+    private int[] keys;
+
+    public SortJava(int iterations, int numElements) {
+        super(iterations);
+        this.numElements = numElements;
+    }
+
+    @Override
+    public void setUp() {
+        input = new int[numElements];
+        keys = new int[numElements];
+
+        Random r = new Random(7);
+        for (int i = 0; i < numElements; i++) {
+            input[i] = r.nextInt();
+        }
+    }
+
+    @Override
+    public void tearDown() {
+        input = null;
+        keys = null;
+        super.tearDown();
+    }
+
+    @Override
+    public void benchmarkMethod(TornadoDevice device) {
+        System.arraycopy(input, 0, keys, 0, numElements);
+        Arrays.parallelSort(keys);
+    }
+
+    @Override
+    public void barrier() {
+
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+        return true;
+    }
+
+    public void printSummary() {
+        System.out.printf("id=java-parallelSort, elapsed=%f, per iteration=%f\n", getElapsed(), getElapsedPerIteration());
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package uk.ac.manchester.tornado.benchmarks.sort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.collections.algorithms.RadixSort;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+
+public class SortTornado extends BenchmarkDriver {
+
+    private final int numElements;
+
+    private int[] input;
+    private int[] keys;
+
+    private RadixSort sort;
+    private TaskSchedule graph;
+
+    public SortTornado(int iterations, int numElements) {
+        super(iterations);
+        this.numElements = numElements;
+    }
+
+    @Override
+    public void setUp() {
+        input = new int[numElements];
+        keys = new int[numElements];
+
+        Random r = new Random(7);
+        for (int i = 0; i < numElements; i++) {
+            input[i] = r.nextInt();
+        }
+
+        // Keep at least two blocks so that the sort always runs on the device
+        final int blockSize = Math.min(RadixSort.DEFAULT_BLOCK_SIZE, Math.max(1, numElements / 2));
+        sort = new RadixSort(keys, null, blockSize);
+        graph = sort.getTaskSchedule();
+        graph.warmup();
+    }
+
+    @Override
+    public void tearDown() {
+        graph.dumpProfiles();
+
+        input = null;
+        keys = null;
+
+        graph.getDevice().reset();
+        super.tearDown();
+    }
+
+    @Override
+    public void benchmarkMethod(TornadoDevice device) {
+        System.arraycopy(input, 0, keys, 0, numElements);
+        graph.mapAllTo(device);
+        sort.execute();
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+
+        final int[] result = Arrays.copyOf(input, numElements);
+
+        benchmarkMethod(device);
+        graph.clearProfiles();
+
+        Arrays.parallelSort(result);
+
+        return Arrays.equals(result, keys);
+    }
+
+    public void printSummary() {
+        if (isValid()) {
+            System.out.printf("id=%s, elapsed=%f, per iteration=%f\n", TornadoRuntime.getProperty("benchmark.device"), getElapsed(), getElapsedPerIteration());
+        } else {
+            System.out.printf("id=%s produced invalid result\n", TornadoRuntime.getProperty("benchmark.device"));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package uk.ac.manchester.tornado.benchmarks.vectorwidth;
+
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkRunner;
+
+/**
+ * Adds two vectors of floats using either 8-wide ({@code float8}) or 16-wide
+ * ({@code float16}) vector types, to compare both widths on the same device.
+ * The arguments are {@code <iterations> <size> <width>}, where {@code size} is
+ * the number of floats in each vector.
+ */
+public class Benchmark extends BenchmarkRunner {
+
+    private int size;
+    private int width;
+
+    @Override
+    public void parseArgs(String[] args) {
+        if (args.length == 3) {
+            iterations = Integer.parseInt(args[0]);
+            size = Integer.parseInt(args[1]);
+            width = Integer.parseInt(args[2]);
+        } else if (args.length == 2) {
+            iterations = Integer.parseInt(args[0]);
+            size = Integer.parseInt(args[1]);
+            width = 16;
+        } else {
+            iterations = 101;
+            size = 16777216;
+            width = 16;
+        }
+        if (width != 8 && width != 16) {
+            throw new IllegalArgumentException("vector width must be 8 or 16: " + width);
+        }
+    }
+
+    @Override
+    protected String getName() {
+        return "vector-width";
+    }
+
+    @Override
+    protected String getIdString() {
+        return String.format("%s-%d-%d-%d", getName(), iterations, size, width);
+    }
+
+    @Override
+    protected String getConfigString() {
+        return String.format("num elements=%d, width=%d", size, width);
+    }
+
+    @Override
+    protected BenchmarkDriver getJavaDriver() {
+        return new VectorWidthJava(iterations, size, width);
+    }
+
+    @Override
+    protected BenchmarkDriver getTornadoDriver() {
+        return new VectorWidthTornado(iterations, size, width);
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package uk.ac.manchester.tornado.benchmarks.vectorwidth;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.collections.types.VectorFloat16;
+import uk.ac.manchester.tornado.api.collections.types.VectorFloat8;
+import uk.ac.manchester.tornado.benchmarks.GraphicsKernels;
+
+public class JMHVectorWidth {
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        @Param({ "8", "16" })
+        private int width;
+
+        private int numElements = Integer.parseInt(System.getProperty("x", "16777216"));
+        private VectorFloat8 a8;
+        private VectorFloat8 b8;
+        private VectorFloat8 c8;
+        private VectorFloat16 a16;
+        private VectorFloat16 b16;
+        private VectorFloat16 c16;
+
+        private TaskSchedule ts;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            ts = new TaskSchedule("benchmark");
+            if (width == 8) {
+                a8 = new VectorFloat8(numElements / 8);
+                b8 = new VectorFloat8(numElements / 8);
+                c8 = new VectorFloat8(numElements / 8);
+                VectorWidthTornado.initialise(a8.getArray(), b8.getArray());
+                ts.streamIn(a8, b8) //
+                        .task("addVector8", GraphicsKernels::addVector8, a8, b8, c8) //
+                        .streamOut(c8);
+            } else {
+                a16 = new VectorFloat16(numElements / 16);
+                b16 = new VectorFloat16(numElements / 16);
+                c16 = new VectorFloat16(numElements / 16);
+                VectorWidthTornado.initialise(a16.getArray(), b16.getArray());
+                ts.streamIn(a16, b16) //
+                        .task("addVector16", GraphicsKernels::addVector16, a16, b16, c16) //
+                        .streamOut(c16);
+            }
+            ts.warmup();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 60, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void addVectorJava(BenchmarkSetup state, Blackhole blackhole) {
+        if (state.width == 8) {
+            GraphicsKernels.addVector8(state.a8, state.b8, state.c8);
+            blackhole.consume(state.c8);
+        } else {
+            GraphicsKernels.addVector16(state.a16, state.b16, state.c16);
+            blackhole.consume(state.c16);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 30, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 30, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void addVectorTornado(BenchmarkSetup state, Blackhole blackhole) {
+        TaskSchedule t = state.ts;
+        t.execute();
+        blackhole.consume(t);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHVectorWidth.class.getName() + ".*") //
+                .mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.NANOSECONDS) //
+                .warmupTime(TimeValue.seconds(60)) //
+                .warmupIterations(2) //
+                .measurementTime(TimeValue.seconds(30)) //
+                .measurementIterations(5) //
+                .forks(1) //
+                .build();
+        new Runner(opt).run();
+    }
+}
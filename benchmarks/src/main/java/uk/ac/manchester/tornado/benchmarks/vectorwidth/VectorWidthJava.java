@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package uk.ac.manchester.tornado.benchmarks.vectorwidth;
+
+import uk.ac.manchester.tornado.api.collections.types.VectorFloat16;
+import uk.ac.manchester.tornado.api.collections.types.VectorFloat8;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+import uk.ac.manchester.tornado.benchmarks.GraphicsKernels;
+
+public class VectorWidthJava extends BenchmarkDriver {
+
+    private final int numElements;
+    private final int width;
+
+    private VectorFloat8 a8;
+    private VectorFloat8 b8;
+    private VectorFloat8 c8;
+    private VectorFloat16 a16;
+    private VectorFloat16 b16;
+    private VectorFloat16 c16;
+
+    public VectorWidthJava(int iterations, int numElements, int width) {
+        super(iterations);
+        this.numElements = numElements;
+        this.width = width;
+    }
+
+    @Override
+    public void setUp() {
+        if (width == 8) {
+            a8 = new VectorFloat8(numElements / 8);
+            b8 = new VectorFloat8(numElements / 8);
+            c8 = new VectorFloat8(numElements / 8);
+            VectorWidthTornado.initialise(a8.getArray(), b8.getArray());
+        } else {
+            a16 = new VectorFloat16(numElements / 16);
+            b16 = new VectorFloat16(numElements / 16);
+            c16 = new VectorFloat16(numElements / 16);
+            VectorWidthTornado.initialise(a16.getArray(), b16.getArray());
+        }
+    }
+
+    @Override
+    public void tearDown() {
+        a8 = null;
+        b8 = null;
+        c8 = null;
+        a16 = null;
+        b16 = null;
+        c16 = null;
+        super.tearDown();
+    }
+
+    @Override
+    public void benchmarkMethod(TornadoDevice device) {
+        if (width == 8) {
+            GraphicsKernels.addVector8(a8, b8, c8);
+        } else {
+            GraphicsKernels.addVector16(a16, b16, c16);
+        }
+    }
+
+    @Override
+    public void barrier() {
+
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+        return true;
+    }
+
+    public void printSummary() {
+        System.out.printf("id=java-serial, elapsed=%f, per iteration=%f\n", getElapsed(), getElapsedPerIteration());
+    }
+
+}
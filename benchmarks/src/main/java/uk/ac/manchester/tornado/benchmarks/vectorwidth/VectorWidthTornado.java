@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+package uk.ac.manchester.tornado.benchmarks.vectorwidth;
+
+import static uk.ac.manchester.tornado.api.collections.math.TornadoMath.findULPDistance;
+
+import java.util.Random;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.collections.types.VectorFloat16;
+import uk.ac.manchester.tornado.api.collections.types.VectorFloat8;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+import uk.ac.manchester.tornado.benchmarks.GraphicsKernels;
+
+public class VectorWidthTornado extends BenchmarkDriver {
+
+    private final int numElements;
+    private final int width;
+
+    private VectorFloat8 a8;
+    private VectorFloat8 b8;
+    private VectorFloat8 c8;
+    private VectorFloat16 a16;
+    private VectorFloat16 b16;
+    private VectorFloat16 c16;
+
+    private TaskSchedule graph;
+
+    public VectorWidthTornado(int iterations, int numElements, int width) {
+        super(iterations);
+        this.numElements = numElements;
+        this.width = width;
+    }
+
+    static void initialise(float[] a, float[] b) {
+        Random r = new Random(7);
+        for (int i = 0; i < a.length; i++) {
+            a[i] = r.nextFloat();
+            b[i] = r.nextFloat();
+        }
+    }
+
+    @Override
+    public void setUp() {
+        graph = new TaskSchedule("benchmark");
+        if (width == 8) {
+            a8 = new VectorFloat8(numElements / 8);
+            b8 = new VectorFloat8(numElements / 8);
+            c8 = new VectorFloat8(numElements / 8);
+            initialise(a8.getArray(), b8.getArray());
+            graph.streamIn(a8, b8);
+            graph.task("addVector8", GraphicsKernels::addVector8, a8, b8, c8);
+            graph.streamOut(c8);
+        } else {
+            a16 = new VectorFloat16(numElements / 16);
+            b16 = new VectorFloat16(numElements / 16);
+            c16 = new VectorFloat16(numElements / 16);
+            initialise(a16.getArray(), b16.getArray());
+            graph.streamIn(a16, b16);
+            graph.task("addVector16", GraphicsKernels::addVector16, a16, b16, c16);
+            graph.streamOut(c16);
+        }
+        graph.warmup();
+    }
+
+    @Override
+    public void tearDown() {
+        graph.dumpProfiles();
+
+        a8 = null;
+        b8 = null;
+        c8 = null;
+        a16 = null;
+        b16 = null;
+        c16 = null;
+
+        graph.getDevice().reset();
+        super.tearDown();
+    }
+
+    @Override
+    public void benchmarkMethod(TornadoDevice device) {
+        graph.mapAllTo(device);
+        graph.execute();
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+        benchmarkMethod(device);
+        graph.clearProfiles();
+
+        final float ulp;
+        if (width == 8) {
+            VectorFloat8 result = new VectorFloat8(numElements / 8);
+            GraphicsKernels.addVector8(a8, b8, result);
+            ulp = findULPDistance(result.getArray(), c8.getArray());
+        } else {
+            VectorFloat16 result = new VectorFloat16(numElements / 16);
+            GraphicsKernels.addVector16(a16, b16, result);
+            ulp = findULPDistance(result.getArray(), c16.getArray());
+        }
+        return Float.compare(ulp, MAX_ULP) <= 0;
+    }
+
+    public void printSummary() {
+        if (isValid()) {
+            System.out.printf("id=%s, elapsed=%f, per iteration=%f\n", TornadoRuntime.getProperty("benchmark.device"), getElapsed(), getElapsedPerIteration());
+        } else {
+            System.out.printf("id=%s produced invalid result\n", TornadoRuntime.getProperty("benchmark.device"));
+        }
+    }
+}
@@ -136,3 +136,63 @@ READ_ARRAY(Java_uk_ac_manchester_tornado_drivers_opencl_OCLCommandQueue, I, int)
 READ_ARRAY(Java_uk_ac_manchester_tornado_drivers_opencl_OCLCommandQueue, J, long)
 READ_ARRAY(Java_uk_ac_manchester_tornado_drivers_opencl_OCLCommandQueue, F, float)
 READ_ARRAY(Java_uk_ac_manchester_tornado_drivers_opencl_OCLCommandQueue, D, double)
+
+/*
+ * Transfers for direct buffers. The host data lives outside of the Java heap,
+ * so the address is used as it is, without acquiring a Java array.
+ */
+JNIEXPORT jlong JNICALL Java_uk_ac_manchester_tornado_drivers_opencl_OCLCommandQueue_writeArrayToDevice__JLjava_nio_ByteBuffer_2JZJJJ_3J
+    (JNIEnv *env, jclass clazz, jlong queue_id, jobject buffer1, jlong hostOffset, jboolean blocking, jlong offset, jlong cb, jlong device_ptr, jlongArray array2) {
+        OPENCL_PROLOGUE;
+        cl_bool blocking_write = blocking ? CL_TRUE : CL_FALSE;
+        jbyte *buffer = (jbyte *) (*env)->GetDirectBufferAddress(env, buffer1);
+        if (buffer == NULL) {
+            printf("[ERROR] writeArrayToDevice: buffer is not a direct buffer\n");
+            return -1;
+        }
+        jlong num_bytes = (cb != -1) ? cb : (*env)->GetDirectBufferCapacity(env, buffer1);
+        OPENCL_DECODE_WAITLIST(array2, events, num_events)
+        if (PRINT_DATA_SIZES) {
+            printf("uk.ac.manchester.tornado.drivers.opencl> write direct buffer 0x%lx (%ld bytes) from %p \n", offset, (long) num_bytes, buffer);
+        }
+        cl_event event;
+        cl_int status = clEnqueueWriteBuffer((cl_command_queue) queue_id, (cl_mem) device_ptr, blocking_write, (size_t) offset, (size_t) num_bytes, &buffer[hostOffset], (cl_uint) num_events, (cl_event*) events, &event);
+        if (status != CL_SUCCESS) {
+            printf("[ERROR] clEnqueueWriteBuffer, code = %d\n", status);
+        }
+        OPENCL_SOFT_ERROR("clEnqueueWriteBuffer (direct buffer)", status, -1);
+        if (PRINT_DATA_TIMES) {
+            long writeTime = getTimeEvent(event);
+            printf("H2D time: %ld (ns) \n", writeTime);
+        }
+        OPENCL_RELEASE_WAITLIST(array2);
+        return (jlong) event;
+}
+
+JNIEXPORT jlong JNICALL Java_uk_ac_manchester_tornado_drivers_opencl_OCLCommandQueue_readArrayFromDevice__JLjava_nio_ByteBuffer_2JZJJJ_3J
+    (JNIEnv *env, jclass clazz, jlong queue_id, jobject buffer1, jlong hostOffset, jboolean blocking, jlong offset, jlong cb, jlong device_ptr, jlongArray array2) {
+        OPENCL_PROLOGUE;
+        cl_bool blocking_read = blocking ? CL_TRUE : CL_FALSE;
+        jbyte *buffer = (jbyte *) (*env)->GetDirectBufferAddress(env, buffer1);
+        if (buffer == NULL) {
+            printf("[ERROR] readArrayFromDevice: buffer is not a direct buffer\n");
+            return -1;
+        }
+        jlong num_bytes = (cb != -1) ? cb : (*env)->GetDirectBufferCapacity(env, buffer1);
+        OPENCL_DECODE_WAITLIST(array2, events, num_events)
+        if (PRINT_DATA_SIZES) {
+            printf("uk.ac.manchester.tornado.drivers.opencl> read direct buffer 0x%lx (%ld bytes) to %p\n", offset, (long) num_bytes, buffer);
+        }
+        cl_event event;
+        cl_int status = clEnqueueReadBuffer((cl_command_queue) queue_id, (cl_mem) device_ptr, blocking_read, (size_t) offset, (size_t) num_bytes, (void *) &buffer[hostOffset], (cl_uint) num_events, (cl_event*) events, &event);
+        if (status != CL_SUCCESS) {
+            printf("[ERROR] clEnqueueReadBuffer, code = %d\n", status);
+        }
+        OPENCL_SOFT_ERROR("clEnqueueReadBuffer (direct buffer)", status, -1);
+        if (PRINT_DATA_TIMES) {
+            long readTime = getTimeEvent(event);
+            printf("D2H time: %ld (ns) \n", readTime);
+        }
+        OPENCL_RELEASE_WAITLIST(array2);
+        return (jlong) event;
+}
@@ -98,6 +98,8 @@ public class OCLCommandQueue extends TornadoLogger {
 
     native static long writeArrayToDevice(long queueId, double[] buffer, long hostOffset, boolean blocking, long offset, long bytes, long ptr, long[] events) throws OCLException;
 
+    native static long writeArrayToDevice(long queueId, ByteBuffer buffer, long hostOffset, boolean blocking, long offset, long bytes, long ptr, long[] events) throws OCLException;
+
     native static long readArrayFromDevice(long queueId, byte[] buffer, long hostOffset, boolean blocking, long offset, long bytes, long ptr, long[] events) throws OCLException;
 
     native static long readArrayFromDevice(long queueId, char[] buffer, long hostOffset, boolean blocking, long offset, long bytes, long ptr, long[] events) throws OCLException;
@@ -112,6 +114,8 @@ public class OCLCommandQueue extends TornadoLogger {
 
     native static long readArrayFromDevice(long queueId, double[] buffer, long hostOffset, boolean blocking, long offset, long bytes, long ptr, long[] events) throws OCLException;
 
+    native static long readArrayFromDevice(long queueId, ByteBuffer buffer, long hostOffset, boolean blocking, long offset, long bytes, long ptr, long[] events) throws OCLException;
+
     /*
      * for OpenCL 1.1 compatibility
      */
@@ -299,6 +303,16 @@ public class OCLCommandQueue extends TornadoLogger {
         return -1;
     }
 
+    public long enqueueWrite(long devicePtr, boolean blocking, long offset, long bytes, ByteBuffer buffer, long hostOffset, long[] waitEvents) {
+        guarantee(buffer != null && buffer.isDirect(), "buffer is not a direct buffer");
+        try {
+            return writeArrayToDevice(commandQueue, buffer, hostOffset, blocking, offset, bytes, devicePtr, waitEvents);
+        } catch (OCLException e) {
+            error(e.getMessage());
+        }
+        return -1;
+    }
+
     public long enqueueRead(long devicePtr, boolean blocking, long offset, long bytes, byte[] array, long hostOffset, long[] waitEvents) {
         guarantee(array != null, "null array");
         try {
@@ -369,6 +383,16 @@ public class OCLCommandQueue extends TornadoLogger {
         return -1;
     }
 
+    public long enqueueRead(long devicePtr, boolean blocking, long offset, long bytes, ByteBuffer buffer, long hostOffset, long[] waitEvents) {
+        guarantee(buffer != null && buffer.isDirect(), "buffer is not a direct buffer");
+        try {
+            return readArrayFromDevice(commandQueue, buffer, hostOffset, blocking, offset, bytes, devicePtr, waitEvents);
+        } catch (OCLException e) {
+            error(e.getMessage());
+        }
+        return -1;
+    }
+
     public void finish() {
         try {
             clFinish(commandQueue);
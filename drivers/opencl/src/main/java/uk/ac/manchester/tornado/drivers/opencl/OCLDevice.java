@@ -386,6 +386,27 @@ public class OCLDevice extends TornadoLogger implements TornadoTargetDevice {
         return buffer.getInt();
     }
 
+    public int getDevicePreferredVectorWidthInt() {
+        Arrays.fill(buffer.array(), (byte) 0);
+        buffer.clear();
+        clGetDeviceInfo(id, OCLDeviceInfo.CL_DEVICE_PREFERRED_VECTOR_WIDTH_INT.getValue(), buffer.array());
+        return buffer.getInt();
+    }
+
+    public int getDevicePreferredVectorWidthFloat() {
+        Arrays.fill(buffer.array(), (byte) 0);
+        buffer.clear();
+        clGetDeviceInfo(id, OCLDeviceInfo.CL_DEVICE_PREFERRED_VECTOR_WIDTH_FLOAT.getValue(), buffer.array());
+        return buffer.getInt();
+    }
+
+    public int getDevicePreferredVectorWidthDouble() {
+        Arrays.fill(buffer.array(), (byte) 0);
+        buffer.clear();
+        clGetDeviceInfo(id, OCLDeviceInfo.CL_DEVICE_PREFERRED_VECTOR_WIDTH_DOUBLE.getValue(), buffer.array());
+        return buffer.getInt();
+    }
+
     public boolean hasDeviceUnifiedMemory() {
         Arrays.fill(buffer.array(), (byte) 0);
         buffer.clear();
@@ -48,6 +48,7 @@ import static uk.ac.manchester.tornado.drivers.opencl.OCLEvent.DESC_WRITE_SHORT;
 import static uk.ac.manchester.tornado.runtime.common.Tornado.USE_SYNC_FLUSH;
 import static uk.ac.manchester.tornado.runtime.common.Tornado.getProperty;
 
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Comparator;
 import java.util.List;
@@ -251,6 +252,12 @@ public class OCLDeviceContext extends TornadoLogger implements Initialisable, To
                 DESC_WRITE_DOUBLE, offset, queue);
     }
 
+    public int enqueueWriteBuffer(long bufferId, long offset, long bytes, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        return eventsWrapper.registerEvent(
+                queue.enqueueWrite(bufferId, OpenCLBlocking.FALSE, offset, bytes, buffer, hostOffset, eventsWrapper.serialiseEvents(waitEvents, queue) ? eventsWrapper.waitEventsBuffer : null),
+                DESC_WRITE_BYTE, offset, queue);
+    }
+
     /*
      * ASync reads from device
      *
@@ -297,6 +304,12 @@ public class OCLDeviceContext extends TornadoLogger implements Initialisable, To
                 DESC_READ_SHORT, offset, queue);
     }
 
+    public int enqueueReadBuffer(long bufferId, long offset, long bytes, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        return eventsWrapper.registerEvent(
+                queue.enqueueRead(bufferId, OpenCLBlocking.FALSE, offset, bytes, buffer, hostOffset, eventsWrapper.serialiseEvents(waitEvents, queue) ? eventsWrapper.waitEventsBuffer : null),
+                DESC_READ_BYTE, offset, queue);
+    }
+
     /*
      * Synchronous writes to device
      */
@@ -342,6 +355,12 @@ public class OCLDeviceContext extends TornadoLogger implements Initialisable, To
                 DESC_WRITE_DOUBLE, offset, queue);
     }
 
+    public void writeBuffer(long bufferId, long offset, long bytes, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        eventsWrapper.registerEvent(
+                queue.enqueueWrite(bufferId, OpenCLBlocking.TRUE, offset, bytes, buffer, hostOffset, eventsWrapper.serialiseEvents(waitEvents, queue) ? eventsWrapper.waitEventsBuffer : null),
+                DESC_WRITE_BYTE, offset, queue);
+    }
+
     /*
      * Synchronous reads from device
      */
@@ -388,6 +407,12 @@ public class OCLDeviceContext extends TornadoLogger implements Initialisable, To
                 DESC_READ_SHORT, offset, queue);
     }
 
+    public int readBuffer(long bufferId, long offset, long bytes, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        return eventsWrapper.registerEvent(
+                queue.enqueueRead(bufferId, OpenCLBlocking.TRUE, offset, bytes, buffer, hostOffset, eventsWrapper.serialiseEvents(waitEvents, queue) ? eventsWrapper.waitEventsBuffer : null),
+                DESC_READ_BYTE, offset, queue);
+    }
+
     public int enqueueBarrier(int[] events) {
         long oclEvent = queue.enqueueBarrier(eventsWrapper.serialiseEvents(events, queue) ? eventsWrapper.waitEventsBuffer : null);
         return queue.getOpenclVersion() < 120 ? -1 : eventsWrapper.registerEvent(oclEvent, DESC_SYNC_BARRIER, DEFAULT_TAG, queue);
@@ -27,6 +27,8 @@ package uk.ac.manchester.tornado.drivers.opencl;
 import uk.ac.manchester.tornado.api.WorkerGrid;
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
+import uk.ac.manchester.tornado.runtime.autotuner.KernelTuner;
+import uk.ac.manchester.tornado.runtime.autotuner.TuningConfiguration;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
 
@@ -37,10 +39,20 @@ public abstract class OCLKernelScheduler {
     protected double min;
     protected double max;
 
+    private KernelTuner kernelTuner;
+
     OCLKernelScheduler(final OCLDeviceContext context) {
         deviceContext = context;
     }
 
+    /**
+     * Enables the auto-tuning of the thread configuration of the kernels
+     * submitted with this scheduler.
+     */
+    public void setKernelTuner(KernelTuner kernelTuner) {
+        this.kernelTuner = kernelTuner;
+    }
+
     public abstract void calculateGlobalWork(final TaskMetaData meta, long batchThreads);
 
     public abstract void calculateLocalWork(final TaskMetaData meta);
@@ -85,12 +97,30 @@ public abstract class OCLKernelScheduler {
             }
         }
 
+        final boolean tuning = kernelTuner != null && KernelTuner.isTunable(meta);
+        if (tuning) {
+            applyTuningConfiguration(meta);
+        }
+
         if (meta.isDebug()) {
             meta.printThreadDims();
         }
         final int taskEvent = launch(kernel, meta, waitEvents, batchThreads);
+        if (tuning && kernelTuner.isMeasuring()) {
+            Event kernelEvent = deviceContext.resolveEvent(taskEvent);
+            kernelEvent.waitForEvents();
+            kernelTuner.record(kernelEvent.getExecutionTime());
+        }
         updateProfiler(taskEvent, meta);
         return taskEvent;
     }
 
+    private void applyTuningConfiguration(final TaskMetaData meta) {
+        final int dims = meta.getDims();
+        TuningConfiguration configuration = kernelTuner.select(meta, meta.getLocalWork().clone());
+        long[] globalWork = kernelTuner.computeGlobalWork(meta, configuration);
+        System.arraycopy(globalWork, 0, meta.getGlobalWork(), 0, dims);
+        System.arraycopy(configuration.getLocalWork(), 0, meta.getLocalWork(), 0, dims);
+    }
+
 }
@@ -40,6 +40,9 @@ public class OCLTargetDescription extends TargetDescription {
     private final boolean supportsFP64;
     private final String extensions;
     private final boolean supportsInt64Atomics;
+    private int preferredVectorWidthInt;
+    private int preferredVectorWidthFloat;
+    private int preferredVectorWidthDouble;
 
     public OCLTargetDescription(Architecture arch, boolean supportsFP64, String extensions) {
         this(arch, false, STACK_ALIGNMENT, 4096, INLINE_OBJECTS, supportsFP64, extensions);
@@ -84,6 +87,35 @@ public class OCLTargetDescription extends TargetDescription {
         return extensions;
     }
 
+    public void setPreferredVectorWidths(int intWidth, int floatWidth, int doubleWidth) {
+        this.preferredVectorWidthInt = intWidth;
+        this.preferredVectorWidthFloat = floatWidth;
+        this.preferredVectorWidthDouble = doubleWidth;
+    }
+
+    /**
+     * @return the preferred vector width reported by the device for the given
+     *         type, or 1 if the device does not prefer vectors of that type.
+     */
+    public int getPreferredVectorWidth(JavaKind javaKind) {
+        int width;
+        switch (javaKind) {
+            case Int:
+                width = preferredVectorWidthInt;
+                break;
+            case Float:
+                width = preferredVectorWidthFloat;
+                break;
+            case Double:
+                width = (supportsFP64) ? preferredVectorWidthDouble : 1;
+                break;
+            default:
+                width = 1;
+                break;
+        }
+        return Math.max(width, 1);
+    }
+
     // should use OCLKind.lookupLengthIndex instead
     private static int lookupLengthIndex(int vectorLength) {
         switch (vectorLength) {
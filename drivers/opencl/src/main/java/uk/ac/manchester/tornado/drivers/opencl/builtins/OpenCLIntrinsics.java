@@ -63,6 +63,35 @@ public class OpenCLIntrinsics {
      */
     public static native void globalBarrier();
 
+    /**
+     * <p>
+     * <code>
+     *  atomic_add(&array[index], value);
+     * </code>
+     * </p>
+     *
+     * Atomic combiners are used by the single-pass reductions to merge the
+     * result of each work-group into the first element of the output array.
+     * Floats are updated with a compare-and-swap loop.
+     */
+    public static native void atomicAdd(int[] array, int index, int value);
+
+    public static native void atomicAdd(float[] array, int index, float value);
+
+    public static native void atomicMax(int[] array, int index, int value);
+
+    public static native void atomicMax(float[] array, int index, float value);
+
+    public static native void atomicMin(int[] array, int index, int value);
+
+    public static native void atomicMin(float[] array, int index, float value);
+
+    public static native void atomicOr(int[] array, int index, int value);
+
+    public static native void atomicAnd(int[] array, int index, int value);
+
+    public static native void atomicXor(int[] array, int index, int value);
+
     public static native void printf();
 
     public static native void printEmpty();
@@ -94,6 +94,7 @@ public class OCLHotSpotBackendFactory {
 
         OCLArchitecture arch = new OCLArchitecture(wordKind, device.getByteOrder());
         OCLTargetDescription target = new OCLTargetDescription(arch, device.getDeviceDoubleFPConfig() != 0, device.getDeviceExtensions());
+        target.setPreferredVectorWidths(device.getDevicePreferredVectorWidthInt(), device.getDevicePreferredVectorWidthFloat(), device.getDevicePreferredVectorWidthDouble());
         OCLCodeProvider codeCache = new OCLCodeProvider(target);
         OCLDeviceContext deviceContext = openclContext.createDeviceContext(device.getIndex());
 
@@ -90,11 +90,16 @@ import jdk.vm.ci.meta.ResolvedJavaField;
 import jdk.vm.ci.meta.ResolvedJavaType;
 import uk.ac.manchester.tornado.api.exceptions.Debug;
 import uk.ac.manchester.tornado.drivers.opencl.OCLTargetDescription;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLAtomicReadModifyWriteNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLHalfFloatReadNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLHalfFloatWriteNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLWriteAtomicNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLWriteAtomicNode.ATOMIC_OPERATION;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLWriteAtomicReduceNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLWriteNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.AtomicAddNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.AtomicReduceNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.CastNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.FixedArrayNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.GlobalThreadIdNode;
@@ -106,6 +111,9 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.vector.VectorStoreNod
 import uk.ac.manchester.tornado.drivers.opencl.graal.snippets.ReduceCPUSnippets;
 import uk.ac.manchester.tornado.drivers.opencl.graal.snippets.ReduceGPUSnippets;
 import uk.ac.manchester.tornado.runtime.TornadoVMConfig;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicIndexedNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatLoadNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatStoreNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.NewArrayNonVirtualizableNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoDirectCallTargetNode;
@@ -162,6 +170,14 @@ public class OCLLoweringProvider extends DefaultJavaLoweringProvider {
             lowerNewArrayNode((NewArrayNonVirtualizableNode) node);
         } else if (node instanceof AtomicAddNode) {
             lowerAtomicAddNode((AtomicAddNode) node, tool);
+        } else if (node instanceof AtomicReduceNode) {
+            lowerAtomicReduceNode((AtomicReduceNode) node);
+        } else if (node instanceof AtomicIndexedNode) {
+            lowerAtomicIndexedNode((AtomicIndexedNode) node);
+        } else if (node instanceof HalfFloatLoadNode) {
+            lowerHalfFloatLoadNode((HalfFloatLoadNode) node);
+        } else if (node instanceof HalfFloatStoreNode) {
+            lowerHalfFloatStoreNode((HalfFloatStoreNode) node);
         } else if (node instanceof LoadIndexedNode) {
             lowerLoadIndexedNode((LoadIndexedNode) node, tool);
         } else if (node instanceof StoreIndexedNode) {
@@ -363,6 +379,39 @@ public class OCLLoweringProvider extends DefaultJavaLoweringProvider {
         graph.replaceFixedWithFixed(storeField, memoryWrite);
     }
 
+    private void lowerAtomicReduceNode(AtomicReduceNode atomicReduce) {
+        StructuredGraph graph = atomicReduce.graph();
+        JavaKind elementKind = atomicReduce.elementKind();
+        AddressNode address = createArrayAddress(graph, atomicReduce.array(), elementKind, atomicReduce.index());
+        OCLWriteAtomicReduceNode memoryWrite = graph.add(new OCLWriteAtomicReduceNode(address, NamedLocationIdentity.getArrayLocation(elementKind), atomicReduce.value(), atomicReduce.getOperation()));
+        graph.replaceFixedWithFixed(atomicReduce, memoryWrite);
+    }
+
+    private void lowerAtomicIndexedNode(AtomicIndexedNode atomicIndexed) {
+        StructuredGraph graph = atomicIndexed.graph();
+        JavaKind elementKind = atomicIndexed.elementKind();
+        AddressNode address = createArrayAddress(graph, atomicIndexed.array(), elementKind, atomicIndexed.index());
+        OCLAtomicReadModifyWriteNode atomicAccess = graph.add(new OCLAtomicReadModifyWriteNode(address, NamedLocationIdentity.getArrayLocation(elementKind), atomicIndexed.expected(),
+                atomicIndexed.value(), atomicIndexed.getOperation()));
+        atomicAccess.setStateAfter(atomicIndexed.stateAfter());
+        graph.replaceFixedWithFixed(atomicIndexed, atomicAccess);
+    }
+
+    private void lowerHalfFloatLoadNode(HalfFloatLoadNode halfLoad) {
+        StructuredGraph graph = halfLoad.graph();
+        AddressNode address = createArrayAddress(graph, halfLoad.array(), JavaKind.Short, halfLoad.index());
+        OCLHalfFloatReadNode memoryRead = graph.add(new OCLHalfFloatReadNode(address, NamedLocationIdentity.getArrayLocation(JavaKind.Short)));
+        graph.replaceFixedWithFixed(halfLoad, memoryRead);
+    }
+
+    private void lowerHalfFloatStoreNode(HalfFloatStoreNode halfStore) {
+        StructuredGraph graph = halfStore.graph();
+        AddressNode address = createArrayAddress(graph, halfStore.array(), JavaKind.Short, halfStore.index());
+        OCLHalfFloatWriteNode memoryWrite = graph.add(new OCLHalfFloatWriteNode(address, NamedLocationIdentity.getArrayLocation(JavaKind.Short), halfStore.value()));
+        memoryWrite.setStateAfter(halfStore.stateAfter());
+        graph.replaceFixedWithFixed(halfStore, memoryWrite);
+    }
+
     private void lowerAtomicAddNode(AtomicAddNode atomicAdd, LoweringTool tool) {
         shouldNotReachHere("need to use builtin nodes");
     }
@@ -246,6 +246,12 @@ public final class OCLAssembler extends Assembler {
         public static final OCLUnaryIntrinsic SIN = new OCLUnaryIntrinsic("sin");
         public static final OCLUnaryIntrinsic COS = new OCLUnaryIntrinsic("cos");
 
+        public static final OCLUnaryIntrinsic NATIVE_EXP = new OCLUnaryIntrinsic("native_exp");
+        public static final OCLUnaryIntrinsic NATIVE_SQRT = new OCLUnaryIntrinsic("native_sqrt");
+        public static final OCLUnaryIntrinsic NATIVE_LOG = new OCLUnaryIntrinsic("native_log");
+        public static final OCLUnaryIntrinsic NATIVE_SIN = new OCLUnaryIntrinsic("native_sin");
+        public static final OCLUnaryIntrinsic NATIVE_COS = new OCLUnaryIntrinsic("native_cos");
+
         public static final OCLUnaryIntrinsic LOCAL_MEMORY = new OCLUnaryIntrinsic("__local");
 
         public static final OCLUnaryIntrinsic POPCOUNT = new OCLUnaryIntrinsic("popcount");
@@ -261,6 +267,8 @@ public final class OCLAssembler extends Assembler {
 
         public static final OCLUnaryIntrinsic AS_FLOAT = new OCLUnaryIntrinsic("as_float");
         public static final OCLUnaryIntrinsic AS_INT = new OCLUnaryIntrinsic("as_int");
+        public static final OCLUnaryIntrinsic AS_DOUBLE = new OCLUnaryIntrinsic("as_double");
+        public static final OCLUnaryIntrinsic AS_LONG = new OCLUnaryIntrinsic("as_long");
 
         public static final OCLUnaryIntrinsic IS_FINITE = new OCLUnaryIntrinsic("isfinite");
         public static final OCLUnaryIntrinsic IS_INF = new OCLUnaryIntrinsic("isinf");
@@ -387,6 +395,7 @@ public final class OCLAssembler extends Assembler {
         public static final OCLBinaryIntrinsic FLOAT_MIN = new OCLBinaryIntrinsic("fmin");
         public static final OCLBinaryIntrinsic FLOAT_MAX = new OCLBinaryIntrinsic("fmax");
         public static final OCLBinaryIntrinsic FLOAT_POW = new OCLBinaryIntrinsic("pow");
+        public static final OCLBinaryIntrinsic NATIVE_DIVIDE = new OCLBinaryIntrinsic("native_divide");
 
         public static final OCLBinaryIntrinsic ATOMIC_ADD = new OCLBinaryIntrinsic("atomic_add");
         public static final OCLBinaryIntrinsic ATOMIC_SUB = new OCLBinaryIntrinsic("atomic_sub");
@@ -703,6 +712,12 @@ public final class OCLAssembler extends Assembler {
     public static class OCLOp16 extends OCLOp8 {
         // @formatter:off
 
+        public static final OCLOp16 VMOV_SHORT16 = new OCLOp16("(short16)");
+        public static final OCLOp16 VMOV_INT16 = new OCLOp16("(int16)");
+        public static final OCLOp16 VMOV_FLOAT16 = new OCLOp16("(float16)");
+        public static final OCLOp16 VMOV_BYTE16 = new OCLOp16("(char16)");
+        public static final OCLOp16 VMOV_DOUBLE16 = new OCLOp16("(double16)");
+
         // @formatter:on
         protected OCLOp16(String opcode) {
             super(opcode);
@@ -34,6 +34,7 @@ public class OCLAssemblerConstants {
     public static final String LOCAL_MEM_MODIFIER = "__local";
     public static final String PRIVATE_MEM_MODIFIER = "__private";
     public static final String CONSTANT_MEM_MODIFIER = "__constant";
+    public static final String CONST_QUALIFIER = "const";
 
     public static final String TORNADO_HEAP_MEMORY = "heap";
 
@@ -454,9 +454,13 @@ public class OCLBackend extends TornadoBackend<OCLProviders> implements FrameMap
         for (OCLKind type : kindToVariable.keySet()) {
             asm.indent();
             asm.emit("%s ", type);
+            // variables renamed by the VirtualRegisterAllocationPhase share a name
+            final Set<String> declared = new HashSet<>();
             for (Variable var : kindToVariable.get(type)) {
-                asm.emitValue(crb, var);
-                asm.emit(", ");
+                if (declared.add(var.getName())) {
+                    asm.emitValue(crb, var);
+                    asm.emit(", ");
+                }
             }
             asm.emitByte(';', asm.position() - 2);
             asm.eol();
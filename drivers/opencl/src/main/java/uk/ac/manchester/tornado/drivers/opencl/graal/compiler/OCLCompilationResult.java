@@ -39,6 +39,7 @@ public class OCLCompilationResult extends CompilationResult {
     protected TaskMetaData meta;
     protected OCLBackend backend;
     protected String id;
+    protected boolean[] readOnlyArguments;
 
     public OCLCompilationResult(String id, String name, TaskMetaData meta, OCLBackend backend) {
         super(name);
@@ -69,6 +70,18 @@ public class OCLCompilationResult extends CompilationResult {
         setTargetCode(newCode, size);
     }
 
+    /**
+     * @return for each kernel argument, whether it is only read and not aliased
+     *         by any written argument, or null if none of them is.
+     */
+    public boolean[] getReadOnlyArguments() {
+        return readOnlyArguments;
+    }
+
+    public void setReadOnlyArguments(boolean[] readOnlyArguments) {
+        this.readOnlyArguments = readOnlyArguments;
+    }
+
     public TaskMetaData getMeta() {
         return meta;
     }
@@ -89,13 +89,23 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.OCLProviders;
 import uk.ac.manchester.tornado.drivers.opencl.graal.OCLSuitesProvider;
 import uk.ac.manchester.tornado.drivers.opencl.graal.backend.OCLBackend;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLLIRGenerationPhase.LIRGenerationContext;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.GroupIdNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalArrayNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalGroupSizeNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalThreadIDFixedNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalThreadIdNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalThreadSizeNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalWorkGroupDimensionsNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLBarrierNode;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.common.Tornado;
 import uk.ac.manchester.tornado.runtime.graal.TornadoLIRSuites;
 import uk.ac.manchester.tornado.runtime.graal.TornadoSuites;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoCompilerIdentifier;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoDataflowAnalysis;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoMidTierContext;
+import uk.ac.manchester.tornado.runtime.profiler.CompilerPhaseProfiler;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
 import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
@@ -185,6 +195,12 @@ public class OCLCompiler {
         try (DebugContext.Scope s0 = getDebugContext().scope("GraalCompiler", r.graph, r.providers.getCodeCache()); DebugCloseable a = CompilerTimer.start(getDebugContext())) {
             emitFrontEnd(r.providers, r.backend, r.installedCodeOwner, r.args, r.meta, r.graph, r.graphBuilderSuite, r.optimisticOpts, r.profilingInfo, r.suites, r.isKernel, r.buildGraph,
                     r.batchThreads);
+            if (r.isKernel) {
+                r.compilationResult.setReadOnlyArguments(TornadoDataflowAnalysis.findReadOnlyArguments(r.meta, r.args));
+                if (r.meta != null) {
+                    r.meta.setWorkGroupIndependent(!dependsOnWorkGroup(r.graph));
+                }
+            }
             boolean isParallel = false;
             if (r.meta != null && r.meta.isParallel()) {
                 isParallel = true;
@@ -204,6 +220,16 @@ public class OCLCompiler {
         }
     }
 
+    /**
+     * @return true if the graph uses local memory, barriers or the work-group
+     *         indices and sizes, so the result of the kernel depends on the local
+     *         work-group size.
+     */
+    private static boolean dependsOnWorkGroup(StructuredGraph graph) {
+        return graph.hasNode(LocalArrayNode.TYPE) || graph.hasNode(OCLBarrierNode.TYPE) || graph.hasNode(GroupIdNode.TYPE) || graph.hasNode(LocalThreadIdNode.TYPE)
+                || graph.hasNode(LocalThreadIDFixedNode.TYPE) || graph.hasNode(LocalThreadSizeNode.TYPE) || graph.hasNode(LocalGroupSizeNode.TYPE) || graph.hasNode(LocalWorkGroupDimensionsNode.TYPE);
+    }
+
     private static boolean isGraphEmpty(StructuredGraph graph) {
         return graph.start().next() == null;
     }
@@ -311,11 +337,16 @@ public class OCLCompiler {
             FrameMapBuilder frameMapBuilder = backend.newFrameMapBuilder(registerConfig);
             LIRGenerationResult lirGenRes = backend.newLIRGenerationResult(graph.compilationId(), lir, frameMapBuilder, registerAllocationConfig, graph, stub);
             LIRGeneratorTool lirGen = backend.newLIRGenerator(lirGenRes);
+            if (isKernel && compilationResult instanceof OCLCompilationResult) {
+                ((OCLLIRGenerator) lirGen).setReadOnlyArguments(((OCLCompilationResult) compilationResult).getReadOnlyArguments());
+            }
             NodeLIRBuilderTool nodeLirGen = backend.newNodeLIRBuilder(graph, lirGen);
 
             // LIR generation
             LIRGenerationContext context = new LIRGenerationContext(lirGen, nodeLirGen, graph, schedule, isKernel);
+            long start = CompilerPhaseProfiler.start();
             LIR_GENERATION_PHASE.apply(backend.getTarget(), lirGenRes, context);
+            CompilerPhaseProfiler.stop(CompilerPhaseProfiler.BACKEND, CompilerPhaseProfiler.LIR_GENERATION, start);
 
             try (DebugContext.Scope s = getDebugContext().scope("LIRStages", nodeLirGen, lir)) {
                 getDebugContext().dump(DebugContext.BASIC_LEVEL, lir, "After LIR generation");
@@ -333,15 +364,20 @@ public class OCLCompiler {
     public static LIRGenerationResult emitLowLevel(OCLTargetDescription target, LIRGenerationResult lirGenRes, LIRGeneratorTool lirGen, TornadoLIRSuites lirSuites,
             RegisterAllocationConfig registerAllocationConfig) {
         final PreAllocationOptimizationContext preAllocOptContext = new PreAllocationOptimizationContext(lirGen);
+        long start = CompilerPhaseProfiler.start();
         lirSuites.getPreAllocationStage().apply(target, lirGenRes, preAllocOptContext);
+        CompilerPhaseProfiler.stop(CompilerPhaseProfiler.BACKEND, CompilerPhaseProfiler.LIR_PRE_ALLOCATION, start);
         AllocationContext allocContext = new AllocationContext(lirGen.getSpillMoveFactory(), registerAllocationConfig);
+        start = CompilerPhaseProfiler.start();
         lirSuites.getAllocationStage().apply(target, lirGenRes, allocContext);
+        CompilerPhaseProfiler.stop(CompilerPhaseProfiler.BACKEND, CompilerPhaseProfiler.LIR_ALLOCATION, start);
         return lirGenRes;
     }
 
     public static void emitCode(OCLBackend backend, Assumptions assumptions, ResolvedJavaMethod rootMethod, List<ResolvedJavaMethod> inlinedMethods, int bytecodeSize, LIRGenerationResult lirGenRes,
             OCLCompilationResult compilationResult, ResolvedJavaMethod installedCodeOwner, CompilationResultBuilderFactory factory, boolean isKernel, boolean isParallel) {
         try (DebugCloseable a = EmitCode.start(getDebugContext())) {
+            long start = CompilerPhaseProfiler.start();
             FrameMap frameMap = lirGenRes.getFrameMap();
             final OCLCompilationResultBuilder crb = backend.newCompilationResultBuilder(lirGenRes, frameMap, compilationResult, factory, isKernel, isParallel);
             backend.emitCode(crb, lirGenRes.getLIR(), installedCodeOwner);
@@ -355,6 +391,7 @@ public class OCLCompiler {
 
             compilationResult.setNonInlinedMethods(crb.getNonInlinedMethods());
             crb.finish();
+            CompilerPhaseProfiler.stop(CompilerPhaseProfiler.BACKEND, CompilerPhaseProfiler.CODE_EMISSION, start);
 
             if (getDebugContext().isCountEnabled()) {
                 DebugContext.counter("CompilationResults").increment(getDebugContext());
@@ -408,6 +445,9 @@ public class OCLCompiler {
 
             methodCompilationRequest.execute();
             workList.addAll(compResult.getNonInlinedMethods());
+            if (meta != null && dependsOnWorkGroup(graph)) {
+                meta.setWorkGroupIndependent(false);
+            }
 
             kernelCompResult.addCompiledMethodCode(compResult.getTargetCode());
         }
@@ -463,6 +503,9 @@ public class OCLCompiler {
 
             methodCompilationRequest.execute();
             workList.addAll(compResult.getNonInlinedMethods());
+            if (dependsOnWorkGroup(graph)) {
+                taskMeta.setWorkGroupIndependent(false);
+            }
 
             if (DUMP_COMPILED_METHODS) {
                 methods.add(graph.method());
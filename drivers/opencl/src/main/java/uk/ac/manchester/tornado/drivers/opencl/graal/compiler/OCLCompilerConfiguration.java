@@ -36,18 +36,28 @@ import org.graalvm.compiler.phases.common.CanonicalizerPhase;
 
 import jdk.vm.ci.meta.MetaAccessProvider;
 import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLLIRExpressionModel;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLVirtualRegisterModel;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoCompilerConfiguration;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoHighTier;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoLowTier;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoMidTier;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSketchTier;
 import uk.ac.manchester.tornado.runtime.graal.phases.lir.TornadoAllocationStage;
+import uk.ac.manchester.tornado.runtime.graal.phases.lir.TornadoLIRCommonSubexpressionElimination;
+import uk.ac.manchester.tornado.runtime.graal.phases.lir.TornadoLIRLoopInvariantCodeMotion;
+import uk.ac.manchester.tornado.runtime.graal.phases.lir.VirtualRegisterAllocationPhase;
 
 public class OCLCompilerConfiguration implements TornadoCompilerConfiguration {
 
     @Override
     public TornadoAllocationStage createAllocationStage(OptionValues options) {
-        return new TornadoAllocationStage();
+        TornadoAllocationStage stage = new TornadoAllocationStage();
+        if (TornadoOptions.VIRTUAL_REGISTER_ALLOCATION) {
+            stage.appendPhase(new VirtualRegisterAllocationPhase(OCLVirtualRegisterModel.INSTANCE));
+        }
+        return stage;
     }
 
     @Override
@@ -77,7 +87,12 @@ public class OCLCompilerConfiguration implements TornadoCompilerConfiguration {
 
     @Override
     public LIRPhaseSuite<PreAllocationOptimizationContext> createPreAllocationOptimizationStage(OptionValues options) {
-        return new PreAllocationOptimizationStage(options);
+        PreAllocationOptimizationStage stage = new PreAllocationOptimizationStage(options);
+        if (TornadoOptions.LIR_OPTIMISATIONS) {
+            stage.appendPhase(new TornadoLIRLoopInvariantCodeMotion(OCLLIRExpressionModel.INSTANCE));
+            stage.appendPhase(new TornadoLIRCommonSubexpressionElimination(OCLLIRExpressionModel.INSTANCE));
+        }
+        return stage;
     }
 
 }
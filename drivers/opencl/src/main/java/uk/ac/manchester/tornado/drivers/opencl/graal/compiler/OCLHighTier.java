@@ -50,9 +50,13 @@ import org.graalvm.compiler.virtual.phases.ea.PartialEscapePhase;
 import jdk.vm.ci.meta.MetaAccessProvider;
 import uk.ac.manchester.tornado.api.TornadoDeviceContext;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoNewArrayDevirtualizationReplacement;
+import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoOpenCLFastMath;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoOpenCLIntrinsicsReplacements;
+import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoOpenCLLocalMemoryTiling;
+import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoOpenCLLoopVectorisation;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoParallelScheduler;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoPragmaUnroll;
+import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoStructOfArraysTransformation;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoTaskSpecialisation;
 import uk.ac.manchester.tornado.drivers.opencl.graal.phases.TornadoThreadScheduler;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoHighTier;
@@ -90,6 +94,7 @@ public class OCLHighTier extends TornadoHighTier {
         }
 
         appendPhase(new TornadoTaskSpecialisation(canonicalizer));
+        appendPhase(new TornadoStructOfArraysTransformation());
         appendPhase(canonicalizer);
         appendPhase(new DeadCodeEliminationPhase(Optional));
 
@@ -108,6 +113,11 @@ public class OCLHighTier extends TornadoHighTier {
 
         appendPhase(new TornadoShapeAnalysis());
         appendPhase(canonicalizer);
+        if (!deviceContext.isPlatformFPGA()) {
+            appendPhase(new TornadoOpenCLLocalMemoryTiling());
+            appendPhase(new TornadoOpenCLLoopVectorisation());
+        }
+        appendPhase(new TornadoOpenCLFastMath());
         appendPhase(new TornadoParallelScheduler());
         appendPhase(new SchedulePhase(SchedulePhase.SchedulingStrategy.EARLIEST));
         if (deviceContext.isPlatformFPGA()) {
@@ -45,6 +45,7 @@ import org.graalvm.compiler.lir.Variable;
 import org.graalvm.compiler.lir.VirtualStackSlot;
 import org.graalvm.compiler.lir.gen.LIRGenerationResult;
 import org.graalvm.compiler.lir.gen.LIRGenerator;
+import org.graalvm.compiler.nodes.ValueNode;
 
 import jdk.vm.ci.code.Register;
 import jdk.vm.ci.code.StackSlot;
@@ -74,11 +75,13 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLNullary;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLTernary;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoDataflowAnalysis;
 
 public class OCLLIRGenerator extends LIRGenerator {
 
     private OCLBuiltinTool oclBuiltinTool;
     private OCLGenTool oclGenTool;
+    private boolean[] readOnlyArguments;
 
     public OCLLIRGenerator(CodeGenProviders providers, LIRGenerationResult res) {
         super(new OCLLIRKindTool((OCLTargetDescription) providers.getCodeCache().getTarget()), new OCLArithmeticTool(), new OCLMoveFactory(), providers, res);
@@ -86,6 +89,18 @@ public class OCLLIRGenerator extends LIRGenerator {
         this.oclGenTool = new OCLGenTool(this);
     }
 
+    public void setReadOnlyArguments(boolean[] readOnlyArguments) {
+        this.readOnlyArguments = readOnlyArguments;
+    }
+
+    /**
+     * @return true if the base of a global memory access is a kernel argument
+     *         that is only read and not aliased by any written argument.
+     */
+    public boolean isReadOnlyArgument(ValueNode base) {
+        return TornadoDataflowAnalysis.isReadOnlyArgument(base, readOnlyArguments);
+    }
+
     @Override
     public Value emitCompress(Value pointer, CompressEncoding encoding, boolean nonNull) {
         unimplemented();
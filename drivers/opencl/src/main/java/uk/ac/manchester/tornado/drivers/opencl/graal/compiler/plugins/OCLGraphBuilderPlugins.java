@@ -50,6 +50,7 @@ import org.graalvm.compiler.nodes.graphbuilderconf.InvocationPlugin.Receiver;
 import org.graalvm.compiler.nodes.graphbuilderconf.InvocationPlugins;
 import org.graalvm.compiler.nodes.graphbuilderconf.InvocationPlugins.Registration;
 import org.graalvm.compiler.nodes.graphbuilderconf.NodePlugin;
+import org.graalvm.compiler.nodes.java.LoadIndexedNode;
 import org.graalvm.compiler.nodes.java.NewArrayNode;
 import org.graalvm.compiler.nodes.java.StoreIndexedNode;
 import org.graalvm.compiler.nodes.util.GraphUtil;
@@ -58,6 +59,11 @@ import jdk.vm.ci.meta.JavaConstant;
 import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.meta.ResolvedJavaMethod;
 import uk.ac.manchester.tornado.api.TornadoVM_Intrinsics;
+import uk.ac.manchester.tornado.api.atomics.TornadoAtomics;
+import uk.ac.manchester.tornado.api.collections.types.HalfFloat;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapDoubleArray;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapFloatArray;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapIntArray;
 import uk.ac.manchester.tornado.api.exceptions.Debug;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.AtomicAddNodeTemplate;
@@ -72,6 +78,9 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.SlotsBaseAddressNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.TPrintfNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.TornadoAtomicIntegerNode;
 import uk.ac.manchester.tornado.runtime.directives.CompilerInternals;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicIndexedNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatLoadNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatStoreNode;
 
 public class OCLGraphBuilderPlugins {
 
@@ -82,6 +91,10 @@ public class OCLGraphBuilderPlugins {
 
         // Register Atomics
         registerTornadoVMAtomicsPlugins(plugins);
+        registerTornadoAtomicsPlugins(plugins);
+
+        registerHalfFloatPlugins(plugins);
+        registerOffHeapArrayPlugins(plugins);
 
         OCLMathPlugins.registerTornadoMathPlugins(plugins);
         VectorPlugins.registerPlugins(ps, plugins);
@@ -118,6 +131,84 @@ public class OCLGraphBuilderPlugins {
         registerTornadoVMAtomicsPlugins(r, Integer.TYPE, JavaKind.Int);
     }
 
+    private static void registerTornadoAtomicsUpdate(Registration r, String name, Class<?> arrayType, Class<?> type, JavaKind kind, AtomicIndexedNode.Operation operation) {
+        r.register3(name, arrayType, int.class, type, new InvocationPlugin() {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode array, ValueNode index, ValueNode value) {
+                b.addPush(kind, new AtomicIndexedNode(array, index, kind, value, operation));
+                return true;
+            }
+        });
+    }
+
+    private static void registerTornadoAtomicsPlugins(Registration r, Class<?> arrayType, Class<?> type, JavaKind kind) {
+        registerTornadoAtomicsUpdate(r, "add", arrayType, type, kind, AtomicIndexedNode.Operation.ADD);
+        registerTornadoAtomicsUpdate(r, "min", arrayType, type, kind, AtomicIndexedNode.Operation.MIN);
+        registerTornadoAtomicsUpdate(r, "max", arrayType, type, kind, AtomicIndexedNode.Operation.MAX);
+
+        r.register4("compareAndSwap", arrayType, int.class, type, type, new InvocationPlugin() {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode array, ValueNode index, ValueNode expected, ValueNode value) {
+                b.addPush(kind, new AtomicIndexedNode(array, index, kind, expected, value, AtomicIndexedNode.Operation.CAS));
+                return true;
+            }
+        });
+    }
+
+    private static void registerTornadoAtomicsPlugins(InvocationPlugins plugins) {
+        Registration r = new Registration(plugins, TornadoAtomics.class);
+        registerTornadoAtomicsPlugins(r, int[].class, Integer.TYPE, JavaKind.Int);
+        registerTornadoAtomicsPlugins(r, long[].class, Long.TYPE, JavaKind.Long);
+        registerTornadoAtomicsPlugins(r, float[].class, Float.TYPE, JavaKind.Float);
+    }
+
+    private static void registerHalfFloatPlugins(InvocationPlugins plugins) {
+        Registration r = new Registration(plugins, HalfFloat.class);
+
+        r.register2("load", short[].class, int.class, new InvocationPlugin() {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode array, ValueNode index) {
+                b.addPush(JavaKind.Float, new HalfFloatLoadNode(array, index));
+                return true;
+            }
+        });
+
+        r.register3("store", short[].class, int.class, float.class, new InvocationPlugin() {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode array, ValueNode index, ValueNode value) {
+                b.add(new HalfFloatStoreNode(array, index, value));
+                return true;
+            }
+        });
+    }
+
+    private static void registerOffHeapArrayPlugins(InvocationPlugins plugins, Class<?> declaringClass, Class<?> type, JavaKind kind) {
+        Registration r = new Registration(plugins, declaringClass);
+
+        // Off-heap arrays are laid out as Java arrays on the device
+        r.register2("get", Receiver.class, int.class, new InvocationPlugin() {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode index) {
+                b.addPush(kind, new LoadIndexedNode(b.getAssumptions(), receiver.get(), index, null, kind));
+                return true;
+            }
+        });
+
+        r.register3("set", Receiver.class, int.class, type, new InvocationPlugin() {
+            @Override
+            public boolean apply(GraphBuilderContext b, ResolvedJavaMethod targetMethod, Receiver receiver, ValueNode index, ValueNode value) {
+                b.add(new StoreIndexedNode(receiver.get(), index, null, null, kind, value));
+                return true;
+            }
+        });
+    }
+
+    private static void registerOffHeapArrayPlugins(InvocationPlugins plugins) {
+        registerOffHeapArrayPlugins(plugins, OffHeapFloatArray.class, Float.TYPE, JavaKind.Float);
+        registerOffHeapArrayPlugins(plugins, OffHeapIntArray.class, Integer.TYPE, JavaKind.Int);
+        registerOffHeapArrayPlugins(plugins, OffHeapDoubleArray.class, Double.TYPE, JavaKind.Double);
+    }
+
     private static boolean isMethodFromAtomicClass(ResolvedJavaMethod method) {
         return method.getDeclaringClass().toJavaName().equals("uk.ac.manchester.tornado.api.atomics.TornadoAtomicInteger")
                 || method.getDeclaringClass().toJavaName().equals("java.util.concurrent.atomic.AtomicInteger");
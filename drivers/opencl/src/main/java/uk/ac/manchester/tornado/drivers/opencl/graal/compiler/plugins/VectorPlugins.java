@@ -94,12 +94,14 @@ public final class VectorPlugins {
             registerVectorPlugins(plugins, OCLKind.FLOAT3, float[].class, float.class);
             registerVectorPlugins(plugins, OCLKind.FLOAT4, float[].class, float.class);
             registerVectorPlugins(plugins, OCLKind.FLOAT8, float[].class, float.class);
+            registerVectorPlugins(plugins, OCLKind.FLOAT16, float[].class, float.class);
 
             // Adding ints
             registerVectorPlugins(plugins, OCLKind.INT2, int[].class, int.class);
             registerVectorPlugins(plugins, OCLKind.INT3, int[].class, int.class);
             registerVectorPlugins(plugins, OCLKind.INT4, int[].class, int.class);
             registerVectorPlugins(plugins, OCLKind.INT8, int[].class, int.class);
+            registerVectorPlugins(plugins, OCLKind.INT16, int[].class, int.class);
 
             // Adding shorts
             registerVectorPlugins(plugins, OCLKind.SHORT2, short[].class, short.class);
@@ -113,6 +115,7 @@ public final class VectorPlugins {
             registerVectorPlugins(plugins, OCLKind.DOUBLE3, double[].class, double.class);
             registerVectorPlugins(plugins, OCLKind.DOUBLE4, double[].class, double.class);
             registerVectorPlugins(plugins, OCLKind.DOUBLE8, double[].class, double.class);
+            registerVectorPlugins(plugins, OCLKind.DOUBLE16, double[].class, double.class);
 
             /*
              * Geometric BIFS for floating point vectors
@@ -104,7 +104,11 @@ public class OCLAddressNode extends AddressNode implements LIRLowerable {
             gen.setResult(this, new MemoryAccess(memoryRegister, baseValue, indexValue, false));
         } else {
             addressValue = tool.getArithmetic().emitAdd(baseValue, indexValue, false);
-            gen.setResult(this, new MemoryAccess(memoryRegister, addressValue, false));
+            MemoryAccess memoryAccess = new MemoryAccess(memoryRegister, addressValue, false);
+            if (tool.isReadOnlyArgument(base)) {
+                memoryAccess.markReadOnly();
+            }
+            gen.setResult(this, memoryAccess);
         }
     }
 }
@@ -181,7 +181,19 @@ public class OCLArithmeticTool extends ArithmeticLIRGenerator {
 
     @Override
     public Value emitReinterpret(LIRKind lirKind, Value x) {
-        unimplemented();
+        trace("emitReinterpret: (%s) %s", lirKind, x);
+        switch ((OCLKind) lirKind.getPlatformKind()) {
+            case INT:
+                return emitUnaryAssign(OCLUnaryIntrinsic.AS_INT, lirKind, x);
+            case FLOAT:
+                return emitUnaryAssign(OCLUnaryIntrinsic.AS_FLOAT, lirKind, x);
+            case LONG:
+                return emitUnaryAssign(OCLUnaryIntrinsic.AS_LONG, lirKind, x);
+            case DOUBLE:
+                return emitUnaryAssign(OCLUnaryIntrinsic.AS_DOUBLE, lirKind, x);
+            default:
+                unimplemented("reinterpret to %s", lirKind.getPlatformKind());
+        }
         return null;
     }
 
@@ -321,13 +333,14 @@ public class OCLArithmeticTool extends ArithmeticLIRGenerator {
         guarantee(lirKind.getPlatformKind() instanceof OCLKind, "invalid LIRKind: %s", lirKind);
         OCLKind oclKind = (OCLKind) lirKind.getPlatformKind();
         OCLMemoryBase base = ((MemoryAccess) address).getBase();
+        boolean readOnly = ((MemoryAccess) address).isReadOnly();
 
         if (oclKind.isVector()) {
             OCLBinaryIntrinsic intrinsic = VectorUtil.resolveLoadIntrinsic(oclKind);
-            OCLAddressCast cast = new OCLAddressCast(base, LIRKind.value(oclKind.getElementKind()));
+            OCLAddressCast cast = new OCLAddressCast(base, LIRKind.value(oclKind.getElementKind()), readOnly);
             emitVectorLoad(result, intrinsic, new ConstantValue(LIRKind.value(OCLKind.INT), PrimitiveConstant.INT_0), cast, (MemoryAccess) address);
         } else {
-            OCLAddressCast cast = new OCLAddressCast(base, lirKind);
+            OCLAddressCast cast = new OCLAddressCast(base, lirKind, readOnly);
             emitLoad(result, cast, (MemoryAccess) address);
         }
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.lir;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.core.common.type.Stamp;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.InputType;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.FrameState;
+import org.graalvm.compiler.nodes.NodeView;
+import org.graalvm.compiler.nodes.StateSplit;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.FixedAccessNode;
+import org.graalvm.compiler.nodes.memory.LIRLowerableAccess;
+import org.graalvm.compiler.nodes.memory.MemoryCheckpoint;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+import org.graalvm.word.LocationIdentity;
+
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.MemoryAccess;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.OCLAddressCast;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicIndexedNode;
+
+/**
+ * Atomic read-modify-write of a global memory location that evaluates to the
+ * previous value of the location. It is the lowered form of
+ * {@link AtomicIndexedNode}.
+ */
+@NodeInfo(nameTemplate = "OCLAtomicRMW#{p#location/s}", allowedUsageTypes = { InputType.Memory })
+public class OCLAtomicReadModifyWriteNode extends FixedAccessNode implements StateSplit, LIRLowerableAccess, MemoryCheckpoint.Single {
+
+    public static final NodeClass<OCLAtomicReadModifyWriteNode> TYPE = NodeClass.create(OCLAtomicReadModifyWriteNode.class);
+
+    @Input ValueNode value;
+    @OptionalInput ValueNode expected;
+    @OptionalInput(InputType.State) FrameState stateAfter;
+
+    private final AtomicIndexedNode.Operation operation;
+
+    public OCLAtomicReadModifyWriteNode(AddressNode address, LocationIdentity location, ValueNode expected, ValueNode value, AtomicIndexedNode.Operation operation) {
+        super(TYPE, address, location, value.stamp(NodeView.DEFAULT).unrestricted());
+        this.value = value;
+        this.expected = expected;
+        this.operation = operation;
+    }
+
+    public ValueNode value() {
+        return value;
+    }
+
+    public ValueNode expected() {
+        return expected;
+    }
+
+    public AtomicIndexedNode.Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool gen) {
+        LIRGeneratorTool tool = gen.getLIRGeneratorTool();
+        LIRKind kind = tool.getLIRKind(stamp(NodeView.DEFAULT));
+        MemoryAccess memAccess = (MemoryAccess) gen.operand(getAddress());
+        OCLAddressCast cast = new OCLAddressCast(memAccess.getBase(), kind);
+        Value expectedValue = expected == null ? Value.ILLEGAL : gen.operand(expected);
+        Variable result = tool.newVariable(kind);
+        tool.append(new OCLLIRStmt.AtomicReadModifyWriteStmt(result, cast, memAccess, expectedValue, gen.operand(value), operation));
+        gen.setResult(this, result);
+    }
+
+    @Override
+    public FrameState stateAfter() {
+        return stateAfter;
+    }
+
+    @Override
+    public void setStateAfter(FrameState x) {
+        assert x == null || x.isAlive() : "frame state must be in a graph";
+        updateUsages(stateAfter, x);
+        stateAfter = x;
+    }
+
+    @Override
+    public boolean hasSideEffect() {
+        return true;
+    }
+
+    @Override
+    public boolean canNullCheck() {
+        return false;
+    }
+
+    @Override
+    public Stamp getAccessStamp() {
+        return stamp(NodeView.DEFAULT);
+    }
+
+    @Override
+    public LocationIdentity getKilledLocationIdentity() {
+        return getLocationIdentity();
+    }
+}
@@ -67,6 +67,10 @@ public class OCLBinary {
             return y;
         }
 
+        public OCLBinaryOp getOpcode() {
+            return opcode;
+        }
+
         @Override
         public String toString() {
             return String.format("%s %s %s", opcode.toString(), x, y);
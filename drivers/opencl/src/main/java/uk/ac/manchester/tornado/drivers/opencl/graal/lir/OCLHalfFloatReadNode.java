@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.lir;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.core.common.type.Stamp;
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.NodeView;
+import org.graalvm.compiler.nodes.memory.FixedAccessNode;
+import org.graalvm.compiler.nodes.memory.LIRLowerableAccess;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+import org.graalvm.word.LocationIdentity;
+
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.MemoryAccess;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.OCLAddressCast;
+
+/**
+ * Reads a half float from memory as a float. It is the lowered form of
+ * {@link uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatLoadNode}.
+ */
+@NodeInfo(nameTemplate = "OCLHalfRead#{p#location/s}")
+public class OCLHalfFloatReadNode extends FixedAccessNode implements LIRLowerableAccess {
+
+    public static final NodeClass<OCLHalfFloatReadNode> TYPE = NodeClass.create(OCLHalfFloatReadNode.class);
+
+    public OCLHalfFloatReadNode(AddressNode address, LocationIdentity location) {
+        super(TYPE, address, location, StampFactory.forKind(JavaKind.Float));
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool gen) {
+        LIRGeneratorTool tool = gen.getLIRGeneratorTool();
+        MemoryAccess memAccess = (MemoryAccess) gen.operand(getAddress());
+        OCLAddressCast cast = new OCLAddressCast(memAccess.getBase(), LIRKind.value(OCLKind.HALF));
+        Variable result = tool.newVariable(tool.getLIRKind(stamp(NodeView.DEFAULT)));
+        tool.append(new OCLLIRStmt.HalfFloatLoadStmt(result, cast, memAccess));
+        gen.setResult(this, result);
+    }
+
+    @Override
+    public boolean canNullCheck() {
+        return false;
+    }
+
+    @Override
+    public Stamp getAccessStamp() {
+        return stamp(NodeView.DEFAULT);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.lir;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.core.common.type.Stamp;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.NodeView;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.AbstractWriteNode;
+import org.graalvm.compiler.nodes.memory.LIRLowerableAccess;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+import org.graalvm.word.LocationIdentity;
+
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.MemoryAccess;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.OCLAddressCast;
+import uk.ac.manchester.tornado.runtime.graal.phases.MarkOCLWriteNode;
+
+/**
+ * Writes a float to memory as a half float. It is the lowered form of
+ * {@link uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatStoreNode}.
+ */
+@NodeInfo(nameTemplate = "OCLHalfWrite#{p#location/s}")
+public class OCLHalfFloatWriteNode extends AbstractWriteNode implements LIRLowerableAccess, MarkOCLWriteNode {
+
+    public static final NodeClass<OCLHalfFloatWriteNode> TYPE = NodeClass.create(OCLHalfFloatWriteNode.class);
+
+    public OCLHalfFloatWriteNode(AddressNode address, LocationIdentity location, ValueNode value) {
+        super(TYPE, address, location, value, BarrierType.NONE);
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool gen) {
+        MemoryAccess memAccess = (MemoryAccess) gen.operand(getAddress());
+        OCLAddressCast cast = new OCLAddressCast(memAccess.getBase(), LIRKind.value(OCLKind.HALF));
+        gen.getLIRGeneratorTool().append(new OCLLIRStmt.HalfFloatStoreStmt(cast, memAccess, gen.operand(value())));
+    }
+
+    @Override
+    public boolean canNullCheck() {
+        return true;
+    }
+
+    @Override
+    public Stamp getAccessStamp() {
+        return value().stamp(NodeView.DEFAULT);
+    }
+
+    @Override
+    public LocationIdentity getKilledLocationIdentity() {
+        return getLocationIdentity();
+    }
+}
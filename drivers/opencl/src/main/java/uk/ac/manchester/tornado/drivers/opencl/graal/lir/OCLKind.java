@@ -101,12 +101,12 @@ public enum OCLKind implements PlatformKind {
     UCHAR16(16, null, UCHAR),
     SHORT16(16, null, SHORT),
     USHORT16(16, null, USHORT),
-    INT16(16, null, INT),
+    INT16(16, uk.ac.manchester.tornado.api.collections.types.Int16.TYPE, INT),
     UINT16(16, null, UINT),
     LONG16(16, null, LONG),
     ULONG16(16, null, ULONG),
-    FLOAT16(16, null, FLOAT),
-    DOUBLE16(16, null, DOUBLE),
+    FLOAT16(16, uk.ac.manchester.tornado.api.collections.types.Float16.TYPE, FLOAT),
+    DOUBLE16(16, uk.ac.manchester.tornado.api.collections.types.Double16.TYPE, DOUBLE),
     ILLEGAL(0, null),
     
     INTEGER_ATOMIC(4, uk.ac.manchester.tornado.api.atomics.TornadoAtomicInteger.TYPE),
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.lir;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.graalvm.compiler.lir.LIRInstruction;
+import org.graalvm.compiler.lir.StandardOp.BlockEndOp;
+import org.graalvm.compiler.lir.Variable;
+
+import jdk.vm.ci.meta.AllocatableValue;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLBinaryOp;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryOp;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLLIRStmt.AssignStmt;
+import uk.ac.manchester.tornado.runtime.graal.phases.lir.LIRExpressionModel;
+
+/**
+ * Pure assignments of the OpenCL LIR: {@code v = x op y} and {@code v = op x}
+ * with integer/floating-point arithmetic (except divisions), bitwise operations
+ * and casts between scalar types.
+ */
+public class OCLLIRExpressionModel implements LIRExpressionModel {
+
+    public static final OCLLIRExpressionModel INSTANCE = new OCLLIRExpressionModel();
+
+    private static final Set<OCLBinaryOp> PURE_BINARY_OPS = new HashSet<>(Arrays.asList( //
+            OCLBinaryOp.ADD, //
+            OCLBinaryOp.SUB, //
+            OCLBinaryOp.MUL, //
+            OCLBinaryOp.BITWISE_AND, //
+            OCLBinaryOp.BITWISE_OR, //
+            OCLBinaryOp.BITWISE_XOR, //
+            OCLBinaryOp.BITWISE_LEFT_SHIFT, //
+            OCLBinaryOp.BITWISE_RIGHT_SHIFT));
+
+    private static final Set<OCLUnaryOp> PURE_UNARY_OPS = new HashSet<>(Arrays.asList( //
+            OCLUnaryOp.NEGATE, //
+            OCLUnaryOp.BITWISE_NOT, //
+            OCLUnaryOp.CAST_TO_INT, //
+            OCLUnaryOp.CAST_TO_SHORT, //
+            OCLUnaryOp.CAST_TO_LONG, //
+            OCLUnaryOp.CAST_TO_ULONG, //
+            OCLUnaryOp.CAST_TO_FLOAT, //
+            OCLUnaryOp.CAST_TO_BYTE, //
+            OCLUnaryOp.CAST_TO_DOUBLE));
+
+    private OCLLIRExpressionModel() {
+    }
+
+    @Override
+    public Value getPureExpression(LIRInstruction instruction) {
+        if (!(instruction instanceof AssignStmt) || !(((AssignStmt) instruction).getResult() instanceof Variable)) {
+            return null;
+        }
+        Value expression = ((AssignStmt) instruction).getExpr();
+        if (expression instanceof OCLBinary.Expr && PURE_BINARY_OPS.contains(((OCLBinary.Expr) expression).getOpcode())) {
+            return expression;
+        } else if (expression instanceof OCLUnary.Expr && PURE_UNARY_OPS.contains(((OCLUnary.Expr) expression).getOpcode())) {
+            return expression;
+        }
+        return null;
+    }
+
+    @Override
+    public AllocatableValue getResult(LIRInstruction instruction) {
+        return ((AssignStmt) instruction).getResult();
+    }
+
+    @Override
+    public Object getOpcode(Value expression) {
+        if (expression instanceof OCLBinary.Expr) {
+            return ((OCLBinary.Expr) expression).getOpcode();
+        }
+        return ((OCLUnary.Expr) expression).getOpcode();
+    }
+
+    @Override
+    public Value[] getOperands(Value expression) {
+        if (expression instanceof OCLBinary.Expr) {
+            OCLBinary.Expr binary = (OCLBinary.Expr) expression;
+            return new Value[] { binary.getX(), binary.getY() };
+        }
+        return new Value[] { ((OCLUnary.Expr) expression).getValue() };
+    }
+
+    @Override
+    public LIRInstruction createMove(AllocatableValue result, Value input) {
+        return new AssignStmt(result, input);
+    }
+
+    @Override
+    public LIRInstruction getGuardedInstruction(LIRInstruction instruction) {
+        return null;
+    }
+
+    @Override
+    public boolean isLoopControl(LIRInstruction instruction) {
+        return instruction instanceof OCLControlFlow.LoopInitOp || instruction instanceof OCLControlFlow.LoopConditionOp || instruction instanceof OCLControlFlow.LoopPostOp
+                || instruction instanceof OCLControlFlow.LoopBreakOp;
+    }
+
+    @Override
+    public boolean isBlockEnd(LIRInstruction instruction) {
+        return instruction instanceof BlockEndOp;
+    }
+}
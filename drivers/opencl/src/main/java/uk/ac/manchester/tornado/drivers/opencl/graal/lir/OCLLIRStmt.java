@@ -24,6 +24,7 @@
 package uk.ac.manchester.tornado.drivers.opencl.graal.lir;
 
 import org.graalvm.compiler.lir.LIRInstruction;
+import org.graalvm.compiler.lir.LIRInstruction.OperandFlag;
 import org.graalvm.compiler.lir.LIRInstructionClass;
 import org.graalvm.compiler.lir.Opcode;
 import org.graalvm.compiler.lir.asm.CompilationResultBuilder;
@@ -37,6 +38,7 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResu
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.MemoryAccess;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.OCLAddressCast;
 import uk.ac.manchester.tornado.drivers.opencl.graal.meta.OCLMemorySpace;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicIndexedNode;
 
 public class OCLLIRStmt {
 
@@ -798,6 +800,413 @@ public class OCLLIRStmt {
         }
     }
 
+    /**
+     * Combines a value into a global memory location with an OpenCL atomic
+     * builtin. Floats do not have atomic builtins, so they are updated with a
+     * compare-and-swap loop over the bits of the value.
+     */
+    @Opcode("ATOMIC_REDUCE_STORE")
+    public static class StoreAtomicReduceStmt extends AbstractInstruction {
+
+        public static final LIRInstructionClass<StoreAtomicReduceStmt> TYPE = LIRInstructionClass.create(StoreAtomicReduceStmt.class);
+
+        @Use
+        protected Value rhs;
+        @Use
+        protected OCLAddressCast cast;
+        @Use
+        protected MemoryAccess address;
+
+        private final OCLWriteAtomicNode.ATOMIC_OPERATION operation;
+
+        public StoreAtomicReduceStmt(OCLAddressCast cast, MemoryAccess address, Value rhs, OCLWriteAtomicNode.ATOMIC_OPERATION operation) {
+            super(TYPE);
+            this.rhs = rhs;
+            this.cast = cast;
+            this.address = address;
+            this.operation = operation;
+        }
+
+        private String getIntegerBuiltin() {
+            switch (operation) {
+                case ADD:
+                    return "atomic_add";
+                case MAX:
+                    return "atomic_max";
+                case MIN:
+                    return "atomic_min";
+                case OR:
+                    return "atomic_or";
+                case AND:
+                    return "atomic_and";
+                case XOR:
+                    return "atomic_xor";
+                default:
+                    throw new RuntimeException("Atomic operation not supported yet: " + operation);
+            }
+        }
+
+        private void emitPointer(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            asm.emit("&(*(");
+            cast.emit(crb, asm);
+            asm.space();
+            address.emit(crb, asm);
+            asm.emit("))");
+        }
+
+        private void emitFloatCombine(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            switch (operation) {
+                case ADD:
+                    asm.emit("as_float(_expected) + ");
+                    asm.emitValue(crb, rhs);
+                    break;
+                case MAX:
+                    asm.emit("fmax(as_float(_expected), ");
+                    asm.emitValue(crb, rhs);
+                    asm.emit(")");
+                    break;
+                case MIN:
+                    asm.emit("fmin(as_float(_expected), ");
+                    asm.emitValue(crb, rhs);
+                    asm.emit(")");
+                    break;
+                default:
+                    throw new RuntimeException("Atomic operation not supported yet: " + operation);
+            }
+        }
+
+        private void emitFloatAtomic(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            asm.beginScope();
+            asm.indent();
+            asm.emit("volatile __global uint *_pointer = (volatile __global uint *) ");
+            emitPointer(crb, asm);
+            asm.delimiter();
+            asm.eol();
+            asm.emitLine("uint _expected, _current = *_pointer;");
+            asm.emitLine("do {");
+            asm.pushIndent();
+            asm.emitLine("_expected = _current;");
+            asm.indent();
+            asm.emit("_current = atomic_cmpxchg(_pointer, _expected, as_uint(");
+            emitFloatCombine(crb, asm);
+            asm.emit("))");
+            asm.delimiter();
+            asm.eol();
+            asm.popIndent();
+            asm.emitLine("} while (_current != _expected);");
+            asm.popIndent();
+            asm.emitLine("}");
+        }
+
+        @Override
+        public void emitCode(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            if (cast.getOCLPlatformKind().isFloating()) {
+                emitFloatAtomic(crb, asm);
+            } else {
+                asm.indent();
+                asm.emit(getIntegerBuiltin() + "(");
+                emitPointer(crb, asm);
+                asm.emit(", ");
+                asm.emitValue(crb, rhs);
+                asm.emit(")");
+                asm.delimiter();
+                asm.eol();
+            }
+        }
+
+        public Value getRhs() {
+            return rhs;
+        }
+
+        public OCLAddressCast getCast() {
+            return cast;
+        }
+
+        public MemoryAccess getAddress() {
+            return address;
+        }
+    }
+
+    /**
+     * Atomic read-modify-write of a global memory location that assigns the
+     * previous value of the location to {@code result}. Integers use the
+     * {@code atomic_*} builtins, longs the {@code atom_*} builtins of
+     * {@code cl_khr_int64_base_atomics}. That extension has no minimum and
+     * maximum, so they are implemented, as for floats, with a compare-and-swap
+     * loop.
+     */
+    @Opcode("ATOMIC_RMW")
+    public static class AtomicReadModifyWriteStmt extends AbstractInstruction {
+
+        public static final LIRInstructionClass<AtomicReadModifyWriteStmt> TYPE = LIRInstructionClass.create(AtomicReadModifyWriteStmt.class);
+
+        @Def
+        protected AllocatableValue result;
+        @Use
+        protected OCLAddressCast cast;
+        @Use
+        protected MemoryAccess address;
+        @Use({ OperandFlag.REG, OperandFlag.CONST, OperandFlag.ILLEGAL })
+        protected Value expected;
+        @Use
+        protected Value rhs;
+
+        private final AtomicIndexedNode.Operation operation;
+
+        public AtomicReadModifyWriteStmt(AllocatableValue result, OCLAddressCast cast, MemoryAccess address, Value expected, Value rhs, AtomicIndexedNode.Operation operation) {
+            super(TYPE);
+            this.result = result;
+            this.cast = cast;
+            this.address = address;
+            this.expected = expected;
+            this.rhs = rhs;
+            this.operation = operation;
+        }
+
+        private boolean isLong() {
+            return cast.getOCLPlatformKind().getSizeInBytes() == 8;
+        }
+
+        private String getIntegerBuiltin() {
+            final String prefix = isLong() ? "atom_" : "atomic_";
+            switch (operation) {
+                case ADD:
+                    return prefix + "add";
+                case MIN:
+                    return prefix + "min";
+                case MAX:
+                    return prefix + "max";
+                case CAS:
+                    return prefix + "cmpxchg";
+                default:
+                    throw new RuntimeException("Atomic operation not supported yet: " + operation);
+            }
+        }
+
+        private void emitPointer(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            asm.emit("&(*(");
+            cast.emit(crb, asm);
+            asm.space();
+            address.emit(crb, asm);
+            asm.emit("))");
+        }
+
+        private void emitResultAssign(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            asm.indent();
+            asm.emitValue(crb, result);
+            asm.space();
+            asm.assign();
+            asm.space();
+        }
+
+        private void emitCombine(OCLCompilationResultBuilder crb, OCLAssembler asm, String current) {
+            switch (operation) {
+                case ADD:
+                    asm.emit(current + " + ");
+                    asm.emitValue(crb, rhs);
+                    break;
+                case MIN:
+                    asm.emit((cast.getOCLPlatformKind().isFloating() ? "fmin(" : "min(") + current + ", ");
+                    asm.emitValue(crb, rhs);
+                    asm.emit(")");
+                    break;
+                case MAX:
+                    asm.emit((cast.getOCLPlatformKind().isFloating() ? "fmax(" : "max(") + current + ", ");
+                    asm.emitValue(crb, rhs);
+                    asm.emit(")");
+                    break;
+                default:
+                    throw new RuntimeException("Atomic operation not supported yet: " + operation);
+            }
+        }
+
+        private void emitCompareAndSwapLoop(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            final boolean isFloat = cast.getOCLPlatformKind().isFloating();
+            final String type = isFloat ? "uint" : "long";
+            asm.beginScope();
+            asm.indent();
+            asm.emit("volatile __global " + type + " *_pointer = (volatile __global " + type + " *) ");
+            emitPointer(crb, asm);
+            asm.delimiter();
+            asm.eol();
+            asm.emitLine(type + " _expected, _current = *_pointer;");
+            asm.emitLine("do {");
+            asm.pushIndent();
+            asm.emitLine("_expected = _current;");
+            asm.indent();
+            if (isFloat) {
+                asm.emit("_current = atomic_cmpxchg(_pointer, _expected, as_uint(");
+                emitCombine(crb, asm, "as_float(_expected)");
+                asm.emit("))");
+            } else {
+                asm.emit("_current = atom_cmpxchg(_pointer, _expected, ");
+                emitCombine(crb, asm, "_expected");
+                asm.emit(")");
+            }
+            asm.delimiter();
+            asm.eol();
+            asm.popIndent();
+            asm.emitLine("} while (_current != _expected);");
+            emitResultAssign(crb, asm);
+            asm.emit(isFloat ? "as_float(_expected)" : "_expected");
+            asm.delimiter();
+            asm.eol();
+            asm.popIndent();
+            asm.emitLine("}");
+        }
+
+        private void emitFloatCompareAndSwap(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            emitResultAssign(crb, asm);
+            asm.emit("as_float(atomic_cmpxchg((volatile __global uint *) ");
+            emitPointer(crb, asm);
+            asm.emit(", as_uint(");
+            asm.emitValue(crb, expected);
+            asm.emit("), as_uint(");
+            asm.emitValue(crb, rhs);
+            asm.emit(")))");
+            asm.delimiter();
+            asm.eol();
+        }
+
+        @Override
+        public void emitCode(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            final boolean isFloat = cast.getOCLPlatformKind().isFloating();
+            if (isFloat && operation == AtomicIndexedNode.Operation.CAS) {
+                emitFloatCompareAndSwap(crb, asm);
+            } else if (isFloat || (isLong() && (operation == AtomicIndexedNode.Operation.MIN || operation == AtomicIndexedNode.Operation.MAX))) {
+                emitCompareAndSwapLoop(crb, asm);
+            } else {
+                emitResultAssign(crb, asm);
+                asm.emit(getIntegerBuiltin() + "(");
+                emitPointer(crb, asm);
+                if (operation == AtomicIndexedNode.Operation.CAS) {
+                    asm.emit(", ");
+                    asm.emitValue(crb, expected);
+                }
+                asm.emit(", ");
+                asm.emitValue(crb, rhs);
+                asm.emit(")");
+                asm.delimiter();
+                asm.eol();
+            }
+        }
+
+        public AllocatableValue getResult() {
+            return result;
+        }
+
+        public OCLAddressCast getCast() {
+            return cast;
+        }
+
+        public MemoryAccess getAddress() {
+            return address;
+        }
+    }
+
+    /**
+     * Loads a half float from memory and converts it to a float with
+     * {@code vload_half}, which does not need the {@code cl_khr_fp16}
+     * extension.
+     */
+    @Opcode("VLOAD_HALF")
+    public static class HalfFloatLoadStmt extends AbstractInstruction {
+
+        public static final LIRInstructionClass<HalfFloatLoadStmt> TYPE = LIRInstructionClass.create(HalfFloatLoadStmt.class);
+
+        @Def
+        protected AllocatableValue lhs;
+        @Use
+        protected OCLAddressCast cast;
+        @Use
+        protected MemoryAccess address;
+
+        public HalfFloatLoadStmt(AllocatableValue lhs, OCLAddressCast cast, MemoryAccess address) {
+            super(TYPE);
+            this.lhs = lhs;
+            this.cast = cast;
+            this.address = address;
+        }
+
+        @Override
+        public void emitCode(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            asm.indent();
+            asm.emitValue(crb, lhs);
+            asm.space();
+            asm.assign();
+            asm.space();
+            asm.emit("vload_half(0, ");
+            cast.emit(crb, asm);
+            asm.space();
+            address.emit(crb, asm);
+            asm.emit(")");
+            asm.delimiter();
+            asm.eol();
+        }
+
+        public AllocatableValue getResult() {
+            return lhs;
+        }
+
+        public OCLAddressCast getCast() {
+            return cast;
+        }
+
+        public MemoryAccess getAddress() {
+            return address;
+        }
+    }
+
+    /**
+     * Converts a float to a half float, rounding to the nearest even value, and
+     * stores it with {@code vstore_half}.
+     */
+    @Opcode("VSTORE_HALF")
+    public static class HalfFloatStoreStmt extends AbstractInstruction {
+
+        public static final LIRInstructionClass<HalfFloatStoreStmt> TYPE = LIRInstructionClass.create(HalfFloatStoreStmt.class);
+
+        @Use
+        protected Value rhs;
+        @Use
+        protected OCLAddressCast cast;
+        @Use
+        protected MemoryAccess address;
+
+        public HalfFloatStoreStmt(OCLAddressCast cast, MemoryAccess address, Value rhs) {
+            super(TYPE);
+            this.rhs = rhs;
+            this.cast = cast;
+            this.address = address;
+        }
+
+        @Override
+        public void emitCode(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            asm.indent();
+            asm.emit("vstore_half(");
+            asm.emitValue(crb, rhs);
+            asm.emit(", 0, ");
+            cast.emit(crb, asm);
+            asm.space();
+            address.emit(crb, asm);
+            asm.emit(")");
+            asm.delimiter();
+            asm.eol();
+        }
+
+        public Value getRhs() {
+            return rhs;
+        }
+
+        public OCLAddressCast getCast() {
+            return cast;
+        }
+
+        public MemoryAccess getAddress() {
+            return address;
+        }
+    }
+
     @Opcode("VSTORE")
     public static class VectorStoreStmt extends AbstractInstruction {
 
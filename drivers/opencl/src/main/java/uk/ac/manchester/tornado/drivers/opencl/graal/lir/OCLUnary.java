@@ -241,6 +241,7 @@ public class OCLUnary {
         private final boolean needsBase;
         private Value index;
         private AllocatableValue assignedTo;
+        private boolean readOnly;
 
         MemoryAccess(OCLMemoryBase base, Value value, boolean needsBase) {
             super(null, LIRKind.Illegal, value);
@@ -284,6 +285,18 @@ public class OCLUnary {
             return index;
         }
 
+        /**
+         * Marks the access as a read from an array that is not written by the
+         * kernel, so it can be emitted through a const pointer.
+         */
+        public void markReadOnly() {
+            readOnly = true;
+        }
+
+        public boolean isReadOnly() {
+            return readOnly;
+        }
+
         public void assignTo(AllocatableValue loadedTo) {
             assignedTo = loadedTo;
         }
@@ -301,16 +314,23 @@ public class OCLUnary {
     public static class OCLAddressCast extends UnaryConsumer {
 
         private final OCLMemoryBase base;
+        private final boolean readOnly;
 
         OCLAddressCast(OCLMemoryBase base, LIRKind lirKind) {
+            this(base, lirKind, false);
+        }
+
+        OCLAddressCast(OCLMemoryBase base, LIRKind lirKind, boolean readOnly) {
             super(OCLUnaryTemplate.CAST_TO_POINTER, lirKind, null);
             this.base = base;
+            this.readOnly = readOnly;
         }
 
         @Override
         public void emit(OCLCompilationResultBuilder crb, OCLAssembler asm) {
             OCLKind oclKind = getOCLPlatformKind();
-            asm.emit(((OCLUnaryTemplate) opcode).getTemplate(), base.memorySpace.name() + " " + oclKind.toString());
+            String qualifier = readOnly ? OCLAssemblerConstants.CONST_QUALIFIER + " " : "";
+            asm.emit(((OCLUnaryTemplate) opcode).getTemplate(), qualifier + base.memorySpace.name() + " " + oclKind.toString());
         }
 
         OCLMemorySpace getMemorySpace() {
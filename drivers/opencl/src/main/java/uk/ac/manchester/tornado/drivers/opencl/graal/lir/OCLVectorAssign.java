@@ -35,6 +35,7 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp;
 import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp3;
 import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp4;
 import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp8;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp16;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResultBuilder;
 
 public class OCLVectorAssign {
@@ -163,4 +164,71 @@ public class OCLVectorAssign {
 
     }
 
+    /**
+     * OpenCL vector assignment expression
+     */
+    public static class Assign16Expr extends Assign8Expr {
+
+        @Use protected Value s8;
+        @Use protected Value s9;
+        @Use protected Value s10;
+        @Use protected Value s11;
+        @Use protected Value s12;
+        @Use protected Value s13;
+        @Use protected Value s14;
+        @Use protected Value s15;
+
+        public Assign16Expr(OCLOp16 opcode, OCLKind kind, Value s0, Value s1, Value s2, Value s3, Value s4, Value s5, Value s6, Value s7, Value s8, Value s9, Value s10, Value s11,
+                Value s12, Value s13, Value s14, Value s15) {
+            super(opcode, kind, s0, s1, s2, s3, s4, s5, s6, s7);
+            this.s8 = s8;
+            this.s9 = s9;
+            this.s10 = s10;
+            this.s11 = s11;
+            this.s12 = s12;
+            this.s13 = s13;
+            this.s14 = s14;
+            this.s15 = s15;
+        }
+
+        @Override
+        public void emit(OCLCompilationResultBuilder crb, OCLAssembler asm) {
+            asm.emit(opcode.toString());
+            asm.emit("(");
+            asm.emitValueOrOp(crb, s0);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s1);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s2);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s3);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s4);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s5);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s6);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s7);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s8);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s9);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s10);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s11);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s12);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s13);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s14);
+            asm.emit(", ");
+            asm.emitValueOrOp(crb, s15);
+            asm.emit(")");
+        }
+
+    }
+
 }
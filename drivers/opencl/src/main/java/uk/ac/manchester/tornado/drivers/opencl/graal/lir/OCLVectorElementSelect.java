@@ -26,6 +26,7 @@
 package uk.ac.manchester.tornado.drivers.opencl.graal.lir;
 
 import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.lir.ConstantValue;
 import org.graalvm.compiler.lir.Opcode;
 
 import jdk.vm.ci.meta.Value;
@@ -48,7 +49,12 @@ public class OCLVectorElementSelect extends OCLLIROp {
     public void emit(OCLCompilationResultBuilder crb, OCLAssembler asm) {
         asm.emitValueOrOp(crb, vector);
         asm.emitSymbol(".s");
-        asm.emitValue(crb, selection);
+        if (selection instanceof ConstantValue) {
+            // lanes 10 to 15 are selected with the hex digits a to f
+            asm.emit(Integer.toHexString(((ConstantValue) selection).getJavaConstant().asInt()));
+        } else {
+            asm.emitValue(crb, selection);
+        }
     }
 
     @Override
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.lir;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.graalvm.compiler.lir.LIRInstruction;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGenerationResult;
+
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
+import uk.ac.manchester.tornado.runtime.graal.phases.lir.VirtualRegisterModel;
+
+/**
+ * Variables of the OpenCL LIR. The expressions of the OpenCL backend
+ * ({@link OCLLIROp}) are not visited by
+ * {@link LIRInstruction#forEachInput}, so the inputs of an instruction are
+ * found in the fields of the instruction and of its expressions.
+ *
+ * All the variables declared at the beginning of the kernel can share a name
+ * with another variable of the same {@link OCLKind}.
+ */
+public class OCLVirtualRegisterModel implements VirtualRegisterModel {
+
+    public static final OCLVirtualRegisterModel INSTANCE = new OCLVirtualRegisterModel();
+
+    private static final String PACKAGE_PREFIX = "uk.ac.manchester.tornado.drivers.opencl";
+
+    private static final ClassValue<List<Field>> FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current.getName().startsWith(PACKAGE_PREFIX); current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        }
+    };
+
+    private OCLVirtualRegisterModel() {
+    }
+
+    @Override
+    public void forEachInput(LIRInstruction instruction, Consumer<Variable> action) {
+        Set<Value> outputs = Collections.newSetFromMap(new IdentityHashMap<>());
+        instruction.forEachOutput((value, mode, flags) -> {
+            outputs.add(value);
+            return value;
+        });
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Field field : FIELDS.get(instruction.getClass())) {
+            Object value = getField(field, instruction);
+            if (!(value instanceof Variable && outputs.contains(value))) {
+                visit(value, action, visited);
+            }
+        }
+    }
+
+    private static void visit(Object object, Consumer<Variable> action, Set<Object> visited) {
+        if (object == null || !visited.add(object)) {
+            return;
+        }
+        if (object instanceof Variable) {
+            action.accept((Variable) object);
+        } else if (object instanceof Object[]) {
+            for (Object element : (Object[]) object) {
+                visit(element, action, visited);
+            }
+        } else if ((object instanceof Value || object instanceof LIRInstruction) && object.getClass().getName().startsWith(PACKAGE_PREFIX)) {
+            for (Field field : FIELDS.get(object.getClass())) {
+                visit(getField(field, object), action, visited);
+            }
+        }
+    }
+
+    private static Object getField(Field field, Object object) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            throw new TornadoInternalError(e);
+        }
+    }
+
+    @Override
+    public void forEachOutput(LIRInstruction instruction, Consumer<Variable> action) {
+        instruction.forEachOutput((value, mode, flags) -> {
+            if (value instanceof Variable) {
+                action.accept((Variable) value);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public boolean isReordered(LIRInstruction instruction) {
+        return OCLLIRExpressionModel.INSTANCE.isLoopControl(instruction);
+    }
+
+    @Override
+    public Map<Object, List<Variable>> getAllocatableVariables(LIRGenerationResult lirGenRes, Set<Variable> candidates) {
+        Map<Object, List<Variable>> registerClasses = new HashMap<>();
+        for (Variable variable : candidates) {
+            if (variable.getName() != null && variable.getPlatformKind() instanceof OCLKind) {
+                registerClasses.computeIfAbsent(variable.getPlatformKind(), kind -> new ArrayList<>()).add(variable);
+            }
+        }
+        return registerClasses;
+    }
+
+    @Override
+    public String getRegisterName(Object registerClass, Variable variable, int register) {
+        return variable.getName();
+    }
+
+    @Override
+    public void setRegisterCount(LIRGenerationResult lirGenRes, Object registerClass, int count) {
+    }
+}
@@ -69,6 +69,9 @@ public class OCLWriteAtomicNode extends AbstractWriteNode implements LIRLowerabl
         MAX,
         MIN,
         SUB,
+        OR,
+        AND,
+        XOR,
         CUSTOM;
     }
     //@formatter:on
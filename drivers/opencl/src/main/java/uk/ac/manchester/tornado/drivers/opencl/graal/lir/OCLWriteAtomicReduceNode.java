@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.lir;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.core.common.type.Stamp;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.NodeView;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.AbstractWriteNode;
+import org.graalvm.compiler.nodes.memory.LIRLowerableAccess;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+import org.graalvm.word.LocationIdentity;
+
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.MemoryAccess;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLUnary.OCLAddressCast;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLWriteAtomicNode.ATOMIC_OPERATION;
+import uk.ac.manchester.tornado.runtime.graal.phases.MarkOCLWriteNode;
+
+/**
+ * Combines a {@linkplain #value() value} into a global memory location with an
+ * atomic operation. It is the lowered form of
+ * {@link uk.ac.manchester.tornado.drivers.opencl.graal.nodes.AtomicReduceNode}.
+ */
+@NodeInfo(nameTemplate = "OCLAtomicReduce#{p#location/s}")
+public class OCLWriteAtomicReduceNode extends AbstractWriteNode implements LIRLowerableAccess, MarkOCLWriteNode {
+
+    public static final NodeClass<OCLWriteAtomicReduceNode> TYPE = NodeClass.create(OCLWriteAtomicReduceNode.class);
+
+    private final ATOMIC_OPERATION operation;
+
+    public OCLWriteAtomicReduceNode(AddressNode address, LocationIdentity location, ValueNode value, ATOMIC_OPERATION operation) {
+        super(TYPE, address, location, value, BarrierType.NONE);
+        this.operation = operation;
+    }
+
+    public ATOMIC_OPERATION getOperation() {
+        return operation;
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool gen) {
+        LIRKind writeKind = gen.getLIRGeneratorTool().getLIRKind(value().stamp(NodeView.DEFAULT));
+        MemoryAccess memAccess = (MemoryAccess) gen.operand(getAddress());
+        OCLAddressCast cast = new OCLAddressCast(memAccess.getBase(), writeKind);
+        gen.getLIRGeneratorTool().append(new OCLLIRStmt.StoreAtomicReduceStmt(cast, memAccess, gen.operand(value()), operation));
+    }
+
+    @Override
+    public boolean canNullCheck() {
+        return true;
+    }
+
+    @Override
+    public Stamp getAccessStamp() {
+        return value().stamp(NodeView.DEFAULT);
+    }
+
+    @Override
+    public LocationIdentity getKilledLocationIdentity() {
+        return getLocationIdentity();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.nodes;
+
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.java.AccessIndexedNode;
+import org.graalvm.compiler.nodes.spi.Lowerable;
+
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLWriteAtomicNode.ATOMIC_OPERATION;
+
+/**
+ * Atomically combines a value into an array element. It is introduced for the
+ * atomic intrinsics of {@link uk.ac.manchester.tornado.drivers.opencl.builtins.OpenCLIntrinsics}
+ * and lowered to an
+ * {@link uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLWriteAtomicReduceNode}.
+ */
+@NodeInfo(shortName = "Atomic Reduce")
+public class AtomicReduceNode extends AccessIndexedNode implements Lowerable {
+
+    public static final NodeClass<AtomicReduceNode> TYPE = NodeClass.create(AtomicReduceNode.class);
+
+    @Input ValueNode value;
+
+    private final ATOMIC_OPERATION operation;
+
+    public AtomicReduceNode(ValueNode array, ValueNode index, JavaKind elementKind, ValueNode value, ATOMIC_OPERATION operation) {
+        super(TYPE, StampFactory.forVoid(), array, index, null, elementKind);
+        this.value = value;
+        this.operation = operation;
+    }
+
+    public ValueNode value() {
+        return value;
+    }
+
+    public ATOMIC_OPERATION getOperation() {
+        return operation;
+    }
+}
@@ -55,14 +55,20 @@ public class LocalArrayNode extends FixedNode implements LIRLowerable, MarkLocal
     protected OCLArchitecture.OCLMemoryBase memoryRegister;
     protected ResolvedJavaType elementType;
     protected OCLAssembler.OCLBinaryTemplate arrayTemplate;
+    protected boolean fixedSize;
 
     public LocalArrayNode(OCLArchitecture.OCLMemoryBase memoryRegister, ResolvedJavaType elementType, ConstantNode length) {
+        this(memoryRegister, elementType, length, false);
+    }
+
+    public LocalArrayNode(OCLArchitecture.OCLMemoryBase memoryRegister, ResolvedJavaType elementType, ConstantNode length, boolean fixedSize) {
         super(TYPE, StampFactory.objectNonNull(TypeReference.createTrustedWithoutAssumptions(elementType.getArrayClass())));
         this.memoryRegister = memoryRegister;
         this.length = length;
         this.elementType = elementType;
         this.elementKind = OCLKind.fromResolvedJavaType(elementType);
         this.arrayTemplate = OCLKind.resolveTemplateType(elementType);
+        this.fixedSize = fixedSize;
     }
 
     public OCLArchitecture.OCLMemoryBase getMemoryRegister() {
@@ -77,6 +83,11 @@ public class LocalArrayNode extends FixedNode implements LIRLowerable, MarkLocal
         return length;
     }
 
+    @Override
+    public boolean isFixedSize() {
+        return fixedSize;
+    }
+
     @Override
     public void generate(NodeLIRBuilderTool gen) {
         final Value lengthValue = gen.operand(length);
@@ -78,6 +78,7 @@ public class OCLFPBinaryIntrinsicNode extends BinaryNode implements ArithmeticLI
         MAXMAG, 
         MINMAG, 
         MODF, 
+        NATIVE_DIVIDE,
         NEXTAFTER, 
         POW, 
         POWN, 
@@ -147,6 +148,9 @@ public class OCLFPBinaryIntrinsicNode extends BinaryNode implements ArithmeticLI
             case POW:
                 result = gen.genFloatPow(x, y);
                 break;
+            case NATIVE_DIVIDE:
+                result = gen.genFloatNativeDivide(x, y);
+                break;
             default:
                 throw shouldNotReachHere();
         }
@@ -164,6 +168,8 @@ public class OCLFPBinaryIntrinsicNode extends BinaryNode implements ArithmeticLI
                 return Math.max(x, y);
             case POW:
                 return Math.pow(x, y);
+            case NATIVE_DIVIDE:
+                return x / y;
             default:
                 throw new TornadoInternalError("unknown op %s", op);
         }
@@ -175,6 +181,8 @@ public class OCLFPBinaryIntrinsicNode extends BinaryNode implements ArithmeticLI
                 return Math.min(x, y);
             case FMAX:
                 return Math.max(x, y);
+            case NATIVE_DIVIDE:
+                return x / y;
             default:
                 throw new TornadoInternalError("unknown op %s", op);
         }
@@ -48,6 +48,11 @@ import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCL
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp8.VMOV_FLOAT8;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp8.VMOV_INT8;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp8.VMOV_SHORT8;
+import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp16.VMOV_BYTE16;
+import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp16.VMOV_DOUBLE16;
+import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp16.VMOV_FLOAT16;
+import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp16.VMOV_INT16;
+import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp16.VMOV_SHORT16;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLTernaryIntrinsic.VSTORE16;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLTernaryIntrinsic.VSTORE2;
 import static uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLTernaryIntrinsic.VSTORE3;
@@ -64,6 +69,7 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp2;
 import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp3;
 import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp4;
 import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp8;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp16;
 import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLTernaryIntrinsic;
 import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLUnaryOp;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
@@ -80,6 +86,7 @@ public final class VectorUtil {
     private static final OCLOp3[] assignOp3Table = new OCLOp3[] { VMOV_SHORT3, VMOV_INT3, VMOV_FLOAT3, VMOV_BYTE3, VMOV_DOUBLE3 };
     private static final OCLOp4[] assignOp4Table = new OCLOp4[] { VMOV_SHORT4, VMOV_INT4, VMOV_FLOAT4, VMOV_BYTE4, VMOV_DOUBLE4 };
     private static final OCLOp8[] assignOp8Table = new OCLOp8[] { VMOV_SHORT8, VMOV_INT8, VMOV_FLOAT8, VMOV_BYTE8, VMOV_DOUBLE8 };
+    private static final OCLOp16[] assignOp16Table = new OCLOp16[] { VMOV_SHORT16, VMOV_INT16, VMOV_FLOAT16, VMOV_BYTE16, VMOV_DOUBLE16 };
 
     private static <T> T lookupValueByLength(T[] array, OCLKind vectorKind) {
         final int index = vectorKind.lookupLengthIndex();
@@ -115,6 +122,10 @@ public final class VectorUtil {
         return lookupValueByType(assignOp8Table, vectorKind);
     }
 
+    public static final OCLOp16 resolveAssignOp16(OCLKind vectorKind) {
+        return lookupValueByType(assignOp16Table, vectorKind);
+    }
+
     public static final OCLTernaryIntrinsic resolveStoreIntrinsic(OCLKind vectorKind) {
         return lookupValueByLength(storeTable, vectorKind);
     }
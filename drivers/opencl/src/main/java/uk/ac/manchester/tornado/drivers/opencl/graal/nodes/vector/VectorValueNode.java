@@ -52,6 +52,7 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp2;
 import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp3;
 import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp4;
 import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp8;
+import uk.ac.manchester.tornado.drivers.opencl.graal.asm.OCLAssembler.OCLOp16;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLNodeLIRBuilder;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
 import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLLIROp;
@@ -158,7 +159,7 @@ public class VectorValueNode extends FloatingNode implements LIRLowerable, MarkV
 
         OCLLIROp assignExpr = null;
 
-        Value s0,s1,s2,s3,s4,s5,s6,s7;
+        Value s0,s1,s2,s3,s4,s5,s6,s7,s8,s9,s10,s11,s12,s13,s14,s15;
         switch (kind.getVectorLength()) {
             case 2:
                 final OCLOp2 op2 = VectorUtil.resolveAssignOp2(getOCLKind());
@@ -193,6 +194,27 @@ public class VectorValueNode extends FloatingNode implements LIRLowerable, MarkV
                 s7 = getParam(gen, tool, 7);
                 assignExpr = new OCLVectorAssign.Assign8Expr(op8, getOCLKind(), s0, s1, s2, s3, s4, s5, s6, s7);
                 break;
+            case 16:
+                final OCLOp16 op16 = VectorUtil.resolveAssignOp16(getOCLKind());
+                s0 = getParam(gen, tool, 0);
+                s1 = getParam(gen, tool, 1);
+                s2 = getParam(gen, tool, 2);
+                s3 = getParam(gen, tool, 3);
+                s4 = getParam(gen, tool, 4);
+                s5 = getParam(gen, tool, 5);
+                s6 = getParam(gen, tool, 6);
+                s7 = getParam(gen, tool, 7);
+                s8 = getParam(gen, tool, 8);
+                s9 = getParam(gen, tool, 9);
+                s10 = getParam(gen, tool, 10);
+                s11 = getParam(gen, tool, 11);
+                s12 = getParam(gen, tool, 12);
+                s13 = getParam(gen, tool, 13);
+                s14 = getParam(gen, tool, 14);
+                s15 = getParam(gen, tool, 15);
+                assignExpr = new OCLVectorAssign.Assign16Expr(op16, getOCLKind(), s0, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13,
+                        s14, s15);
+                break;
 
             default:
                 unimplemented("new vector length = " + kind.getVectorLength());
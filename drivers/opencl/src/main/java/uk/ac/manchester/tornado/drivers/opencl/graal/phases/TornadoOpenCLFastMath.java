@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.phases;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.FloatDivNode;
+import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.NegateNode;
+import org.graalvm.compiler.nodes.calc.SubNode;
+import org.graalvm.compiler.phases.BasePhase;
+
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFMANode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFPBinaryIntrinsicNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFPUnaryIntrinsicNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLFPUnaryIntrinsicNode.Operation;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
+
+/**
+ * Fast-math mode of the OpenCL backend, enabled per task or per task-schedule
+ * with {@code -D<id>.fastmath=True} or for all tasks with
+ * {@code -Dtornado.fastmath=True}.
+ *
+ * <ul>
+ * <li>Single-precision {@code exp}, {@code log}, {@code sin}, {@code cos} and
+ * {@code sqrt} are lowered to the {@code native_*} builtins, and
+ * single-precision divisions to {@code native_divide}. The OpenCL
+ * specification only defines the native builtins for {@code float}, so double
+ * precision is not modified.</li>
+ * <li>Subtractions of a product ({@code x * y - z} and {@code z - x * y}) are
+ * contracted into {@code fma}. Additions are already contracted by
+ * {@link OCLFMAPhase}.</li>
+ * </ul>
+ *
+ * The kernel is also built with {@code -cl-fast-relaxed-math} (see
+ * {@code TaskMetaData#getCompilerFlags}).
+ */
+public class TornadoOpenCLFastMath extends BasePhase<TornadoHighTierContext> {
+
+    private static final Map<Operation, Operation> NATIVE_OPERATIONS = new EnumMap<>(Operation.class);
+
+    static {
+        NATIVE_OPERATIONS.put(Operation.COS, Operation.NATIVE_COS);
+        NATIVE_OPERATIONS.put(Operation.EXP, Operation.NATIVE_EXP);
+        NATIVE_OPERATIONS.put(Operation.LOG, Operation.NATIVE_LOG);
+        NATIVE_OPERATIONS.put(Operation.SIN, Operation.NATIVE_SIN);
+        NATIVE_OPERATIONS.put(Operation.SQRT, Operation.NATIVE_SQRT);
+    }
+
+    private static boolean isFloatingPoint(ValueNode node) {
+        return node.getStackKind() == JavaKind.Float || node.getStackKind() == JavaKind.Double;
+    }
+
+    private static void lowerToNativeBuiltins(StructuredGraph graph) {
+        for (OCLFPUnaryIntrinsicNode intrinsic : graph.getNodes().filter(OCLFPUnaryIntrinsicNode.class).snapshot()) {
+            Operation nativeOperation = NATIVE_OPERATIONS.get(intrinsic.operation());
+            if (nativeOperation != null && intrinsic.getStackKind() == JavaKind.Float) {
+                ValueNode fastIntrinsic = graph.addOrUnique(OCLFPUnaryIntrinsicNode.create(intrinsic.getValue(), nativeOperation, JavaKind.Float));
+                intrinsic.replaceAtUsagesAndDelete(fastIntrinsic);
+            }
+        }
+
+        for (FloatDivNode div : graph.getNodes().filter(FloatDivNode.class).snapshot()) {
+            if (div.getStackKind() == JavaKind.Float) {
+                ValueNode nativeDivide = graph.addOrUnique(OCLFPBinaryIntrinsicNode.create(div.getX(), div.getY(), OCLFPBinaryIntrinsicNode.Operation.NATIVE_DIVIDE, JavaKind.Float));
+                div.replaceAtUsagesAndDelete(nativeDivide);
+            }
+        }
+    }
+
+    private static void contractSubtractions(StructuredGraph graph) {
+        for (SubNode sub : graph.getNodes().filter(SubNode.class).snapshot()) {
+            if (!isFloatingPoint(sub)) {
+                continue;
+            }
+            OCLFMANode fma = null;
+            if (sub.getX() instanceof MulNode && sub.getX().hasExactlyOneUsage()) {
+                // x * y - z => fma(x, y, -z)
+                MulNode mul = (MulNode) sub.getX();
+                ValueNode negated = graph.addOrUnique(new NegateNode(sub.getY()));
+                fma = graph.addOrUnique(new OCLFMANode(mul.getX(), mul.getY(), negated));
+            } else if (sub.getY() instanceof MulNode && sub.getY().hasExactlyOneUsage()) {
+                // z - x * y => fma(-x, y, z)
+                MulNode mul = (MulNode) sub.getY();
+                ValueNode negated = graph.addOrUnique(new NegateNode(mul.getX()));
+                fma = graph.addOrUnique(new OCLFMANode(negated, mul.getY(), sub.getX()));
+            }
+            if (fma != null) {
+                ValueNode mul = (sub.getX() instanceof MulNode) ? sub.getX() : sub.getY();
+                sub.replaceAtUsagesAndDelete(fma);
+                if (mul.hasNoUsages()) {
+                    mul.safeDelete();
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoHighTierContext context) {
+        if (!context.hasMeta() || !context.getMeta().enableFastMath()) {
+            return;
+        }
+        lowerToNativeBuiltins(graph);
+        contractSubtractions(graph);
+    }
+}
@@ -44,6 +44,8 @@ import jdk.vm.ci.meta.PrimitiveConstant;
 import jdk.vm.ci.meta.ResolvedJavaType;
 import uk.ac.manchester.tornado.drivers.opencl.graal.OCLArchitecture;
 import uk.ac.manchester.tornado.drivers.opencl.graal.OCLLoweringProvider;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLWriteAtomicNode.ATOMIC_OPERATION;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.AtomicReduceNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.FixedArrayNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.GlobalThreadIdNode;
 import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.GlobalThreadSizeNode;
@@ -121,6 +123,24 @@ public class TornadoOpenCLIntrinsicsReplacements extends BasePhase<TornadoHighTi
                     graph.replaceFixed(invoke, groupIdNode);
                     break;
                 }
+                case "Direct#OpenCLIntrinsics.atomicAdd":
+                    lowerAtomicReduceInvoke(graph, invoke, ATOMIC_OPERATION.ADD);
+                    break;
+                case "Direct#OpenCLIntrinsics.atomicMax":
+                    lowerAtomicReduceInvoke(graph, invoke, ATOMIC_OPERATION.MAX);
+                    break;
+                case "Direct#OpenCLIntrinsics.atomicMin":
+                    lowerAtomicReduceInvoke(graph, invoke, ATOMIC_OPERATION.MIN);
+                    break;
+                case "Direct#OpenCLIntrinsics.atomicOr":
+                    lowerAtomicReduceInvoke(graph, invoke, ATOMIC_OPERATION.OR);
+                    break;
+                case "Direct#OpenCLIntrinsics.atomicAnd":
+                    lowerAtomicReduceInvoke(graph, invoke, ATOMIC_OPERATION.AND);
+                    break;
+                case "Direct#OpenCLIntrinsics.atomicXor":
+                    lowerAtomicReduceInvoke(graph, invoke, ATOMIC_OPERATION.XOR);
+                    break;
                 case "Direct#OpenCLIntrinsics.printEmpty":
                     OpenCLPrintf printfNode = graph.addOrUnique(new OpenCLPrintf("\"\""));
                     graph.replaceFixed(invoke, printfNode);
@@ -129,6 +149,13 @@ public class TornadoOpenCLIntrinsicsReplacements extends BasePhase<TornadoHighTi
         }
     }
 
+    private void lowerAtomicReduceInvoke(StructuredGraph graph, InvokeNode invoke, ATOMIC_OPERATION operation) {
+        NodeInputList<ValueNode> arguments = invoke.callTarget().arguments();
+        ValueNode value = arguments.get(2);
+        AtomicReduceNode atomicReduceNode = graph.addWithoutUnique(new AtomicReduceNode(arguments.get(0), arguments.get(1), value.getStackKind(), value, operation));
+        graph.replaceFixed(invoke, atomicReduceNode);
+    }
+
     private void lowerLocalInvokeNodeNewArray(StructuredGraph graph, int length, JavaKind elementKind, InvokeNode newArray) {
         LocalArrayNode localArrayNode;
         ConstantNode newLengthNode = ConstantNode.forInt(length, graph);
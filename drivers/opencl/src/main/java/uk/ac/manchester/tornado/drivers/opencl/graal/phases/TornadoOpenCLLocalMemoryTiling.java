@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.phases;
+
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.nodes.ValueNode;
+
+import jdk.vm.ci.meta.ResolvedJavaType;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLArchitecture;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.LocalArrayNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLBarrierNode;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoLocalMemoryTiling;
+
+/**
+ * Local memory tiling for OpenCL: tiles are declared as {@code __local} arrays
+ * and synchronised with {@code barrier(CLK_LOCAL_MEM_FENCE)}.
+ */
+public class TornadoOpenCLLocalMemoryTiling extends TornadoLocalMemoryTiling {
+
+    @Override
+    protected ValueNode createLocalArray(StructuredGraph graph, ResolvedJavaType elementType, int length) {
+        ConstantNode lengthNode = ConstantNode.forInt(length, graph);
+        return graph.addWithoutUnique(new LocalArrayNode(OCLArchitecture.localSpace, elementType, lengthNode, true));
+    }
+
+    @Override
+    protected FixedWithNextNode createLocalBarrier(StructuredGraph graph) {
+        return graph.add(new OCLBarrierNode(OCLBarrierNode.OCLMemFenceFlags.LOCAL));
+    }
+}
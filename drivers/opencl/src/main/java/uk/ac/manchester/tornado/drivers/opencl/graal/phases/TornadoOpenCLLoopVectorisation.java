@@ -0,0 +1,495 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.phases;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.graalvm.compiler.graph.Node;
+import org.graalvm.compiler.loop.CountedLoopInfo;
+import org.graalvm.compiler.loop.InductionVariable;
+import org.graalvm.compiler.loop.LoopEx;
+import org.graalvm.compiler.loop.LoopsData;
+import org.graalvm.compiler.nodes.AbstractBeginNode;
+import org.graalvm.compiler.nodes.BeginNode;
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.EndNode;
+import org.graalvm.compiler.nodes.FixedNode;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.FrameState;
+import org.graalvm.compiler.nodes.IfNode;
+import org.graalvm.compiler.nodes.LogicNode;
+import org.graalvm.compiler.nodes.LoopBeginNode;
+import org.graalvm.compiler.nodes.LoopEndNode;
+import org.graalvm.compiler.nodes.MergeNode;
+import org.graalvm.compiler.nodes.ParameterNode;
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.ValuePhiNode;
+import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.BinaryArithmeticNode;
+import org.graalvm.compiler.nodes.calc.FloatDivNode;
+import org.graalvm.compiler.nodes.calc.IntegerLessThanNode;
+import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.SubNode;
+import org.graalvm.compiler.nodes.java.AccessIndexedNode;
+import org.graalvm.compiler.nodes.java.LoadIndexedNode;
+import org.graalvm.compiler.nodes.java.StoreIndexedNode;
+import org.graalvm.compiler.nodes.util.GraphUtil;
+import org.graalvm.compiler.phases.BasePhase;
+
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.drivers.opencl.OCLTargetDescription;
+import uk.ac.manchester.tornado.drivers.opencl.graal.lir.OCLKind;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.vector.VectorAddNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.vector.VectorDivNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.vector.VectorLoadNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.vector.VectorMulNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.vector.VectorStoreNode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.vector.VectorSubNode;
+import uk.ac.manchester.tornado.drivers.opencl.runtime.OCLTornadoDevice;
+import uk.ac.manchester.tornado.runtime.common.Tornado;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.domain.DomainTree;
+import uk.ac.manchester.tornado.runtime.domain.IntDomain;
+import uk.ac.manchester.tornado.runtime.graal.nodes.ParallelRangeNode;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Vectorises 1D parallel loops whose body only reads and writes the elements
+ * of the current iteration:
+ *
+ * <pre>
+ * for (@Parallel int i = 0; i &lt; n; i++)
+ *     z[i] = alpha * x[i] + y[i];
+ * </pre>
+ *
+ * The loop is coarsened by the vector width {@code W}, so each thread
+ * processes {@code W} contiguous elements with {@code vloadW/vstoreW}, and the
+ * iteration space is reduced to {@code ceil(n / W)}. When {@code n} is not a
+ * multiple of {@code W}, the last iteration processes the remaining elements
+ * with scalar accesses:
+ *
+ * <pre>
+ * for (@Parallel int i = 0; i &lt; ceil(n / W); i++)
+ *     if (i &lt; n / W)
+ *         vstoreW(alpha * vloadW(0, &amp;x[i * W]) + vloadW(0, &amp;y[i * W]), 0, &amp;z[i * W]);
+ *     else
+ *         for each remaining element j: z[j] = alpha * x[j] + y[j];
+ * </pre>
+ *
+ * <p>
+ * The transformation is applied before the parallel loops are scheduled and
+ * only to loops with offset 0, stride 1 and a compile-time iteration space,
+ * whose body is a sequence of int, float or double reads and writes indexed by
+ * the parallel index and additions, subtractions, multiplications and
+ * floating-point divisions of those reads and loop-invariant values. The
+ * vector width is the preferred vector width of the device reported by
+ * {@link OCLTargetDescription}, or the one set with
+ * {@code -Dtornado.experimental.vectorisation.width}.
+ * </p>
+ */
+public class TornadoOpenCLLoopVectorisation extends BasePhase<TornadoHighTierContext> {
+
+    private static final int UNSUPPORTED = -1;
+    private static final int MAX_VECTOR_WIDTH = 16;
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoHighTierContext context) {
+        if (!TornadoOptions.EXPERIMENTAL_VECTORISATION || !context.hasMeta() || !graph.hasLoops() || !isVectorisable(context.getMeta())) {
+            return;
+        }
+
+        final List<ParallelRangeNode> ranges = graph.getNodes().filter(ParallelRangeNode.class).snapshot();
+        if (ranges.size() != 1) {
+            return;
+        }
+        final ParallelRangeNode range = ranges.get(0);
+        if (range.index() != 0 || !isIntConstant(range.offset().value(), 0) || !isIntConstant(range.stride().value(), 1) || !(range.value() instanceof ConstantNode)) {
+            return;
+        }
+        final int length = range.value().asJavaConstant().asInt();
+
+        ValuePhiNode index = null;
+        for (Node usage : range.offset().usages()) {
+            if (usage instanceof ValuePhiNode && ((ValuePhiNode) usage).merge() instanceof LoopBeginNode) {
+                index = (ValuePhiNode) usage;
+            }
+        }
+        if (index == null) {
+            return;
+        }
+
+        final LoopsData data = new LoopsData(graph);
+        data.detectedCountedLoops();
+        final LoopEx loop = data.loop((LoopBeginNode) index.merge());
+        if (loop == null || !loop.isCounted()) {
+            return;
+        }
+
+        final List<FixedWithNextNode> body = findBody(loop, index, range);
+        if (body == null) {
+            return;
+        }
+
+        final OCLTargetDescription target = ((OCLTornadoDevice) context.getDeviceMapping()).getBackend().getTarget();
+        final int width = resolveVectorWidth(target, body);
+        if (width == UNSUPPORTED || length < width) {
+            return;
+        }
+
+        vectoriseLoop(graph, target, loop, index, body, width, length);
+
+        final int iterations = (length + width - 1) / width;
+        range.replaceFirstInput(range.value(), ConstantNode.forInt(iterations, graph));
+        final DomainTree domain = new DomainTree(1);
+        domain.set(0, new IntDomain(0, 1, iterations));
+        context.getMeta().setDomain(domain);
+
+        Tornado.debug("loop vectorisation: task %s uses vectors of %d elements (%d iterations)", context.getMeta().getId(), width, iterations);
+    }
+
+    private static boolean isVectorisable(TaskMetaData meta) {
+        return meta.hasDomain() && meta.getDomain().getDepth() == 1 && meta.enableParallelization() && !meta.enableThreadCoarsener() && !meta.isWorkerGridAvailable() && !meta.isGlobalWorkDefined()
+                && !meta.isLocalWorkDefined() && meta.getNumThreads() == 0;
+    }
+
+    private static boolean isIntConstant(ValueNode node, int value) {
+        return node instanceof ConstantNode && node.isJavaConstant() && node.asJavaConstant().getJavaKind() == JavaKind.Int && node.asJavaConstant().asInt() == value;
+    }
+
+    private static boolean isSupportedKind(JavaKind kind) {
+        return kind == JavaKind.Int || kind == JavaKind.Float || kind == JavaKind.Double;
+    }
+
+    /**
+     * @return the reads and writes of the loop body, in program order, or null if
+     *         the loop cannot be vectorised.
+     */
+    private static List<FixedWithNextNode> findBody(LoopEx loop, ValuePhiNode index, ParallelRangeNode range) {
+        final LoopBeginNode loopBegin = loop.loopBegin();
+        final CountedLoopInfo counted = loop.counted();
+        final InductionVariable counter = counted.getCounter();
+        if (loopBegin.loopEnds().count() != 1 || loopBegin.loopExits().count() != 1 || counter.valueNode() != index || !counter.isConstantStride() || counter.constantStride() != 1) {
+            return null;
+        }
+
+        // The loop must be `for (i = 0; i < range; i++)`
+        final IfNode limitTest = counted.getLimitTest();
+        if (!(limitTest.condition() instanceof IntegerLessThanNode) || limitTest.trueSuccessor() != counted.getBody()) {
+            return null;
+        }
+        final IntegerLessThanNode condition = (IntegerLessThanNode) limitTest.condition();
+        if (condition.getX() != index || condition.getY() != range) {
+            return null;
+        }
+
+        final List<FixedWithNextNode> body = new ArrayList<>();
+        FixedNode current = counted.getBody().next();
+        while (current instanceof LoadIndexedNode || current instanceof StoreIndexedNode) {
+            AccessIndexedNode access = (AccessIndexedNode) current;
+            if (access.index() != index || !isSupportedKind(access.elementKind()) || !(GraphUtil.unproxify(access.array()) instanceof ParameterNode)) {
+                return null;
+            }
+            body.add(access);
+            current = access.next();
+        }
+        final LoopEndNode loopEnd = loopBegin.loopEnds().first();
+        if (current != loopEnd || body.isEmpty()) {
+            return null;
+        }
+
+        // Every value written must be computed from the reads of the current
+        // iteration, and the reads and the values computed from them must not
+        // be used outside the body
+        final Set<Node> expressions = new HashSet<>();
+        final Set<Node> states = new HashSet<>();
+        boolean hasStores = false;
+        for (FixedWithNextNode node : body) {
+            if (node instanceof LoadIndexedNode) {
+                expressions.add(node);
+            } else {
+                StoreIndexedNode store = (StoreIndexedNode) node;
+                if (!isVectorExpression(store.value(), store.elementKind(), body, expressions)) {
+                    return null;
+                }
+                if (store.stateAfter() != null) {
+                    states.add(store.stateAfter());
+                }
+                hasStores = true;
+            }
+        }
+        if (!hasStores) {
+            return null;
+        }
+        for (Node expression : expressions) {
+            for (Node usage : expression.usages()) {
+                if (!expressions.contains(usage) && !body.contains(usage) && !states.contains(usage)) {
+                    return null;
+                }
+            }
+        }
+
+        // The parallel index is only used to access the elements of the current
+        // iteration and to control the loop
+        final ValueNode increment = index.valueAt(loopEnd);
+        for (Node usage : index.usages()) {
+            if (!body.contains(usage) && usage != condition && usage != increment && !(usage instanceof FrameState)) {
+                return null;
+            }
+        }
+        return body;
+    }
+
+    private static boolean isLoopInvariant(ValueNode node) {
+        if (node instanceof ConstantNode || (node instanceof ParameterNode && node.getStackKind().isPrimitive())) {
+            return true;
+        }
+        if (node instanceof BinaryArithmeticNode) {
+            BinaryArithmeticNode<?> binary = (BinaryArithmeticNode<?>) node;
+            return isLoopInvariant(binary.getX()) && isLoopInvariant(binary.getY());
+        }
+        return false;
+    }
+
+    private static boolean isVectorArithmetic(ValueNode node) {
+        return node instanceof AddNode || node instanceof SubNode || node instanceof MulNode || node instanceof FloatDivNode;
+    }
+
+    /**
+     * @return true if the value depends on the reads of the body and it can be
+     *         computed with vector operations of the given kind.
+     */
+    private static boolean isVectorExpression(ValueNode node, JavaKind kind, List<FixedWithNextNode> body, Set<Node> expressions) {
+        if (node.getStackKind() != kind) {
+            return false;
+        } else if (node instanceof LoadIndexedNode) {
+            return body.contains(node);
+        } else if (!isVectorArithmetic(node)) {
+            return false;
+        }
+
+        final BinaryArithmeticNode<?> binary = (BinaryArithmeticNode<?>) node;
+        boolean vectorInput = false;
+        for (ValueNode input : new ValueNode[] { binary.getX(), binary.getY() }) {
+            if (isVectorExpression(input, kind, body, expressions)) {
+                vectorInput = true;
+            } else if (!isLoopInvariant(input) || input.getStackKind() != kind) {
+                return false;
+            }
+        }
+        if (vectorInput) {
+            expressions.add(node);
+        }
+        return vectorInput;
+    }
+
+    private static boolean isSupportedWidth(int width) {
+        return width == 2 || width == 4 || width == 8 || width == 16;
+    }
+
+    /**
+     * @return the vector width for all the accesses of the body, or
+     *         {@link #UNSUPPORTED} if the device does not prefer vectors for any
+     *         of the types.
+     */
+    private static int resolveVectorWidth(OCLTargetDescription target, List<FixedWithNextNode> body) {
+        if (TornadoOptions.VECTORISATION_WIDTH > 0) {
+            return isSupportedWidth(TornadoOptions.VECTORISATION_WIDTH) ? TornadoOptions.VECTORISATION_WIDTH : UNSUPPORTED;
+        }
+        int width = MAX_VECTOR_WIDTH;
+        for (FixedWithNextNode node : body) {
+            width = Math.min(width, target.getPreferredVectorWidth(((AccessIndexedNode) node).elementKind()));
+        }
+        return isSupportedWidth(width) ? width : UNSUPPORTED;
+    }
+
+    /**
+     * Copies the reads and writes of the body, and the arithmetic between them,
+     * accessing {@code width} elements from {@code elementIndex}.
+     *
+     * @return the first and the last node of the copy.
+     */
+    private static FixedWithNextNode[] copyBody(StructuredGraph graph, OCLTargetDescription target, List<FixedWithNextNode> body, ValueNode elementIndex, int width) {
+        final Map<Node, ValueNode> values = new HashMap<>();
+        FixedWithNextNode first = null;
+        FixedWithNextNode last = null;
+        for (FixedWithNextNode node : body) {
+            FixedWithNextNode copy;
+            if (node instanceof LoadIndexedNode) {
+                LoadIndexedNode load = (LoadIndexedNode) node;
+                if (width == 1) {
+                    copy = graph.add(new LoadIndexedNode(graph.getAssumptions(), load.array(), elementIndex, null, load.elementKind()));
+                } else {
+                    copy = graph.add(new VectorLoadNode(target.getOCLKind(load.elementKind(), width), load.array(), elementIndex));
+                }
+                values.put(load, (ValueNode) copy);
+            } else {
+                StoreIndexedNode store = (StoreIndexedNode) node;
+                ValueNode value = copyExpression(graph, target, store.value(), values, width);
+                if (width == 1) {
+                    copy = graph.add(new StoreIndexedNode(store.array(), elementIndex, null, null, store.elementKind(), value));
+                } else {
+                    copy = graph.add(new VectorStoreNode(target.getOCLKind(store.elementKind(), width), store.array(), elementIndex, value));
+                }
+            }
+            if (first == null) {
+                first = copy;
+            } else {
+                last.setNext(copy);
+            }
+            last = copy;
+        }
+        return new FixedWithNextNode[] { first, last };
+    }
+
+    private static ValueNode copyExpression(StructuredGraph graph, OCLTargetDescription target, ValueNode node, Map<Node, ValueNode> values, int width) {
+        if (values.containsKey(node)) {
+            return values.get(node);
+        } else if (!isVectorArithmetic(node)) {
+            // Loop-invariant scalars are promoted by OpenCL in vector operations
+            return node;
+        }
+
+        final BinaryArithmeticNode<?> binary = (BinaryArithmeticNode<?>) node;
+        final ValueNode x = copyExpression(graph, target, binary.getX(), values, width);
+        final ValueNode y = copyExpression(graph, target, binary.getY(), values, width);
+        if (x == binary.getX() && y == binary.getY()) {
+            return node;
+        }
+
+        final ValueNode copy;
+        if (width == 1) {
+            if (node instanceof AddNode) {
+                copy = new AddNode(x, y);
+            } else if (node instanceof SubNode) {
+                copy = new SubNode(x, y);
+            } else if (node instanceof MulNode) {
+                copy = new MulNode(x, y);
+            } else {
+                copy = new FloatDivNode(x, y);
+            }
+        } else {
+            final OCLKind kind = target.getOCLKind(node.getStackKind(), width);
+            if (node instanceof AddNode) {
+                copy = new VectorAddNode(kind, x, y);
+            } else if (node instanceof SubNode) {
+                copy = new VectorSubNode(kind, x, y);
+            } else if (node instanceof MulNode) {
+                copy = new VectorMulNode(kind, x, y);
+            } else {
+                copy = new VectorDivNode(kind, x, y);
+            }
+        }
+        final ValueNode result = graph.addOrUnique(copy);
+        values.put(node, result);
+        return result;
+    }
+
+    /**
+     * Replaces the body of the loop with:
+     *
+     * <pre>
+     * if (i &lt; n / W) {
+     *     vector body for the elements [i * W, i * W + W)
+     * } else {
+     *     scalar body for the elements [n / W * W, n)
+     * }
+     * </pre>
+     *
+     * The scalar path is omitted when {@code n} is a multiple of {@code W}.
+     */
+    private static void vectoriseLoop(StructuredGraph graph, OCLTargetDescription target, LoopEx loop, ValuePhiNode index, List<FixedWithNextNode> body, int width, int length) {
+        final AbstractBeginNode bodyBegin = loop.counted().getBody();
+        final LoopEndNode loopEnd = loop.loopBegin().loopEnds().first();
+        final int vectorIterations = length / width;
+        final int remainder = length % width;
+
+        bodyBegin.setNext(null);
+        body.get(body.size() - 1).setNext(null);
+
+        final ValueNode vectorIndex = graph.addOrUnique(new MulNode(index, ConstantNode.forInt(width, graph)));
+        final FixedWithNextNode[] vectorBody = copyBody(graph, target, body, vectorIndex, width);
+
+        if (remainder == 0) {
+            vectorBody[1].setNext(loopEnd);
+            bodyBegin.setNext(vectorBody[0]);
+        } else {
+            final BeginNode vectorBegin = graph.add(new BeginNode());
+            final BeginNode remainderBegin = graph.add(new BeginNode());
+            final EndNode vectorEnd = graph.add(new EndNode());
+            final EndNode remainderEnd = graph.add(new EndNode());
+            final MergeNode merge = graph.add(new MergeNode());
+            final LogicNode isVectorIteration = graph.addOrUnique(new IntegerLessThanNode(index, ConstantNode.forInt(vectorIterations, graph)));
+            final IfNode ifNode = graph.add(new IfNode(isVectorIteration, vectorBegin, remainderBegin, (double) vectorIterations / (vectorIterations + 1)));
+
+            vectorBegin.setNext(vectorBody[0]);
+            vectorBody[1].setNext(vectorEnd);
+
+            FixedWithNextNode last = remainderBegin;
+            for (int lane = 0; lane < remainder; lane++) {
+                final ValueNode elementIndex = ConstantNode.forInt(vectorIterations * width + lane, graph);
+                final FixedWithNextNode[] scalarBody = copyBody(graph, target, body, elementIndex, 1);
+                last.setNext(scalarBody[0]);
+                last = scalarBody[1];
+            }
+            last.setNext(remainderEnd);
+
+            merge.addForwardEnd(vectorEnd);
+            merge.addForwardEnd(remainderEnd);
+            merge.setNext(loopEnd);
+            bodyBegin.setNext(ifNode);
+        }
+
+        deleteBody(body);
+    }
+
+    private static void deleteBody(List<FixedWithNextNode> body) {
+        for (FixedWithNextNode node : body) {
+            node.setNext(null);
+        }
+        for (FixedWithNextNode node : body) {
+            if (node instanceof StoreIndexedNode) {
+                StoreIndexedNode store = (StoreIndexedNode) node;
+                FrameState state = store.stateAfter();
+                store.setStateAfter(null);
+                if (state != null && state.hasNoUsages()) {
+                    GraphUtil.killWithUnusedFloatingInputs(state);
+                }
+            }
+        }
+        for (int i = body.size() - 1; i >= 0; i--) {
+            if (body.get(i) instanceof StoreIndexedNode) {
+                GraphUtil.killWithUnusedFloatingInputs(body.get(i));
+            }
+        }
+        for (FixedWithNextNode node : body) {
+            if (node instanceof LoadIndexedNode && node.isAlive()) {
+                GraphUtil.killWithUnusedFloatingInputs(node);
+            }
+        }
+    }
+}
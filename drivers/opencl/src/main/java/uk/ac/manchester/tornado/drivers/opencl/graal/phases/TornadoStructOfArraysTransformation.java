@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.graal.phases;
+
+import static uk.ac.manchester.tornado.api.exceptions.TornadoInternalError.unimplemented;
+import static uk.ac.manchester.tornado.runtime.TornadoCoreRuntime.getVMConfig;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.graalvm.compiler.graph.Node;
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.FrameState;
+import org.graalvm.compiler.nodes.LogicConstantNode;
+import org.graalvm.compiler.nodes.ParameterNode;
+import org.graalvm.compiler.nodes.PiNode;
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.IsNullNode;
+import org.graalvm.compiler.nodes.java.LoadFieldNode;
+import org.graalvm.compiler.nodes.java.LoadIndexedNode;
+import org.graalvm.compiler.nodes.java.StoreFieldNode;
+import org.graalvm.compiler.nodes.java.StoreIndexedNode;
+import org.graalvm.compiler.phases.BasePhase;
+
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.runtime.common.StructOfArraysLayout;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
+
+/**
+ * Rewrites the field accesses of elements of object arrays that are stored on
+ * the device as a struct of arrays. An access such as {@code particles[i].x}
+ * becomes an indexed access to the column of {@code x}, so that consecutive
+ * threads access consecutive addresses.
+ */
+public class TornadoStructOfArraysTransformation extends BasePhase<TornadoHighTierContext> {
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoHighTierContext context) {
+        if (!context.hasArgs()) {
+            return;
+        }
+
+        for (ParameterNode param : graph.getNodes(ParameterNode.TYPE)) {
+            final Object arg = context.getArgs()[param.index()];
+            if (arg != null && StructOfArraysLayout.isSupported(arg.getClass())) {
+                final StructOfArraysLayout layout = StructOfArraysLayout.get(arg.getClass().getComponentType());
+                final int length = Array.getLength(arg);
+                final boolean[] written = new boolean[layout.getNumFields()];
+                for (LoadIndexedNode element : param.usages().filter(LoadIndexedNode.class).snapshot()) {
+                    rewriteElement(graph, param, element, layout, length, written);
+                }
+                if (context.hasMeta()) {
+                    context.getMeta().setWrittenFields(param.index(), written);
+                }
+            }
+        }
+    }
+
+    private static void collectUsages(ValueNode node, List<Node> accesses, List<PiNode> pis) {
+        for (Node usage : node.usages()) {
+            if (usage instanceof PiNode) {
+                pis.add((PiNode) usage);
+                collectUsages((PiNode) usage, accesses, pis);
+            } else if (usage instanceof StoreFieldNode && ((StoreFieldNode) usage).value() == node) {
+                unimplemented("struct-of-arrays: array elements cannot be stored into fields");
+            } else if (usage instanceof LoadFieldNode || usage instanceof StoreFieldNode || usage instanceof IsNullNode) {
+                accesses.add(usage);
+            } else if (!(usage instanceof FrameState)) {
+                unimplemented("struct-of-arrays: unsupported use of an array element: %s", usage);
+            }
+        }
+    }
+
+    private static int getField(StructOfArraysLayout layout, String name) {
+        final int index = layout.indexOf(name);
+        if (index == -1) {
+            unimplemented("struct-of-arrays: field %s not found in %s", name, layout.getElementType().getName());
+        }
+        return index;
+    }
+
+    /*
+     * The column of a field is accessed as an array of the field kind that starts
+     * at the same address as the struct of arrays data, so the index of an element
+     * is shifted by the offset of the column.
+     */
+    private static ValueNode getColumnIndex(StructuredGraph graph, ValueNode index, StructOfArraysLayout layout, int field, int length) {
+        final JavaKind kind = layout.getKind(field);
+        final long offset = getVMConfig().getArrayBaseOffset(JavaKind.Byte) + layout.getColumnOffset(field, length) - getVMConfig().getArrayBaseOffset(kind);
+        final ConstantNode shift = graph.addOrUnique(ConstantNode.forInt((int) (offset / kind.getByteCount())));
+        return graph.addOrUnique(new AddNode(index, shift));
+    }
+
+    private static void rewriteElement(StructuredGraph graph, ParameterNode array, LoadIndexedNode element, StructOfArraysLayout layout, int length, boolean[] written) {
+        final List<Node> accesses = new ArrayList<>();
+        final List<PiNode> pis = new ArrayList<>();
+        collectUsages(element, accesses, pis);
+
+        for (Node access : accesses) {
+            if (access instanceof LoadFieldNode) {
+                final LoadFieldNode loadField = (LoadFieldNode) access;
+                final int field = getField(layout, loadField.field().getName());
+                final ValueNode index = getColumnIndex(graph, element.index(), layout, field, length);
+                final LoadIndexedNode load = graph.add(new LoadIndexedNode(graph.getAssumptions(), array, index, null, layout.getKind(field)));
+                graph.replaceFixedWithFixed(loadField, load);
+            } else if (access instanceof StoreFieldNode) {
+                final StoreFieldNode storeField = (StoreFieldNode) access;
+                final int field = getField(layout, storeField.field().getName());
+                final ValueNode index = getColumnIndex(graph, element.index(), layout, field, length);
+                final StoreIndexedNode store = graph.add(new StoreIndexedNode(array, index, null, null, layout.getKind(field), storeField.value()));
+                store.setStateAfter(storeField.stateAfter());
+                graph.replaceFixedWithFixed(storeField, store);
+                written[field] = true;
+            } else {
+                // Elements of the array are never null
+                final IsNullNode isNull = (IsNullNode) access;
+                isNull.replaceAtUsages(LogicConstantNode.contradiction(graph));
+                isNull.safeDelete();
+            }
+        }
+
+        // The remaining usages are frame states, which do not need the element
+        for (int i = pis.size() - 1; i >= 0; i--) {
+            pis.get(i).replaceAtUsages(null);
+            pis.get(i).safeDelete();
+        }
+        element.replaceAtUsages(null);
+        graph.removeFixed(element);
+    }
+}
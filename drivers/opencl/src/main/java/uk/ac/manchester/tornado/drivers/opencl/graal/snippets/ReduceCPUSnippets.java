@@ -28,6 +28,9 @@ import org.graalvm.compiler.api.replacements.SnippetReflectionProvider;
 import org.graalvm.compiler.debug.DebugHandlersFactory;
 import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
+import org.graalvm.compiler.nodes.calc.OrNode;
+import org.graalvm.compiler.nodes.calc.XorNode;
 import org.graalvm.compiler.nodes.spi.LoweringTool;
 import org.graalvm.compiler.options.OptionValues;
 import org.graalvm.compiler.phases.util.Providers;
@@ -321,6 +324,103 @@ public class ReduceCPUSnippets implements Snippets {
         }
     }
 
+    // Bitwise
+    @Snippet
+    public static void partialReduceIntOr(int[] inputArray, int[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] |= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntOrCarrierValue(int[] inputArray, int[] outputArray, int gidx, int start, int globalID, int value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] |= value;
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAnd(int[] inputArray, int[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] &= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAndCarrierValue(int[] inputArray, int[] outputArray, int gidx, int start, int globalID, int value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] &= value;
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXor(int[] inputArray, int[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] ^= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXorCarrierValue(int[] inputArray, int[] outputArray, int gidx, int start, int globalID, int value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] ^= value;
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOr(long[] inputArray, long[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] |= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOrCarrierValue(long[] inputArray, long[] outputArray, int gidx, int start, int globalID, long value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] |= value;
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAnd(long[] inputArray, long[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] &= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAndCarrierValue(long[] inputArray, long[] outputArray, int gidx, int start, int globalID, long value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] &= value;
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXor(long[] inputArray, long[] outputArray, int gidx, int start, int globalID) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] ^= inputArray[gidx];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXorCarrierValue(long[] inputArray, long[] outputArray, int gidx, int start, int globalID, long value) {
+        OpenCLIntrinsics.localBarrier();
+        if (gidx >= start) {
+            outputArray[globalID + 1] ^= value;
+        }
+    }
+
     public static class Templates extends AbstractTemplates implements TornadoSnippetTypeInference {
 
         // Int
@@ -363,6 +463,20 @@ public class ReduceCPUSnippets implements Snippets {
         private final SnippetInfo partialReduceMinDoubleSnippet = snippet(ReduceCPUSnippets.class, "partialReduceDoubleMin");
         private final SnippetInfo partialReduceMinDoubleSnippetCarrierValue = snippet(ReduceCPUSnippets.class, "partialReduceDoubleMinCarrierValue");
 
+        // Bitwise
+        private final SnippetInfo partialReduceOrIntSnippet = snippet(ReduceCPUSnippets.class, "partialReduceIntOr");
+        private final SnippetInfo partialReduceOrIntSnippetCarrierValue = snippet(ReduceCPUSnippets.class, "partialReduceIntOrCarrierValue");
+        private final SnippetInfo partialReduceAndIntSnippet = snippet(ReduceCPUSnippets.class, "partialReduceIntAnd");
+        private final SnippetInfo partialReduceAndIntSnippetCarrierValue = snippet(ReduceCPUSnippets.class, "partialReduceIntAndCarrierValue");
+        private final SnippetInfo partialReduceXorIntSnippet = snippet(ReduceCPUSnippets.class, "partialReduceIntXor");
+        private final SnippetInfo partialReduceXorIntSnippetCarrierValue = snippet(ReduceCPUSnippets.class, "partialReduceIntXorCarrierValue");
+        private final SnippetInfo partialReduceOrLongSnippet = snippet(ReduceCPUSnippets.class, "partialReduceLongOr");
+        private final SnippetInfo partialReduceOrLongSnippetCarrierValue = snippet(ReduceCPUSnippets.class, "partialReduceLongOrCarrierValue");
+        private final SnippetInfo partialReduceAndLongSnippet = snippet(ReduceCPUSnippets.class, "partialReduceLongAnd");
+        private final SnippetInfo partialReduceAndLongSnippetCarrierValue = snippet(ReduceCPUSnippets.class, "partialReduceLongAndCarrierValue");
+        private final SnippetInfo partialReduceXorLongSnippet = snippet(ReduceCPUSnippets.class, "partialReduceLongXor");
+        private final SnippetInfo partialReduceXorLongSnippetCarrierValue = snippet(ReduceCPUSnippets.class, "partialReduceLongXorCarrierValue");
+
         public Templates(OptionValues options, Iterable<DebugHandlersFactory> debugHandlersFactories, Providers providers, SnippetReflectionProvider snippetReflection, TargetDescription target) {
             super(options, debugHandlersFactories, providers, snippetReflection, target);
         }
@@ -398,6 +512,12 @@ public class ReduceCPUSnippets implements Snippets {
                 snippet = (extra == null) ? partialReduceMulIntSnippet : partialReduceMulIntSnippetCarrierValue;
             } else if (value instanceof OCLIntBinaryIntrinsicNode) {
                 snippet = getSnippetFromOCLBinaryNodeInteger((OCLIntBinaryIntrinsicNode) value, extra);
+            } else if (value instanceof OrNode) {
+                snippet = (extra == null) ? partialReduceOrIntSnippet : partialReduceOrIntSnippetCarrierValue;
+            } else if (value instanceof AndNode) {
+                snippet = (extra == null) ? partialReduceAndIntSnippet : partialReduceAndIntSnippetCarrierValue;
+            } else if (value instanceof XorNode) {
+                snippet = (extra == null) ? partialReduceXorIntSnippet : partialReduceXorIntSnippetCarrierValue;
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -413,6 +533,12 @@ public class ReduceCPUSnippets implements Snippets {
                 snippet = (extra == null) ? partialReduceMulLongSnippet : partialReduceMulLongSnippetCarrierValue;
             } else if (value instanceof OCLIntBinaryIntrinsicNode) {
                 snippet = getSnippetFromOCLBinaryNodeLong((OCLIntBinaryIntrinsicNode) value, extra);
+            } else if (value instanceof OrNode) {
+                snippet = (extra == null) ? partialReduceOrLongSnippet : partialReduceOrLongSnippetCarrierValue;
+            } else if (value instanceof AndNode) {
+                snippet = (extra == null) ? partialReduceAndLongSnippet : partialReduceAndLongSnippetCarrierValue;
+            } else if (value instanceof XorNode) {
+                snippet = (extra == null) ? partialReduceXorLongSnippet : partialReduceXorLongSnippetCarrierValue;
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
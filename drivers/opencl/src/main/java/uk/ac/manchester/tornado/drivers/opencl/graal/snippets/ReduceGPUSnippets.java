@@ -30,6 +30,9 @@ import org.graalvm.compiler.api.replacements.SnippetReflectionProvider;
 import org.graalvm.compiler.debug.DebugHandlersFactory;
 import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
+import org.graalvm.compiler.nodes.calc.OrNode;
+import org.graalvm.compiler.nodes.calc.XorNode;
 import org.graalvm.compiler.nodes.java.NewArrayNode;
 import org.graalvm.compiler.nodes.spi.LoweringTool;
 import org.graalvm.compiler.options.OptionValues;
@@ -50,6 +53,7 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.OCLIntBinaryIntrinsic
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceAddNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceMulNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 
 /**
  * Tornado-Graal snippets for GPUs reductions using OpenCL semantics.
@@ -804,6 +808,675 @@ public class ReduceGPUSnippets implements Snippets {
         }
     }
 
+    // Bitwise
+    @Snippet
+    public static void partialReduceIntOr(int[] inputArray, int[] outputArray, int gidx) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntOrCarrierValue(int[] inputArray, int[] outputArray, int gidx, int extra) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAnd(int[] inputArray, int[] outputArray, int gidx) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAndCarrierValue(int[] inputArray, int[] outputArray, int gidx, int extra) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXor(int[] inputArray, int[] outputArray, int gidx) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXorCarrierValue(int[] inputArray, int[] outputArray, int gidx, int extra) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOr(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOrCarrierValue(long[] inputArray, long[] outputArray, int gidx, long extra) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAnd(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAndCarrierValue(long[] inputArray, long[] outputArray, int gidx, long extra) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXor(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXorCarrierValue(long[] inputArray, long[] outputArray, int gidx, long extra) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+        int groupID = OpenCLIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    // Single pass: every work-group combines its partial result into the first
+    // element of the output array with an atomic operation, so the host does
+    // not need a final reduction.
+
+    @Snippet
+    public static void singlePassReduceIntAdd(int[] inputArray, int[] outputArray, int gidx) {
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] += localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicAdd(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceIntAddCarrierValue(int[] inputArray, int[] outputArray, int gidx, int value) {
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        localArray[localIdx] = value;
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] += localArray[localIdx + stride];
+            }
+        }
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicAdd(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceIntMax(int[] inputArray, int[] outputArray, int gidx) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicMax(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceIntMaxCarrierValue(int[] inputArray, int[] outputArray, int gidx, int extra) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicMax(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceIntMin(int[] inputArray, int[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicMin(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceIntMinCarrierValue(int[] inputArray, int[] outputArray, int gidx, int extra) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicMin(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceIntOr(int[] inputArray, int[] outputArray, int gidx) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicOr(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceIntOrCarrierValue(int[] inputArray, int[] outputArray, int gidx, int extra) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicOr(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceIntAnd(int[] inputArray, int[] outputArray, int gidx) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicAnd(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceIntAndCarrierValue(int[] inputArray, int[] outputArray, int gidx, int extra) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicAnd(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceIntXor(int[] inputArray, int[] outputArray, int gidx) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicXor(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceIntXorCarrierValue(int[] inputArray, int[] outputArray, int gidx, int extra) {
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicXor(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceFloatAdd(float[] inputArray, float[] outputArray, int gidx) {
+        float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] += localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicAdd(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceFloatAddCarrierValue(float[] inputArray, float[] outputArray, int gidx, float value) {
+
+        float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        localArray[localIdx] = value;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] += localArray[localIdx + stride];
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicAdd(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceFloatMax(float[] inputArray, float[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicMax(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceFloatMaxCarrierValue(float[] inputArray, float[] outputArray, int gidx, float extra) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = TornadoMath.max(localArray[localIdx], localArray[localIdx + stride]);
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicMax(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceFloatMin(float[] inputArray, float[] outputArray, int gidx) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicMin(outputArray, 0, localArray[0]);
+        }
+    }
+
+    @Snippet
+    public static void singlePassReduceFloatMinCarrierValue(float[] inputArray, float[] outputArray, int gidx, float extra) {
+
+        int localIdx = OpenCLIntrinsics.get_local_id(0);
+        int localGroupSize = OpenCLIntrinsics.get_local_size(0);
+
+        float[] localArray = (float[]) NewArrayNode.newUninitializedArray(float.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            OpenCLIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] = TornadoMath.min(localArray[localIdx], localArray[localIdx + stride]);
+            }
+        }
+
+        OpenCLIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            OpenCLIntrinsics.atomicMin(outputArray, 0, localArray[0]);
+        }
+    }
+
     public static class Templates extends AbstractTemplates implements TornadoSnippetTypeInference {
 
         // Add
@@ -846,6 +1519,40 @@ public class ReduceGPUSnippets implements Snippets {
         private final SnippetInfo partialReduceMinDoubleSnippet = snippet(ReduceGPUSnippets.class, "partialReduceDoubleMin");
         private final SnippetInfo partialReduceMinDoubleSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "partialReduceDoubleMinCarrierValue");
 
+        // Bitwise
+        private final SnippetInfo partialReduceIntOrSnippet = snippet(ReduceGPUSnippets.class, "partialReduceIntOr");
+        private final SnippetInfo partialReduceIntOrSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "partialReduceIntOrCarrierValue");
+        private final SnippetInfo partialReduceIntAndSnippet = snippet(ReduceGPUSnippets.class, "partialReduceIntAnd");
+        private final SnippetInfo partialReduceIntAndSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "partialReduceIntAndCarrierValue");
+        private final SnippetInfo partialReduceIntXorSnippet = snippet(ReduceGPUSnippets.class, "partialReduceIntXor");
+        private final SnippetInfo partialReduceIntXorSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "partialReduceIntXorCarrierValue");
+        private final SnippetInfo partialReduceLongOrSnippet = snippet(ReduceGPUSnippets.class, "partialReduceLongOr");
+        private final SnippetInfo partialReduceLongOrSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "partialReduceLongOrCarrierValue");
+        private final SnippetInfo partialReduceLongAndSnippet = snippet(ReduceGPUSnippets.class, "partialReduceLongAnd");
+        private final SnippetInfo partialReduceLongAndSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "partialReduceLongAndCarrierValue");
+        private final SnippetInfo partialReduceLongXorSnippet = snippet(ReduceGPUSnippets.class, "partialReduceLongXor");
+        private final SnippetInfo partialReduceLongXorSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "partialReduceLongXorCarrierValue");
+
+        // Single pass
+        private final SnippetInfo singlePassReduceIntAddSnippet = snippet(ReduceGPUSnippets.class, "singlePassReduceIntAdd");
+        private final SnippetInfo singlePassReduceIntAddSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "singlePassReduceIntAddCarrierValue");
+        private final SnippetInfo singlePassReduceIntMaxSnippet = snippet(ReduceGPUSnippets.class, "singlePassReduceIntMax");
+        private final SnippetInfo singlePassReduceIntMaxSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "singlePassReduceIntMaxCarrierValue");
+        private final SnippetInfo singlePassReduceIntMinSnippet = snippet(ReduceGPUSnippets.class, "singlePassReduceIntMin");
+        private final SnippetInfo singlePassReduceIntMinSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "singlePassReduceIntMinCarrierValue");
+        private final SnippetInfo singlePassReduceIntOrSnippet = snippet(ReduceGPUSnippets.class, "singlePassReduceIntOr");
+        private final SnippetInfo singlePassReduceIntOrSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "singlePassReduceIntOrCarrierValue");
+        private final SnippetInfo singlePassReduceIntAndSnippet = snippet(ReduceGPUSnippets.class, "singlePassReduceIntAnd");
+        private final SnippetInfo singlePassReduceIntAndSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "singlePassReduceIntAndCarrierValue");
+        private final SnippetInfo singlePassReduceIntXorSnippet = snippet(ReduceGPUSnippets.class, "singlePassReduceIntXor");
+        private final SnippetInfo singlePassReduceIntXorSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "singlePassReduceIntXorCarrierValue");
+        private final SnippetInfo singlePassReduceFloatAddSnippet = snippet(ReduceGPUSnippets.class, "singlePassReduceFloatAdd");
+        private final SnippetInfo singlePassReduceFloatAddSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "singlePassReduceFloatAddCarrierValue");
+        private final SnippetInfo singlePassReduceFloatMaxSnippet = snippet(ReduceGPUSnippets.class, "singlePassReduceFloatMax");
+        private final SnippetInfo singlePassReduceFloatMaxSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "singlePassReduceFloatMaxCarrierValue");
+        private final SnippetInfo singlePassReduceFloatMinSnippet = snippet(ReduceGPUSnippets.class, "singlePassReduceFloatMin");
+        private final SnippetInfo singlePassReduceFloatMinSnippetCarrierValue = snippet(ReduceGPUSnippets.class, "singlePassReduceFloatMinCarrierValue");
+
         public Templates(OptionValues options, Iterable<DebugHandlersFactory> debugHandlersFactories, Providers providers, SnippetReflectionProvider snippetReflection, TargetDescription target) {
             super(options, debugHandlersFactories, providers, snippetReflection, target);
         }
@@ -883,6 +1590,12 @@ public class ReduceGPUSnippets implements Snippets {
             } else if (value instanceof OCLIntBinaryIntrinsicNode) {
                 OCLIntBinaryIntrinsicNode op = (OCLIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeInteger(op, extra);
+            } else if (value instanceof OrNode) {
+                snippet = (extra == null) ? partialReduceIntOrSnippet : partialReduceIntOrSnippetCarrierValue;
+            } else if (value instanceof AndNode) {
+                snippet = (extra == null) ? partialReduceIntAndSnippet : partialReduceIntAndSnippetCarrierValue;
+            } else if (value instanceof XorNode) {
+                snippet = (extra == null) ? partialReduceIntXorSnippet : partialReduceIntXorSnippetCarrierValue;
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -899,6 +1612,12 @@ public class ReduceGPUSnippets implements Snippets {
             } else if (value instanceof OCLIntBinaryIntrinsicNode) {
                 OCLIntBinaryIntrinsicNode op = (OCLIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeLong(op, extra);
+            } else if (value instanceof OrNode) {
+                snippet = (extra == null) ? partialReduceLongOrSnippet : partialReduceLongOrSnippetCarrierValue;
+            } else if (value instanceof AndNode) {
+                snippet = (extra == null) ? partialReduceLongAndSnippet : partialReduceLongAndSnippetCarrierValue;
+            } else if (value instanceof XorNode) {
+                snippet = (extra == null) ? partialReduceLongXorSnippet : partialReduceLongXorSnippetCarrierValue;
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -972,6 +1691,49 @@ public class ReduceGPUSnippets implements Snippets {
             return snippet;
         }
 
+        /**
+         * Returns the single-pass snippet for the reduction, or null if the
+         * operation has no atomic counterpart. It must accept the same reductions
+         * as
+         * {@link uk.ac.manchester.tornado.runtime.analyzer.ReduceCodeAnalysis#isSinglePassReduction}.
+         */
+        private SnippetInfo inferSinglePassSnippet(JavaKind elementKind, ValueNode value, ValueNode extra) {
+            if (elementKind == JavaKind.Int) {
+                if (value instanceof TornadoReduceAddNode) {
+                    return (extra == null) ? singlePassReduceIntAddSnippet : singlePassReduceIntAddSnippetCarrierValue;
+                } else if (value instanceof OCLIntBinaryIntrinsicNode) {
+                    switch (((OCLIntBinaryIntrinsicNode) value).operation()) {
+                        case MAX:
+                            return (extra == null) ? singlePassReduceIntMaxSnippet : singlePassReduceIntMaxSnippetCarrierValue;
+                        case MIN:
+                            return (extra == null) ? singlePassReduceIntMinSnippet : singlePassReduceIntMinSnippetCarrierValue;
+                        default:
+                            return null;
+                    }
+                } else if (value instanceof OrNode) {
+                    return (extra == null) ? singlePassReduceIntOrSnippet : singlePassReduceIntOrSnippetCarrierValue;
+                } else if (value instanceof AndNode) {
+                    return (extra == null) ? singlePassReduceIntAndSnippet : singlePassReduceIntAndSnippetCarrierValue;
+                } else if (value instanceof XorNode) {
+                    return (extra == null) ? singlePassReduceIntXorSnippet : singlePassReduceIntXorSnippetCarrierValue;
+                }
+            } else if (elementKind == JavaKind.Float) {
+                if (value instanceof TornadoReduceAddNode) {
+                    return (extra == null) ? singlePassReduceFloatAddSnippet : singlePassReduceFloatAddSnippetCarrierValue;
+                } else if (value instanceof OCLFPBinaryIntrinsicNode) {
+                    switch (((OCLFPBinaryIntrinsicNode) value).operation()) {
+                        case FMAX:
+                            return (extra == null) ? singlePassReduceFloatMaxSnippet : singlePassReduceFloatMaxSnippetCarrierValue;
+                        case FMIN:
+                            return (extra == null) ? singlePassReduceFloatMinSnippet : singlePassReduceFloatMinSnippetCarrierValue;
+                        default:
+                            return null;
+                    }
+                }
+            }
+            return null;
+        }
+
         public void lower(StoreAtomicIndexedNode storeAtomicIndexed, ValueNode globalId, GlobalThreadSizeNode globalSize, LoweringTool tool) {
 
             StructuredGraph graph = storeAtomicIndexed.graph();
@@ -979,7 +1741,13 @@ public class ReduceGPUSnippets implements Snippets {
             ValueNode value = storeAtomicIndexed.value();
             ValueNode extra = storeAtomicIndexed.getExtraOperation();
 
-            SnippetInfo snippet = getSnippetInstance(elementKind, value, extra);
+            SnippetInfo snippet = null;
+            if (TornadoOptions.REDUCE_SINGLE_PASS) {
+                snippet = inferSinglePassSnippet(elementKind, value, extra);
+            }
+            if (snippet == null) {
+                snippet = getSnippetInstance(elementKind, value, extra);
+            }
 
             Arguments args = new Arguments(snippet, graph.getGuardsStage(), tool.getLoweringStage());
             args.add("inputData", storeAtomicIndexed.getInputArray());
@@ -206,7 +206,7 @@ public abstract class OCLArrayWrapper<T> implements ObjectBuffer {
             // buffer
             final int headerEvent;
             if (batchSize <= 0) {
-                headerEvent = buildArrayHeader(Array.getLength(array)).enqueueWrite((useDeps) ? events : null);
+                headerEvent = buildArrayHeader(lengthOf(array)).enqueueWrite((useDeps) ? events : null);
             } else {
                 headerEvent = buildArrayHeaderBatch(batchSize).enqueueWrite((useDeps) ? events : null);
             }
@@ -313,10 +313,34 @@ public abstract class OCLArrayWrapper<T> implements ObjectBuffer {
         return -1;
     }
 
+    @Override
+    public int read(final Object value, long hostOffset, long partialReadSize, int[] events, boolean useDeps) {
+        if (partialReadSize <= 0) {
+            return read(value, hostOffset, events, useDeps);
+        }
+        final T array = cast(value);
+        if (array == null) {
+            throw new TornadoRuntimeException("[ERROR] output data is NULL");
+        }
+        final long bytes = Math.min(partialReadSize, bytesToAllocate - arrayHeaderSize - hostOffset);
+        return readArrayData(toBuffer(), bufferOffset + arrayHeaderSize + hostOffset, bytes, array, hostOffset, (useDeps) ? events : null);
+    }
+
     abstract protected int readArrayData(long bufferId, long offset, long bytes, T value, long hostOffset, int[] waitEvents);
 
+    /**
+     * Returns the number of elements of the given host array.
+     *
+     * @param array
+     *            Host array
+     * @return number of elements
+     */
+    protected int lengthOf(final T array) {
+        return Array.getLength(array);
+    }
+
     private long sizeOf(final T array) {
-        return (long) arrayHeaderSize + ((long) Array.getLength(array) * (long) kind.getByteCount());
+        return (long) arrayHeaderSize + ((long) lengthOf(array) * (long) kind.getByteCount());
     }
 
     private long sizeOfBatch(long batchSize) {
@@ -357,9 +381,9 @@ public abstract class OCLArrayWrapper<T> implements ObjectBuffer {
         final OCLByteBuffer header = prepareArrayHeader();
         header.read();
         final int numElements = header.getInt(arrayLengthOffset);
-        final boolean valid = numElements == Array.getLength(array);
+        final boolean valid = numElements == lengthOf(array);
         if (!valid) {
-            fatal("Array: expected=%d, got=%d", Array.getLength(array), numElements);
+            fatal("Array: expected=%d, got=%d", lengthOf(array), numElements);
             header.dump(8);
         }
         return valid;
@@ -371,7 +395,7 @@ public abstract class OCLArrayWrapper<T> implements ObjectBuffer {
         if (array == null) {
             throw new TornadoRuntimeException("[ERROR] data is NULL");
         }
-        buildArrayHeader(Array.getLength(array)).write();
+        buildArrayHeader(lengthOf(array)).write();
         // TODO: Writing with offset != 0
         writeArrayData(toBuffer(), bufferOffset + arrayHeaderSize, bytesToAllocate - arrayHeaderSize, array, 0, null);
         onDevice = true;
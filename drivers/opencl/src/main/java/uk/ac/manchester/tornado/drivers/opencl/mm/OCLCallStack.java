@@ -125,11 +125,23 @@ public class OCLCallStack extends OCLByteBuffer implements CallStack {
     public void setHeader(HashMap<Integer, Integer> map) {
         buffer.clear();
         for (int i = 0; i < RESERVED_SLOTS; i++) {
-            if (map.containsKey(i)) {
-                buffer.putLong(map.get(i));
-            } else {
-                buffer.putLong(0);
-            }
+            Integer value = map.get(i);
+            putSlot((value != null) ? value : 0);
+        }
+    }
+
+    /**
+     * Writes a slot of the stack. The stack keeps the values of the previous
+     * launch, so it only has to be copied again to the device when a value
+     * changes.
+     */
+    private void putSlot(long value) {
+        final int position = buffer.position();
+        if (buffer.getLong(position) != value) {
+            buffer.putLong(value);
+            onDevice = false;
+        } else {
+            buffer.position(position + Long.BYTES);
         }
     }
 
@@ -139,32 +151,69 @@ public class OCLCallStack extends OCLByteBuffer implements CallStack {
             if (DEBUG) {
                 debug("arg : (null)");
             }
-            buffer.putLong(0);
+            putSlot(0);
         } else if (isBoxedPrimitive(arg) || arg.getClass().isPrimitive()) {
             if (DEBUG) {
                 debug("arg : type=%s, value=%s", arg.getClass().getName(), arg.toString());
             }
+            final int position = buffer.position();
+            final long previous = buffer.getLong(position);
             PrimitiveSerialiser.put(buffer, arg, 8);
+            if (buffer.getLong(position) != previous) {
+                onDevice = false;
+            }
         } else {
             shouldNotReachHere();
         }
     }
 
+    @Override
+    public void push(int arg) {
+        final int position = buffer.position();
+        final long previous = buffer.getLong(position);
+        buffer.putInt(arg);
+        buffer.putInt(0);
+        if (buffer.getLong(position) != previous) {
+            onDevice = false;
+        }
+    }
+
+    @Override
+    public void push(long arg) {
+        putSlot(arg);
+    }
+
+    @Override
+    public void push(float arg) {
+        final int position = buffer.position();
+        final long previous = buffer.getLong(position);
+        buffer.putFloat(arg);
+        buffer.putInt(0);
+        if (buffer.getLong(position) != previous) {
+            onDevice = false;
+        }
+    }
+
+    @Override
+    public void push(double arg) {
+        putSlot(Double.doubleToRawLongBits(arg));
+    }
+
     @Override
     public void push(Object arg, DeviceObjectState state) {
         if (arg == null) {
             if (DEBUG) {
                 debug("arg : (null)");
             }
-            buffer.putLong(0);
+            putSlot(0);
         } else {
             if (DEBUG) {
                 debug("arg : [0x%x] type=%s, value=%s, address=0x%x (0x%x)", arg.hashCode(), arg.getClass().getSimpleName(), arg, state.getAddress(), state.getOffset());
             }
             if (deviceContext.useRelativeAddresses()) {
-                buffer.putLong(state.getOffset());
+                putSlot(state.getOffset());
             } else {
-                buffer.putLong(state.getAddress());
+                putSlot(state.getAddress());
             }
         }
     }
@@ -367,6 +367,12 @@ public class OCLObjectWrapper implements ObjectBuffer {
         return event;
     }
 
+    @Override
+    public int read(Object object, long hostOffset, long partialReadSize, int[] events, boolean useDeps) {
+        // Objects are always deserialised as a whole
+        return read(object, hostOffset, events, useDeps);
+    }
+
     @Override
     public long toAbsoluteAddress() {
         return (vectorObject) ? getVectorAddress(false) : deviceContext.getMemoryManager().toAbsoluteDeviceAddress(bufferOffset);
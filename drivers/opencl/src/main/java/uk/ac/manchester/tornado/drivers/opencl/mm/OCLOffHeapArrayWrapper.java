@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.mm;
+
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapArray;
+import uk.ac.manchester.tornado.drivers.opencl.OCLDeviceContext;
+
+/**
+ * Device buffer for {@link OffHeapArray} objects. On the device the data is
+ * laid out as a Java array of the given kind, so kernels access it with plain
+ * array loads and stores. Transfers copy straight from the direct buffer that
+ * backs the array.
+ */
+public class OCLOffHeapArrayWrapper extends OCLArrayWrapper<OffHeapArray> {
+
+    public OCLOffHeapArrayWrapper(OCLDeviceContext deviceContext, JavaKind kind, long batchSize) {
+        super(deviceContext, kind, false, batchSize);
+    }
+
+    @Override
+    protected int lengthOf(OffHeapArray array) {
+        return array.size();
+    }
+
+    @Override
+    protected int readArrayData(long bufferId, long offset, long bytes, OffHeapArray value, long hostOffset, int[] waitEvents) {
+        return deviceContext.readBuffer(bufferId, offset, bytes, value.getSegment(), hostOffset, waitEvents);
+    }
+
+    @Override
+    protected void writeArrayData(long bufferId, long offset, long bytes, OffHeapArray value, long hostOffset, int[] waitEvents) {
+        deviceContext.writeBuffer(bufferId, offset, bytes, value.getSegment(), hostOffset, waitEvents);
+    }
+
+    @Override
+    protected int enqueueReadArrayData(long bufferId, long offset, long bytes, OffHeapArray value, long hostOffset, int[] waitEvents) {
+        return deviceContext.enqueueReadBuffer(bufferId, offset, bytes, value.getSegment(), hostOffset, waitEvents);
+    }
+
+    @Override
+    protected int enqueueWriteArrayData(long bufferId, long offset, long bytes, OffHeapArray value, long hostOffset, int[] waitEvents) {
+        return deviceContext.enqueueWriteBuffer(bufferId, offset, bytes, value.getSegment(), hostOffset, waitEvents);
+    }
+
+}
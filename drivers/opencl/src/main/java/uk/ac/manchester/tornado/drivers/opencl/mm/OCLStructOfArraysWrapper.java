@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.mm;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.opencl.OCLDeviceContext;
+import uk.ac.manchester.tornado.runtime.common.StructOfArraysBuffer;
+import uk.ac.manchester.tornado.runtime.common.StructOfArraysLayout;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Device buffer for arrays of small value objects, stored as a struct of
+ * arrays (see {@link StructOfArraysLayout}). The buffer is allocated as a byte
+ * array whose header records the size of the columns in bytes. Kernels never
+ * read it, since the length of an array argument is specialised to a constant.
+ *
+ * The fields of every element are gathered into a direct staging buffer before
+ * they are written to the device. Only the columns of the fields written by the
+ * tasks launched since the last write are copied back, as recorded in their
+ * {@link TaskMetaData}. All columns are copied back when those fields are
+ * unknown.
+ */
+public class OCLStructOfArraysWrapper extends OCLArrayWrapper<Object[]> implements StructOfArraysBuffer {
+
+    private final StructOfArraysLayout layout;
+    private ByteBuffer staging;
+
+    /*
+     * Columns written by the tasks launched since the last write to the device,
+     * or null if no task has been reported.
+     */
+    private boolean[] writtenColumns;
+
+    public OCLStructOfArraysWrapper(OCLDeviceContext deviceContext, Class<?> elementType, long batchSize) {
+        super(deviceContext, JavaKind.Byte, false, batchSize);
+        this.layout = StructOfArraysLayout.get(elementType);
+    }
+
+    @Override
+    public void addWriter(TaskMetaData meta, int parameter) {
+        final boolean[] fields = meta.getWrittenFields(parameter);
+        final boolean known = fields != null && fields.length == layout.getNumFields();
+        if (writtenColumns == null) {
+            writtenColumns = new boolean[layout.getNumFields()];
+        }
+        for (int f = 0; f < writtenColumns.length; f++) {
+            writtenColumns[f] |= !known || fields[f];
+        }
+    }
+
+    private boolean isWritten(int index) {
+        return writtenColumns == null || writtenColumns[index];
+    }
+
+    @Override
+    protected int lengthOf(Object[] array) {
+        return (int) layout.getDataSize(array.length);
+    }
+
+    private ByteBuffer getStaging(Object[] array) {
+        final int size = lengthOf(array);
+        if (staging == null || staging.capacity() != size) {
+            staging = ByteBuffer.allocateDirect(size).order(ByteOrder.nativeOrder());
+        }
+        return staging;
+    }
+
+    private void gather(Object[] array) {
+        final ByteBuffer buffer = getStaging(array);
+        writtenColumns = null;
+        try {
+            for (int f = 0; f < layout.getNumFields(); f++) {
+                final Field field = layout.getField(f);
+                final JavaKind kind = layout.getKind(f);
+                int position = (int) layout.getColumnOffset(f, array.length);
+                for (Object element : array) {
+                    if (element == null) {
+                        throw new TornadoRuntimeException("[ERROR] null element in array of " + layout.getElementType().getName());
+                    }
+                    putField(buffer, position, kind, field, element);
+                    position += kind.getByteCount();
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new TornadoRuntimeException(e);
+        }
+    }
+
+    private void scatter(Object[] array, int index) {
+        final ByteBuffer buffer = getStaging(array);
+        final Field field = layout.getField(index);
+        final JavaKind kind = layout.getKind(index);
+        int position = (int) layout.getColumnOffset(index, array.length);
+        try {
+            for (Object element : array) {
+                getField(buffer, position, kind, field, element);
+                position += kind.getByteCount();
+            }
+        } catch (IllegalAccessException e) {
+            throw new TornadoRuntimeException(e);
+        }
+    }
+
+    private static void putField(ByteBuffer buffer, int position, JavaKind kind, Field field, Object element) throws IllegalAccessException {
+        switch (kind) {
+            case Byte:
+                buffer.put(position, field.getByte(element));
+                break;
+            case Char:
+                buffer.putChar(position, field.getChar(element));
+                break;
+            case Short:
+                buffer.putShort(position, field.getShort(element));
+                break;
+            case Int:
+                buffer.putInt(position, field.getInt(element));
+                break;
+            case Long:
+                buffer.putLong(position, field.getLong(element));
+                break;
+            case Float:
+                buffer.putFloat(position, field.getFloat(element));
+                break;
+            case Double:
+                buffer.putDouble(position, field.getDouble(element));
+                break;
+            default:
+                throw new TornadoRuntimeException("[ERROR] unsupported field kind: " + kind);
+        }
+    }
+
+    private static void getField(ByteBuffer buffer, int position, JavaKind kind, Field field, Object element) throws IllegalAccessException {
+        switch (kind) {
+            case Byte:
+                field.setByte(element, buffer.get(position));
+                break;
+            case Char:
+                field.setChar(element, buffer.getChar(position));
+                break;
+            case Short:
+                field.setShort(element, buffer.getShort(position));
+                break;
+            case Int:
+                field.setInt(element, buffer.getInt(position));
+                break;
+            case Long:
+                field.setLong(element, buffer.getLong(position));
+                break;
+            case Float:
+                field.setFloat(element, buffer.getFloat(position));
+                break;
+            case Double:
+                field.setDouble(element, buffer.getDouble(position));
+                break;
+            default:
+                throw new TornadoRuntimeException("[ERROR] unsupported field kind: " + kind);
+        }
+    }
+
+    /*
+     * Reads back the columns of the written fields. The reads are blocking, since
+     * the values are copied into the objects straight after.
+     */
+    private int readColumns(long bufferId, long offset, Object[] array, int[] waitEvents) {
+        final ByteBuffer buffer = getStaging(array);
+        int event = -1;
+        for (int f = 0; f < layout.getNumFields(); f++) {
+            if (isWritten(f)) {
+                final long column = layout.getColumnOffset(f, array.length);
+                event = deviceContext.readBuffer(bufferId, offset + column, layout.getColumnSize(f, array.length), buffer, column, waitEvents);
+                scatter(array, f);
+            }
+        }
+        return event;
+    }
+
+    @Override
+    protected int readArrayData(long bufferId, long offset, long bytes, Object[] value, long hostOffset, int[] waitEvents) {
+        return readColumns(bufferId, offset, value, waitEvents);
+    }
+
+    @Override
+    protected void writeArrayData(long bufferId, long offset, long bytes, Object[] value, long hostOffset, int[] waitEvents) {
+        gather(value);
+        deviceContext.writeBuffer(bufferId, offset, bytes, staging, 0, waitEvents);
+    }
+
+    @Override
+    protected int enqueueReadArrayData(long bufferId, long offset, long bytes, Object[] value, long hostOffset, int[] waitEvents) {
+        return readColumns(bufferId, offset, value, waitEvents);
+    }
+
+    @Override
+    protected int enqueueWriteArrayData(long bufferId, long offset, long bytes, Object[] value, long hostOffset, int[] waitEvents) {
+        gather(value);
+        return deviceContext.enqueueWriteBuffer(bufferId, offset, bytes, staging, 0, waitEvents);
+    }
+
+}
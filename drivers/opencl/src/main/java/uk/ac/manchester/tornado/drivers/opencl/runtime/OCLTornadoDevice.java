@@ -34,9 +34,14 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
+import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.meta.ResolvedJavaMethod;
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.api.common.Event;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapArray;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapDoubleArray;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapFloatArray;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapIntArray;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
 import uk.ac.manchester.tornado.api.enums.TornadoDeviceType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
@@ -71,12 +76,15 @@ import uk.ac.manchester.tornado.drivers.opencl.mm.OCLLongArrayWrapper;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLMemoryManager;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLMultiDimArrayWrapper;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLObjectWrapper;
+import uk.ac.manchester.tornado.drivers.opencl.mm.OCLOffHeapArrayWrapper;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLShortArrayWrapper;
+import uk.ac.manchester.tornado.drivers.opencl.mm.OCLStructOfArraysWrapper;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.common.CallStack;
 import uk.ac.manchester.tornado.runtime.common.DeviceBuffer;
 import uk.ac.manchester.tornado.runtime.common.DeviceObjectState;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
+import uk.ac.manchester.tornado.runtime.common.StructOfArraysLayout;
 import uk.ac.manchester.tornado.runtime.common.Tornado;
 import uk.ac.manchester.tornado.runtime.common.TornadoAcceleratorDevice;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -266,6 +274,22 @@ public class OCLTornadoDevice implements TornadoAcceleratorDevice {
         }
     }
 
+    @Override
+    public String compileToSource(SchedulableTask task) {
+        final CompilableTask executable = (CompilableTask) task;
+        final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(executable.getMethod());
+        final Sketch sketch = TornadoSketcher.lookup(resolvedMethod, task.meta().getDriverIndex(), task.meta().getDeviceIndex());
+
+        // copy meta data into task
+        final Access[] sketchAccess = sketch.getMeta().getArgumentsAccess();
+        final Access[] taskAccess = executable.meta().getArgumentsAccess();
+        System.arraycopy(sketchAccess, 0, taskAccess, 0, sketchAccess.length);
+
+        OCLProviders providers = (OCLProviders) getBackend().getProviders();
+        final OCLCompilationResult result = OCLCompiler.compileSketchForDevice(sketch, executable, providers, getBackend());
+        return new String(result.getTargetCode());
+    }
+
     private TornadoInstalledCode compilePreBuiltTask(SchedulableTask task) {
         final OCLDeviceContext deviceContext = getDeviceContext();
         final PrebuiltTask executable = (PrebuiltTask) task;
@@ -427,11 +451,27 @@ public class OCLTornadoDevice implements TornadoAcceleratorDevice {
         return result;
     }
 
+    private ObjectBuffer createOffHeapArrayWrapper(Class<?> type, OCLDeviceContext device, long batchSize) {
+        ObjectBuffer result = null;
+        if (type == OffHeapFloatArray.class) {
+            result = new OCLOffHeapArrayWrapper(device, JavaKind.Float, batchSize);
+        } else if (type == OffHeapIntArray.class) {
+            result = new OCLOffHeapArrayWrapper(device, JavaKind.Int, batchSize);
+        } else if (type == OffHeapDoubleArray.class) {
+            result = new OCLOffHeapArrayWrapper(device, JavaKind.Double, batchSize);
+        } else {
+            TornadoInternalError.unimplemented("off-heap array of type %s", type.getName());
+        }
+        return result;
+    }
+
     private ObjectBuffer createDeviceBuffer(Class<?> type, Object arg, OCLDeviceContext device, long batchSize) {
         ObjectBuffer result = null;
         if (type.isArray()) {
 
-            if (!type.getComponentType().isArray()) {
+            if (StructOfArraysLayout.isSupported(type)) {
+                result = new OCLStructOfArraysWrapper(device, type.getComponentType(), batchSize);
+            } else if (!type.getComponentType().isArray()) {
                 result = createArrayWrapper(type, device, batchSize);
             } else {
                 final Class<?> componentType = type.getComponentType();
@@ -442,6 +482,8 @@ public class OCLTornadoDevice implements TornadoAcceleratorDevice {
                 }
             }
 
+        } else if (OffHeapArray.class.isAssignableFrom(type)) {
+            result = createOffHeapArrayWrapper(type, device, batchSize);
         } else if (!type.isPrimitive() && !type.isArray()) {
             result = new OCLObjectWrapper(device, arg, batchSize);
         }
@@ -546,6 +588,12 @@ public class OCLTornadoDevice implements TornadoAcceleratorDevice {
         return state.getBuffer().read(object, hostOffset, events, events == null);
     }
 
+    @Override
+    public int streamOutBlocking(Object object, long hostOffset, long partialCopySize, TornadoDeviceObjectState state, int[] events) {
+        TornadoInternalError.guarantee(state.isValid(), "invalid variable");
+        return state.getBuffer().read(object, hostOffset, partialCopySize, events, events == null);
+    }
+
     public void sync(Object... objects) {
         for (Object obj : objects) {
             sync(obj);
@@ -0,0 +1,152 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.tests;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import uk.ac.manchester.tornado.runtime.autotuner.TuningConfiguration;
+import uk.ac.manchester.tornado.runtime.autotuner.TuningDatabase;
+import uk.ac.manchester.tornado.runtime.autotuner.WorkGroupSearch;
+
+/**
+ * Test the search of the auto-tuner with synthetic cost functions, without
+ * running any kernel, and the persistence of the tuning database.
+ *
+ * How to run:
+ *
+ * <code>
+ *     tornado uk.ac.manchester.tornado.drivers.opencl.tests.TestAutoTuner
+ * </code>
+ */
+public class TestAutoTuner {
+
+    private static long log2(long value) {
+        return 63 - Long.numberOfLeadingZeros(value);
+    }
+
+    private static long threads(TuningConfiguration configuration) {
+        long[] local = configuration.getLocalWork();
+        return local[0] * local[1] * local[2];
+    }
+
+    /**
+     * 1D kernel whose synthetic time is minimum with 128 threads per work-group
+     * and a coarsening factor of 4.
+     */
+    private static boolean testSearch1D() {
+        long[] globalWork = { 1 << 20, 1, 1 };
+        TuningConfiguration defaultConfiguration = new TuningConfiguration(new long[] { 256, 1, 1 }, 1);
+        WorkGroupSearch search = new WorkGroupSearch(1, globalWork, new long[] { 1024, 1024, 64 }, 1024, defaultConfiguration, true, 32);
+        TuningConfiguration best = search.search(c -> 5000 + 1000 * Math.abs(log2(threads(c)) - 7) + 300 * Math.abs(log2(c.getCoarseningFactor()) - 2));
+
+        TuningConfiguration expected = new TuningConfiguration(new long[] { 128, 1, 1 }, 4);
+        return expected.equals(best) && search.getNumEvaluations() <= 32;
+    }
+
+    /**
+     * 2D kernel with a small budget: the search must respect the limits of the
+     * device and the budget, and it must not select a configuration slower than
+     * the default one.
+     */
+    private static boolean testSearch2D() {
+        long[] globalWork = { 1000, 1000, 1 };
+        long[] maxWorkItemSizes = { 1024, 64, 64 };
+        long maxWorkGroupSize = 256;
+        TuningConfiguration defaultConfiguration = new TuningConfiguration(new long[] { 8, 8, 1 }, 1);
+        WorkGroupSearch search = new WorkGroupSearch(2, globalWork, maxWorkItemSizes, maxWorkGroupSize, defaultConfiguration, false, 12);
+
+        List<TuningConfiguration> evaluated = new ArrayList<>();
+        TuningConfiguration best = search.search(c -> {
+            evaluated.add(c);
+            long[] local = c.getLocalWork();
+            return 100 + Math.abs(log2(local[0]) - 5) * 10 + Math.abs(log2(local[1]) - 2) * 10;
+        });
+
+        boolean valid = evaluated.size() <= 12 && evaluated.get(0).equals(defaultConfiguration);
+        for (TuningConfiguration configuration : evaluated) {
+            long[] local = configuration.getLocalWork();
+            valid &= threads(configuration) <= maxWorkGroupSize && local[1] <= maxWorkItemSizes[1];
+            // Without padding, work-groups must divide the global work
+            valid &= globalWork[0] % local[0] == 0 && globalWork[1] % local[1] == 0 && configuration.getCoarseningFactor() == 1;
+        }
+        return valid && search.getBestTime() <= 100 + 20;
+    }
+
+    /**
+     * Without padding, a configuration whose work-group does not divide the
+     * global work is rejected and the global work of the scheduler is kept.
+     */
+    private static boolean testPadding() {
+        long[] globalWork = { 1000, 1, 1 };
+        TuningConfiguration divisor = new TuningConfiguration(new long[] { 8, 1, 1 }, 1);
+        TuningConfiguration padded = new TuningConfiguration(new long[] { 64, 1, 1 }, 1);
+        TuningConfiguration coarsened = new TuningConfiguration(new long[] { 8, 1, 1 }, 2);
+
+        boolean valid = divisor.isValidFor(globalWork, 1, false) && !padded.isValidFor(globalWork, 1, false) && !coarsened.isValidFor(globalWork, 1, false);
+        valid &= padded.isValidFor(globalWork, 1, true) && coarsened.isValidFor(globalWork, 1, true);
+        valid &= padded.computeGlobalWork(globalWork, 1, false)[0] == 1000 && padded.computeGlobalWork(globalWork, 1, true)[0] == 1024;
+        valid &= coarsened.computeGlobalWork(globalWork, 1, true)[0] == 504;
+        return valid;
+    }
+
+    private static boolean testDatabase() throws IOException {
+        Path path = Files.createTempDirectory("tornado-autotune").resolve("autotune.db");
+        TuningConfiguration configuration = new TuningConfiguration(new long[] { 64, 4, 1 }, 2);
+        String key = TuningDatabase.createKey(0x1234L, "Test Device 0", new long[] { 1 << 10, 1 << 10, 1 }, 2);
+        new TuningDatabase(path).put(key, configuration);
+
+        TuningDatabase database = new TuningDatabase(path);
+        boolean sameSize = TuningDatabase.createKey(0x1234L, "Test Device 0", new long[] { 1 << 10, 1 << 10, 1 }, 2).equals(key);
+        // Sizes with the same number of threads, or in the same power of two, have different keys
+        boolean otherSize = !TuningDatabase.createKey(0x1234L, "Test Device 0", new long[] { 1 << 11, 1 << 9, 1 }, 2).equals(key)
+                && !TuningDatabase.createKey(0x1234L, "Test Device 0", new long[] { (1 << 10) + 1, 1 << 10, 1 }, 2).equals(key);
+        boolean found = configuration.equals(database.get(key));
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(path.getParent());
+        return found && sameSize && otherSize;
+    }
+
+    public void test() throws IOException {
+        if (!testSearch1D()) {
+            System.out.println(" ................ [FAIL] (1D search)");
+        } else if (!testSearch2D()) {
+            System.out.println(" ................ [FAIL] (2D search)");
+        } else if (!testPadding()) {
+            System.out.println(" ................ [FAIL] (padding)");
+        } else if (!testDatabase()) {
+            System.out.println(" ................ [FAIL] (tuning database)");
+        } else {
+            System.out.println(" ................ [PASS]");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.out.print("Running Native: uk.ac.manchester.tornado.drivers.opencl.tests.TestAutoTuner");
+        new TestAutoTuner().test();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.tests;
+
+import java.lang.reflect.Method;
+
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.drivers.opencl.OCLDriver;
+import uk.ac.manchester.tornado.drivers.opencl.OpenCL;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLInstalledCode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLProviders;
+import uk.ac.manchester.tornado.drivers.opencl.graal.backend.OCLBackend;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResult;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompiler;
+import uk.ac.manchester.tornado.drivers.opencl.runtime.OCLTornadoDevice;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.tasks.meta.ScheduleMetaData;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Test that kernels compiled with the LIR loop-invariant code motion and
+ * common-subexpression elimination ({@code -Dtornado.lir.optimisations=True},
+ * the default) compute the expected results: a matrix-vector multiplication,
+ * whose row offset is invariant in the inner loop, a 3-point stencil that
+ * computes the same indices several times, and a kernel that recomputes in a
+ * branch the indices of a dominating block, so that later expressions use the
+ * copies introduced by the common-subexpression elimination.
+ *
+ * How to run:
+ *
+ * <code>
+ *     tornado uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLLIROptimisations
+ * </code>
+ */
+public class TestOpenCLLIROptimisations {
+
+    private static final int N = 256;
+
+    public static void matrixVector(float[] a, float[] x, float[] y) {
+        for (@Parallel int i = 0; i < N; i++) {
+            float sum = 0.0f;
+            for (int j = 0; j < N; j++) {
+                sum += a[i * N + j] * x[j];
+            }
+            y[i] = sum;
+        }
+    }
+
+    public static void stencil(float[] a, float[] x, float[] y) {
+        for (@Parallel int i = 1; i < N - 1; i++) {
+            y[i] = a[i - 1] * x[i - 1] + a[i] * x[i] + a[i + 1] * x[i + 1];
+        }
+    }
+
+    public static void clamp(float[] a, float[] x, float[] y) {
+        for (@Parallel int i = 0; i < N; i++) {
+            int row = i * N;
+            float value = a[row + i] * x[i];
+            if (value > 10.0f) {
+                value = a[row + i] + x[i] + a[row + N - 1 - i];
+            }
+            y[i] = value;
+        }
+    }
+
+    private static void compileAndRun(String kernel, float[] a, float[] x, float[] y) {
+        Method method = null;
+        for (Method m : TestOpenCLLIROptimisations.class.getMethods()) {
+            if (m.getName().equals(kernel)) {
+                method = m;
+            }
+        }
+
+        TornadoCoreRuntime tornadoRuntime = TornadoCoreRuntime.getTornadoRuntime();
+        ResolvedJavaMethod resolvedJavaMethod = tornadoRuntime.resolveMethod(method);
+        OCLBackend openCLBackend = tornadoRuntime.getDriver(OCLDriver.class).getDefaultBackend();
+        OCLTornadoDevice tornadoDevice = OpenCL.defaultDevice();
+
+        TaskMetaData taskMeta = TaskMetaData.create(new ScheduleMetaData("S0"), method.getName(), method, false);
+        taskMeta.setDevice(tornadoDevice);
+
+        OCLCompilationResult compilationResult = OCLCompiler.compileCodeForDevice(resolvedJavaMethod, new Object[] { a, x, y }, taskMeta, (OCLProviders) openCLBackend.getProviders(), openCLBackend);
+        OCLInstalledCode openCLCode = tornadoDevice.getDeviceContext().installCode(compilationResult);
+        OpenCL.run(tornadoDevice, openCLCode, taskMeta, new Access[] { Access.READ, Access.READ, Access.WRITE }, a, x, y);
+    }
+
+    private static boolean check(float[] expected, float[] result) {
+        for (int i = 0; i < expected.length; i++) {
+            if (Math.abs(expected[i] - result[i]) > 0.01f * Math.max(1.0f, Math.abs(expected[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void test() {
+        float[] a = new float[N * N];
+        float[] x = new float[N];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = (i % 17) * 0.5f;
+        }
+        for (int i = 0; i < N; i++) {
+            x[i] = (i % 5) + 1.0f;
+        }
+
+        float[] y = new float[N];
+        float[] expected = new float[N];
+        compileAndRun("matrixVector", a, x, y);
+        matrixVector(a, x, expected);
+        boolean correct = check(expected, y);
+
+        y = new float[N];
+        expected = new float[N];
+        compileAndRun("stencil", a, x, y);
+        stencil(a, x, expected);
+        correct &= check(expected, y);
+
+        y = new float[N];
+        expected = new float[N];
+        compileAndRun("clamp", a, x, y);
+        clamp(a, x, expected);
+        correct &= check(expected, y);
+
+        if (correct) {
+            System.out.println(" ................ [PASS]");
+        } else {
+            System.out.println(" ................ [FAIL]");
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.print("Running Native: uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLLIROptimisations");
+        new TestOpenCLLIROptimisations().test();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.tests;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.drivers.opencl.OCLDriver;
+import uk.ac.manchester.tornado.drivers.opencl.OpenCL;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLInstalledCode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLProviders;
+import uk.ac.manchester.tornado.drivers.opencl.graal.backend.OCLBackend;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResult;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompiler;
+import uk.ac.manchester.tornado.drivers.opencl.runtime.OCLTornadoDevice;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.tasks.meta.ScheduleMetaData;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Test the local memory tiling of the OpenCL JIT compiler with a matrix
+ * multiplication. The generated kernel must declare the tiles in local memory
+ * and synchronise them with barriers. The kernels whose inner loop is under a
+ * thread-dependent condition, or whose read-only array aliases the output,
+ * must not be tiled.
+ *
+ * How to run:
+ *
+ * <code>
+ *     tornado -Dtornado.experimental.tiling=True uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLLocalMemoryTiling
+ * </code>
+ */
+public class TestOpenCLLocalMemoryTiling {
+
+    private static final int N = 256;
+
+    public static void matrixMultiplication(float[] a, float[] b, float[] c) {
+        for (@Parallel int i = 0; i < N; i++) {
+            for (@Parallel int j = 0; j < N; j++) {
+                float sum = 0.0f;
+                for (int k = 0; k < N; k++) {
+                    sum += a[i * N + k] * b[k * N + j];
+                }
+                c[i * N + j] = sum;
+            }
+        }
+    }
+
+    public static void guardedMatrixMultiplication(float[] a, float[] b, float[] c) {
+        for (@Parallel int i = 0; i < N; i++) {
+            for (@Parallel int j = 0; j < N; j++) {
+                if (a[i * N + j] > 0.5f) {
+                    float sum = 0.0f;
+                    for (int k = 0; k < N; k++) {
+                        sum += a[i * N + k] * b[k * N + j];
+                    }
+                    c[i * N + j] = sum;
+                }
+            }
+        }
+    }
+
+    private static boolean isTiled(OCLCompilationResult compilationResult) {
+        String source = new String(compilationResult.getTargetCode());
+        return source.contains("__local") && source.contains("barrier(");
+    }
+
+    private static OCLCompilationResult compile(String kernel, TaskMetaData taskMeta, Object... args) {
+        Method method = null;
+        for (Method m : TestOpenCLLocalMemoryTiling.class.getMethods()) {
+            if (m.getName().equals(kernel)) {
+                method = m;
+            }
+        }
+
+        TornadoCoreRuntime tornadoRuntime = TornadoCoreRuntime.getTornadoRuntime();
+        ResolvedJavaMethod resolvedJavaMethod = tornadoRuntime.resolveMethod(method);
+        OCLBackend openCLBackend = tornadoRuntime.getDriver(OCLDriver.class).getDefaultBackend();
+        return OCLCompiler.compileCodeForDevice(resolvedJavaMethod, args, taskMeta, (OCLProviders) openCLBackend.getProviders(), openCLBackend);
+    }
+
+    private static TaskMetaData createMeta(String kernel, OCLTornadoDevice tornadoDevice) {
+        TaskMetaData taskMeta = new TaskMetaData(new ScheduleMetaData("S0"), kernel, 3);
+        taskMeta.setDevice(tornadoDevice);
+        return taskMeta;
+    }
+
+    public void test() {
+        float[] a = new float[N * N];
+        float[] b = new float[N * N];
+        float[] c = new float[N * N];
+
+        Random random = new Random(7);
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextFloat();
+            b[i] = random.nextFloat();
+        }
+
+        OCLTornadoDevice tornadoDevice = OpenCL.defaultDevice();
+        TaskMetaData taskMeta = createMeta("matrixMultiplication", tornadoDevice);
+        OCLCompilationResult compilationResult = compile("matrixMultiplication", taskMeta, a, b, c);
+        boolean tiled = isTiled(compilationResult);
+
+        OCLInstalledCode openCLCode = tornadoDevice.getDeviceContext().installCode(compilationResult);
+        OpenCL.run(tornadoDevice, openCLCode, taskMeta, new Access[] { Access.READ, Access.READ, Access.WRITE }, a, b, c);
+
+        boolean correct = true;
+        for (int i = 0; i < N && correct; i++) {
+            for (int j = 0; j < N; j++) {
+                float sum = 0.0f;
+                for (int k = 0; k < N; k++) {
+                    sum += a[i * N + k] * b[k * N + j];
+                }
+                if (Math.abs(c[i * N + j] - sum) > 0.01f) {
+                    correct = false;
+                    break;
+                }
+            }
+        }
+
+        // The barriers would be divergent: only some threads enter the inner loop
+        boolean guardedTiled = isTiled(compile("guardedMatrixMultiplication", createMeta("guardedMatrixMultiplication", tornadoDevice), a, b, c));
+
+        // The tiles of b would keep stale values of c
+        boolean aliasedTiled = isTiled(compile("matrixMultiplication", createMeta("aliasedMatrixMultiplication", tornadoDevice), a, c, c));
+
+        if (!correct || !tiled || guardedTiled || aliasedTiled) {
+            System.out.println(" ................ [FAIL]" + (tiled ? "" : " (kernel not tiled)") + (guardedTiled ? " (guarded kernel tiled)" : "") + (aliasedTiled ? " (aliased kernel tiled)" : ""));
+        } else {
+            System.out.println(" ................ [PASS]");
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.print("Running Native: uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLLocalMemoryTiling");
+        new TestOpenCLLocalMemoryTiling().test();
+    }
+}
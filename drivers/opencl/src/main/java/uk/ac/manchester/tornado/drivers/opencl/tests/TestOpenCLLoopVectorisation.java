@@ -0,0 +1,118 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.tests;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.drivers.opencl.OCLDriver;
+import uk.ac.manchester.tornado.drivers.opencl.OpenCL;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLInstalledCode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLProviders;
+import uk.ac.manchester.tornado.drivers.opencl.graal.backend.OCLBackend;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResult;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompiler;
+import uk.ac.manchester.tornado.drivers.opencl.runtime.OCLTornadoDevice;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.tasks.meta.ScheduleMetaData;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Test the loop vectorisation of the OpenCL JIT compiler with a saxpy kernel.
+ * The size of the arrays is not a multiple of the vector width, so the
+ * generated kernel must use vector loads and stores and process the last
+ * elements with scalar accesses.
+ *
+ * How to run:
+ *
+ * <code>
+ *     tornado -Dtornado.experimental.vectorisation=True -Dtornado.experimental.vectorisation.width=4 uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLLoopVectorisation
+ * </code>
+ */
+public class TestOpenCLLoopVectorisation {
+
+    private static final int N = 1027;
+
+    public static void saxpy(float[] x, float[] y, float[] z) {
+        for (@Parallel int i = 0; i < z.length; i++) {
+            z[i] = 2.0f * x[i] + y[i];
+        }
+    }
+
+    public void test() {
+        float[] x = new float[N];
+        float[] y = new float[N];
+        float[] z = new float[N];
+
+        Random random = new Random(7);
+        for (int i = 0; i < N; i++) {
+            x[i] = random.nextFloat();
+            y[i] = random.nextFloat();
+        }
+
+        Method method = null;
+        for (Method m : TestOpenCLLoopVectorisation.class.getMethods()) {
+            if (m.getName().equals("saxpy")) {
+                method = m;
+            }
+        }
+
+        TornadoCoreRuntime tornadoRuntime = TornadoCoreRuntime.getTornadoRuntime();
+        ResolvedJavaMethod resolvedJavaMethod = tornadoRuntime.resolveMethod(method);
+        OCLBackend openCLBackend = tornadoRuntime.getDriver(OCLDriver.class).getDefaultBackend();
+        OCLTornadoDevice tornadoDevice = OpenCL.defaultDevice();
+
+        TaskMetaData taskMeta = TaskMetaData.create(new ScheduleMetaData("S0"), method.getName(), method, false);
+        taskMeta.setDevice(tornadoDevice);
+
+        OCLCompilationResult compilationResult = OCLCompiler.compileCodeForDevice(resolvedJavaMethod, new Object[] { x, y, z }, taskMeta, (OCLProviders) openCLBackend.getProviders(), openCLBackend);
+        String source = new String(compilationResult.getTargetCode());
+        boolean vectorised = source.contains("vload") && source.contains("vstore");
+
+        OCLInstalledCode openCLCode = tornadoDevice.getDeviceContext().installCode(compilationResult);
+        OpenCL.run(tornadoDevice, openCLCode, taskMeta, new Access[] { Access.READ, Access.READ, Access.WRITE }, x, y, z);
+
+        boolean correct = true;
+        for (int i = 0; i < N; i++) {
+            if (Math.abs(z[i] - (2.0f * x[i] + y[i])) > 0.001f) {
+                correct = false;
+                break;
+            }
+        }
+
+        if (!correct || !vectorised) {
+            System.out.println(" ................ [FAIL]" + (vectorised ? "" : " (kernel not vectorised)"));
+        } else {
+            System.out.println(" ................ [PASS]");
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.print("Running Native: uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLLoopVectorisation");
+        new TestOpenCLLoopVectorisation().test();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.tests;
+
+import java.lang.reflect.Method;
+
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.drivers.opencl.OCLDriver;
+import uk.ac.manchester.tornado.drivers.opencl.OpenCL;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLProviders;
+import uk.ac.manchester.tornado.drivers.opencl.graal.backend.OCLBackend;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResult;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompiler;
+import uk.ac.manchester.tornado.drivers.opencl.runtime.OCLTornadoDevice;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.tasks.meta.ScheduleMetaData;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Test that the OpenCL JIT compiler loads read-only arguments through
+ * {@code const} pointers, and that it does not when a read-only argument is
+ * also passed as the output of the same task.
+ *
+ * How to run:
+ *
+ * <code>
+ *     tornado uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLReadOnlyArguments
+ * </code>
+ */
+public class TestOpenCLReadOnlyArguments {
+
+    private static final int N = 1024;
+
+    public static void saxpy(float alpha, float[] x, float[] y, float[] z) {
+        for (@Parallel int i = 0; i < z.length; i++) {
+            z[i] = alpha * x[i] + y[i];
+        }
+    }
+
+    private static String compile(Object[] args, Access[] accesses) {
+        Method method = null;
+        for (Method m : TestOpenCLReadOnlyArguments.class.getMethods()) {
+            if (m.getName().equals("saxpy")) {
+                method = m;
+            }
+        }
+
+        TornadoCoreRuntime tornadoRuntime = TornadoCoreRuntime.getTornadoRuntime();
+        ResolvedJavaMethod resolvedJavaMethod = tornadoRuntime.resolveMethod(method);
+        OCLBackend openCLBackend = tornadoRuntime.getDriver(OCLDriver.class).getDefaultBackend();
+        OCLTornadoDevice tornadoDevice = OpenCL.defaultDevice();
+
+        TaskMetaData taskMeta = TaskMetaData.create(new ScheduleMetaData("S0"), method.getName(), method, false);
+        taskMeta.setDevice(tornadoDevice);
+        System.arraycopy(accesses, 0, taskMeta.getArgumentsAccess(), 0, accesses.length);
+
+        OCLCompilationResult compilationResult = OCLCompiler.compileCodeForDevice(resolvedJavaMethod, args, taskMeta, (OCLProviders) openCLBackend.getProviders(), openCLBackend);
+        return new String(compilationResult.getTargetCode());
+    }
+
+    public void test() {
+        float[] x = new float[N];
+        float[] y = new float[N];
+        float[] z = new float[N];
+        Access[] accesses = new Access[] { Access.READ, Access.READ, Access.READ, Access.WRITE };
+
+        String readOnlySource = compile(new Object[] { 2.0f, x, y, z }, accesses);
+        String aliasedSource = compile(new Object[] { 2.0f, z, z, z }, accesses);
+
+        boolean constLoads = readOnlySource.contains("const __global");
+        boolean aliasedConstLoads = aliasedSource.contains("const __global");
+
+        if (!constLoads) {
+            System.out.println(" ................ [FAIL] (read-only arguments are not loaded through const pointers)");
+        } else if (aliasedConstLoads) {
+            System.out.println(" ................ [FAIL] (aliased argument loaded through a const pointer)");
+        } else {
+            System.out.println(" ................ [PASS]");
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.print("Running Native: uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLReadOnlyArguments");
+        new TestOpenCLReadOnlyArguments().test();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.tests;
+
+import java.util.Random;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+
+/**
+ * Test the single-pass reductions, in which every work-group combines its
+ * partial result into the output with an atomic operation. Each reduction is
+ * executed twice, to check that the output is reset to the neutral element
+ * between executions, and with an input size that is not a power of two, to
+ * check the merge with the host part.
+ *
+ * How to run:
+ *
+ * <code>
+ *     tornado -Dtornado.experimental.reduce.singlepass=True uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLSinglePassReduction
+ * </code>
+ */
+public class TestOpenCLSinglePassReduction {
+
+    private static final int[] SIZES = { 1 << 20, 1_000_000 };
+
+    public static void reduceAddInt(int[] input, @Reduce int[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            result[0] += input[i];
+        }
+    }
+
+    public static void reduceMaxInt(int[] input, @Reduce int[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            result[0] = Math.max(result[0], input[i]);
+        }
+    }
+
+    public static void reduceXorInt(int[] input, @Reduce int[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            result[0] ^= input[i];
+        }
+    }
+
+    public static void dotProduct(float[] a, float[] b, @Reduce float[] result) {
+        for (@Parallel int i = 0; i < a.length; i++) {
+            result[0] += a[i] * b[i];
+        }
+    }
+
+    public static void reduceMinFloat(float[] input, @Reduce float[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            result[0] = Math.min(result[0], input[i]);
+        }
+    }
+
+    private static boolean testIntegers(int size) {
+        Random random = new Random(size);
+        int[] input = new int[size];
+        for (int i = 0; i < size; i++) {
+            input[i] = random.nextInt(1000);
+        }
+
+        int[] add = new int[1];
+        int[] max = new int[] { Integer.MIN_VALUE };
+        int[] xor = new int[1];
+
+        //@formatter:off
+        TaskSchedule ts = new TaskSchedule("s0")
+                .streamIn(input)
+                .task("add", TestOpenCLSinglePassReduction::reduceAddInt, input, add)
+                .task("max", TestOpenCLSinglePassReduction::reduceMaxInt, input, max)
+                .task("xor", TestOpenCLSinglePassReduction::reduceXorInt, input, xor)
+                .streamOut(add, max, xor);
+        //@formatter:on
+
+        int expectedAdd = 0;
+        int expectedMax = Integer.MIN_VALUE;
+        int expectedXor = 0;
+        for (int value : input) {
+            expectedAdd += value;
+            expectedMax = Math.max(expectedMax, value);
+            expectedXor ^= value;
+        }
+
+        boolean correct = true;
+        for (int execution = 0; execution < 2; execution++) {
+            ts.execute();
+            correct &= add[0] == expectedAdd && max[0] == expectedMax && xor[0] == expectedXor;
+        }
+        return correct;
+    }
+
+    private static boolean testFloats(int size) {
+        Random random = new Random(size);
+        float[] a = new float[size];
+        float[] b = new float[size];
+        for (int i = 0; i < size; i++) {
+            a[i] = random.nextFloat();
+            b[i] = random.nextFloat();
+        }
+
+        float[] dot = new float[1];
+        float[] min = new float[] { Float.MAX_VALUE };
+
+        //@formatter:off
+        TaskSchedule ts = new TaskSchedule("s1")
+                .streamIn(a, b)
+                .task("dot", TestOpenCLSinglePassReduction::dotProduct, a, b, dot)
+                .task("min", TestOpenCLSinglePassReduction::reduceMinFloat, a, min)
+                .streamOut(dot, min);
+        //@formatter:on
+
+        float expectedDot = 0.0f;
+        float expectedMin = Float.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            expectedDot += a[i] * b[i];
+            expectedMin = Math.min(expectedMin, a[i]);
+        }
+
+        boolean correct = true;
+        for (int execution = 0; execution < 2; execution++) {
+            ts.execute();
+            // The order of the atomic additions is not deterministic
+            correct &= Math.abs(dot[0] - expectedDot) <= 0.01f * Math.abs(expectedDot) && min[0] == expectedMin;
+        }
+        return correct;
+    }
+
+    public static void main(String[] args) {
+        System.out.print("Running Native: uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLSinglePassReduction");
+        boolean correct = true;
+        for (int size : SIZES) {
+            correct &= testIntegers(size) && testFloats(size);
+        }
+        if (correct) {
+            System.out.println(" ................ [PASS]");
+        } else {
+            System.out.println(" ................ [FAIL]");
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.opencl.tests;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.drivers.opencl.OCLDriver;
+import uk.ac.manchester.tornado.drivers.opencl.OpenCL;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLInstalledCode;
+import uk.ac.manchester.tornado.drivers.opencl.graal.OCLProviders;
+import uk.ac.manchester.tornado.drivers.opencl.graal.backend.OCLBackend;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResult;
+import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompiler;
+import uk.ac.manchester.tornado.drivers.opencl.runtime.OCLTornadoDevice;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.tasks.meta.ScheduleMetaData;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Test that kernels compiled with the reuse of variables
+ * ({@code -Dtornado.experimental.virtual.registers=True}) compute the expected
+ * results, and report the number of variables declared by each kernel. The
+ * number is counted in the generated OpenCL C, so running the test with and
+ * without the option gives the number of declared variables before and after
+ * the reuse.
+ *
+ * How to run:
+ *
+ * <code>
+ *     tornado -Dtornado.experimental.virtual.registers=True uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLVirtualRegisterAllocation
+ * </code>
+ */
+public class TestOpenCLVirtualRegisterAllocation {
+
+    private static final int N = 256;
+
+    private static final Pattern DECLARATION = Pattern.compile("^\\s*\\w+ (\\w+_\\d+(, \\w+_\\d+)*);\\s*$", Pattern.MULTILINE);
+
+    public static void matrixVector(float[] a, float[] x, float[] y) {
+        for (@Parallel int i = 0; i < N; i++) {
+            float sum = 0.0f;
+            for (int j = 0; j < N; j++) {
+                sum += a[i * N + j] * x[j];
+            }
+            y[i] = sum;
+        }
+    }
+
+    public static void polynomial(float[] a, float[] x, float[] y) {
+        for (@Parallel int i = 0; i < N; i++) {
+            float v = x[i];
+            float t0 = a[0] + v * a[1];
+            float t1 = t0 * v + a[2];
+            float t2 = t1 * v + a[3];
+            float t3 = t2 * v + a[4];
+            float t4 = t3 * v + a[5];
+            float t5 = t4 * v + a[6];
+            y[i] = t5 * v + a[7];
+        }
+    }
+
+    /**
+     * @return the number of variables declared in the OpenCL C source of a
+     *         kernel.
+     */
+    public static int countDeclaredVariables(String source) {
+        int count = 0;
+        Matcher matcher = DECLARATION.matcher(source);
+        while (matcher.find()) {
+            count += matcher.group(1).split(",").length;
+        }
+        return count;
+    }
+
+    private static void compileAndRun(String kernel, float[] a, float[] x, float[] y) {
+        Method method = null;
+        for (Method m : TestOpenCLVirtualRegisterAllocation.class.getMethods()) {
+            if (m.getName().equals(kernel)) {
+                method = m;
+            }
+        }
+
+        TornadoCoreRuntime tornadoRuntime = TornadoCoreRuntime.getTornadoRuntime();
+        ResolvedJavaMethod resolvedJavaMethod = tornadoRuntime.resolveMethod(method);
+        OCLBackend openCLBackend = tornadoRuntime.getDriver(OCLDriver.class).getDefaultBackend();
+        OCLTornadoDevice tornadoDevice = OpenCL.defaultDevice();
+
+        TaskMetaData taskMeta = TaskMetaData.create(new ScheduleMetaData("S0"), method.getName(), method, false);
+        taskMeta.setDevice(tornadoDevice);
+
+        OCLCompilationResult compilationResult = OCLCompiler.compileCodeForDevice(resolvedJavaMethod, new Object[] { a, x, y }, taskMeta, (OCLProviders) openCLBackend.getProviders(), openCLBackend);
+        String source = new String(compilationResult.getTargetCode(), StandardCharsets.UTF_8);
+        System.out.printf("\n\t%s: %d declared variables", kernel, countDeclaredVariables(source));
+
+        OCLInstalledCode openCLCode = tornadoDevice.getDeviceContext().installCode(compilationResult);
+        OpenCL.run(tornadoDevice, openCLCode, taskMeta, new Access[] { Access.READ, Access.READ, Access.WRITE }, a, x, y);
+    }
+
+    private static boolean check(float[] expected, float[] result) {
+        for (int i = 0; i < expected.length; i++) {
+            if (Math.abs(expected[i] - result[i]) > 0.01f * Math.max(1.0f, Math.abs(expected[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void test() {
+        float[] a = new float[N * N];
+        float[] x = new float[N];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = (i % 17) * 0.5f;
+        }
+        for (int i = 0; i < N; i++) {
+            x[i] = ((i % 5) + 1.0f) * 0.25f;
+        }
+
+        float[] y = new float[N];
+        float[] expected = new float[N];
+        compileAndRun("matrixVector", a, x, y);
+        matrixVector(a, x, expected);
+        boolean correct = check(expected, y);
+
+        y = new float[N];
+        expected = new float[N];
+        compileAndRun("polynomial", a, x, y);
+        polynomial(a, x, expected);
+        correct &= check(expected, y);
+
+        System.out.print("\n");
+        if (correct) {
+            System.out.println(" ................ [PASS]");
+        } else {
+            System.out.println(" ................ [FAIL]");
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.print("Running Native: uk.ac.manchester.tornado.drivers.opencl.tests.TestOpenCLVirtualRegisterAllocation (virtual registers: " + TornadoOptions.VIRTUAL_REGISTER_ALLOCATION + ")");
+        new TestOpenCLVirtualRegisterAllocation().test();
+    }
+}
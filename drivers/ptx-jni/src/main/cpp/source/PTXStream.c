@@ -302,6 +302,101 @@ COPY_ARRAY_H_TO_D(F, jfloat, Float)
  */
 COPY_ARRAY_H_TO_D(D, jdouble, Double)
 
+/*
+    Transfers for direct buffers. The host data lives outside of the Java heap and is never moved by the garbage
+    collector, so the copies use its address as it is, without a staging area or acquiring a Java array.
+*/
+static jbyte *direct_buffer_address(JNIEnv *env, jobject buffer, const char *name) {
+    jbyte *address = (jbyte *) (*env)->GetDirectBufferAddress(env, buffer);
+    if (address == NULL) {
+        printf("uk.ac.manchester.tornado.drivers.ptx> %s: buffer is not a direct buffer\n", name);
+        fflush(stdout);
+    }
+    return address;
+}
+
+static jobjectArray copy_direct_buffer_d_to_h(JNIEnv *env, jlong device_ptr, jlong length, jobject buffer, jlong host_offset, jbyteArray stream_wrapper, jboolean blocking) {
+    CUevent beforeEvent, afterEvent;
+    CUresult result;
+    jbyte *host_ptr = direct_buffer_address(env, buffer, "writeArrayDtoH");
+    if (host_ptr == NULL) {
+        return NULL;
+    }
+    CUstream stream;
+    stream_from_array(env, &stream, stream_wrapper);
+
+    record_events_create(&beforeEvent, &afterEvent);
+    record_event_begin(&beforeEvent, &stream);
+
+    CUDA_CHECK_ERROR("cuMemcpyDtoHAsync", cuMemcpyDtoHAsync(host_ptr + host_offset, device_ptr, (size_t) length, stream), result);
+
+    record_event_end(&afterEvent, &stream);
+    if (blocking && cuEventQuery(afterEvent) != CUDA_SUCCESS) cuEventSynchronize(afterEvent);
+
+    return wrapper_from_events(env, &beforeEvent, &afterEvent);
+}
+
+static jobjectArray copy_direct_buffer_h_to_d(JNIEnv *env, jlong device_ptr, jlong length, jobject buffer, jlong host_offset, jbyteArray stream_wrapper, jboolean blocking) {
+    CUevent beforeEvent, afterEvent;
+    CUresult result;
+    jbyte *host_ptr = direct_buffer_address(env, buffer, "writeArrayHtoD");
+    if (host_ptr == NULL) {
+        return NULL;
+    }
+    CUstream stream;
+    stream_from_array(env, &stream, stream_wrapper);
+
+    record_events_create(&beforeEvent, &afterEvent);
+    record_event_begin(&beforeEvent, &stream);
+
+    CUDA_CHECK_ERROR("cuMemcpyHtoDAsync", cuMemcpyHtoDAsync(device_ptr, host_ptr + host_offset, (size_t) length, stream), result);
+
+    record_event_end(&afterEvent, &stream);
+    if (blocking && cuEventQuery(afterEvent) != CUDA_SUCCESS) cuEventSynchronize(afterEvent);
+
+    return wrapper_from_events(env, &beforeEvent, &afterEvent);
+}
+
+/*
+ * Class:     uk_ac_manchester_tornado_drivers_ptx_PTXStream
+ * Method:    writeArrayDtoH
+ * Signature: (JJLjava/nio/ByteBuffer;J[B)[[B
+ */
+JNIEXPORT jobjectArray JNICALL Java_uk_ac_manchester_tornado_drivers_ptx_PTXStream_writeArrayDtoH__JJLjava_nio_ByteBuffer_2J_3B
+  (JNIEnv *env, jclass clazz, jlong device_ptr, jlong length, jobject buffer, jlong host_offset, jbyteArray stream_wrapper) {
+    return copy_direct_buffer_d_to_h(env, device_ptr, length, buffer, host_offset, stream_wrapper, JNI_TRUE);
+}
+
+/*
+ * Class:     uk_ac_manchester_tornado_drivers_ptx_PTXStream
+ * Method:    writeArrayDtoHAsync
+ * Signature: (JJLjava/nio/ByteBuffer;J[B)[[B
+ */
+JNIEXPORT jobjectArray JNICALL Java_uk_ac_manchester_tornado_drivers_ptx_PTXStream_writeArrayDtoHAsync__JJLjava_nio_ByteBuffer_2J_3B
+  (JNIEnv *env, jclass clazz, jlong device_ptr, jlong length, jobject buffer, jlong host_offset, jbyteArray stream_wrapper) {
+    return copy_direct_buffer_d_to_h(env, device_ptr, length, buffer, host_offset, stream_wrapper, JNI_FALSE);
+}
+
+/*
+ * Class:     uk_ac_manchester_tornado_drivers_ptx_PTXStream
+ * Method:    writeArrayHtoD
+ * Signature: (JJLjava/nio/ByteBuffer;J[B)[[B
+ */
+JNIEXPORT jobjectArray JNICALL Java_uk_ac_manchester_tornado_drivers_ptx_PTXStream_writeArrayHtoD__JJLjava_nio_ByteBuffer_2J_3B
+  (JNIEnv *env, jclass clazz, jlong device_ptr, jlong length, jobject buffer, jlong host_offset, jbyteArray stream_wrapper) {
+    return copy_direct_buffer_h_to_d(env, device_ptr, length, buffer, host_offset, stream_wrapper, JNI_TRUE);
+}
+
+/*
+ * Class:     uk_ac_manchester_tornado_drivers_ptx_PTXStream
+ * Method:    writeArrayHtoDAsync
+ * Signature: (JJLjava/nio/ByteBuffer;J[B)[[B
+ */
+JNIEXPORT jobjectArray JNICALL Java_uk_ac_manchester_tornado_drivers_ptx_PTXStream_writeArrayHtoDAsync__JJLjava_nio_ByteBuffer_2J_3B
+  (JNIEnv *env, jclass clazz, jlong device_ptr, jlong length, jobject buffer, jlong host_offset, jbyteArray stream_wrapper) {
+    return copy_direct_buffer_h_to_d(env, device_ptr, length, buffer, host_offset, stream_wrapper, JNI_FALSE);
+}
+
 /*
  * Class:     uk_ac_manchester_tornado_drivers_ptx_PTXStream
  * Method:    cuLaunchKernel
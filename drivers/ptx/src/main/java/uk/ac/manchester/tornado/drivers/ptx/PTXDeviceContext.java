@@ -28,7 +28,9 @@ import static uk.ac.manchester.tornado.drivers.ptx.graal.PTXCodeUtil.buildKernel
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import uk.ac.manchester.tornado.api.TornadoDeviceContext;
 import uk.ac.manchester.tornado.api.WorkerGrid;
@@ -40,6 +42,9 @@ import uk.ac.manchester.tornado.drivers.ptx.graal.compiler.PTXCompilationResult;
 import uk.ac.manchester.tornado.drivers.ptx.mm.PTXCallStack;
 import uk.ac.manchester.tornado.drivers.ptx.mm.PTXMemoryManager;
 import uk.ac.manchester.tornado.drivers.ptx.runtime.PTXTornadoDevice;
+import uk.ac.manchester.tornado.runtime.autotuner.KernelTuner;
+import uk.ac.manchester.tornado.runtime.autotuner.TuningConfiguration;
+import uk.ac.manchester.tornado.runtime.autotuner.TuningDatabase;
 import uk.ac.manchester.tornado.runtime.common.CallStack;
 import uk.ac.manchester.tornado.runtime.common.Initialisable;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -54,6 +59,7 @@ public class PTXDeviceContext extends TornadoLogger implements Initialisable, To
     private final PTXStream stream;
     private final PTXCodeCache codeCache;
     private final PTXScheduler scheduler;
+    private final Map<PTXModule, KernelTuner> kernelTuners = new IdentityHashMap<>();
     private boolean wasReset;
 
     public PTXDeviceContext(PTXDevice device, PTXStream stream) {
@@ -190,12 +196,14 @@ public class PTXDeviceContext extends TornadoLogger implements Initialisable, To
         stream.reset();
         memoryManager.reset();
         codeCache.reset();
+        kernelTuners.clear();
         wasReset = true;
     }
 
     public int enqueueKernelLaunch(PTXModule module, CallStack stack, long batchThreads) {
         int[] blockDimension = { 1, 1, 1 };
         int[] gridDimension = { 1, 1, 1 };
+        KernelTuner kernelTuner = null;
         if (module.metaData.isWorkerGridAvailable()) {
             WorkerGrid grid = module.metaData.getWorkerGrid(module.metaData.getId());
             int[] global = Arrays.stream(grid.getGlobalWork()).mapToInt(l -> (int) l).toArray();
@@ -209,13 +217,40 @@ public class PTXDeviceContext extends TornadoLogger implements Initialisable, To
         } else if (module.metaData.isParallel()) {
             scheduler.calculateGlobalWork(module.metaData, batchThreads);
             blockDimension = scheduler.calculateBlockDimension(module);
-            gridDimension = scheduler.calculateGridDimension(module, blockDimension);
+            kernelTuner = getKernelTuner(module);
+            if (kernelTuner != null) {
+                TuningConfiguration configuration = kernelTuner.select(module.metaData, Arrays.stream(blockDimension).asLongStream().toArray());
+                long[] globalWork = kernelTuner.computeGlobalWork(module.metaData, configuration);
+                blockDimension = Arrays.stream(configuration.getLocalWork()).mapToInt(l -> (int) l).toArray();
+                gridDimension = scheduler.calculateGridDimension(module.javaName, module.metaData.getDims(), Arrays.stream(globalWork).mapToInt(l -> (int) l).toArray(), blockDimension);
+            } else {
+                gridDimension = scheduler.calculateGridDimension(module, blockDimension);
+            }
         }
         int kernelLaunchEvent = stream.enqueueKernelLaunch(module, writePTXStackOnDevice((PTXCallStack) stack), gridDimension, blockDimension);
+        if (kernelTuner != null && kernelTuner.isMeasuring()) {
+            Event kernelEvent = resolveEvent(kernelLaunchEvent);
+            kernelEvent.waitForEvents();
+            kernelTuner.record(kernelEvent.getExecutionTime());
+        }
         updateProfiler(kernelLaunchEvent, module.metaData);
         return kernelLaunchEvent;
     }
 
+    /**
+     * @return the auto-tuner of the module, or null if auto-tuning is disabled or
+     *         the thread configuration of the task cannot be changed. Kernels
+     *         that use shared memory or barriers (e.g., reductions) depend on the
+     *         block size selected by the scheduler, so they are not auto-tuned.
+     */
+    private KernelTuner getKernelTuner(PTXModule module) {
+        if (!TornadoOptions.AUTOTUNE || !KernelTuner.isTunable(module.metaData)) {
+            return null;
+        }
+        return kernelTuners.computeIfAbsent(module,
+                m -> new KernelTuner(m.getSource(), device.getDeviceName(), device.getDeviceMaxWorkItemSizes(), m.getMaxThreadBlocks(), TuningDatabase.getDefault()));
+    }
+
     private byte[] writePTXStackOnDevice(PTXCallStack stack) {
         ByteBuffer args = ByteBuffer.allocate(8);
         args.order(getByteOrder());
@@ -282,6 +317,10 @@ public class PTXDeviceContext extends TornadoLogger implements Initialisable, To
         return stream.enqueueRead(address, length, array, hostOffset, waitEvents);
     }
 
+    public int readBuffer(long address, long length, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        return stream.enqueueRead(address, length, buffer, hostOffset, waitEvents);
+    }
+
     /*
      * ASYNC READS
      */
@@ -313,6 +352,10 @@ public class PTXDeviceContext extends TornadoLogger implements Initialisable, To
         return stream.enqueueAsyncRead(address, length, array, hostOffset, waitEvents);
     }
 
+    public int enqueueReadBuffer(long address, long length, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        return stream.enqueueAsyncRead(address, length, buffer, hostOffset, waitEvents);
+    }
+
     /*
      * SYNC WRITES
      */
@@ -344,6 +387,10 @@ public class PTXDeviceContext extends TornadoLogger implements Initialisable, To
         stream.enqueueWrite(address, length, array, hostOffset, waitEvents);
     }
 
+    public void writeBuffer(long address, long length, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        stream.enqueueWrite(address, length, buffer, hostOffset, waitEvents);
+    }
+
     /*
      * ASYNC WRITES
      */
@@ -375,6 +422,10 @@ public class PTXDeviceContext extends TornadoLogger implements Initialisable, To
         return stream.enqueueAsyncWrite(address, length, array, hostOffset, waitEvents);
     }
 
+    public int enqueueWriteBuffer(long address, long length, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        return stream.enqueueAsyncWrite(address, length, buffer, hostOffset, waitEvents);
+    }
+
     public void dumpEvents() {
         List<PTXEvent> events = stream.getEventsWrapper().getEvents();
 
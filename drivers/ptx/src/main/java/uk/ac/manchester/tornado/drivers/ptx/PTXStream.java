@@ -38,8 +38,10 @@ import static uk.ac.manchester.tornado.drivers.ptx.PTXEvent.DESC_WRITE_FLOAT;
 import static uk.ac.manchester.tornado.drivers.ptx.PTXEvent.DESC_WRITE_INT;
 import static uk.ac.manchester.tornado.drivers.ptx.PTXEvent.DESC_WRITE_LONG;
 import static uk.ac.manchester.tornado.drivers.ptx.PTXEvent.DESC_WRITE_SHORT;
+import static uk.ac.manchester.tornado.api.exceptions.TornadoInternalError.guarantee;
 import static uk.ac.manchester.tornado.runtime.common.Tornado.DEBUG;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -78,6 +80,8 @@ public class PTXStream extends TornadoLogger {
 
     private native static byte[][] writeArrayDtoH(long address, long length, double[] array, long hostOffset, byte[] streamWrapper);
 
+    private native static byte[][] writeArrayDtoH(long address, long length, ByteBuffer buffer, long hostOffset, byte[] streamWrapper);
+
     private native static byte[][] writeArrayDtoHAsync(long address, long length, byte[] array, long hostOffset, byte[] streamWrapper);
 
     private native static byte[][] writeArrayDtoHAsync(long address, long length, short[] array, long hostOffset, byte[] streamWrapper);
@@ -92,6 +96,8 @@ public class PTXStream extends TornadoLogger {
 
     private native static byte[][] writeArrayDtoHAsync(long address, long length, double[] array, long hostOffset, byte[] streamWrapper);
 
+    private native static byte[][] writeArrayDtoHAsync(long address, long length, ByteBuffer buffer, long hostOffset, byte[] streamWrapper);
+
     private native static byte[][] writeArrayHtoD(long address, long length, byte[] array, long hostOffset, byte[] streamWrapper);
 
     private native static byte[][] writeArrayHtoD(long address, long length, short[] array, long hostOffset, byte[] streamWrapper);
@@ -106,6 +112,8 @@ public class PTXStream extends TornadoLogger {
 
     private native static byte[][] writeArrayHtoD(long address, long length, double[] array, long hostOffset, byte[] streamWrapper);
 
+    private native static byte[][] writeArrayHtoD(long address, long length, ByteBuffer buffer, long hostOffset, byte[] streamWrapper);
+
     private native static byte[][] writeArrayHtoDAsync(long address, long length, byte[] array, long hostOffset, byte[] streamWrapper);
 
     private native static byte[][] writeArrayHtoDAsync(long address, long length, short[] array, long hostOffset, byte[] streamWrapper);
@@ -119,6 +127,8 @@ public class PTXStream extends TornadoLogger {
     private native static byte[][] writeArrayHtoDAsync(long address, long length, float[] array, long hostOffset, byte[] streamWrapper);
 
     private native static byte[][] writeArrayHtoDAsync(long address, long length, double[] array, long hostOffset, byte[] streamWrapper);
+
+    private native static byte[][] writeArrayHtoDAsync(long address, long length, ByteBuffer buffer, long hostOffset, byte[] streamWrapper);
     //@formatter:on
 
     private native static byte[][] cuLaunchKernel(byte[] module, String name, int gridDimX, int gridDimY, int gridDimZ, int blockDimX, int blockDimY, int blockDimZ, long sharedMemBytes, byte[] stream,
@@ -239,6 +249,12 @@ public class PTXStream extends TornadoLogger {
         return registerEvent(writeArrayDtoH(address, length, array, hostOffset, streamWrapper), DESC_READ_DOUBLE, address);
     }
 
+    public int enqueueRead(long address, long length, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        guarantee(buffer != null && buffer.isDirect(), "buffer is not a direct buffer");
+        waitForEvents(waitEvents);
+        return registerEvent(writeArrayDtoH(address, length, buffer, hostOffset, streamWrapper), DESC_READ_BYTE, address);
+    }
+
     public int enqueueAsyncRead(long address, long length, byte[] array, long hostOffset, int[] waitEvents) {
         waitForEvents(waitEvents);
         return registerEvent(writeArrayDtoHAsync(address, length, array, hostOffset, streamWrapper), DESC_READ_BYTE, address);
@@ -274,6 +290,12 @@ public class PTXStream extends TornadoLogger {
         return registerEvent(writeArrayDtoHAsync(address, length, array, hostOffset, streamWrapper), DESC_READ_DOUBLE, address);
     }
 
+    public int enqueueAsyncRead(long address, long length, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        guarantee(buffer != null && buffer.isDirect(), "buffer is not a direct buffer");
+        waitForEvents(waitEvents);
+        return registerEvent(writeArrayDtoHAsync(address, length, buffer, hostOffset, streamWrapper), DESC_READ_BYTE, address);
+    }
+
     public void enqueueWrite(long address, long length, byte[] array, long hostOffset, int[] waitEvents) {
         waitForEvents(waitEvents);
         registerEvent(writeArrayHtoD(address, length, array, hostOffset, streamWrapper), DESC_WRITE_BYTE, address);
@@ -309,6 +331,12 @@ public class PTXStream extends TornadoLogger {
         registerEvent(writeArrayHtoD(address, length, array, hostOffset, streamWrapper), DESC_WRITE_DOUBLE, address);
     }
 
+    public void enqueueWrite(long address, long length, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        guarantee(buffer != null && buffer.isDirect(), "buffer is not a direct buffer");
+        waitForEvents(waitEvents);
+        registerEvent(writeArrayHtoD(address, length, buffer, hostOffset, streamWrapper), DESC_WRITE_BYTE, address);
+    }
+
     public int enqueueAsyncWrite(long address, long length, byte[] array, long hostOffset, int[] waitEvents) {
         waitForEvents(waitEvents);
         return registerEvent(writeArrayHtoDAsync(address, length, array, hostOffset, streamWrapper), DESC_WRITE_BYTE, address);
@@ -345,6 +373,12 @@ public class PTXStream extends TornadoLogger {
         return registerEvent(writeArrayHtoDAsync(address, length, array, hostOffset, streamWrapper), DESC_WRITE_DOUBLE, address);
     }
 
+    public int enqueueAsyncWrite(long address, long length, ByteBuffer buffer, long hostOffset, int[] waitEvents) {
+        guarantee(buffer != null && buffer.isDirect(), "buffer is not a direct buffer");
+        waitForEvents(waitEvents);
+        return registerEvent(writeArrayHtoDAsync(address, length, buffer, hostOffset, streamWrapper), DESC_WRITE_BYTE, address);
+    }
+
     public PTXEventsWrapper getEventsWrapper() {
         return eventsWrapper;
     }
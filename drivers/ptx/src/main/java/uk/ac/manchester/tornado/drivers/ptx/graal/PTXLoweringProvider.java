@@ -76,6 +76,9 @@ import org.graalvm.compiler.options.OptionValues;
 import org.graalvm.compiler.phases.util.Providers;
 import org.graalvm.compiler.replacements.DefaultJavaLoweringProvider;
 import org.graalvm.compiler.replacements.SnippetCounter;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXAtomicReadModifyWriteNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXHalfFloatReadNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXHalfFloatWriteNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXKind;
 import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXWriteNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.CastNode;
@@ -86,6 +89,9 @@ import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.calc.DivNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.vector.LoadIndexedVectorNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.snippets.PTXGPUReduceSnippets;
 import uk.ac.manchester.tornado.runtime.TornadoVMConfig;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicIndexedNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatLoadNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatStoreNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.NewArrayNonVirtualizableNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoDirectCallTargetNode;
@@ -198,6 +204,12 @@ public class PTXLoweringProvider extends DefaultJavaLoweringProvider {
             lowerStoreIndexedNode((StoreIndexedNode) node, tool);
         } else if (node instanceof StoreAtomicIndexedNode) {
             lowerStoreAtomicsReduction(node, tool);
+        } else if (node instanceof AtomicIndexedNode) {
+            lowerAtomicIndexedNode((AtomicIndexedNode) node);
+        } else if (node instanceof HalfFloatLoadNode) {
+            lowerHalfFloatLoadNode((HalfFloatLoadNode) node);
+        } else if (node instanceof HalfFloatStoreNode) {
+            lowerHalfFloatStoreNode((HalfFloatStoreNode) node);
         } else if (node instanceof LoadFieldNode) {
             lowerLoadFieldNode((LoadFieldNode) node, tool);
         } else if (node instanceof StoreFieldNode) {
@@ -311,6 +323,31 @@ public class PTXLoweringProvider extends DefaultJavaLoweringProvider {
         GPUReduceSnippets.lower(storeIndexed, threadID, tool);
     }
 
+    private void lowerAtomicIndexedNode(AtomicIndexedNode atomicIndexed) {
+        StructuredGraph graph = atomicIndexed.graph();
+        JavaKind elementKind = atomicIndexed.elementKind();
+        AddressNode address = createArrayAddress(graph, atomicIndexed.array(), elementKind, atomicIndexed.index());
+        PTXAtomicReadModifyWriteNode atomicAccess = graph.add(new PTXAtomicReadModifyWriteNode(address, NamedLocationIdentity.getArrayLocation(elementKind), atomicIndexed.expected(),
+                atomicIndexed.value(), atomicIndexed.getOperation()));
+        atomicAccess.setStateAfter(atomicIndexed.stateAfter());
+        graph.replaceFixedWithFixed(atomicIndexed, atomicAccess);
+    }
+
+    private void lowerHalfFloatLoadNode(HalfFloatLoadNode halfLoad) {
+        StructuredGraph graph = halfLoad.graph();
+        AddressNode address = createArrayAddress(graph, halfLoad.array(), JavaKind.Short, halfLoad.index());
+        PTXHalfFloatReadNode memoryRead = graph.add(new PTXHalfFloatReadNode(address, NamedLocationIdentity.getArrayLocation(JavaKind.Short)));
+        graph.replaceFixedWithFixed(halfLoad, memoryRead);
+    }
+
+    private void lowerHalfFloatStoreNode(HalfFloatStoreNode halfStore) {
+        StructuredGraph graph = halfStore.graph();
+        AddressNode address = createArrayAddress(graph, halfStore.array(), JavaKind.Short, halfStore.index());
+        PTXHalfFloatWriteNode memoryWrite = graph.add(new PTXHalfFloatWriteNode(address, NamedLocationIdentity.getArrayLocation(JavaKind.Short), halfStore.value()));
+        memoryWrite.setStateAfter(halfStore.stateAfter());
+        graph.replaceFixedWithFixed(halfStore, memoryWrite);
+    }
+
     private void lowerAtomicStoreIndexedNode(StoreAtomicIndexedNode storeIndexed) {
         unimplemented();
     }
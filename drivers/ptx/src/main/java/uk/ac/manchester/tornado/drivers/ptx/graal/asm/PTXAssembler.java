@@ -405,6 +405,7 @@ public class PTXAssembler extends Assembler {
         public static final PTXUnaryOp NOT = new PTXUnaryOp("not", true, ROUND_NEAREST_EVEN);
         public static final PTXUnaryOp NEGATE = new PTXUnaryOp("neg", false, null);
         public static final PTXUnaryOp MOV = new PTXUnaryOp(MOVE, false, null);
+        public static final PTXUnaryOp MOV_BITS = new PTXUnaryOp(MOVE, true, null);
         public static final PTXUnaryOp CVT_FLOAT_RNE = new PTXUnaryOp(CONVERT, false, ROUND_NEAREST_EVEN);
         public static final PTXUnaryOp CVT_FLOAT = new PTXUnaryOp(CONVERT, false, null);
         public static final PTXUnaryOp CVT_INT_RTZ = new PTXUnaryOp(CONVERT, false, ROUND_TOWARD_ZERO_INTEGER);
@@ -472,6 +473,7 @@ public class PTXAssembler extends Assembler {
         public static final PTXUnaryIntrinsic ABS = new PTXUnaryIntrinsic("abs", null);
         public static final PTXUnaryIntrinsic EXP2 = new PTXUnaryIntrinsic("ex2.approx", null);
         public static final PTXUnaryIntrinsic SQRT = new PTXUnaryIntrinsic("sqrt");
+        public static final PTXUnaryIntrinsic SQRT_APPROX = new PTXUnaryIntrinsic("sqrt.approx", null);
         public static final PTXUnaryIntrinsic LOG2 = new PTXUnaryIntrinsic("lg2.approx", null);
         public static final PTXUnaryIntrinsic SIN = new PTXUnaryIntrinsic("sin.approx", null);
         public static final PTXUnaryIntrinsic COS = new PTXUnaryIntrinsic("cos.approx", null);
@@ -607,6 +609,7 @@ public class PTXAssembler extends Assembler {
 
         public static final PTXBinaryIntrinsic FLOAT_MIN = new PTXBinaryIntrinsic("min", false);
         public static final PTXBinaryIntrinsic FLOAT_MAX = new PTXBinaryIntrinsic("max", false);
+        public static final PTXBinaryIntrinsic FLOAT_DIV_APPROX = new PTXBinaryIntrinsic("div.approx", false);
         // @formatter:on
 
         protected PTXBinaryIntrinsic(String opcode) {
@@ -44,6 +44,7 @@ public class PTXAssemblerConstants {
     public static final String PARAM_MEM_MODIFIER = "param";
     public static final String SHARED_MEM_MODIFIER = "shared";
     public static final String LOCAL_MEM_MODIFIER = "local";
+    public static final String NON_COHERENT = "nc";
 
     public static final String COMPUTE_VERSION = ".version";
     public static final String TARGET_ARCH = ".target";
@@ -79,5 +80,11 @@ public class PTXAssemblerConstants {
 
     public static final String CALL = "call";
 
+    public static final String ATOM = "atom";
+    public static final String ATOM_ADD = "add";
+    public static final String ATOM_MIN = "min";
+    public static final String ATOM_MAX = "max";
+    public static final String ATOM_CAS = "cas";
+
     public static final int STACK_BASE_OFFSET = 3;
 }
@@ -328,7 +328,7 @@ public class PTXBackend extends TornadoBackend<PTXProviders> implements FrameMap
             }
 
             if (regVarCount != 0) {
-                asm.emitLine("\t.reg .%s %s<%d>;", type, type.getRegisterTypeString(), regVarCount + 1);
+                asm.emitLine("\t.reg .%s %s<%d>;", type, type.getRegisterTypeString(), lirGenRes.getRegisterCount(type, regVarCount) + 1);
             }
         }
 
@@ -53,17 +53,25 @@ import org.graalvm.compiler.phases.common.DeadCodeEliminationPhase;
 import org.graalvm.compiler.phases.tiers.HighTierContext;
 import org.graalvm.compiler.phases.tiers.LowTierContext;
 import org.graalvm.compiler.phases.util.Providers;
+import uk.ac.manchester.tornado.drivers.ptx.TargetArchitecture;
 import uk.ac.manchester.tornado.drivers.ptx.graal.PTXProviders;
 import uk.ac.manchester.tornado.drivers.ptx.graal.PTXSuitesProvider;
 import uk.ac.manchester.tornado.drivers.ptx.graal.backend.PTXBackend;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.GroupIdNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalArrayNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalGroupSizeNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalThreadIDFixedNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXBarrierNode;
 import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PrintfNode;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.common.Tornado;
 import uk.ac.manchester.tornado.runtime.graal.TornadoLIRSuites;
 import uk.ac.manchester.tornado.runtime.graal.TornadoSuites;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoCompilerIdentifier;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoDataflowAnalysis;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoMidTierContext;
+import uk.ac.manchester.tornado.runtime.profiler.CompilerPhaseProfiler;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
 import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
@@ -97,6 +105,7 @@ public class PTXCompiler {
     private static final TimerKey EmitLIR = DebugContext.timer("PTXEmitLIR");
     private static final TimerKey EmitCode = DebugContext.timer("PTXEmitCode");
     private static final PTXLIRGenerationPhase LIR_GENERATION_PHASE = new PTXLIRGenerationPhase();
+    private static final TargetArchitecture NON_COHERENT_LOADS_ARCHITECTURE = new TargetArchitecture(3, 2);
 
     public static class PTXCompilationRequest {
         public final StructuredGraph graph;
@@ -265,6 +274,9 @@ public class PTXCompiler {
         assert !r.graph.isFrozen();
         try (DebugContext.Scope s0 = getDebugContext().scope("GraalCompiler", r.graph, r.providers.getCodeCache()); DebugCloseable a = CompilerTimer.start(getDebugContext())) {
             emitFrontEnd(r);
+            if (r.isKernel && r.meta != null) {
+                r.meta.setWorkGroupIndependent(!dependsOnWorkGroup(r.graph));
+            }
             boolean isParallel = false;
             if (r.meta != null && r.meta.isParallel()) {
                 isParallel = true;
@@ -277,6 +289,16 @@ public class PTXCompiler {
         return r.compilationResult;
     }
 
+    /**
+     * @return true if the graph uses shared memory, barriers or the block
+     *         indices and sizes, so the result of the kernel depends on the block
+     *         size.
+     */
+    private static boolean dependsOnWorkGroup(StructuredGraph graph) {
+        return graph.hasNode(LocalArrayNode.TYPE) || graph.hasNode(PTXBarrierNode.TYPE) || graph.hasNode(GroupIdNode.TYPE) || graph.hasNode(LocalThreadIDFixedNode.TYPE)
+                || graph.hasNode(LocalGroupSizeNode.TYPE);
+    }
+
     private static void emitBackEnd(PTXCompilationRequest r, boolean isParallel) {
         try (DebugContext.Scope s = getDebugContext().scope("PTXBackend", r.graph.getLastSchedule()); DebugCloseable a = BackEnd.start(getDebugContext())) {
             LIRGenerationResult lirGen = emitLIR(r);
@@ -293,6 +315,7 @@ public class PTXCompiler {
 
     private static void emitCode(PTXCompilationRequest r, LIRGenerationResult lirGenRes, boolean isParallel) {
         try (DebugCloseable a = EmitCode.start(getDebugContext())) {
+            long start = CompilerPhaseProfiler.start();
             FrameMap frameMap = lirGenRes.getFrameMap();
             final PTXCompilationResultBuilder crb = r.backend.newCompilationResultBuilder(lirGenRes, frameMap, r.compilationResult, r.factory, r.isKernel, isParallel, r.includePrintf);
             r.backend.emitCode(crb, ((PTXLIRGenerationResult) lirGenRes), r.installedCodeOwner);
@@ -308,6 +331,7 @@ public class PTXCompiler {
 
             r.compilationResult.setNonInlinedMethods(crb.getNonInlinedMethods());
             crb.finish();
+            CompilerPhaseProfiler.stop(CompilerPhaseProfiler.BACKEND, CompilerPhaseProfiler.CODE_EMISSION, start);
 
             if (getDebugContext().isCountEnabled()) {
                 DebugContext.counter("CompilationResults").increment(getDebugContext());
@@ -318,6 +342,13 @@ public class PTXCompiler {
         }
     }
 
+    /**
+     * Non-coherent loads ({@code ld.global.nc}) require sm_32 or newer.
+     */
+    private static boolean supportsNonCoherentLoads(PTXBackend backend) {
+        return backend.getDeviceContext().getDevice().getTargetArchitecture().compareTo(NON_COHERENT_LOADS_ARCHITECTURE) >= 0;
+    }
+
     private static LIRGenerationResult emitLIR(PTXCompilationRequest r) {
         try (DebugContext.Scope ds = getDebugContext().scope("EmitLIR"); DebugCloseable a = EmitLIR.start(getDebugContext())) {
             OptionValues options = r.graph.getOptions();
@@ -343,11 +374,16 @@ public class PTXCompiler {
             FrameMapBuilder frameMapBuilder = r.backend.newFrameMapBuilder(null);
             LIRGenerationResult lirGenRes = r.backend.newLIRGenerationResult(r.graph.compilationId(), lir, frameMapBuilder, registerAllocationConfig);
             LIRGeneratorTool lirGen = r.backend.newLIRGenerator(lirGenRes);
+            if (r.isKernel && supportsNonCoherentLoads(r.backend)) {
+                ((PTXLIRGenerator) lirGen).setReadOnlyArguments(TornadoDataflowAnalysis.findReadOnlyArguments(r.meta, r.args));
+            }
             NodeLIRBuilderTool nodeLirGen = r.backend.newNodeLIRBuilder(r.graph, lirGen);
 
             // LIR generation
             LIRGenerationContext context = new LIRGenerationContext(lirGen, nodeLirGen, r.graph, schedule, r.isKernel);
+            long start = CompilerPhaseProfiler.start();
             LIR_GENERATION_PHASE.apply(r.backend.getTarget(), lirGenRes, context);
+            CompilerPhaseProfiler.stop(CompilerPhaseProfiler.BACKEND, CompilerPhaseProfiler.LIR_GENERATION, start);
 
             try (DebugContext.Scope s = getDebugContext().scope("LIRStages", nodeLirGen, lir)) {
                 getDebugContext().dump(DebugContext.BASIC_LEVEL, lir, "After LIR generation");
@@ -365,9 +401,13 @@ public class PTXCompiler {
     private static LIRGenerationResult emitLowLevel(TargetDescription target, LIRGenerationResult lirGenRes, LIRGeneratorTool lirGen, TornadoLIRSuites lirSuites,
             RegisterAllocationConfig registerAllocationConfig) {
         final PreAllocationOptimizationPhase.PreAllocationOptimizationContext preAllocOptContext = new PreAllocationOptimizationPhase.PreAllocationOptimizationContext(lirGen);
+        long start = CompilerPhaseProfiler.start();
         lirSuites.getPreAllocationStage().apply(target, lirGenRes, preAllocOptContext);
+        CompilerPhaseProfiler.stop(CompilerPhaseProfiler.BACKEND, CompilerPhaseProfiler.LIR_PRE_ALLOCATION, start);
         AllocationPhase.AllocationContext allocContext = new AllocationPhase.AllocationContext(lirGen.getSpillMoveFactory(), registerAllocationConfig);
+        start = CompilerPhaseProfiler.start();
         lirSuites.getAllocationStage().apply(target, lirGenRes, allocContext);
+        CompilerPhaseProfiler.stop(CompilerPhaseProfiler.BACKEND, CompilerPhaseProfiler.LIR_ALLOCATION, start);
         return lirGenRes;
     }
 
@@ -456,6 +496,9 @@ public class PTXCompiler {
 
             methodCompilationRequest.execute();
             worklist.addAll(compResult.getNonInlinedMethods());
+            if (dependsOnWorkGroup(graph)) {
+                taskMeta.setWorkGroupIndependent(false);
+            }
 
             if (DUMP_COMPILED_METHODS) {
                 methods.add(graph.method());
@@ -536,6 +579,9 @@ public class PTXCompiler {
 
             methodCompilationRequest.execute();
             workList.addAll(compResult.getNonInlinedMethods());
+            if (meta != null && dependsOnWorkGroup(graph)) {
+                meta.setWorkGroupIndependent(false);
+            }
 
             kernelCompResult.addCompiledMethodCode(compResult.getTargetCode());
         }
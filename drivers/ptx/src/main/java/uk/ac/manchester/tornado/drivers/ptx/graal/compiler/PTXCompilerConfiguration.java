@@ -34,18 +34,28 @@ import org.graalvm.compiler.options.OptionValues;
 import org.graalvm.compiler.phases.common.AddressLoweringPhase;
 import org.graalvm.compiler.phases.common.CanonicalizerPhase;
 import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXLIRExpressionModel;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXVirtualRegisterModel;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoCompilerConfiguration;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoHighTier;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoLowTier;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoMidTier;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSketchTier;
 import uk.ac.manchester.tornado.runtime.graal.phases.lir.TornadoAllocationStage;
+import uk.ac.manchester.tornado.runtime.graal.phases.lir.TornadoLIRCommonSubexpressionElimination;
+import uk.ac.manchester.tornado.runtime.graal.phases.lir.TornadoLIRLoopInvariantCodeMotion;
+import uk.ac.manchester.tornado.runtime.graal.phases.lir.VirtualRegisterAllocationPhase;
 
 public class PTXCompilerConfiguration implements TornadoCompilerConfiguration {
 
     @Override
     public TornadoAllocationStage createAllocationStage(OptionValues options) {
-        return new TornadoAllocationStage();
+        TornadoAllocationStage stage = new TornadoAllocationStage();
+        if (TornadoOptions.VIRTUAL_REGISTER_ALLOCATION) {
+            stage.appendPhase(new VirtualRegisterAllocationPhase(PTXVirtualRegisterModel.INSTANCE));
+        }
+        return stage;
     }
 
     @Override
@@ -75,7 +85,12 @@ public class PTXCompilerConfiguration implements TornadoCompilerConfiguration {
 
     @Override
     public LIRPhaseSuite<PreAllocationOptimizationPhase.PreAllocationOptimizationContext> createPreAllocationOptimizationStage(OptionValues options) {
-        return new PreAllocationOptimizationStage(options);
+        PreAllocationOptimizationStage stage = new PreAllocationOptimizationStage(options);
+        if (TornadoOptions.LIR_OPTIMISATIONS) {
+            stage.appendPhase(new TornadoLIRLoopInvariantCodeMotion(PTXLIRExpressionModel.INSTANCE));
+            stage.appendPhase(new TornadoLIRCommonSubexpressionElimination(PTXLIRExpressionModel.INSTANCE));
+        }
+        return stage;
     }
 
 }
\ No newline at end of file
@@ -40,7 +40,9 @@ import org.graalvm.compiler.phases.common.inlining.InliningPhase;
 import org.graalvm.compiler.phases.schedule.SchedulePhase;
 import org.graalvm.compiler.virtual.phases.ea.PartialEscapePhase;
 import uk.ac.manchester.tornado.drivers.ptx.graal.phases.TornadoNewArrayDevirtualizationReplacement;
+import uk.ac.manchester.tornado.drivers.ptx.graal.phases.TornadoPTXFastMath;
 import uk.ac.manchester.tornado.drivers.ptx.graal.phases.TornadoPTXIntrinsicsReplacements;
+import uk.ac.manchester.tornado.drivers.ptx.graal.phases.TornadoPTXLocalMemoryTiling;
 import uk.ac.manchester.tornado.drivers.ptx.graal.phases.TornadoParallelScheduler;
 import uk.ac.manchester.tornado.drivers.ptx.graal.phases.TornadoTaskSpecialisation;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoHighTier;
@@ -105,6 +107,8 @@ public class PTXHighTier extends TornadoHighTier {
 
         appendPhase(new TornadoShapeAnalysis());
         appendPhase(canonicalizer);
+        appendPhase(new TornadoPTXLocalMemoryTiling());
+        appendPhase(new TornadoPTXFastMath());
         appendPhase(new TornadoParallelScheduler());
         appendPhase(new SchedulePhase(SchedulePhase.SchedulingStrategy.EARLIEST));
 
@@ -53,6 +53,7 @@ public class PTXLIRGenerationResult extends LIRGenerationResult {
     private final Map<PTXKind, Set<VariableData>> variableTable;
     private final Map<PTXKind, Set<Variable>> paramTable;
     private final Map<PTXKind, Variable> returnVariables;
+    private final Map<PTXKind, Integer> registerCount;
 
     public PTXLIRGenerationResult(CompilationIdentifier identifier, LIR lir, FrameMapBuilder frameMapBuilder, RegisterAllocationConfig registerAllocationConfig, CallingConvention callingConvention) {
         super(identifier, lir, frameMapBuilder, registerAllocationConfig, callingConvention);
@@ -60,6 +61,7 @@ public class PTXLIRGenerationResult extends LIRGenerationResult {
         variableTable = new HashMap<>();
         paramTable = new HashMap<>();
         returnVariables = new HashMap<>();
+        registerCount = new HashMap<>();
     }
 
     public int insertVariableAndGetIndex(Variable var, boolean isArray) {
@@ -75,6 +77,19 @@ public class PTXLIRGenerationResult extends LIRGenerationResult {
         return variableTable;
     }
 
+    public void setRegisterCount(PTXKind kind, int count) {
+        registerCount.put(kind, count);
+    }
+
+    /**
+     * @return the number of scalar registers of a kind after the
+     *         VirtualRegisterAllocationPhase, or {@code variableCount} if the
+     *         variables of the kind have not been allocated.
+     */
+    public int getRegisterCount(PTXKind kind, int variableCount) {
+        return registerCount.getOrDefault(kind, variableCount);
+    }
+
     public int insertParameterAndGetIndex(Variable var) {
         guarantee(var.getPlatformKind() instanceof PTXKind, "invalid variable kind %s", var.getValueKind());
         PTXKind kind = (PTXKind) var.getPlatformKind();
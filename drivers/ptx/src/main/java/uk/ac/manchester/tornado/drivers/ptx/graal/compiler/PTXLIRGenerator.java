@@ -48,6 +48,7 @@ import org.graalvm.compiler.lir.Variable;
 import org.graalvm.compiler.lir.VirtualStackSlot;
 import org.graalvm.compiler.lir.gen.LIRGenerationResult;
 import org.graalvm.compiler.lir.gen.LIRGenerator;
+import org.graalvm.compiler.nodes.ValueNode;
 import org.graalvm.compiler.phases.util.Providers;
 import uk.ac.manchester.tornado.drivers.ptx.PTXTargetDescription;
 import uk.ac.manchester.tornado.drivers.ptx.graal.PTXArchitecture;
@@ -67,6 +68,7 @@ import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXLIRStmt;
 import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXNullary;
 import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXTernary;
 import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXUnary;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoDataflowAnalysis;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -81,6 +83,7 @@ public class PTXLIRGenerator extends LIRGenerator {
     private PTXBuiltinTool ptxBuiltinTool;
 
     private final Map<String, Variable> parameterAllocations;
+    private boolean[] readOnlyArguments;
 
     public PTXLIRGenerator(Providers providers, LIRGenerationResult lirGenRes) {
         super(new PTXLIRKindTool((PTXTargetDescription) providers.getCodeCache().getTarget()), new PTXArithmeticTool(), new PTXMoveFactory(), providers, lirGenRes);
@@ -90,6 +93,18 @@ public class PTXLIRGenerator extends LIRGenerator {
         ptxBuiltinTool = new PTXBuiltinTool();
     }
 
+    public void setReadOnlyArguments(boolean[] readOnlyArguments) {
+        this.readOnlyArguments = readOnlyArguments;
+    }
+
+    /**
+     * @return true if the base of a global memory access is a kernel argument
+     *         that is only read and not aliased by any written argument.
+     */
+    public boolean isReadOnlyArgument(ValueNode base) {
+        return TornadoDataflowAnalysis.isReadOnlyArgument(base, readOnlyArguments);
+    }
+
     @Override
     public PTXLIRKindTool getLIRKindTool() {
         return (PTXLIRKindTool) super.getLIRKindTool();
@@ -88,12 +88,14 @@ public final class PTXVectorPlugins {
             registerVectorPlugins(ps, plugins, PTXKind.FLOAT3, float[].class, float.class);
             registerVectorPlugins(ps, plugins, PTXKind.FLOAT4, float[].class, float.class);
             registerVectorPlugins(ps, plugins, PTXKind.FLOAT8, float[].class, float.class);
+            registerVectorPlugins(ps, plugins, PTXKind.FLOAT16, float[].class, float.class);
 
             // Adding ints
             registerVectorPlugins(ps, plugins, PTXKind.INT2, int[].class, int.class);
             registerVectorPlugins(ps, plugins, PTXKind.INT3, int[].class, int.class);
             registerVectorPlugins(ps, plugins, PTXKind.INT4, int[].class, int.class);
             registerVectorPlugins(ps, plugins, PTXKind.INT8, int[].class, int.class);
+            registerVectorPlugins(ps, plugins, PTXKind.INT16, int[].class, int.class);
 
             // Adding shorts
             registerVectorPlugins(ps, plugins, PTXKind.SHORT2, short[].class, short.class);
@@ -107,6 +109,7 @@ public final class PTXVectorPlugins {
             registerVectorPlugins(ps, plugins, PTXKind.DOUBLE3, double[].class, double.class);
             registerVectorPlugins(ps, plugins, PTXKind.DOUBLE4, double[].class, double.class);
             registerVectorPlugins(ps, plugins, PTXKind.DOUBLE8, double[].class, double.class);
+            registerVectorPlugins(ps, plugins, PTXKind.DOUBLE16, double[].class, double.class);
         }
 
     }
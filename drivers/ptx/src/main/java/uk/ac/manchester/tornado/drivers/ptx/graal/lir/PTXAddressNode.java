@@ -111,7 +111,11 @@ public class PTXAddressNode extends AddressNode implements LIRLowerable {
             gen.setResult(this, new PTXUnary.MemoryAccess(memoryRegister, baseValue, indexValue));
         } else {
             addressValue = tool.getArithmetic().emitAdd(baseValue, indexValue, false);
-            gen.setResult(this, new PTXUnary.MemoryAccess(memoryRegister, addressValue, null));
+            PTXUnary.MemoryAccess memoryAccess = new PTXUnary.MemoryAccess(memoryRegister, addressValue, null);
+            if (tool.isReadOnlyArgument(base)) {
+                memoryAccess.markReadOnly();
+            }
+            gen.setResult(this, memoryAccess);
         }
     }
 }
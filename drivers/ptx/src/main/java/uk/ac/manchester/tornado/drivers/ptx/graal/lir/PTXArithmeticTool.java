@@ -159,8 +159,9 @@ public class PTXArithmeticTool extends ArithmeticLIRGenerator {
 
     @Override
     public Value emitReinterpret(LIRKind to, Value inputVal) {
-        unimplemented();
-        return null;
+        trace("emitReinterpret to=%s inputVal=%s", to, inputVal);
+        // An untyped move copies the bits between registers of the same size
+        return emitUnaryAssign(PTXAssembler.PTXUnaryOp.MOV_BITS, to, inputVal);
     }
 
     @Override
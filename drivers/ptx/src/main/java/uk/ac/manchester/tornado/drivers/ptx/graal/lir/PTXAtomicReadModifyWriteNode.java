@@ -0,0 +1,163 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.ptx.graal.lir;
+
+import jdk.vm.ci.meta.PrimitiveConstant;
+import jdk.vm.ci.meta.Value;
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.core.common.type.Stamp;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.ConstantValue;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.InputType;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.FrameState;
+import org.graalvm.compiler.nodes.NodeView;
+import org.graalvm.compiler.nodes.StateSplit;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.FixedAccessNode;
+import org.graalvm.compiler.nodes.memory.LIRLowerableAccess;
+import org.graalvm.compiler.nodes.memory.MemoryCheckpoint;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+import org.graalvm.word.LocationIdentity;
+import uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicIndexedNode;
+
+/**
+ * Atomic read-modify-write of a global memory location that evaluates to the
+ * previous value of the location. It is the lowered form of
+ * {@link AtomicIndexedNode}.
+ */
+@NodeInfo(nameTemplate = "PTXAtomicRMW#{p#location/s}", allowedUsageTypes = { InputType.Memory })
+public class PTXAtomicReadModifyWriteNode extends FixedAccessNode implements StateSplit, LIRLowerableAccess, MemoryCheckpoint.Single {
+
+    public static final NodeClass<PTXAtomicReadModifyWriteNode> TYPE = NodeClass.create(PTXAtomicReadModifyWriteNode.class);
+
+    @Input ValueNode value;
+    @OptionalInput ValueNode expected;
+    @OptionalInput(InputType.State) FrameState stateAfter;
+
+    private final AtomicIndexedNode.Operation operation;
+
+    public PTXAtomicReadModifyWriteNode(AddressNode address, LocationIdentity location, ValueNode expected, ValueNode value, AtomicIndexedNode.Operation operation) {
+        super(TYPE, address, location, value.stamp(NodeView.DEFAULT).unrestricted());
+        this.value = value;
+        this.expected = expected;
+        this.operation = operation;
+    }
+
+    public ValueNode value() {
+        return value;
+    }
+
+    public ValueNode expected() {
+        return expected;
+    }
+
+    public AtomicIndexedNode.Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool gen) {
+        LIRGeneratorTool tool = gen.getLIRGeneratorTool();
+        LIRKind kind = tool.getLIRKind(stamp(NodeView.DEFAULT));
+        PTXUnary.MemoryAccess address = (PTXUnary.MemoryAccess) gen.operand(getAddress());
+        if (kind.getPlatformKind() == PTXKind.F32 && (operation == AtomicIndexedNode.Operation.MIN || operation == AtomicIndexedNode.Operation.MAX)) {
+            gen.setResult(this, generateFloatMinMax(tool, address, gen.operand(value)));
+            return;
+        }
+        Value expectedValue = expected == null ? Value.ILLEGAL : gen.operand(expected);
+        Variable result = tool.newVariable(kind);
+        tool.append(new PTXLIRStmt.AtomicReadModifyWriteStmt(result, address, expectedValue, gen.operand(value), operation));
+        gen.setResult(this, result);
+    }
+
+    /**
+     * PTX has no floating-point {@code atom.min}/{@code atom.max}. The bits of
+     * non-negative floats order like signed integers, and the bits of negative
+     * floats order in reverse as unsigned integers. Depending on the sign of the
+     * value, the operation is done on the bits with the integer atomic that
+     * preserves the float order:
+     *
+     * <pre>
+     * max: value >= +0 ? atom.max.s32 : atom.min.u32
+     * min: value >= +0 ? atom.min.s32 : atom.max.u32
+     * </pre>
+     *
+     * A positive value never replaces a negative location with the signed
+     * comparison (and the other way round for the unsigned one), so both
+     * branches also give the right result when the signs differ.
+     */
+    private Value generateFloatMinMax(LIRGeneratorTool tool, PTXUnary.MemoryAccess address, Value floatValue) {
+        final LIRKind intKind = LIRKind.value(PTXKind.S32);
+        final boolean isMax = operation == AtomicIndexedNode.Operation.MAX;
+        Value bits = tool.getArithmetic().emitReinterpret(intKind, floatValue);
+
+        Variable isPositive = tool.newVariable(LIRKind.value(PTXKind.PRED));
+        tool.append(new PTXLIRStmt.AssignStmt(isPositive, new PTXBinary.Expr(PTXAssembler.PTXBinaryOp.SETP_GE, intKind, bits, new ConstantValue(intKind, PrimitiveConstant.INT_0))));
+
+        Variable previousBits = tool.newVariable(intKind);
+        AtomicIndexedNode.Operation signedOperation = isMax ? AtomicIndexedNode.Operation.MAX : AtomicIndexedNode.Operation.MIN;
+        AtomicIndexedNode.Operation unsignedOperation = isMax ? AtomicIndexedNode.Operation.MIN : AtomicIndexedNode.Operation.MAX;
+        tool.append(new PTXLIRStmt.ConditionalStatement(new PTXLIRStmt.AtomicReadModifyWriteStmt(previousBits, address, Value.ILLEGAL, bits, signedOperation, PTXKind.S32), isPositive, false));
+        tool.append(new PTXLIRStmt.ConditionalStatement(new PTXLIRStmt.AtomicReadModifyWriteStmt(previousBits, address, Value.ILLEGAL, bits, unsignedOperation, PTXKind.U32), isPositive, true));
+
+        return tool.getArithmetic().emitReinterpret(LIRKind.value(PTXKind.F32), previousBits);
+    }
+
+    @Override
+    public FrameState stateAfter() {
+        return stateAfter;
+    }
+
+    @Override
+    public void setStateAfter(FrameState x) {
+        assert x == null || x.isAlive() : "frame state must be in a graph";
+        updateUsages(stateAfter, x);
+        stateAfter = x;
+    }
+
+    @Override
+    public boolean hasSideEffect() {
+        return true;
+    }
+
+    @Override
+    public boolean canNullCheck() {
+        return false;
+    }
+
+    @Override
+    public Stamp getAccessStamp() {
+        return stamp(NodeView.DEFAULT);
+    }
+
+    @Override
+    public LocationIdentity getKilledLocationIdentity() {
+        return getLocationIdentity();
+    }
+}
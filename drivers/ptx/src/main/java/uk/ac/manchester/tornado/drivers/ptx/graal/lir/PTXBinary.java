@@ -72,6 +72,10 @@ public class PTXBinary {
             return y;
         }
 
+        public PTXBinaryOp getOpcode() {
+            return opcode;
+        }
+
         @Override
         public String toString() {
             return String.format("%s %s %s", opcode.toString(), x, y);
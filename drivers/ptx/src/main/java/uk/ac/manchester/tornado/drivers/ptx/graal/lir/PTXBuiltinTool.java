@@ -26,6 +26,7 @@ import org.graalvm.compiler.lir.Variable;
 import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
 
 import static uk.ac.manchester.tornado.api.exceptions.TornadoInternalError.unimplemented;
+import static uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXBinaryIntrinsic.FLOAT_DIV_APPROX;
 import static uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXBinaryIntrinsic.FLOAT_MAX;
 import static uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXBinaryIntrinsic.FLOAT_MIN;
 import static uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXBinaryIntrinsic.INT_MAX;
@@ -38,6 +39,7 @@ import static uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXUna
 import static uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXUnaryIntrinsic.POPCOUNT;
 import static uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXUnaryIntrinsic.SIN;
 import static uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXUnaryIntrinsic.SQRT;
+import static uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXUnaryIntrinsic.SQRT_APPROX;
 import static uk.ac.manchester.tornado.runtime.graal.compiler.TornadoCodeGenerator.trace;
 
 public class PTXBuiltinTool {
@@ -257,6 +259,11 @@ public class PTXBuiltinTool {
         return new PTXBinary.Intrinsic(FLOAT_MIN, LIRKind.combine(x, y), x, y);
     }
 
+    public Value genFloatDivApprox(Value x, Value y) {
+        trace("genFloatDivApprox: div.approx(%s,%s)", x, y);
+        return new PTXBinary.Intrinsic(FLOAT_DIV_APPROX, LIRKind.combine(x, y), x, y);
+    }
+
     public Value genFloatMod(Value x, Value y) {
         unimplemented();
         return null;
@@ -362,6 +369,11 @@ public class PTXBuiltinTool {
         return new PTXUnary.Intrinsic(SQRT, LIRKind.value(input.getPlatformKind()), input);
     }
 
+    public Value genFloatSqrtApprox(Value input) {
+        trace("genFloatSqrtApprox: sqrt.approx(%s)", input);
+        return new PTXUnary.Intrinsic(SQRT_APPROX, LIRKind.value(input.getPlatformKind()), input);
+    }
+
     public Value genIntMax(Value x, Value y) {
         trace("genMax: max(%s,%s)", x, y);
         return new PTXBinary.Intrinsic(INT_MAX, LIRKind.combine(x, y), x, y);
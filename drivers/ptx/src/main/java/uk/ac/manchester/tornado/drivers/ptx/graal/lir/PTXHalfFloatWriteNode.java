@@ -0,0 +1,75 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * School of Engineering, The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.ptx.graal.lir;
+
+import org.graalvm.compiler.core.common.LIRKind;
+import org.graalvm.compiler.core.common.type.Stamp;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGeneratorTool;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.NodeView;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.memory.AbstractWriteNode;
+import org.graalvm.compiler.nodes.memory.LIRLowerableAccess;
+import org.graalvm.compiler.nodes.memory.address.AddressNode;
+import org.graalvm.compiler.nodes.spi.NodeLIRBuilderTool;
+import org.graalvm.word.LocationIdentity;
+
+/**
+ * Writes a float to memory as a half float. It is the lowered form of
+ * {@link uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatStoreNode}.
+ */
+@NodeInfo(nameTemplate = "PTXHalfWrite#{p#location/s}")
+public class PTXHalfFloatWriteNode extends AbstractWriteNode implements LIRLowerableAccess {
+
+    public static final NodeClass<PTXHalfFloatWriteNode> TYPE = NodeClass.create(PTXHalfFloatWriteNode.class);
+
+    public PTXHalfFloatWriteNode(AddressNode address, LocationIdentity location, ValueNode value) {
+        super(TYPE, address, location, value, BarrierType.NONE);
+    }
+
+    @Override
+    public void generate(NodeLIRBuilderTool gen) {
+        LIRGeneratorTool tool = gen.getLIRGeneratorTool();
+        PTXUnary.MemoryAccess address = (PTXUnary.MemoryAccess) gen.operand(getAddress());
+        Variable half = tool.newVariable(LIRKind.value(PTXKind.B16));
+        tool.append(new PTXLIRStmt.HalfFloatStoreStmt(address, half, gen.operand(value())));
+    }
+
+    @Override
+    public boolean canNullCheck() {
+        return true;
+    }
+
+    @Override
+    public Stamp getAccessStamp() {
+        return value().stamp(NodeView.DEFAULT);
+    }
+
+    @Override
+    public LocationIdentity getKilledLocationIdentity() {
+        return getLocationIdentity();
+    }
+}
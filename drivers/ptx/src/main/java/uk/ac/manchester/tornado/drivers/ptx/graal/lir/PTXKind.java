@@ -66,16 +66,19 @@ public enum PTXKind implements PlatformKind {
     INT3(3, uk.ac.manchester.tornado.api.collections.types.Int3.TYPE, S32),
     INT4(4, uk.ac.manchester.tornado.api.collections.types.Int4.TYPE, S32),
     INT8(8, uk.ac.manchester.tornado.api.collections.types.Int8.TYPE, S32),
+    INT16(16, uk.ac.manchester.tornado.api.collections.types.Int16.TYPE, S32),
 
     FLOAT2(2, uk.ac.manchester.tornado.api.collections.types.Float2.TYPE, F32),
     FLOAT3(3, uk.ac.manchester.tornado.api.collections.types.Float3.TYPE, F32),
     FLOAT4(4, uk.ac.manchester.tornado.api.collections.types.Float4.TYPE, F32),
     FLOAT8(8, uk.ac.manchester.tornado.api.collections.types.Float8.TYPE, F32),
+    FLOAT16(16, uk.ac.manchester.tornado.api.collections.types.Float16.TYPE, F32),
 
     DOUBLE2(2, uk.ac.manchester.tornado.api.collections.types.Double2.TYPE, F64),
     DOUBLE3(3, uk.ac.manchester.tornado.api.collections.types.Double3.TYPE, F64),
     DOUBLE4(4, uk.ac.manchester.tornado.api.collections.types.Double4.TYPE, F64),
     DOUBLE8(8, uk.ac.manchester.tornado.api.collections.types.Double8.TYPE, F64),
+    DOUBLE16(16, uk.ac.manchester.tornado.api.collections.types.Double16.TYPE, F64),
 
     ILLEGAL(0, null);
     // @formatter:on
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.ptx.graal.lir;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.graalvm.compiler.lir.LIRInstruction;
+import org.graalvm.compiler.lir.StandardOp.BlockEndOp;
+import org.graalvm.compiler.lir.Variable;
+
+import jdk.vm.ci.meta.AllocatableValue;
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXBinaryOp;
+import uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXUnaryOp;
+import uk.ac.manchester.tornado.drivers.ptx.graal.lir.PTXLIRStmt.AssignStmt;
+import uk.ac.manchester.tornado.runtime.graal.phases.lir.LIRExpressionModel;
+
+/**
+ * Pure assignments of the PTX LIR: {@code op.type v, x, y} and
+ * {@code op.type v, x} with integer/floating-point arithmetic (except
+ * divisions and remainders) and bitwise operations on scalar registers.
+ */
+public class PTXLIRExpressionModel implements LIRExpressionModel {
+
+    public static final PTXLIRExpressionModel INSTANCE = new PTXLIRExpressionModel();
+
+    private static final Set<PTXBinaryOp> PURE_BINARY_OPS = new HashSet<>(Arrays.asList( //
+            PTXBinaryOp.ADD, //
+            PTXBinaryOp.SUB, //
+            PTXBinaryOp.MUL, //
+            PTXBinaryOp.MUL_LO, //
+            PTXBinaryOp.MUL_WIDE, //
+            PTXBinaryOp.BITWISE_AND, //
+            PTXBinaryOp.BITWISE_OR, //
+            PTXBinaryOp.BITWISE_XOR, //
+            PTXBinaryOp.BITWISE_LEFT_SHIFT, //
+            PTXBinaryOp.BITWISE_RIGHT_SHIFT));
+
+    private static final Set<PTXUnaryOp> PURE_UNARY_OPS = new HashSet<>(Arrays.asList( //
+            PTXUnaryOp.NOT, //
+            PTXUnaryOp.NEGATE));
+
+    private PTXLIRExpressionModel() {
+    }
+
+    @Override
+    public Value getPureExpression(LIRInstruction instruction) {
+        if (!(instruction instanceof AssignStmt)) {
+            return null;
+        }
+        Value result = ((AssignStmt) instruction).getResult();
+        if (!(result instanceof Variable) || ((PTXKind) result.getPlatformKind()).isVector()) {
+            return null;
+        }
+        Value expression = ((AssignStmt) instruction).getExpr();
+        if (expression instanceof PTXBinary.Expr && PURE_BINARY_OPS.contains(((PTXBinary.Expr) expression).getOpcode())) {
+            return expression;
+        } else if (expression instanceof PTXUnary.Expr && PURE_UNARY_OPS.contains(((PTXUnary.Expr) expression).getOpcode())) {
+            return expression;
+        }
+        return null;
+    }
+
+    @Override
+    public AllocatableValue getResult(LIRInstruction instruction) {
+        return (AllocatableValue) ((AssignStmt) instruction).getResult();
+    }
+
+    @Override
+    public Object getOpcode(Value expression) {
+        if (expression instanceof PTXBinary.Expr) {
+            return ((PTXBinary.Expr) expression).getOpcode();
+        }
+        return ((PTXUnary.Expr) expression).getOpcode();
+    }
+
+    @Override
+    public Value[] getOperands(Value expression) {
+        if (expression instanceof PTXBinary.Expr) {
+            PTXBinary.Expr binary = (PTXBinary.Expr) expression;
+            return new Value[] { binary.getX(), binary.getY() };
+        }
+        return new Value[] { ((PTXUnary.Expr) expression).getValue() };
+    }
+
+    @Override
+    public LIRInstruction createMove(AllocatableValue result, Value input) {
+        return new AssignStmt(result, input);
+    }
+
+    @Override
+    public LIRInstruction getGuardedInstruction(LIRInstruction instruction) {
+        if (instruction instanceof PTXLIRStmt.ConditionalStatement) {
+            return ((PTXLIRStmt.ConditionalStatement) instruction).getInstruction();
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isLoopControl(LIRInstruction instruction) {
+        return instruction instanceof PTXControlFlow.LoopLabel;
+    }
+
+    @Override
+    public boolean isBlockEnd(LIRInstruction instruction) {
+        return instruction instanceof PTXControlFlow.Branch || instruction instanceof BlockEndOp;
+    }
+}
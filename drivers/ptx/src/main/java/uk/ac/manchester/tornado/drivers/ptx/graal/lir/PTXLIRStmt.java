@@ -27,6 +27,7 @@ package uk.ac.manchester.tornado.drivers.ptx.graal.lir;
 import jdk.vm.ci.meta.Value;
 import org.graalvm.compiler.lir.ConstantValue;
 import org.graalvm.compiler.lir.LIRInstruction;
+import org.graalvm.compiler.lir.LIRInstruction.OperandFlag;
 import org.graalvm.compiler.lir.LIRInstructionClass;
 import org.graalvm.compiler.lir.Opcode;
 import org.graalvm.compiler.lir.Variable;
@@ -35,6 +36,7 @@ import uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler;
 import uk.ac.manchester.tornado.drivers.ptx.graal.asm.PTXAssembler.PTXNullaryOp;
 import uk.ac.manchester.tornado.drivers.ptx.graal.compiler.PTXCompilationResultBuilder;
 import uk.ac.manchester.tornado.drivers.ptx.graal.meta.PTXMemorySpace;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicIndexedNode;
 
 import java.nio.charset.StandardCharsets;
 
@@ -219,6 +221,10 @@ public class PTXLIRStmt {
             loadOp.emit(crb, null);
             asm.emitSymbol(DOT);
             asm.emit(address.getBase().memorySpace.getName());
+            if (address.isReadOnly()) {
+                asm.emitSymbol(DOT);
+                asm.emit(NON_COHERENT);
+            }
             asm.emitSymbol(DOT);
             asm.emit(dest.getPlatformKind().toString());
             asm.emitSymbol(TAB);
@@ -232,6 +238,61 @@ public class PTXLIRStmt {
         }
     }
 
+    /**
+     * Loads a half float from memory into a 16-bit register and converts it to
+     * a float.
+     */
+    @Opcode("LOAD_HALF")
+    public static class HalfFloatLoadStmt extends AbstractInstruction {
+        public static final LIRInstructionClass<HalfFloatLoadStmt> TYPE = LIRInstructionClass.create(HalfFloatLoadStmt.class);
+
+        @Def
+        protected Variable dest;
+        @Def
+        protected Variable half;
+        @Use
+        protected PTXUnary.MemoryAccess address;
+
+        public HalfFloatLoadStmt(PTXUnary.MemoryAccess address, Variable half, Variable dest) {
+            super(TYPE);
+            this.dest = dest;
+            this.half = half;
+            this.address = address;
+        }
+
+        @Override
+        public void emitCode(PTXCompilationResultBuilder crb, PTXAssembler asm) {
+            // ld.global.b16 %rb1, [%rd8];
+            PTXNullaryOp.LD.emit(crb, null);
+            asm.emitSymbol(DOT);
+            asm.emit(address.getBase().memorySpace.getName());
+            asm.emitSymbol(DOT);
+            asm.emit(half.getPlatformKind().toString());
+            asm.emitSymbol(TAB);
+            asm.emitValue(half);
+            asm.emitSymbol(COMMA);
+            asm.space();
+            address.emit(crb, asm, null);
+            asm.delimiter();
+            asm.eol();
+
+            // cvt.f32.f16 %rf1, %rb1;
+            asm.emitSymbol(TAB);
+            asm.emit(CONVERT);
+            asm.emitSymbol(DOT);
+            asm.emit(dest.getPlatformKind().toString());
+            asm.emitSymbol(DOT);
+            asm.emit(PTXKind.F16.toString());
+            asm.emitSymbol(TAB);
+            asm.emitValue(dest);
+            asm.emitSymbol(COMMA);
+            asm.space();
+            asm.emitValue(half);
+            asm.delimiter();
+            asm.eol();
+        }
+    }
+
     @Opcode("VLOAD")
     public static class VectorLoadStmt extends AbstractInstruction {
 
@@ -257,6 +318,10 @@ public class PTXLIRStmt {
                 PTXNullaryOp.LD.emit(crb, null);
                 asm.emitSymbol(DOT);
                 asm.emit(address.getBase().memorySpace.getName());
+                if (address.isReadOnly()) {
+                    asm.emitSymbol(DOT);
+                    asm.emit(NON_COHERENT);
+                }
                 if (!vectorSplitData.fullUnwrapVector) {
                     asm.emitSymbol(DOT);
                     asm.emit(VECTOR + vectorSplitData.newKind.getVectorLength());
@@ -331,6 +396,174 @@ public class PTXLIRStmt {
         }
     }
 
+    /**
+     * Converts a float to a half float, rounding to the nearest even value, and
+     * stores it from a 16-bit register.
+     */
+    @Opcode("STORE_HALF")
+    public static class HalfFloatStoreStmt extends AbstractInstruction {
+        public static final LIRInstructionClass<HalfFloatStoreStmt> TYPE = LIRInstructionClass.create(HalfFloatStoreStmt.class);
+
+        @Def
+        protected Variable half;
+        @Use
+        protected PTXUnary.MemoryAccess address;
+        @Use
+        protected Value rhs;
+
+        public HalfFloatStoreStmt(PTXUnary.MemoryAccess address, Variable half, Value rhs) {
+            super(TYPE);
+            this.half = half;
+            this.address = address;
+            this.rhs = rhs;
+        }
+
+        @Override
+        public void emitCode(PTXCompilationResultBuilder crb, PTXAssembler asm) {
+            // cvt.rn.f16.f32 %rb1, %rf1;
+            asm.emitSymbol(TAB);
+            asm.emit(CONVERT);
+            asm.emitSymbol(DOT);
+            asm.emit(ROUND_NEAREST_EVEN);
+            asm.emitSymbol(DOT);
+            asm.emit(PTXKind.F16.toString());
+            asm.emitSymbol(DOT);
+            asm.emit(rhs.getPlatformKind().toString());
+            asm.emitSymbol(TAB);
+            asm.emitValue(half);
+            asm.emitSymbol(COMMA);
+            asm.space();
+            asm.emitValueOrOp(crb, rhs, null);
+            asm.delimiter();
+            asm.eol();
+
+            // st.global.b16 [%rd8], %rb1;
+            PTXNullaryOp.ST.emit(crb, null);
+            asm.emitSymbol(DOT);
+            asm.emit(address.getBase().memorySpace.getName());
+            asm.emitSymbol(DOT);
+            asm.emit(half.getPlatformKind().toString());
+            asm.emitSymbol(TAB);
+            address.emit(crb, asm, null);
+            asm.emitSymbol(COMMA);
+            asm.space();
+            asm.emitValue(half);
+            asm.delimiter();
+            asm.eol();
+        }
+    }
+
+    /**
+     * Atomic read-modify-write of a global memory location with
+     * {@code atom.global}. The previous value of the location is assigned to
+     * {@code dest}.
+     */
+    @Opcode("ATOMIC_RMW")
+    public static class AtomicReadModifyWriteStmt extends AbstractInstruction {
+
+        public static final LIRInstructionClass<AtomicReadModifyWriteStmt> TYPE = LIRInstructionClass.create(AtomicReadModifyWriteStmt.class);
+
+        @Def
+        protected Variable dest;
+        @Use
+        protected PTXUnary.MemoryAccess address;
+        @Use({ OperandFlag.REG, OperandFlag.CONST, OperandFlag.ILLEGAL })
+        protected Value expected;
+        @Use
+        protected Value rhs;
+
+        private final AtomicIndexedNode.Operation operation;
+        private final PTXKind type;
+
+        public AtomicReadModifyWriteStmt(Variable dest, PTXUnary.MemoryAccess address, Value expected, Value rhs, AtomicIndexedNode.Operation operation) {
+            this(dest, address, expected, rhs, operation, null);
+        }
+
+        /**
+         * @param type
+         *            type of the instruction, or null to derive it from the type
+         *            of {@code dest}.
+         */
+        public AtomicReadModifyWriteStmt(Variable dest, PTXUnary.MemoryAccess address, Value expected, Value rhs, AtomicIndexedNode.Operation operation, PTXKind type) {
+            super(TYPE);
+            this.dest = dest;
+            this.address = address;
+            this.expected = expected;
+            this.rhs = rhs;
+            this.operation = operation;
+            this.type = type;
+        }
+
+        private String getOperation() {
+            switch (operation) {
+                case ADD:
+                    return ATOM_ADD;
+                case MIN:
+                    return ATOM_MIN;
+                case MAX:
+                    return ATOM_MAX;
+                case CAS:
+                    return ATOM_CAS;
+                default:
+                    throw new RuntimeException("Atomic operation not supported yet: " + operation);
+            }
+        }
+
+        /**
+         * The type of the instruction: {@code atom.add} has no {@code .s64}
+         * variant and {@code atom.cas} only has bit-size variants.
+         */
+        private PTXKind getType() {
+            if (type != null) {
+                return type;
+            }
+            PTXKind kind = (PTXKind) dest.getPlatformKind();
+            if (operation == AtomicIndexedNode.Operation.CAS) {
+                return kind.is64Bit() ? PTXKind.B64 : PTXKind.B32;
+            } else if (operation == AtomicIndexedNode.Operation.ADD && kind == PTXKind.S64) {
+                return PTXKind.U64;
+            }
+            return kind;
+        }
+
+        @Override
+        public void emitCode(PTXCompilationResultBuilder crb, PTXAssembler asm) {
+            // atom.global.add.s32 %r5, [%rd4], %r4;
+            asm.emitSymbol(TAB);
+            asm.emit(ATOM);
+            asm.emitSymbol(DOT);
+            asm.emit(address.getBase().memorySpace.getName());
+            asm.emitSymbol(DOT);
+            asm.emit(getOperation());
+            asm.emitSymbol(DOT);
+            asm.emit(getType().toString());
+            asm.emitSymbol(TAB);
+
+            asm.emitValue(dest);
+            asm.emitSymbol(COMMA);
+            asm.space();
+            address.emit(crb, asm, null);
+            if (operation == AtomicIndexedNode.Operation.CAS) {
+                asm.emitSymbol(COMMA);
+                asm.space();
+                asm.emitValueOrOp(crb, expected, null);
+            }
+            asm.emitSymbol(COMMA);
+            asm.space();
+            asm.emitValueOrOp(crb, rhs, null);
+            asm.delimiter();
+            asm.eol();
+        }
+
+        public Variable getResult() {
+            return dest;
+        }
+
+        public PTXUnary.MemoryAccess getAddress() {
+            return address;
+        }
+    }
+
     @Opcode("VSTORE")
     public static class VectorStoreStmt extends AbstractInstruction {
 
@@ -404,6 +637,10 @@ public class PTXLIRStmt {
             asm.convertNextTabToSpace();
             instruction.emitCode(crb, asm);
         }
+
+        public AbstractInstruction getInstruction() {
+            return instruction;
+        }
     }
 
     @Opcode("PRINTF_STRING_STMT")
@@ -124,6 +124,7 @@ public class PTXUnary {
         private Value index;
         private String name;
         private Variable assignedTo;
+        private boolean readOnly;
 
         MemoryAccess(PTXMemoryBase base, Value value) {
             super(null, LIRKind.Illegal, value);
@@ -198,6 +199,19 @@ public class PTXUnary {
             return base;
         }
 
+        /**
+         * Marks the access as a read from an array that is not written by the
+         * kernel, so it can be loaded through the non-coherent (read-only) data
+         * cache.
+         */
+        public void markReadOnly() {
+            readOnly = true;
+        }
+
+        public boolean isReadOnly() {
+            return readOnly;
+        }
+
         public void assignTo(Variable loadedTo) {
             assignedTo = loadedTo;
         }
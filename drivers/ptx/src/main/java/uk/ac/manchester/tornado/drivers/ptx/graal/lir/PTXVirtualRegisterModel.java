@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.ptx.graal.lir;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.graalvm.compiler.lir.LIRInstruction;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGenerationResult;
+
+import jdk.vm.ci.meta.Value;
+import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
+import uk.ac.manchester.tornado.drivers.ptx.graal.compiler.PTXLIRGenerationResult;
+import uk.ac.manchester.tornado.drivers.ptx.graal.compiler.PTXLIRGenerationResult.VariableData;
+import uk.ac.manchester.tornado.runtime.graal.phases.lir.VirtualRegisterModel;
+
+/**
+ * Variables of the PTX LIR. The expressions of the PTX backend
+ * ({@link PTXLIROp}) are not visited by {@link LIRInstruction#forEachInput},
+ * so the inputs of an instruction are found in the fields of the instruction
+ * and of its expressions. The outputs of an instruction executed under a
+ * predicate are also inputs, since they keep their value if the predicate is
+ * false.
+ *
+ * Only scalar registers are allocated: they are declared as a range
+ * {@code .reg .type r<n>}, so the registers of a {@link PTXKind} are renumbered
+ * from zero and the range is reduced to the number of registers. Kinds with a
+ * scalar register that cannot be renamed are not modified.
+ */
+public class PTXVirtualRegisterModel implements VirtualRegisterModel {
+
+    public static final PTXVirtualRegisterModel INSTANCE = new PTXVirtualRegisterModel();
+
+    private static final String PACKAGE_PREFIX = "uk.ac.manchester.tornado.drivers.ptx";
+
+    private static final ClassValue<List<Field>> FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current.getName().startsWith(PACKAGE_PREFIX); current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        }
+    };
+
+    private PTXVirtualRegisterModel() {
+    }
+
+    @Override
+    public void forEachInput(LIRInstruction instruction, Consumer<Variable> action) {
+        Set<Value> outputs = Collections.newSetFromMap(new IdentityHashMap<>());
+        instruction.forEachOutput((value, mode, flags) -> {
+            outputs.add(value);
+            return value;
+        });
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Field field : FIELDS.get(instruction.getClass())) {
+            Object value = getField(field, instruction);
+            if (!(value instanceof Variable && outputs.contains(value))) {
+                visit(value, action, visited);
+            }
+        }
+    }
+
+    private static void visit(Object object, Consumer<Variable> action, Set<Object> visited) {
+        if (object == null || !visited.add(object)) {
+            return;
+        }
+        if (object instanceof Variable) {
+            action.accept((Variable) object);
+        } else if (object instanceof Object[]) {
+            for (Object element : (Object[]) object) {
+                visit(element, action, visited);
+            }
+        } else if ((object instanceof Value || object instanceof LIRInstruction) && object.getClass().getName().startsWith(PACKAGE_PREFIX)) {
+            for (Field field : FIELDS.get(object.getClass())) {
+                visit(getField(field, object), action, visited);
+            }
+        }
+    }
+
+    private static Object getField(Field field, Object object) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            throw new TornadoInternalError(e);
+        }
+    }
+
+    @Override
+    public void forEachOutput(LIRInstruction instruction, Consumer<Variable> action) {
+        for (LIRInstruction current = instruction; current != null; current = PTXLIRExpressionModel.INSTANCE.getGuardedInstruction(current)) {
+            current.forEachOutput((value, mode, flags) -> {
+                if (value instanceof Variable) {
+                    action.accept((Variable) value);
+                }
+                return value;
+            });
+        }
+    }
+
+    @Override
+    public boolean isReordered(LIRInstruction instruction) {
+        return false;
+    }
+
+    @Override
+    public Map<Object, List<Variable>> getAllocatableVariables(LIRGenerationResult lirGenRes, Set<Variable> candidates) {
+        Map<Object, List<Variable>> registerClasses = new HashMap<>();
+        for (Map.Entry<PTXKind, Set<VariableData>> entry : ((PTXLIRGenerationResult) lirGenRes).getVariableTable().entrySet()) {
+            PTXKind kind = entry.getKey();
+            if (kind.isVector()) {
+                continue;
+            }
+            List<Variable> registers = new ArrayList<>();
+            boolean allocatable = true;
+            for (VariableData data : entry.getValue()) {
+                if (!data.isArray) {
+                    allocatable &= candidates.contains(data.variable) && isRegisterName(kind, data.variable.getName());
+                    registers.add(data.variable);
+                }
+            }
+            if (allocatable && !registers.isEmpty()) {
+                registerClasses.put(kind, registers);
+            }
+        }
+        return registerClasses;
+    }
+
+    private static boolean isRegisterName(PTXKind kind, String name) {
+        String prefix = kind.getRegisterTypeString();
+        if (name == null || name.length() == prefix.length() || !name.startsWith(prefix)) {
+            return false;
+        }
+        for (int i = prefix.length(); i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String getRegisterName(Object registerClass, Variable variable, int register) {
+        return ((PTXKind) registerClass).getRegisterTypeString() + register;
+    }
+
+    @Override
+    public void setRegisterCount(LIRGenerationResult lirGenRes, Object registerClass, int count) {
+        ((PTXLIRGenerationResult) lirGenRes).setRegisterCount((PTXKind) registerClass, count);
+    }
+}
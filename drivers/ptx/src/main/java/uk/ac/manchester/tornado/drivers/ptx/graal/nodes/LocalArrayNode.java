@@ -59,13 +59,19 @@ public class LocalArrayNode extends FixedNode implements LIRLowerable, MarkLocal
     protected PTXMemoryBase memoryRegister;
     protected PTXBinaryTemplate arrayTemplate;
     private PTXKind kind;
+    private boolean fixedSize;
 
     public LocalArrayNode(PTXMemoryBase memoryRegister, ResolvedJavaType elementType, ConstantNode length) {
+        this(memoryRegister, elementType, length, false);
+    }
+
+    public LocalArrayNode(PTXMemoryBase memoryRegister, ResolvedJavaType elementType, ConstantNode length, boolean fixedSize) {
         super(TYPE, StampFactory.objectNonNull(TypeReference.createTrustedWithoutAssumptions(elementType.getArrayClass())));
         this.memoryRegister = memoryRegister;
         this.length = length;
         this.kind = PTXKind.fromResolvedJavaType(elementType);
         this.arrayTemplate = PTXKind.resolveTemplateType(elementType);
+        this.fixedSize = fixedSize;
     }
 
     public PTXMemoryBase getMemoryRegister() {
@@ -76,6 +82,11 @@ public class LocalArrayNode extends FixedNode implements LIRLowerable, MarkLocal
         return length;
     }
 
+    @Override
+    public boolean isFixedSize() {
+        return fixedSize;
+    }
+
     @Override
     public void generate(NodeLIRBuilderTool gen) {
         trace("emitLocalArray length=%s kind=%s", length, kind);
@@ -67,6 +67,7 @@ public class PTXFPBinaryIntrinsicNode extends BinaryNode implements ArithmeticLI
     protected final Operation operation;
 
     public enum Operation {
+        DIV_APPROX, //
         FMAX, //
         FMIN, //
         POW //
@@ -125,6 +126,9 @@ public class PTXFPBinaryIntrinsicNode extends BinaryNode implements ArithmeticLI
         Variable auxVar;
 
         switch (operation()) {
+            case DIV_APPROX:
+                result = gen.genFloatDivApprox(x, y);
+                break;
             case FMIN:
                 result = gen.genFloatMin(x, y);
                 break;
@@ -213,6 +217,8 @@ public class PTXFPBinaryIntrinsicNode extends BinaryNode implements ArithmeticLI
 
     private static double doCompute(double x, double y, Operation op) {
         switch (op) {
+            case DIV_APPROX:
+                return x / y;
             case FMIN:
                 return Math.min(x, y);
             case FMAX:
@@ -226,6 +232,8 @@ public class PTXFPBinaryIntrinsicNode extends BinaryNode implements ArithmeticLI
 
     private static float doCompute(float x, float y, Operation op) {
         switch (op) {
+            case DIV_APPROX:
+                return x / y;
             case FMIN:
                 return Math.min(x, y);
             case FMAX:
@@ -72,7 +72,8 @@ public class PTXFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIRL
         FLOOR,
         LOG,
         SIN,
-        SQRT
+        SQRT,
+        SQRT_APPROX
     }
     // @formatter:on
 
@@ -145,6 +146,9 @@ public class PTXFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIRL
             case SQRT:
                 result = gen.genFloatSqrt(auxValue);
                 break;
+            case SQRT_APPROX:
+                result = gen.genFloatSqrtApprox(auxValue);
+                break;
             case FLOOR:
                 result = gen.genFloatFloor(auxValue);
                 break;
@@ -242,6 +246,7 @@ public class PTXFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIRL
             case EXP:
                 return Math.exp(value);
             case SQRT:
+            case SQRT_APPROX:
                 return Math.sqrt(value);
             case FLOOR:
                 return Math.floor(value);
@@ -259,6 +264,7 @@ public class PTXFPUnaryIntrinsicNode extends UnaryNode implements ArithmeticLIRL
             case EXP:
                 return (float) Math.exp(value);
             case SQRT:
+            case SQRT_APPROX:
                 return (float) Math.sqrt(value);
             case FLOOR:
                 return (float) Math.floor(value);
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.ptx.graal.phases;
+
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.FloatDivNode;
+import org.graalvm.compiler.phases.BasePhase;
+
+import jdk.vm.ci.meta.JavaKind;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXFPBinaryIntrinsicNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXFPUnaryIntrinsicNode;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
+
+/**
+ * Fast-math mode of the PTX backend, enabled per task or per task-schedule
+ * with {@code -D<id>.fastmath=True} or for all tasks with
+ * {@code -Dtornado.fastmath=True}.
+ *
+ * The transcendental functions are always emitted with their {@code .approx}
+ * variants in PTX. In fast-math mode, single-precision square roots are also
+ * emitted as {@code sqrt.approx.f32} and single-precision divisions as
+ * {@code div.approx.f32} instead of {@code sqrt.rn} and {@code div.full}.
+ * {@code sqrt.rn} is correctly rounded, but {@code div.full.f32} is itself
+ * approximate (up to 2 ulp); the IEEE round-to-nearest division is
+ * {@code div.rn.f32}.
+ */
+public class TornadoPTXFastMath extends BasePhase<TornadoHighTierContext> {
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoHighTierContext context) {
+        if (!context.hasMeta() || !context.getMeta().enableFastMath()) {
+            return;
+        }
+
+        for (PTXFPUnaryIntrinsicNode intrinsic : graph.getNodes().filter(PTXFPUnaryIntrinsicNode.class).snapshot()) {
+            if (intrinsic.operation() == PTXFPUnaryIntrinsicNode.Operation.SQRT && intrinsic.getStackKind() == JavaKind.Float) {
+                ValueNode approx = graph.addOrUnique(PTXFPUnaryIntrinsicNode.create(intrinsic.getValue(), PTXFPUnaryIntrinsicNode.Operation.SQRT_APPROX, JavaKind.Float));
+                intrinsic.replaceAtUsagesAndDelete(approx);
+            }
+        }
+
+        for (FloatDivNode div : graph.getNodes().filter(FloatDivNode.class).snapshot()) {
+            if (div.getStackKind() == JavaKind.Float) {
+                ValueNode approx = graph.addOrUnique(PTXFPBinaryIntrinsicNode.create(div.getX(), div.getY(), PTXFPBinaryIntrinsicNode.Operation.DIV_APPROX, JavaKind.Float));
+                div.replaceAtUsagesAndDelete(approx);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.ptx.graal.phases;
+
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.nodes.ValueNode;
+
+import jdk.vm.ci.meta.ResolvedJavaType;
+import uk.ac.manchester.tornado.drivers.ptx.graal.PTXArchitecture;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.LocalArrayNode;
+import uk.ac.manchester.tornado.drivers.ptx.graal.nodes.PTXBarrierNode;
+import uk.ac.manchester.tornado.runtime.graal.phases.TornadoLocalMemoryTiling;
+
+/**
+ * Local memory tiling for PTX: tiles are declared in the shared state space
+ * and synchronised with {@code bar.sync 0}.
+ */
+public class TornadoPTXLocalMemoryTiling extends TornadoLocalMemoryTiling {
+
+    @Override
+    protected ValueNode createLocalArray(StructuredGraph graph, ResolvedJavaType elementType, int length) {
+        ConstantNode lengthNode = ConstantNode.forInt(length, graph);
+        return graph.addWithoutUnique(new LocalArrayNode(PTXArchitecture.sharedSpace, elementType, lengthNode, true));
+    }
+
+    @Override
+    protected FixedWithNextNode createLocalBarrier(StructuredGraph graph) {
+        return graph.add(new PTXBarrierNode(0, -1));
+    }
+}
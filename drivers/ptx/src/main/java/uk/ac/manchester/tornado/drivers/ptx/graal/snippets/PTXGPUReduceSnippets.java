@@ -26,6 +26,9 @@ import org.graalvm.compiler.api.replacements.SnippetReflectionProvider;
 import org.graalvm.compiler.debug.DebugHandlersFactory;
 import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
+import org.graalvm.compiler.nodes.calc.OrNode;
+import org.graalvm.compiler.nodes.calc.XorNode;
 import org.graalvm.compiler.nodes.java.NewArrayNode;
 import org.graalvm.compiler.nodes.spi.LoweringTool;
 import org.graalvm.compiler.options.OptionValues;
@@ -799,6 +802,283 @@ public class PTXGPUReduceSnippets implements Snippets {
         }
     }
 
+    // Bitwise
+    @Snippet
+    public static void partialReduceIntOr(int[] inputArray, int[] outputArray, int gidx) {
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntOrCarrierValue(int[] inputArray, int[] outputArray, int gidx, int extra) {
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAnd(int[] inputArray, int[] outputArray, int gidx) {
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntAndCarrierValue(int[] inputArray, int[] outputArray, int gidx, int extra) {
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXor(int[] inputArray, int[] outputArray, int gidx) {
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceIntXorCarrierValue(int[] inputArray, int[] outputArray, int gidx, int extra) {
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        int[] localArray = (int[]) NewArrayNode.newUninitializedArray(int.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOr(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongOrCarrierValue(long[] inputArray, long[] outputArray, int gidx, long extra) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] |= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAnd(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongAndCarrierValue(long[] inputArray, long[] outputArray, int gidx, long extra) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] &= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXor(long[] inputArray, long[] outputArray, int gidx) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = inputArray[gidx];
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
+    @Snippet
+    public static void partialReduceLongXorCarrierValue(long[] inputArray, long[] outputArray, int gidx, long extra) {
+
+        int localIdx = PTXIntrinsics.get_local_id(0);
+        int localGroupSize = PTXIntrinsics.get_local_size(0);
+        int groupID = PTXIntrinsics.get_group_id(0);
+
+        long[] localArray = (long[]) NewArrayNode.newUninitializedArray(long.class, LOCAL_WORK_GROUP_SIZE);
+
+        localArray[localIdx] = extra;
+
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            PTXIntrinsics.localBarrier();
+            if (localIdx < stride) {
+                localArray[localIdx] ^= localArray[localIdx + stride];
+            }
+        }
+
+        PTXIntrinsics.globalBarrier();
+        if (localIdx == 0) {
+            outputArray[groupID + 1] = localArray[0];
+        }
+    }
+
     public static class Templates extends AbstractTemplates implements TornadoSnippetTypeInference {
 
         // Add
@@ -841,6 +1121,20 @@ public class PTXGPUReduceSnippets implements Snippets {
         private final SnippetInfo partialReduceMinDoubleSnippet = snippet(PTXGPUReduceSnippets.class, "partialReduceDoubleMin");
         private final SnippetInfo partialReduceMinDoubleSnippetCarrierValue = snippet(PTXGPUReduceSnippets.class, "partialReduceDoubleMinCarrierValue");
 
+        // Bitwise
+        private final SnippetInfo partialReduceIntOrSnippet = snippet(PTXGPUReduceSnippets.class, "partialReduceIntOr");
+        private final SnippetInfo partialReduceIntOrSnippetCarrierValue = snippet(PTXGPUReduceSnippets.class, "partialReduceIntOrCarrierValue");
+        private final SnippetInfo partialReduceIntAndSnippet = snippet(PTXGPUReduceSnippets.class, "partialReduceIntAnd");
+        private final SnippetInfo partialReduceIntAndSnippetCarrierValue = snippet(PTXGPUReduceSnippets.class, "partialReduceIntAndCarrierValue");
+        private final SnippetInfo partialReduceIntXorSnippet = snippet(PTXGPUReduceSnippets.class, "partialReduceIntXor");
+        private final SnippetInfo partialReduceIntXorSnippetCarrierValue = snippet(PTXGPUReduceSnippets.class, "partialReduceIntXorCarrierValue");
+        private final SnippetInfo partialReduceLongOrSnippet = snippet(PTXGPUReduceSnippets.class, "partialReduceLongOr");
+        private final SnippetInfo partialReduceLongOrSnippetCarrierValue = snippet(PTXGPUReduceSnippets.class, "partialReduceLongOrCarrierValue");
+        private final SnippetInfo partialReduceLongAndSnippet = snippet(PTXGPUReduceSnippets.class, "partialReduceLongAnd");
+        private final SnippetInfo partialReduceLongAndSnippetCarrierValue = snippet(PTXGPUReduceSnippets.class, "partialReduceLongAndCarrierValue");
+        private final SnippetInfo partialReduceLongXorSnippet = snippet(PTXGPUReduceSnippets.class, "partialReduceLongXor");
+        private final SnippetInfo partialReduceLongXorSnippetCarrierValue = snippet(PTXGPUReduceSnippets.class, "partialReduceLongXorCarrierValue");
+
         public Templates(OptionValues options, Iterable<DebugHandlersFactory> debugHandlersFactories, Providers providers, SnippetReflectionProvider snippetReflection, TargetDescription target) {
             super(options, debugHandlersFactories, providers, snippetReflection, target);
         }
@@ -878,6 +1172,12 @@ public class PTXGPUReduceSnippets implements Snippets {
             } else if (value instanceof PTXIntBinaryIntrinsicNode) {
                 PTXIntBinaryIntrinsicNode op = (PTXIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeInteger(op, extra);
+            } else if (value instanceof OrNode) {
+                snippet = (extra == null) ? partialReduceIntOrSnippet : partialReduceIntOrSnippetCarrierValue;
+            } else if (value instanceof AndNode) {
+                snippet = (extra == null) ? partialReduceIntAndSnippet : partialReduceIntAndSnippetCarrierValue;
+            } else if (value instanceof XorNode) {
+                snippet = (extra == null) ? partialReduceIntXorSnippet : partialReduceIntXorSnippetCarrierValue;
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -894,6 +1194,12 @@ public class PTXGPUReduceSnippets implements Snippets {
             } else if (value instanceof PTXIntBinaryIntrinsicNode) {
                 PTXIntBinaryIntrinsicNode op = (PTXIntBinaryIntrinsicNode) value;
                 snippet = getSnippetFromOCLBinaryNodeLong(op, extra);
+            } else if (value instanceof OrNode) {
+                snippet = (extra == null) ? partialReduceLongOrSnippet : partialReduceLongOrSnippetCarrierValue;
+            } else if (value instanceof AndNode) {
+                snippet = (extra == null) ? partialReduceLongAndSnippet : partialReduceLongAndSnippetCarrierValue;
+            } else if (value instanceof XorNode) {
+                snippet = (extra == null) ? partialReduceLongXorSnippet : partialReduceLongXorSnippetCarrierValue;
             } else {
                 throw new RuntimeException("Reduce Operation no supported yet: snippet not installed");
             }
@@ -116,13 +116,26 @@ public abstract class PTXArrayWrapper<T> implements ObjectBuffer {
         return -1;
     }
 
+    @Override
+    public int read(Object reference, long hostOffset, long partialReadSize, int[] events, boolean useDeps) {
+        if (partialReadSize <= 0) {
+            return read(reference, hostOffset, events, useDeps);
+        }
+        T array = cast(reference);
+        if (array == null)
+            throw new TornadoRuntimeException("[ERROR] output data is NULL");
+
+        final long bytes = Math.min(partialReadSize, bytesToAllocate - arrayHeaderSize - hostOffset);
+        return readArrayData(toBuffer() + bufferOffset + arrayHeaderSize + hostOffset, bytes, array, hostOffset, (useDeps) ? events : null);
+    }
+
     private boolean validateArrayHeader(T array) {
         final PTXByteBuffer header = prepareArrayHeader();
         header.read();
         final int numElements = header.getInt(arrayLengthOffset);
-        final boolean valid = numElements == Array.getLength(array);
+        final boolean valid = numElements == lengthOf(array);
         if (!valid) {
-            fatal("Array: expected=%d, got=%d", Array.getLength(array), numElements);
+            fatal("Array: expected=%d, got=%d", lengthOf(array), numElements);
             header.dump(8);
         }
         return valid;
@@ -141,7 +154,7 @@ public abstract class PTXArrayWrapper<T> implements ObjectBuffer {
         if (array == null) {
             throw new TornadoRuntimeException("[ERROR] data is NULL");
         }
-        buildArrayHeader(Array.getLength(array)).write();
+        buildArrayHeader(lengthOf(array)).write();
         // TODO: Writing with offset != 0
         writeArrayData(toBuffer() + bufferOffset + arrayHeaderSize, bytesToAllocate - arrayHeaderSize, array, 0, null);
         onDevice = true;
@@ -191,7 +204,7 @@ public abstract class PTXArrayWrapper<T> implements ObjectBuffer {
             // buffer
             final int headerEvent;
             if (batchSize <= 0) {
-                headerEvent = buildArrayHeader(Array.getLength(array)).enqueueWrite((useDeps) ? events : null);
+                headerEvent = buildArrayHeader(lengthOf(array)).enqueueWrite((useDeps) ? events : null);
             } else {
                 headerEvent = buildArrayHeaderBatch(batchSize).enqueueWrite((useDeps) ? events : null);
             }
@@ -252,8 +265,19 @@ public abstract class PTXArrayWrapper<T> implements ObjectBuffer {
         }
     }
 
+    /**
+     * Returns the number of elements of the given host array.
+     *
+     * @param array
+     *            Host array
+     * @return number of elements
+     */
+    protected int lengthOf(final T array) {
+        return Array.getLength(array);
+    }
+
     private long sizeOf(final T array) {
-        return (long) arrayHeaderSize + ((long) Array.getLength(array) * (long) kind.getByteCount());
+        return (long) arrayHeaderSize + ((long) lengthOf(array) * (long) kind.getByteCount());
     }
 
     @Override
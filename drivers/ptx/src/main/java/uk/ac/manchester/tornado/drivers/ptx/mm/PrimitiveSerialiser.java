@@ -41,19 +41,47 @@ public class PrimitiveSerialiser {
 
     public static void put(ByteBuffer buffer, Object value, int alignment) {
         if (value instanceof Integer) {
-            buffer.putInt((int) value);
+            putInt(buffer, (Integer) value, alignment);
         } else if (value instanceof Long) {
-            buffer.putLong((long) value);
+            putLong(buffer, (Long) value, alignment);
         } else if (value instanceof Short) {
-            buffer.putShort((short) value);
+            putShort(buffer, (Short) value, alignment);
         } else if (value instanceof Float) {
-            buffer.putFloat((float) value);
+            putFloat(buffer, (Float) value, alignment);
         } else if (value instanceof Double) {
-            buffer.putDouble((double) value);
+            putDouble(buffer, (Double) value, alignment);
         } else {
             Tornado.warn("unable to serialise: %s (%s)", value, value.getClass().getName());
+            alignTo(buffer, alignment);
         }
+    }
+
+    public static void putInt(ByteBuffer buffer, int value, int alignment) {
+        buffer.putInt(value);
+        alignTo(buffer, alignment);
+    }
+
+    public static void putLong(ByteBuffer buffer, long value, int alignment) {
+        buffer.putLong(value);
+        alignTo(buffer, alignment);
+    }
+
+    public static void putShort(ByteBuffer buffer, short value, int alignment) {
+        buffer.putShort(value);
+        alignTo(buffer, alignment);
+    }
+
+    public static void putFloat(ByteBuffer buffer, float value, int alignment) {
+        buffer.putFloat(value);
+        alignTo(buffer, alignment);
+    }
+
+    public static void putDouble(ByteBuffer buffer, double value, int alignment) {
+        buffer.putDouble(value);
+        alignTo(buffer, alignment);
+    }
 
+    private static void alignTo(ByteBuffer buffer, int alignment) {
         if (alignment != 0) {
             align(buffer, alignment);
         }
@@ -33,8 +33,13 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 
+import jdk.vm.ci.meta.JavaKind;
 import jdk.vm.ci.meta.ResolvedJavaMethod;
 import uk.ac.manchester.tornado.api.TornadoTargetDevice;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapArray;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapDoubleArray;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapFloatArray;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapIntArray;
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.common.SchedulableTask;
@@ -67,6 +72,7 @@ import uk.ac.manchester.tornado.drivers.ptx.mm.PTXIntArrayWrapper;
 import uk.ac.manchester.tornado.drivers.ptx.mm.PTXLongArrayWrapper;
 import uk.ac.manchester.tornado.drivers.ptx.mm.PTXMemoryManager;
 import uk.ac.manchester.tornado.drivers.ptx.mm.PTXObjectWrapper;
+import uk.ac.manchester.tornado.drivers.ptx.mm.PTXOffHeapArrayWrapper;
 import uk.ac.manchester.tornado.drivers.ptx.mm.PTXShortArrayWrapper;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.common.CallStack;
@@ -179,6 +185,22 @@ public class PTXTornadoDevice implements TornadoAcceleratorDevice {
         }
     }
 
+    @Override
+    public String compileToSource(SchedulableTask task) {
+        final CompilableTask executable = (CompilableTask) task;
+        final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(executable.getMethod());
+        final Sketch sketch = TornadoSketcher.lookup(resolvedMethod, task.meta().getDriverIndex(), task.meta().getDeviceIndex());
+
+        // copy meta data into task
+        final Access[] sketchAccess = sketch.getMeta().getArgumentsAccess();
+        final Access[] taskAccess = executable.meta().getArgumentsAccess();
+        System.arraycopy(sketchAccess, 0, taskAccess, 0, sketchAccess.length);
+
+        PTXProviders providers = (PTXProviders) getBackend().getProviders();
+        final PTXCompilationResult result = PTXCompiler.compileSketchForDevice(sketch, executable, providers, getBackend());
+        return new String(result.getTargetCode());
+    }
+
     private TornadoInstalledCode compilePreBuiltTask(SchedulableTask task) {
         final PTXDeviceContext deviceContext = getDeviceContext();
         final PrebuiltTask executable = (PrebuiltTask) task;
@@ -309,6 +331,8 @@ public class PTXTornadoDevice implements TornadoAcceleratorDevice {
                 }
             }
 
+        } else if (OffHeapArray.class.isAssignableFrom(type)) {
+            result = createOffHeapArrayWrapper(type, getDeviceContext());
         } else if (!type.isPrimitive() && !type.isArray()) {
             result = new PTXObjectWrapper(getDeviceContext(), arg, batchSize);
         }
@@ -317,6 +341,20 @@ public class PTXTornadoDevice implements TornadoAcceleratorDevice {
         return result;
     }
 
+    private ObjectBuffer createOffHeapArrayWrapper(Class<?> type, PTXDeviceContext deviceContext) {
+        ObjectBuffer result = null;
+        if (type == OffHeapFloatArray.class) {
+            result = new PTXOffHeapArrayWrapper(deviceContext, JavaKind.Float);
+        } else if (type == OffHeapIntArray.class) {
+            result = new PTXOffHeapArrayWrapper(deviceContext, JavaKind.Int);
+        } else if (type == OffHeapDoubleArray.class) {
+            result = new PTXOffHeapArrayWrapper(deviceContext, JavaKind.Double);
+        } else {
+            TornadoInternalError.unimplemented("off-heap array of type %s", type.getName());
+        }
+        return result;
+    }
+
     private ObjectBuffer createArrayWrapper(Class<?> type, PTXDeviceContext deviceContext, long batchSize) {
         ObjectBuffer result = null;
         if (type == int[].class) {
@@ -446,6 +484,12 @@ public class PTXTornadoDevice implements TornadoAcceleratorDevice {
         return objectState.getBuffer().read(object, hostOffset, events, events != null);
     }
 
+    @Override
+    public int streamOutBlocking(Object object, long hostOffset, long partialCopySize, TornadoDeviceObjectState objectState, int[] events) {
+        TornadoInternalError.guarantee(objectState.isValid(), "invalid variable");
+        return objectState.getBuffer().read(object, hostOffset, partialCopySize, events, events != null);
+    }
+
     /**
      * It resolves an pending event.
      *
@@ -115,6 +115,12 @@ public class JVMMapping implements TornadoAcceleratorDevice {
         return -1;
     }
 
+    @Override
+    public int streamOutBlocking(Object object, long hostOffset, long partialCopySize, TornadoDeviceObjectState objectState, int[] list) {
+        TornadoInternalError.unimplemented();
+        return -1;
+    }
+
     @Override
     public String toString() {
         return "Host JVM";
@@ -139,6 +145,11 @@ public class JVMMapping implements TornadoAcceleratorDevice {
         return null;
     }
 
+    @Override
+    public String compileToSource(SchedulableTask task) {
+        return null;
+    }
+
     @Override
     public int ensureAllocated(Object object, long batchSize, TornadoDeviceObjectState state) {
         return -1;
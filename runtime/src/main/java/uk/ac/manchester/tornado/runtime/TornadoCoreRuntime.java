@@ -76,6 +76,12 @@ public class TornadoCoreRuntime extends TornadoLogger implements TornadoRuntimeC
 
         opts.put(GraalOptions.MatchExpressions, true);
         opts.put(GraalOptions.RemoveNeverExecutedCode, false);
+        // The Graal LIR optimisations below work on LoadConstantOp/ValueMoveOp
+        // instructions and on allocated registers. The Tornado backends emit
+        // neither of them (constants are inlined in the expressions and variables
+        // are not allocated), so the loop-invariant code motion and the CSE are
+        // done by TornadoLIRLoopInvariantCodeMotion and
+        // TornadoLIRCommonSubexpressionElimination instead.
         opts.put(ConstantLoadOptimization.Options.LIROptConstantLoadOptimization, false);
         opts.put(PostAllocationOptimizationStage.Options.LIROptRedundantMoveElimination, false);
 
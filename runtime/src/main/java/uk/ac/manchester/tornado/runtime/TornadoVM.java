@@ -32,11 +32,13 @@ import static uk.ac.manchester.tornado.runtime.common.Tornado.VM_USE_DEPS;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 
+import jdk.vm.ci.meta.JavaKind;
 import uk.ac.manchester.tornado.api.GridTask;
 import uk.ac.manchester.tornado.api.WorkerGrid;
 import uk.ac.manchester.tornado.api.common.Access;
@@ -52,6 +54,7 @@ import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.runtime.common.CallStack;
 import uk.ac.manchester.tornado.runtime.common.DeviceBuffer;
 import uk.ac.manchester.tornado.runtime.common.DeviceObjectState;
+import uk.ac.manchester.tornado.runtime.common.StructOfArraysBuffer;
 import uk.ac.manchester.tornado.runtime.common.Tornado;
 import uk.ac.manchester.tornado.runtime.common.TornadoAcceleratorDevice;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -74,6 +77,13 @@ import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
  * There is an instance of the {@link TornadoVM} per
  * {@link TornadoTaskSchedule}. Each TornadoVM contains the logic to orchestrate
  * the execution on the parallel device (e.g., a GPU).
+ * <p>
+ * After the first execution, the TornadoVM records the sequence of driver
+ * operations (allocations, copies, launches with their call-stacks and
+ * installed code) already decoded. Following executions replay this recording
+ * instead of interpreting the bytecodes, as long as the devices and the call
+ * stacks remain the same (see {@link #invalidateRecording()}). Any
+ * recompilation creates a new TornadoVM and, therefore, a new recording.
  */
 public class TornadoVM extends TornadoLogger {
 
@@ -92,6 +102,8 @@ public class TornadoVM extends TornadoLogger {
     private final TornadoInstalledCode[] installedCodes;
 
     private final List<Object> constants;
+    private final JavaKind[] constantKinds;
+    private final long[] constantValues;
     private final List<SchedulableTask> tasks;
 
     private final ByteBuffer buffer;
@@ -104,6 +116,70 @@ public class TornadoVM extends TornadoLogger {
 
     private GridTask gridTask;
 
+    private RecordedOperation[] recording;
+    private boolean lastExecutionReplayed;
+    private boolean replayEnabled = TornadoOptions.VM_REPLAY;
+
+    private static final HashMap<Integer, Integer> EMPTY_HEADER = new HashMap<>();
+
+    /**
+     * Driver operation decoded from the TornadoVM bytecodes, with all the
+     * information needed to replay it.
+     */
+    private static final class RecordedOperation {
+        private final TornadoVMBytecodes bytecode;
+        private final TornadoAcceleratorDevice device;
+        private final int eventList;
+
+        // ALLOCATE, COPY_IN, STREAM_IN, STREAM_OUT, STREAM_OUT_BLOCKING
+        private Object object;
+        private GlobalObjectState globalState;
+        private long offset;
+        private long sizeBatch;
+
+        // LAUNCH
+        private SchedulableTask task;
+        private TaskMetaData metadata;
+        private CallStack stack;
+        private TornadoInstalledCode installedCode;
+        private int[] atomics;
+        private long batchThreads;
+        private Access[] accesses;
+        private byte[] argTypes;
+        private int[] argIndexes;
+
+        private RecordedOperation(TornadoVMBytecodes bytecode, TornadoAcceleratorDevice device, int eventList) {
+            this.bytecode = bytecode;
+            this.device = device;
+            this.eventList = eventList;
+        }
+
+        private static RecordedOperation transfer(TornadoVMBytecodes bytecode, TornadoAcceleratorDevice device, int eventList, Object object, GlobalObjectState globalState, long offset,
+                long sizeBatch) {
+            RecordedOperation operation = new RecordedOperation(bytecode, device, eventList);
+            operation.object = object;
+            operation.globalState = globalState;
+            operation.offset = offset;
+            operation.sizeBatch = sizeBatch;
+            return operation;
+        }
+
+        private static RecordedOperation launch(TornadoAcceleratorDevice device, int eventList, SchedulableTask task, TaskMetaData metadata, CallStack stack, TornadoInstalledCode installedCode,
+                int[] atomics, long batchThreads, Access[] accesses, byte[] argTypes, int[] argIndexes) {
+            RecordedOperation operation = new RecordedOperation(TornadoVMBytecodes.LAUNCH, device, eventList);
+            operation.task = task;
+            operation.metadata = metadata;
+            operation.stack = stack;
+            operation.installedCode = installedCode;
+            operation.atomics = atomics;
+            operation.batchThreads = batchThreads;
+            operation.accesses = accesses;
+            operation.argTypes = argTypes;
+            operation.argIndexes = argIndexes;
+            return operation;
+        }
+    }
+
     public TornadoVM(TornadoExecutionContext graphContext, byte[] code, int limit, TornadoProfiler timeProfiler, GridTask gridTask) {
 
         this.graphContext = graphContext;
@@ -162,14 +238,63 @@ public class TornadoVM extends TornadoLogger {
         }
 
         constants = graphContext.getConstants();
+        constantKinds = new JavaKind[constants.size()];
+        constantValues = new long[constants.size()];
+        unboxConstants();
         tasks = graphContext.getTasks();
 
         debug("%s - vm ready to go", graphContext.getId());
         buffer.mark();
     }
 
+    /**
+     * The scalar arguments are unboxed once, so the launches push them to the
+     * call stacks through the typed entry points of the {@link CallStack}.
+     */
+    private void unboxConstants() {
+        for (int i = 0; i < constants.size(); i++) {
+            final Object constant = constants.get(i);
+            if (constant instanceof Integer) {
+                constantKinds[i] = JavaKind.Int;
+                constantValues[i] = (Integer) constant;
+            } else if (constant instanceof Long) {
+                constantKinds[i] = JavaKind.Long;
+                constantValues[i] = (Long) constant;
+            } else if (constant instanceof Float) {
+                constantKinds[i] = JavaKind.Float;
+                constantValues[i] = Float.floatToRawIntBits((Float) constant);
+            } else if (constant instanceof Double) {
+                constantKinds[i] = JavaKind.Double;
+                constantValues[i] = Double.doubleToRawLongBits((Double) constant);
+            } else {
+                constantKinds[i] = JavaKind.Object;
+            }
+        }
+    }
+
+    private void pushConstant(CallStack stack, int index) {
+        switch (constantKinds[index]) {
+            case Int:
+                stack.push((int) constantValues[index]);
+                break;
+            case Long:
+                stack.push(constantValues[index]);
+                break;
+            case Float:
+                stack.push(Float.intBitsToFloat((int) constantValues[index]));
+                break;
+            case Double:
+                stack.push(Double.longBitsToDouble(constantValues[index]));
+                break;
+            default:
+                stack.push(constants.get(index));
+                break;
+        }
+    }
+
     public void setCompileUpdate() {
         this.doUpdate = true;
+        invalidateRecording();
     }
 
     private GlobalObjectState resolveGlobalObjectState(int index) {
@@ -194,6 +319,43 @@ public class TornadoVM extends TornadoLogger {
         for (GlobalObjectState globalState : globalStates) {
             globalState.invalidate();
         }
+        invalidateRecording();
+    }
+
+    /**
+     * It discards the recorded driver operations. The next execution will
+     * interpret the bytecodes and record them again.
+     */
+    public void invalidateRecording() {
+        recording = null;
+    }
+
+    /**
+     * It disables the replay for this TornadoVM, so every execution interprets
+     * the bytecodes.
+     */
+    public void disableReplay() {
+        replayEnabled = false;
+        invalidateRecording();
+    }
+
+    /**
+     * It sets the grid used by the following executions. A different grid
+     * discards the recorded driver operations.
+     */
+    public void setGridTask(GridTask gridTask) {
+        if (this.gridTask != gridTask) {
+            this.gridTask = gridTask;
+            invalidateRecording();
+        }
+    }
+
+    /**
+     * @return true if the last execution replayed the recorded driver operations
+     *         instead of interpreting the bytecodes.
+     */
+    public boolean isLastExecutionReplayed() {
+        return lastExecutionReplayed;
     }
 
     public void warmup() {
@@ -206,6 +368,14 @@ public class TornadoVM extends TornadoLogger {
     }
 
     public Event execute() {
+        if (recording != null) {
+            if (canReplay()) {
+                lastExecutionReplayed = true;
+                return replay();
+            }
+            invalidateRecording();
+        }
+        lastExecutionReplayed = false;
         return execute(false);
     }
 
@@ -219,6 +389,23 @@ public class TornadoVM extends TornadoLogger {
 
     public void clearInstalledCode() {
         Arrays.fill(installedCodes, null);
+        invalidateRecording();
+    }
+
+    private boolean shouldRecord() {
+        return replayEnabled && gridTask == null && !graphContext.redeployOnDevice() && !TornadoOptions.printBytecodes && !TornadoOptions.isProfilerEnabled();
+    }
+
+    private boolean canReplay() {
+        if (gridTask != null || graphContext.redeployOnDevice() || TornadoOptions.printBytecodes || TornadoOptions.isProfilerEnabled()) {
+            return false;
+        }
+        for (TornadoAcceleratorDevice device : contexts) {
+            if (device.getDeviceContext().wasReset()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private Event execute(boolean isWarmup) {
@@ -233,6 +420,8 @@ public class TornadoVM extends TornadoLogger {
             tornadoVMBytecodeList = new StringBuilder();
         }
 
+        final List<RecordedOperation> newRecording = (!isWarmup && shouldRecord()) ? new ArrayList<>() : null;
+
         while (buffer.hasRemaining()) {
             final byte op = buffer.get();
             if (op == TornadoVMBytecodes.ALLOCATE.value()) {
@@ -255,6 +444,10 @@ public class TornadoVM extends TornadoLogger {
                 final DeviceObjectState objectState = resolveObjectState(objectIndex, contextIndex);
                 lastEvent = device.ensureAllocated(object, sizeBatch, objectState);
 
+                if (newRecording != null) {
+                    newRecording.add(RecordedOperation.transfer(TornadoVMBytecodes.ALLOCATE, device, -1, object, resolveGlobalObjectState(objectIndex), 0, sizeBatch));
+                }
+
             } else if (op == TornadoVMBytecodes.COPY_IN.value()) {
                 final int objectIndex = buffer.getInt();
                 final int contextIndex = buffer.getInt();
@@ -289,6 +482,10 @@ public class TornadoVM extends TornadoLogger {
 
                 resetEventIndexes(eventList);
 
+                if (newRecording != null) {
+                    newRecording.add(RecordedOperation.transfer(TornadoVMBytecodes.COPY_IN, device, eventList, object, resolveGlobalObjectState(objectIndex), offset, sizeBatch));
+                }
+
                 if (TornadoOptions.isProfilerEnabled() && allEvents != null) {
                     for (Integer e : allEvents) {
                         Event event = device.resolveEvent(e);
@@ -331,6 +528,10 @@ public class TornadoVM extends TornadoLogger {
 
                 resetEventIndexes(eventList);
 
+                if (newRecording != null) {
+                    newRecording.add(RecordedOperation.transfer(TornadoVMBytecodes.STREAM_IN, device, eventList, object, resolveGlobalObjectState(objectIndex), offset, sizeBatch));
+                }
+
                 if (TornadoOptions.isProfilerEnabled() && allEvents != null) {
                     for (Integer e : allEvents) {
                         Event event = device.resolveEvent(e);
@@ -373,6 +574,10 @@ public class TornadoVM extends TornadoLogger {
 
                 resetEventIndexes(eventList);
 
+                if (newRecording != null) {
+                    newRecording.add(RecordedOperation.transfer(TornadoVMBytecodes.STREAM_OUT, device, eventList, object, resolveGlobalObjectState(objectIndex), offset, sizeBatch));
+                }
+
                 if (TornadoOptions.isProfilerEnabled() && lastEvent != -1) {
                     Event event = device.resolveEvent(lastEvent);
                     event.waitForEvents();
@@ -419,6 +624,10 @@ public class TornadoVM extends TornadoLogger {
 
                 resetEventIndexes(eventList);
 
+                if (newRecording != null) {
+                    newRecording.add(RecordedOperation.transfer(TornadoVMBytecodes.STREAM_OUT_BLOCKING, device, eventList, object, resolveGlobalObjectState(objectIndex), offset, sizeBatch));
+                }
+
             } else if (op == TornadoVMBytecodes.LAUNCH.value()) {
                 final int stackIndex = buffer.getInt();
                 final int contextIndex = buffer.getInt();
@@ -505,7 +714,7 @@ public class TornadoVM extends TornadoLogger {
                 }
 
                 final Access[] accesses = task.getArgumentsAccess();
-                if (redeployOnDevice || !stack.isOnDevice()) {
+                if (redeployOnDevice) {
                     stack.reset();
                 }
 
@@ -520,16 +729,26 @@ public class TornadoVM extends TornadoLogger {
                 }
                 stack.setHeader(map);
 
+                TaskMetaData metadata;
+                if (task.meta() instanceof TaskMetaData) {
+                    metadata = (TaskMetaData) task.meta();
+                } else {
+                    throw new RuntimeException("task.meta is not instanceof TaskMetadata");
+                }
+
+                final byte[] argTypes = (newRecording != null) ? new byte[numArgs] : null;
+                final int[] argIndexes = (newRecording != null) ? new int[numArgs] : null;
                 for (int i = 0; i < numArgs; i++) {
                     final byte argType = buffer.get();
                     final int argIndex = buffer.getInt();
 
-                    if (stack.isOnDevice()) {
-                        continue;
+                    if (newRecording != null) {
+                        argTypes[i] = argType;
+                        argIndexes[i] = argIndex;
                     }
 
                     if (argType == TornadoVMBytecodes.CONSTANT_ARGUMENT.value()) {
-                        stack.push(constants.get(argIndex));
+                        pushConstant(stack, argIndex);
                     } else if (argType == TornadoVMBytecodes.REFERENCE_ARGUMENT.value()) {
                         final GlobalObjectState globalState = resolveGlobalObjectState(argIndex);
                         final DeviceObjectState objectState = globalState.getDeviceState(contexts.get(contextIndex));
@@ -541,19 +760,13 @@ public class TornadoVM extends TornadoLogger {
                             globalState.setOwner(device);
                             objectState.setContents(true);
                             objectState.setModified(true);
+                            addWriter(objectState, metadata, i);
                         }
                     } else {
                         TornadoInternalError.shouldNotReachHere();
                     }
                 }
 
-                TaskMetaData metadata;
-                if (task.meta() instanceof TaskMetaData) {
-                    metadata = (TaskMetaData) task.meta();
-                } else {
-                    throw new RuntimeException("task.meta is not instanceof TaskMetadata");
-                }
-
                 // We attach the profiler
                 metadata.attachProfiler(timeProfiler);
                 metadata.setGridTask(gridTask);
@@ -567,6 +780,10 @@ public class TornadoVM extends TornadoLogger {
 
                     resetEventIndexes(eventList);
 
+                    if (newRecording != null) {
+                        newRecording.add(RecordedOperation.launch(device, eventList, task, metadata, stack, installedCode, atomicsArray, batchThreads, accesses, argTypes, argIndexes));
+                    }
+
                 } catch (Exception e) {
                     String re = e.toString();
                     if (Tornado.DEBUG) {
@@ -591,6 +808,10 @@ public class TornadoVM extends TornadoLogger {
                     eventsIndexes[eventList]++;
                 }
 
+                if (newRecording != null) {
+                    newRecording.add(new RecordedOperation(TornadoVMBytecodes.ADD_DEP, null, eventList));
+                }
+
             } else if (op == TornadoVMBytecodes.BARRIER.value()) {
                 final int eventList = buffer.getInt();
                 final int[] waitList = (useDependencies && eventList != -1) ? events[eventList] : null;
@@ -612,6 +833,10 @@ public class TornadoVM extends TornadoLogger {
 
                 resetEventIndexes(eventList);
 
+                if (newRecording != null) {
+                    newRecording.add(new RecordedOperation(TornadoVMBytecodes.BARRIER, null, eventList));
+                }
+
             } else if (op == TornadoVMBytecodes.END.value()) {
                 if (TornadoOptions.printBytecodes) {
                     tornadoVMBytecodeList.append("END\n");
@@ -625,20 +850,39 @@ public class TornadoVM extends TornadoLogger {
             }
         }
 
+        Event barrier = isWarmup ? EMPTY_EVENT : synchronizeDevices();
+
+        updateTimers(t0, isWarmup);
+
+        buffer.reset();
+
+        if (TornadoOptions.printBytecodes) {
+            System.out.println(tornadoVMBytecodeList.toString());
+        }
+
+        if (newRecording != null) {
+            recording = newRecording.toArray(new RecordedOperation[0]);
+        }
+
+        return barrier;
+    }
+
+    private Event synchronizeDevices() {
         Event barrier = EMPTY_EVENT;
-        if (!isWarmup) {
-            for (TornadoAcceleratorDevice dev : contexts) {
-                if (useDependencies) {
-                    final int event = dev.enqueueMarker();
-                    barrier = dev.resolveEvent(event);
-                }
+        for (TornadoAcceleratorDevice dev : contexts) {
+            if (useDependencies) {
+                final int event = dev.enqueueMarker();
+                barrier = dev.resolveEvent(event);
+            }
 
-                if (USE_VM_FLUSH) {
-                    dev.flush();
-                }
+            if (USE_VM_FLUSH) {
+                dev.flush();
             }
         }
+        return barrier;
+    }
 
+    private void updateTimers(long t0, boolean isWarmup) {
         final long t1 = System.nanoTime();
         final double elapsed = (t1 - t0) * 1e-9;
         if (!isWarmup) {
@@ -649,16 +893,147 @@ public class TornadoVM extends TornadoLogger {
         if (graphContext.meta().isDebug()) {
             debug("vm: complete elapsed=%.9f s (%d iterations, %.9f s mean)", elapsed, invocations, (totalTime / invocations));
         }
+    }
 
-        buffer.reset();
+    /**
+     * It replays the driver operations recorded in the last interpreted
+     * execution. The operations and the order are the same as in
+     * {@link #execute(boolean)}, but the bytecodes are not decoded again and the
+     * call-stacks and the installed code are not resolved again.
+     */
+    private Event replay() {
+        contexts.forEach(TornadoAcceleratorDevice::enableThreadSharing);
 
-        if (TornadoOptions.printBytecodes) {
-            System.out.println(tornadoVMBytecodeList.toString());
+        final long t0 = System.nanoTime();
+        int lastEvent = -1;
+        initWaitEventList();
+
+        for (final RecordedOperation operation : recording) {
+            final TornadoAcceleratorDevice device = operation.device;
+            final int eventList = operation.eventList;
+            // The device state is resolved again: the object state can be cleared from the runtime
+            final DeviceObjectState objectState = (operation.globalState != null) ? operation.globalState.getDeviceState(device) : null;
+            switch (operation.bytecode) {
+                case ALLOCATE:
+                    lastEvent = device.ensureAllocated(operation.object, operation.sizeBatch, objectState);
+                    break;
+                case COPY_IN: {
+                    final int[] waitList = (useDependencies && eventList != -1) ? events[eventList] : null;
+                    if (operation.sizeBatch > 0) {
+                        device.streamIn(operation.object, operation.sizeBatch, operation.offset, objectState, waitList);
+                    } else {
+                        device.ensurePresent(operation.object, objectState, waitList, operation.sizeBatch, operation.offset);
+                    }
+                    resetEventIndexes(eventList);
+                    break;
+                }
+                case STREAM_IN: {
+                    final int[] waitList = (useDependencies && eventList != -1) ? events[eventList] : null;
+                    device.streamIn(operation.object, operation.sizeBatch, operation.offset, objectState, waitList);
+                    resetEventIndexes(eventList);
+                    break;
+                }
+                case STREAM_OUT: {
+                    final int[] waitList = (useDependencies) ? events[eventList] : null;
+                    lastEvent = device.streamOutBlocking(operation.object, operation.offset, objectState, waitList);
+                    resetEventIndexes(eventList);
+                    break;
+                }
+                case STREAM_OUT_BLOCKING: {
+                    final int[] waitList = (useDependencies) ? events[eventList] : null;
+                    device.streamOutBlocking(operation.object, operation.offset, objectState, waitList);
+                    resetEventIndexes(eventList);
+                    break;
+                }
+                case LAUNCH:
+                    lastEvent = replayLaunch(operation);
+                    break;
+                case ADD_DEP:
+                    if (useDependencies && lastEvent != -1) {
+                        TornadoInternalError.guarantee(eventsIndexes[eventList] < events[eventList].length, "event list is too small");
+                        events[eventList][eventsIndexes[eventList]] = lastEvent;
+                        eventsIndexes[eventList]++;
+                    }
+                    break;
+                case BARRIER: {
+                    final int[] waitList = (useDependencies && eventList != -1) ? events[eventList] : null;
+                    lastEvent = contexts.get(0).enqueueMarker(waitList);
+                    resetEventIndexes(eventList);
+                    break;
+                }
+                default:
+                    throw new TornadoRuntimeException("[ERROR] TornadoVM Bytecode not recognized");
+            }
         }
 
+        Event barrier = synchronizeDevices();
+        updateTimers(t0, false);
         return barrier;
     }
 
+    /*
+     * Buffers stored as a struct of arrays copy back only the fields written by
+     * the tasks launched since the last write.
+     */
+    private static void addWriter(DeviceObjectState objectState, TaskMetaData metadata, int parameter) {
+        if (objectState.getBuffer() instanceof StructOfArraysBuffer) {
+            ((StructOfArraysBuffer) objectState.getBuffer()).addWriter(metadata, parameter);
+        }
+    }
+
+    private int replayLaunch(RecordedOperation operation) {
+        final SchedulableTask task = operation.task;
+        final CallStack stack = operation.stack;
+        final int eventList = operation.eventList;
+
+        task.setBatchThreads(operation.batchThreads);
+        task.enableDefaultThreadScheduler(graphContext.useDefaultThreadScheduler());
+
+        DeviceBuffer bufferAtomics = null;
+        if (operation.atomics != null) {
+            bufferAtomics = operation.device.createBuffer(operation.atomics);
+        }
+
+        stack.setHeader(EMPTY_HEADER);
+        for (int i = 0; i < operation.argTypes.length; i++) {
+            final int argIndex = operation.argIndexes[i];
+            if (operation.argTypes[i] == TornadoVMBytecodes.CONSTANT_ARGUMENT.value()) {
+                pushConstant(stack, argIndex);
+            } else {
+                final GlobalObjectState globalState = resolveGlobalObjectState(argIndex);
+                final DeviceObjectState objectState = globalState.getDeviceState(operation.device);
+                TornadoInternalError.guarantee(objectState.isValid(), MESSAGE_ERROR, objects.get(argIndex), objectState);
+                stack.push(objects.get(argIndex), objectState);
+                if (operation.accesses[i] == Access.WRITE || operation.accesses[i] == Access.READ_WRITE) {
+                    globalState.setOwner(operation.device);
+                    objectState.setContents(true);
+                    objectState.setModified(true);
+                    addWriter(objectState, operation.metadata, i);
+                }
+            }
+        }
+
+        operation.metadata.attachProfiler(timeProfiler);
+        operation.metadata.setGridTask(gridTask);
+
+        try {
+            final int event;
+            if (useDependencies) {
+                final int[] waitList = (eventList != -1) ? events[eventList] : null;
+                event = operation.installedCode.launchWithDependencies(stack, bufferAtomics, operation.metadata, operation.batchThreads, waitList);
+            } else {
+                event = operation.installedCode.launchWithoutDependencies(stack, bufferAtomics, operation.metadata, operation.batchThreads);
+            }
+            resetEventIndexes(eventList);
+            return event;
+        } catch (Exception e) {
+            if (Tornado.DEBUG) {
+                e.printStackTrace();
+            }
+            throw new TornadoBailoutRuntimeException("Bailout from LAUNCH Bytecode: \nReason: " + e.toString(), e);
+        }
+    }
+
     private void resetEventIndexes(int eventList) {
         if (eventList != -1) {
             eventsIndexes[eventList] = 0;
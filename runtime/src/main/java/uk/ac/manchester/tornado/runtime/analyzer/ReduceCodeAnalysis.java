@@ -48,14 +48,18 @@ import org.graalvm.compiler.nodes.StartNode;
 import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.nodes.ValueNode;
 import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
 import org.graalvm.compiler.nodes.calc.BinaryArithmeticNode;
 import org.graalvm.compiler.nodes.calc.BinaryNode;
 import org.graalvm.compiler.nodes.calc.IntegerLessThanNode;
 import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.OrNode;
+import org.graalvm.compiler.nodes.calc.XorNode;
 import org.graalvm.compiler.nodes.java.ArrayLengthNode;
 import org.graalvm.compiler.nodes.java.StoreIndexedNode;
 
 import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.common.ReduceCombiner;
 import uk.ac.manchester.tornado.api.common.TaskPackage;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceAddNode;
@@ -71,7 +75,10 @@ public class ReduceCodeAnalysis {
         ADD,
         MUL,
         MIN,
-        MAX
+        MAX,
+        OR,
+        AND,
+        XOR
     }
     // @formatter:on
 
@@ -104,6 +111,12 @@ public class ReduceCodeAnalysis {
                 operations.add(REDUCE_OPERATION.ADD);
             } else if (operation instanceof MulNode) {
                 operations.add(REDUCE_OPERATION.MUL);
+            } else if (operation instanceof OrNode) {
+                operations.add(REDUCE_OPERATION.OR);
+            } else if (operation instanceof AndNode) {
+                operations.add(REDUCE_OPERATION.AND);
+            } else if (operation instanceof XorNode) {
+                operations.add(REDUCE_OPERATION.XOR);
             } else if (operation instanceof InvokeNode) {
                 InvokeNode invoke = (InvokeNode) operation;
                 if (invoke.callTarget().targetName().equals("Math.max")) {
@@ -120,6 +133,70 @@ public class ReduceCodeAnalysis {
         return operations;
     }
 
+    /**
+     * Checks if a reduction can be completed by the kernel in a single pass. The
+     * result of every work-group is combined with an atomic operation: OpenCL
+     * provides them for 32-bit integers, and floats use a compare-and-swap loop
+     * for additions, maximums and minimums.
+     *
+     * @param reduceArray
+     *            Array that stores the result of the reduction.
+     * @param operations
+     *            Reduce operations of the task.
+     * @return boolean
+     */
+    public static boolean isSinglePassReduction(Object reduceArray, ArrayList<REDUCE_OPERATION> operations) {
+        if (operations.size() != 1) {
+            return false;
+        }
+        REDUCE_OPERATION operation = operations.get(0);
+        if (reduceArray instanceof int[]) {
+            return operation != REDUCE_OPERATION.MUL;
+        } else if (reduceArray instanceof float[]) {
+            return operation == REDUCE_OPERATION.ADD || operation == REDUCE_OPERATION.MAX || operation == REDUCE_OPERATION.MIN;
+        }
+        return false;
+    }
+
+    /**
+     * Creates the combiner declared with {@code @Reduce(combiner = ...)}.
+     *
+     * @param reduce
+     *            Reduce annotation of a parameter.
+     * @return {@link ReduceCombiner}, or null if the combiner is taken from the
+     *         loop body.
+     */
+    public static ReduceCombiner createReduceCombiner(Reduce reduce) {
+        Class<? extends ReduceCombiner> combinerClass = reduce.combiner();
+        if (combinerClass == ReduceCombiner.class) {
+            return null;
+        }
+        try {
+            return combinerClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new TornadoRuntimeException("[ERROR] Unable to create the reduce combiner " + combinerClass.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the combiner declared on a reduce parameter.
+     *
+     * @param graph
+     *            Graal-IR graph of the task.
+     * @param paramIndex
+     *            Index of the parameter within the method parameter list.
+     * @return {@link ReduceCombiner}, or null if the combiner is taken from the
+     *         loop body.
+     */
+    public static ReduceCombiner getReduceCombiner(StructuredGraph graph, int paramIndex) {
+        for (Annotation annotation : graph.method().getParameterAnnotations()[paramIndex]) {
+            if (annotation instanceof Reduce) {
+                return createReduceCombiner((Reduce) annotation);
+            }
+        }
+        return null;
+    }
+
     private static boolean shouldSkip(int index, StructuredGraph graph) {
         return graph.method().isStatic() && index >= getNumberOfParameterNodes(graph);
     }
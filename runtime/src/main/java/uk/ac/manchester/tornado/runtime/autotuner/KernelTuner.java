@@ -0,0 +1,165 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.autotuner;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import uk.ac.manchester.tornado.runtime.common.Tornado;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.domain.Domain;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Auto-tuner of the thread configuration of a compiled kernel. The first
+ * executions of the kernel for each global work size evaluate the
+ * configurations proposed by a {@link WorkGroupSearch}, up to
+ * {@code -Dtornado.autotune.iterations} executions. The fastest configuration
+ * is stored in the {@link TuningDatabase} and used in the rest of executions,
+ * including the ones of later runs of the application.
+ */
+public class KernelTuner {
+
+    private final long kernelHash;
+    private final String deviceName;
+    private final long[] maxWorkItemSizes;
+    private final long maxWorkGroupSize;
+    private final TuningDatabase database;
+
+    private final Map<String, WorkGroupSearch> searches;
+    private WorkGroupSearch pendingSearch;
+    private String pendingKey;
+
+    public KernelTuner(byte[] code, String deviceName, long[] maxWorkItemSizes, long maxWorkGroupSize, TuningDatabase database) {
+        this.kernelHash = hash(code);
+        this.deviceName = deviceName;
+        this.maxWorkItemSizes = new long[] { 1, 1, 1 };
+        System.arraycopy(maxWorkItemSizes, 0, this.maxWorkItemSizes, 0, Math.min(maxWorkItemSizes.length, 3));
+        this.maxWorkGroupSize = maxWorkGroupSize;
+        this.database = database;
+        this.searches = new HashMap<>();
+    }
+
+    private static long hash(byte[] code) {
+        // FNV-1a
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : code) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * @return true if the thread configuration of the task can be changed: it
+     *         is a parallel task whose global and local work are computed by the
+     *         scheduler, and the compiler has found that its kernel does not
+     *         depend on the local work-group size (see
+     *         {@link TaskMetaData#isWorkGroupIndependent()}).
+     */
+    public static boolean isTunable(TaskMetaData meta) {
+        return meta.isParallel() && meta.isWorkGroupIndependent() && !meta.isWorkerGridAvailable() && !meta.isGlobalWorkDefined() && !meta.isLocalWorkDefined()
+                && !meta.isLocalWorkRequired() && !meta.shouldUseOpenCLDriverScheduling() && !meta.enableThreadCoarsener() && meta.getDims() > 0 && meta.getLocalWork() != null;
+    }
+
+    /**
+     * Kernels whose parallel loops have unit stride iterate with a stride of the
+     * number of threads, so they can run with more or fewer threads than
+     * iterations.
+     */
+    private static boolean allowsPadding(TaskMetaData meta) {
+        if (meta.getDomain() == null) {
+            return false;
+        }
+        for (int i = 0; i < meta.getDims(); i++) {
+            Domain domain = meta.getDomain().get(i);
+            if (domain.map(1) - domain.map(0) != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects the configuration of the next execution of the task.
+     *
+     * @param meta
+     *            Task whose global work has been computed by the scheduler.
+     * @param defaultLocalWork
+     *            Local work computed by the scheduler.
+     * @return the configuration to launch the kernel.
+     */
+    public TuningConfiguration select(TaskMetaData meta, long[] defaultLocalWork) {
+        final long[] globalWork = meta.getGlobalWork();
+        final boolean allowPadding = allowsPadding(meta);
+        final TuningConfiguration defaultConfiguration = new TuningConfiguration(defaultLocalWork, 1);
+        final String key = TuningDatabase.createKey(kernelHash, deviceName, globalWork, meta.getDims());
+        pendingSearch = null;
+
+        TuningConfiguration stored = database.get(key);
+        if (stored != null) {
+            if (stored.isValidFor(globalWork, meta.getDims(), allowPadding)) {
+                return stored;
+            }
+            Tornado.warn("[AUTOTUNER] %s: the stored configuration %s is not valid for this launch, using the default one", meta.getId(), stored);
+            return defaultConfiguration;
+        }
+
+        WorkGroupSearch search = searches.computeIfAbsent(key,
+                k -> new WorkGroupSearch(meta.getDims(), globalWork, maxWorkItemSizes, maxWorkGroupSize, defaultConfiguration, allowPadding, TornadoOptions.AUTOTUNE_ITERATIONS));
+        TuningConfiguration configuration = search.next();
+        if (search.isFinished()) {
+            database.put(key, configuration);
+            searches.remove(key);
+            Tornado.info("[AUTOTUNER] %s: %s (%d configurations evaluated)", meta.getId(), configuration, search.getNumEvaluations());
+        } else {
+            pendingSearch = search;
+            pendingKey = key;
+        }
+        return configuration;
+    }
+
+    /**
+     * @return the global work to launch the task with the configuration
+     *         returned by {@link #select}.
+     */
+    public long[] computeGlobalWork(TaskMetaData meta, TuningConfiguration configuration) {
+        return configuration.computeGlobalWork(meta.getGlobalWork(), meta.getDims(), allowsPadding(meta));
+    }
+
+    /**
+     * @return true if the time of the last selected configuration has to be
+     *         recorded with {@link #record(long)}.
+     */
+    public boolean isMeasuring() {
+        return pendingSearch != null;
+    }
+
+    public void record(long executionTime) {
+        if (pendingSearch != null && searches.get(pendingKey) == pendingSearch) {
+            pendingSearch.record(executionTime);
+        }
+        pendingSearch = null;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.autotuner;
+
+import java.util.Arrays;
+
+/**
+ * Thread configuration of a kernel launch selected by the auto-tuner: the local
+ * work-group size and the thread coarsening factor. A coarsening factor of
+ * {@code F} launches {@code F} times fewer threads in the first dimension, and
+ * each thread processes {@code F} iterations of the parallel loop.
+ */
+public final class TuningConfiguration {
+
+    private final long[] localWork;
+    private final int coarseningFactor;
+
+    public TuningConfiguration(long[] localWork, int coarseningFactor) {
+        this.localWork = new long[] { 1, 1, 1 };
+        System.arraycopy(localWork, 0, this.localWork, 0, Math.min(localWork.length, 3));
+        this.coarseningFactor = coarseningFactor;
+    }
+
+    public long[] getLocalWork() {
+        return localWork.clone();
+    }
+
+    public int getCoarseningFactor() {
+        return coarseningFactor;
+    }
+
+    /**
+     * @param globalWork
+     *            Global work computed by the default scheduler.
+     * @param dimensions
+     *            Number of dimensions of the kernel.
+     * @param allowPadding
+     *            True if the kernel can be launched with more threads than
+     *            iterations.
+     * @return true if the kernel can be launched with this configuration.
+     *         Without padding, the local work must divide the global work in
+     *         every dimension and the coarsening factor must be one.
+     */
+    public boolean isValidFor(long[] globalWork, int dimensions, boolean allowPadding) {
+        if (coarseningFactor < 1 || (!allowPadding && coarseningFactor != 1)) {
+            return false;
+        }
+        for (int i = 0; i < dimensions; i++) {
+            if (localWork[i] < 1 || (!allowPadding && globalWork[i] % localWork[i] != 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the global work of the launch. With padding, the first dimension
+     * is divided by the coarsening factor, and every dimension is rounded up to a
+     * multiple of the local work-group size. Without padding, the global work of
+     * the scheduler is used.
+     *
+     * @param globalWork
+     *            Global work computed by the default scheduler.
+     * @param dimensions
+     *            Number of dimensions of the kernel.
+     * @param allowPadding
+     *            True if the kernel can be launched with more threads than
+     *            iterations.
+     * @return the global work for this configuration.
+     */
+    public long[] computeGlobalWork(long[] globalWork, int dimensions, boolean allowPadding) {
+        long[] result = globalWork.clone();
+        if (!allowPadding) {
+            return result;
+        }
+        for (int i = 0; i < dimensions; i++) {
+            long value = (i == 0) ? (globalWork[i] + coarseningFactor - 1) / coarseningFactor : globalWork[i];
+            result[i] = ((value + localWork[i] - 1) / localWork[i]) * localWork[i];
+        }
+        return result;
+    }
+
+    /**
+     * @return the configuration in the format of the tuning database:
+     *         {@code x,y,z;coarsening}.
+     */
+    public String serialise() {
+        return localWork[0] + "," + localWork[1] + "," + localWork[2] + ";" + coarseningFactor;
+    }
+
+    /**
+     * @return the configuration stored in the tuning database, or null if the
+     *         value is malformed.
+     */
+    public static TuningConfiguration parse(String value) {
+        try {
+            String[] parts = value.trim().split(";");
+            String[] dims = parts[0].split(",");
+            long[] local = new long[dims.length];
+            for (int i = 0; i < dims.length; i++) {
+                local[i] = Long.parseLong(dims[i].trim());
+            }
+            int factor = (parts.length > 1) ? Integer.parseInt(parts[1].trim()) : 1;
+            return new TuningConfiguration(local, factor);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof TuningConfiguration)) {
+            return false;
+        }
+        TuningConfiguration other = (TuningConfiguration) obj;
+        return coarseningFactor == other.coarseningFactor && Arrays.equals(localWork, other.localWork);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(localWork) + coarseningFactor;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("local=%s, coarsening=%d", Arrays.toString(localWork), coarseningFactor);
+    }
+}
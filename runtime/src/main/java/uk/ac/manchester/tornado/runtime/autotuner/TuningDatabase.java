@@ -0,0 +1,115 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.autotuner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+import uk.ac.manchester.tornado.runtime.common.Tornado;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Persistent store of the thread configurations selected by the auto-tuner.
+ * Entries are keyed by the hash of the kernel code, the name of the device and
+ * the global work of the launch, and they are stored as a properties file. The
+ * key uses the exact global work because the valid work-group sizes depend on
+ * its divisors. The database is written every
+ * time a new entry is added.
+ */
+public final class TuningDatabase {
+
+    private static TuningDatabase defaultDatabase;
+
+    private final Path path;
+    private final Properties entries;
+
+    public TuningDatabase(Path path) {
+        this.path = path;
+        this.entries = new Properties();
+        if (Files.exists(path)) {
+            try (InputStream input = Files.newInputStream(path)) {
+                entries.load(input);
+            } catch (IOException e) {
+                Tornado.warn("[AUTOTUNER] Cannot read the tuning database %s: %s", path, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return the database in {@code -Dtornado.autotune.db}.
+     */
+    public static synchronized TuningDatabase getDefault() {
+        if (defaultDatabase == null) {
+            defaultDatabase = new TuningDatabase(Paths.get(TornadoOptions.AUTOTUNE_DATABASE));
+        }
+        return defaultDatabase;
+    }
+
+    /**
+     * @param globalWork
+     *            Global work computed by the default scheduler.
+     * @param dimensions
+     *            Number of dimensions of the kernel.
+     * @return the key of the kernel, e.g.
+     *         {@code 0123456789abcdef.Device_Name.1024x512}.
+     */
+    public static String createKey(long kernelHash, String deviceName, long[] globalWork, int dimensions) {
+        StringBuilder key = new StringBuilder(String.format("%016x.%s.", kernelHash, deviceName.trim().replaceAll("[^A-Za-z0-9_-]", "_")));
+        for (int i = 0; i < dimensions; i++) {
+            if (i > 0) {
+                key.append('x');
+            }
+            key.append(globalWork[i]);
+        }
+        return key.toString();
+    }
+
+    public synchronized TuningConfiguration get(String key) {
+        String value = entries.getProperty(key);
+        return (value == null) ? null : TuningConfiguration.parse(value);
+    }
+
+    public synchronized void put(String key, TuningConfiguration configuration) {
+        entries.setProperty(key, configuration.serialise());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (OutputStream output = Files.newOutputStream(path)) {
+                entries.store(output, "TornadoVM auto-tuning database");
+            }
+        } catch (IOException e) {
+            Tornado.warn("[AUTOTUNER] Cannot write the tuning database %s: %s", path, e.getMessage());
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
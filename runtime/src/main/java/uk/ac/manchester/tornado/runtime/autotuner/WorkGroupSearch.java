@@ -0,0 +1,244 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.autotuner;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Search of the thread configuration of a kernel. The search is independent of
+ * the device: it proposes configurations with {@link #next()} and it receives
+ * the time of each of them with {@link #record(long)}. The search has two
+ * stages:
+ *
+ * <ul>
+ * <li>Local work-group sizes: the default configuration of the scheduler and
+ * the power-of-two work-groups that fit in the device limits
+ * ({@code maxWorkItemSizes} per dimension and {@code maxWorkGroupSize} in
+ * total). When there are more work-groups than evaluations available, an
+ * evenly spaced subset is evaluated.</li>
+ * <li>Thread coarsening: the coarsening factors in
+ * {@link #COARSENING_FACTORS} with the fastest work-group, in increasing order,
+ * until one is slower than the previous one.</li>
+ * </ul>
+ */
+public class WorkGroupSearch {
+
+    public static final int[] COARSENING_FACTORS = { 2, 4, 8, 16 };
+
+    private final List<TuningConfiguration> candidates;
+    private final long[] globalWork;
+    private final boolean allowPadding;
+    private final int budget;
+
+    private int index;
+    private boolean finished;
+    private int evaluations;
+    private boolean coarseningStage;
+    private int coarseningIndex;
+    private long lastCoarseningTime;
+
+    private TuningConfiguration current;
+    private TuningConfiguration best;
+    private long bestTime;
+
+    /**
+     * @param dimensions
+     *            Number of dimensions of the kernel.
+     * @param globalWork
+     *            Global work computed by the default scheduler.
+     * @param maxWorkItemSizes
+     *            Maximum local work per dimension of the device.
+     * @param maxWorkGroupSize
+     *            Maximum number of threads of a work-group.
+     * @param defaultConfiguration
+     *            Configuration of the default scheduler.
+     * @param allowPadding
+     *            True if the kernel can be launched with more threads than
+     *            iterations, which enables work-groups that do not divide the
+     *            global work and thread coarsening.
+     * @param budget
+     *            Maximum number of configurations to evaluate.
+     */
+    public WorkGroupSearch(int dimensions, long[] globalWork, long[] maxWorkItemSizes, long maxWorkGroupSize, TuningConfiguration defaultConfiguration, boolean allowPadding, int budget) {
+        this.globalWork = globalWork.clone();
+        this.allowPadding = allowPadding;
+        this.budget = Math.max(1, budget);
+        int coarseningBudget = allowPadding ? COARSENING_FACTORS.length : 0;
+        int localBudget = Math.max(1, this.budget - coarseningBudget);
+        this.candidates = createCandidates(dimensions, globalWork, maxWorkItemSizes, maxWorkGroupSize, defaultConfiguration, allowPadding, localBudget);
+        this.bestTime = Long.MAX_VALUE;
+    }
+
+    private static List<long[]> powersOfTwo(int dimensions, long[] globalWork, long[] maxWorkItemSizes, boolean allowPadding) {
+        List<long[]> shapes = new ArrayList<>();
+        shapes.add(new long[] { 1, 1, 1 });
+        for (int d = 0; d < dimensions; d++) {
+            long limit = Math.min(maxWorkItemSizes[d], globalWork[d]);
+            List<long[]> extended = new ArrayList<>();
+            for (long[] shape : shapes) {
+                for (long value = 1; value <= limit; value *= 2) {
+                    if (!allowPadding && globalWork[d] % value != 0) {
+                        continue;
+                    }
+                    long[] newShape = shape.clone();
+                    newShape[d] = value;
+                    extended.add(newShape);
+                }
+            }
+            shapes = extended;
+        }
+        return shapes;
+    }
+
+    private static long threads(long[] shape) {
+        return shape[0] * shape[1] * shape[2];
+    }
+
+    static List<TuningConfiguration> createCandidates(int dimensions, long[] globalWork, long[] maxWorkItemSizes, long maxWorkGroupSize, TuningConfiguration defaultConfiguration,
+            boolean allowPadding, int budget) {
+        List<TuningConfiguration> all = new ArrayList<>();
+        for (long[] shape : powersOfTwo(dimensions, globalWork, maxWorkItemSizes, allowPadding)) {
+            TuningConfiguration configuration = new TuningConfiguration(shape, 1);
+            if (threads(shape) <= maxWorkGroupSize && !configuration.equals(defaultConfiguration)) {
+                all.add(configuration);
+            }
+        }
+        all.sort(Comparator.comparingLong((TuningConfiguration c) -> threads(c.getLocalWork())).thenComparingLong(c -> c.getLocalWork()[0]));
+
+        List<TuningConfiguration> result = new ArrayList<>();
+        result.add(defaultConfiguration);
+        int remaining = budget - 1;
+        if (all.size() <= remaining) {
+            result.addAll(all);
+        } else if (remaining > 0) {
+            // Evenly spaced subset, always including the largest work-group
+            for (int i = 0; i < remaining; i++) {
+                int position = (remaining == 1) ? all.size() - 1 : (int) Math.round((double) i * (all.size() - 1) / (remaining - 1));
+                result.add(all.get(position));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return true when all configurations have been evaluated. The search
+     *         finishes in the call to {@link #next()} that finds no more
+     *         configurations to evaluate.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * @return the next configuration to evaluate, or the best configuration if
+     *         the search has finished.
+     */
+    public TuningConfiguration next() {
+        if (finished) {
+            return best;
+        }
+        if (current != null) {
+            return current;
+        }
+        if (!coarseningStage && index < candidates.size()) {
+            current = candidates.get(index++);
+            return current;
+        }
+        if (!coarseningStage) {
+            coarseningStage = true;
+            lastCoarseningTime = bestTime;
+        }
+        if (allowPadding && coarseningIndex < COARSENING_FACTORS.length && evaluations < budget) {
+            int factor = COARSENING_FACTORS[coarseningIndex++];
+            long[] local = best.getLocalWork();
+            // Factors that leave fewer threads than a work-group are not evaluated
+            if ((globalWork[0] + factor - 1) / factor >= local[0]) {
+                current = new TuningConfiguration(local, factor);
+                return current;
+            }
+        }
+        finished = true;
+        return best;
+    }
+
+    /**
+     * Records the execution time of the configuration returned by the last call
+     * to {@link #next()}.
+     *
+     * @param time
+     *            Kernel time in nanoseconds.
+     */
+    public void record(long time) {
+        if (current == null) {
+            return;
+        }
+        evaluations++;
+        if (time < bestTime) {
+            bestTime = time;
+            best = current;
+        }
+        if (coarseningStage) {
+            if (time >= lastCoarseningTime) {
+                // Slower than the previous factor: larger factors are not evaluated
+                coarseningIndex = COARSENING_FACTORS.length;
+            }
+            lastCoarseningTime = time;
+        }
+        current = null;
+    }
+
+    public TuningConfiguration getBest() {
+        return best;
+    }
+
+    public long getBestTime() {
+        return bestTime;
+    }
+
+    public int getNumEvaluations() {
+        return evaluations;
+    }
+
+    public int getNumCandidates() {
+        return candidates.size();
+    }
+
+    /**
+     * Runs the search to completion with the given cost function, e.g. a
+     * synthetic model of the kernel time.
+     *
+     * @return the best configuration found.
+     */
+    public TuningConfiguration search(ToLongFunction<TuningConfiguration> cost) {
+        TuningConfiguration configuration = next();
+        while (!finished) {
+            record(cost.applyAsLong(configuration));
+            configuration = next();
+        }
+        return best;
+    }
+}
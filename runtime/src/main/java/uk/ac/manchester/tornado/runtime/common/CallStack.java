@@ -29,6 +29,9 @@ import java.util.HashMap;
 
 public interface CallStack {
 
+    /**
+     * Forces the stack to be copied to the device in the next launch.
+     */
     void reset();
 
     long getDeoptValue();
@@ -39,8 +42,28 @@ public interface CallStack {
 
     void push(Object arg);
 
+    /**
+     * Scalar arguments are pushed without boxing. Each value takes a slot of
+     * the stack.
+     */
+    void push(int arg);
+
+    void push(long arg);
+
+    void push(float arg);
+
+    void push(double arg);
+
     void push(Object arg, DeviceObjectState state);
 
+    /**
+     * The arguments are pushed before every launch. The stack only tracks the
+     * slots that changed with respect to the previous launch, so it is copied
+     * to the device only when the header, a scalar value or a buffer address is
+     * different.
+     *
+     * @return true if the copy of the stack on the device is up to date.
+     */
     boolean isOnDevice();
 
     void dump();
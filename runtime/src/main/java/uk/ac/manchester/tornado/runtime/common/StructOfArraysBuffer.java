@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.common;
+
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Device buffer of an array stored as a struct of arrays (see
+ * {@link StructOfArraysLayout}). The runtime reports every task launched with
+ * write access to the buffer, so that only the columns of the fields written
+ * by those tasks are copied back to the host.
+ */
+public interface StructOfArraysBuffer {
+
+    /**
+     * @param meta
+     *            Task launched with write access to the buffer.
+     * @param parameter
+     *            Index of the parameter of the task bound to the buffer.
+     */
+    void addWriter(TaskMetaData meta, int parameter);
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.common;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jdk.vm.ci.meta.JavaKind;
+
+/**
+ * Device layout for arrays of small value objects. An array of objects whose
+ * fields are all primitives is stored on the device as a struct of arrays:
+ * one column per field, each column holding that field for every element of
+ * the array. Columns are ordered by field name and aligned to 8 bytes.
+ *
+ * Offsets are relative to the start of the array data, so that the memory
+ * wrapper and the compiler agree on the position of each column.
+ */
+public final class StructOfArraysLayout {
+
+    private static final int COLUMN_ALIGNMENT = 8;
+
+    private static final ConcurrentHashMap<Class<?>, StructOfArraysLayout> layouts = new ConcurrentHashMap<>();
+
+    private final Class<?> elementType;
+    private final Field[] fields;
+    private final JavaKind[] kinds;
+
+    private StructOfArraysLayout(Class<?> elementType, List<Field> fields) {
+        this.elementType = elementType;
+        this.fields = fields.toArray(new Field[0]);
+        this.kinds = new JavaKind[this.fields.length];
+        for (int i = 0; i < this.fields.length; i++) {
+            this.fields[i].setAccessible(true);
+            this.kinds[i] = JavaKind.fromJavaClass(this.fields[i].getType());
+        }
+    }
+
+    private static boolean isSupportedField(Class<?> type) {
+        return type == byte.class || type == char.class || type == short.class || type == int.class || type == long.class || type == float.class || type == double.class;
+    }
+
+    private static List<Field> getInstanceFields(Class<?> elementType) {
+        List<Field> result = new ArrayList<>();
+        for (Field field : elementType.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                result.add(field);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if arrays of the given type can be stored as a struct of arrays:
+     * the elements must be instances of a concrete class that directly extends
+     * {@link Object} and whose instance fields are all numeric primitives.
+     *
+     * @param arrayType
+     *            Type of the array
+     * @return true if the layout is supported
+     */
+    public static boolean isSupported(Class<?> arrayType) {
+        if (!arrayType.isArray()) {
+            return false;
+        }
+        final Class<?> elementType = arrayType.getComponentType();
+        if (elementType.isPrimitive() || elementType.isArray() || elementType.isInterface() || Modifier.isAbstract(elementType.getModifiers()) || elementType.getSuperclass() != Object.class
+                || RuntimeUtilities.isBoxedPrimitiveClass(elementType)) {
+            return false;
+        }
+        final List<Field> fields = getInstanceFields(elementType);
+        if (fields.isEmpty()) {
+            return false;
+        }
+        for (Field field : fields) {
+            if (!isSupportedField(field.getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static StructOfArraysLayout get(Class<?> elementType) {
+        return layouts.computeIfAbsent(elementType, type -> {
+            List<Field> fields = getInstanceFields(type);
+            fields.sort(Comparator.comparing(Field::getName));
+            return new StructOfArraysLayout(type, fields);
+        });
+    }
+
+    private static long align(long value) {
+        return (value + COLUMN_ALIGNMENT - 1) & ~(COLUMN_ALIGNMENT - 1);
+    }
+
+    public Class<?> getElementType() {
+        return elementType;
+    }
+
+    public int getNumFields() {
+        return fields.length;
+    }
+
+    public Field getField(int index) {
+        return fields[index];
+    }
+
+    public JavaKind getKind(int index) {
+        return kinds[index];
+    }
+
+    /**
+     * Returns the index of the column that stores the given field, or -1 if
+     * the field is not part of this layout.
+     */
+    public int indexOf(String fieldName) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].getName().equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the offset, in bytes, of the column of a field for an array with
+     * the given number of elements.
+     */
+    public long getColumnOffset(int index, int length) {
+        long offset = 0;
+        for (int i = 0; i < index; i++) {
+            offset += align((long) length * kinds[i].getByteCount());
+        }
+        return offset;
+    }
+
+    public long getColumnSize(int index, int length) {
+        return (long) length * kinds[index].getByteCount();
+    }
+
+    /**
+     * Returns the number of bytes used by all the columns of an array with the
+     * given number of elements.
+     */
+    public long getDataSize(int length) {
+        return getColumnOffset(fields.length, length);
+    }
+}
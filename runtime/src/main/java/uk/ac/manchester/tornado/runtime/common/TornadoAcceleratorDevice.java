@@ -38,6 +38,17 @@ public interface TornadoAcceleratorDevice extends TornadoDevice {
 
     TornadoInstalledCode installCode(SchedulableTask task);
 
+    /**
+     * It compiles a task with the Tornado JIT compiler and returns the generated
+     * code (e.g., OpenCL C or PTX). The code is neither built by the driver nor
+     * installed in the code cache of the device.
+     *
+     * @param task
+     *            Task to compile. The sketch of the task must be available.
+     * @return Generated code
+     */
+    String compileToSource(SchedulableTask task);
+
     boolean isFullJITMode(SchedulableTask task);
 
     TornadoInstalledCode getCodeFromCache(SchedulableTask task);
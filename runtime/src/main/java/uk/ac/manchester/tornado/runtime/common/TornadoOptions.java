@@ -35,6 +35,12 @@ public class TornadoOptions {
      */
     public static boolean printBytecodes = getBooleanValue("tornado.print.bytecodes", "False");
 
+    /**
+     * Option to replay the driver operations recorded in the first execution of
+     * a task-schedule instead of interpreting the TornadoVM bytecodes again.
+     */
+    public static final boolean VM_REPLAY = getBooleanValue("tornado.vm.replay", "True");
+
     /**
      * Option to debug dynamic reconfiguration policies.
      * <p>
@@ -79,6 +85,37 @@ public class TornadoOptions {
      */
     public static final boolean ENABLE_FMA = getBooleanValue("tornado.enable.fma", "True");
 
+    /**
+     * Marks the loads from read-only arrays that do not alias with any written
+     * argument: const pointers in OpenCL C and non-coherent loads in PTX. True
+     * by default.
+     */
+    public static final boolean READ_ONLY_ARGUMENTS = getBooleanValue("tornado.readonly.args", "True");
+
+    /**
+     * Hoists loop-invariant expressions and removes common subexpressions in
+     * the LIR of the OpenCL and PTX kernels. True by default.
+     */
+    public static final boolean LIR_OPTIMISATIONS = getBooleanValue("tornado.lir.optimisations", "True");
+
+    /**
+     * Searches the local work-group size and the thread coarsening factor of
+     * each parallel task during its first executions, and stores the fastest
+     * configuration in a tuning database. False by default.
+     */
+    public static final boolean AUTOTUNE = getBooleanValue("tornado.autotune", "False");
+
+    /**
+     * Maximum number of executions of a task evaluated by the auto-tuner for
+     * each input size. 32 by default.
+     */
+    public static final int AUTOTUNE_ITERATIONS = Integer.parseInt(getProperty("tornado.autotune.iterations", "32"));
+
+    /**
+     * File of the auto-tuning database.
+     */
+    public static final String AUTOTUNE_DATABASE = getProperty("tornado.autotune.db", System.getProperty("user.home") + "/.tornado/autotune.db");
+
     /**
      * Enable/Disable events dumping on program finish. False by default.
      */
@@ -129,6 +166,12 @@ public class TornadoOptions {
      */
     public static String PROFILER_DIRECTORY = getProperty("tornado.profiler.dump.dir", "");
 
+    /**
+     * Option to record the time spent in each phase of the JIT compiler (sketch,
+     * high, mid and low tiers, LIR and code emission).
+     */
+    public static final boolean PROFILE_COMPILER_PHASES = getBooleanValue("tornado.profiler.compiler.phases", "False");
+
     public static final boolean DUMP_LOW_TIER_WITH_IGV = getBooleanValue("tornado.debug.lowtier", "False");
 
     public static final boolean RECOVER_BAILOUT = getBooleanValue("tornado.recover.bailout", "True");
@@ -154,6 +197,46 @@ public class TornadoOptions {
         return getBooleanValue("tornado.experimental.partial.unroll", "False");
     }
 
+    /**
+     * Option for staging the reused tiles of read-only arrays into local memory
+     * in 2D parallel loop nests (e.g., matrix multiplication). The kernel is
+     * launched with square work-groups of {@link #TILING_SIZE} threads per
+     * dimension.
+     */
+    public static final boolean EXPERIMENTAL_TILING = getBooleanValue("tornado.experimental.tiling", "False");
+
+    /**
+     * Number of threads per dimension of the work-groups used by local memory
+     * tiling. It must be a power of 2.
+     */
+    public static final int TILING_SIZE = Integer.parseInt(getProperty("tornado.experimental.tiling.size", "16"));
+
+    /**
+     * Option for coarsening 1D parallel loops with unit-stride accesses, so
+     * each thread processes {@link #VECTORISATION_WIDTH} contiguous elements
+     * with vector loads and stores (OpenCL only).
+     */
+    public static final boolean EXPERIMENTAL_VECTORISATION = getBooleanValue("tornado.experimental.vectorisation", "False");
+
+    /**
+     * Vector width used by the loop vectorisation. If it is 0, the preferred
+     * vector width reported by the device is used.
+     */
+    public static final int VECTORISATION_WIDTH = Integer.parseInt(getProperty("tornado.experimental.vectorisation.width", "0"));
+
+    /**
+     * Reuses the variables of the OpenCL and PTX kernels that are not live at
+     * the same time, so the kernels declare fewer variables.
+     */
+    public static final boolean VIRTUAL_REGISTER_ALLOCATION = getBooleanValue("tornado.experimental.virtual.registers", "False");
+
+    /**
+     * Completes the reductions on OpenCL GPUs in a single kernel: every
+     * work-group combines its partial result into the output with an atomic
+     * operation, so only the scalar result is transferred back.
+     */
+    public static final boolean REDUCE_SINGLE_PASS = getBooleanValue("tornado.experimental.reduce.singlepass", "False");
+
     private static boolean getBooleanValue(String property, String defaultValue) {
         return Boolean.parseBoolean(Tornado.getProperty(property, defaultValue));
     }
@@ -25,10 +25,12 @@
  */
 package uk.ac.manchester.tornado.runtime.graal.compiler;
 
+import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.phases.PhaseSuite;
 import org.graalvm.compiler.phases.common.CanonicalizerPhase;
 
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
+import uk.ac.manchester.tornado.runtime.profiler.CompilerPhaseProfiler;
 
 public abstract class TornadoHighTier extends PhaseSuite<TornadoHighTierContext> {
 
@@ -41,4 +43,13 @@ public abstract class TornadoHighTier extends PhaseSuite<TornadoHighTierContext>
     public TornadoHighTier(CanonicalizerPhase.CustomCanonicalization customCanonicalizer) {
         this.customCanonicalizer = customCanonicalizer;
     }
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoHighTierContext context) {
+        if (CompilerPhaseProfiler.isEnabled()) {
+            CompilerPhaseProfiler.runPhases(CompilerPhaseProfiler.HIGH_TIER, this, graph, context);
+        } else {
+            super.run(graph, context);
+        }
+    }
 }
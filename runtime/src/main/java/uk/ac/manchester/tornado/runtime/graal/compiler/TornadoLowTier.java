@@ -23,9 +23,20 @@
  */
 package uk.ac.manchester.tornado.runtime.graal.compiler;
 
+import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.phases.*;
 import org.graalvm.compiler.phases.tiers.*;
 
+import uk.ac.manchester.tornado.runtime.profiler.CompilerPhaseProfiler;
+
 public abstract class TornadoLowTier extends PhaseSuite<LowTierContext> {
 
+    @Override
+    protected void run(StructuredGraph graph, LowTierContext context) {
+        if (CompilerPhaseProfiler.isEnabled()) {
+            CompilerPhaseProfiler.runPhases(CompilerPhaseProfiler.LOW_TIER, this, graph, context);
+        } else {
+            super.run(graph, context);
+        }
+    }
 }
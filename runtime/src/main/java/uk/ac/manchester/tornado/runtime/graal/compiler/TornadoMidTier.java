@@ -23,10 +23,20 @@
  */
 package uk.ac.manchester.tornado.runtime.graal.compiler;
 
+import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.phases.*;
 
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoMidTierContext;
+import uk.ac.manchester.tornado.runtime.profiler.CompilerPhaseProfiler;
 
 public abstract class TornadoMidTier extends PhaseSuite<TornadoMidTierContext> {
 
+    @Override
+    protected void run(StructuredGraph graph, TornadoMidTierContext context) {
+        if (CompilerPhaseProfiler.isEnabled()) {
+            CompilerPhaseProfiler.runPhases(CompilerPhaseProfiler.MID_TIER, this, graph, context);
+        } else {
+            super.run(graph, context);
+        }
+    }
 }
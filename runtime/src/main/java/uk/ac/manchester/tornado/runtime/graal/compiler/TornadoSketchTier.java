@@ -30,6 +30,7 @@ import static org.graalvm.compiler.core.common.GraalOptions.ImmutableCode;
 import static org.graalvm.compiler.core.phases.HighTier.Options.Inline;
 import static org.graalvm.compiler.phases.common.DeadCodeEliminationPhase.Optionality.Optional;
 
+import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.options.OptionValues;
 import org.graalvm.compiler.phases.PhaseSuite;
 import org.graalvm.compiler.phases.common.CanonicalizerPhase;
@@ -45,6 +46,7 @@ import uk.ac.manchester.tornado.runtime.graal.phases.TornadoNumericPromotionPhas
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoReduceReplacement;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoSketchTierContext;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoStampResolver;
+import uk.ac.manchester.tornado.runtime.profiler.CompilerPhaseProfiler;
 
 public class TornadoSketchTier extends PhaseSuite<TornadoSketchTierContext> {
 
@@ -84,4 +86,13 @@ public class TornadoSketchTier extends PhaseSuite<TornadoSketchTierContext> {
         appendPhase(new TornadoAutoParalleliser());
         appendPhase(new TornadoDataflowAnalysis());
     }
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoSketchTierContext context) {
+        if (CompilerPhaseProfiler.isEnabled()) {
+            CompilerPhaseProfiler.runPhases(CompilerPhaseProfiler.SKETCH_TIER, this, graph, context);
+        } else {
+            super.run(graph, context);
+        }
+    }
 }
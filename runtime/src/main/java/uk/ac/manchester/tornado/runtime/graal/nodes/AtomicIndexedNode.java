@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.nodes;
+
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.nodeinfo.InputType;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.FrameState;
+import org.graalvm.compiler.nodes.StateSplit;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.java.AccessIndexedNode;
+import org.graalvm.compiler.nodes.spi.Lowerable;
+
+import jdk.vm.ci.meta.JavaKind;
+
+/**
+ * Atomic read-modify-write of an array element, introduced for the methods of
+ * {@link uk.ac.manchester.tornado.api.atomics.TornadoAtomics}. The node
+ * evaluates to the value of the element before the update. Each backend lowers
+ * it to its own atomic instructions.
+ */
+@NodeInfo(nameTemplate = "Atomic#{p#operation/s}")
+public final class AtomicIndexedNode extends AccessIndexedNode implements StateSplit, Lowerable {
+
+    public static final NodeClass<AtomicIndexedNode> TYPE = NodeClass.create(AtomicIndexedNode.class);
+
+    public enum Operation {
+        ADD,
+        MIN,
+        MAX,
+        CAS
+    }
+
+    @Input ValueNode value;
+    @OptionalInput ValueNode expected;
+    @OptionalInput(InputType.State) FrameState stateAfter;
+
+    private final Operation operation;
+
+    public AtomicIndexedNode(ValueNode array, ValueNode index, JavaKind elementKind, ValueNode value, Operation operation) {
+        this(array, index, elementKind, null, value, operation);
+    }
+
+    public AtomicIndexedNode(ValueNode array, ValueNode index, JavaKind elementKind, ValueNode expected, ValueNode value, Operation operation) {
+        super(TYPE, StampFactory.forKind(elementKind), array, index, null, elementKind);
+        assert (operation == Operation.CAS) == (expected != null);
+        this.value = value;
+        this.expected = expected;
+        this.operation = operation;
+    }
+
+    public ValueNode value() {
+        return value;
+    }
+
+    /**
+     * The value compared with the element by a {@link Operation#CAS}, null for
+     * the other operations.
+     */
+    public ValueNode expected() {
+        return expected;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    public FrameState stateAfter() {
+        return stateAfter;
+    }
+
+    @Override
+    public void setStateAfter(FrameState x) {
+        assert x == null || x.isAlive() : "frame state must be in a graph";
+        updateUsages(stateAfter, x);
+        stateAfter = x;
+    }
+
+    @Override
+    public boolean hasSideEffect() {
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.nodes;
+
+import org.graalvm.compiler.core.common.type.StampFactory;
+import org.graalvm.compiler.graph.NodeClass;
+import org.graalvm.compiler.nodeinfo.NodeInfo;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.java.AccessIndexedNode;
+import org.graalvm.compiler.nodes.spi.Lowerable;
+
+import jdk.vm.ci.meta.JavaKind;
+
+/**
+ * Loads a half-precision float from a {@code short[]} and converts it to a
+ * float. It is introduced for
+ * {@link uk.ac.manchester.tornado.api.collections.types.HalfFloat#load} and
+ * lowered by each backend to its own half-precision load.
+ */
+@NodeInfo(nameTemplate = "HalfFloatLoad")
+public final class HalfFloatLoadNode extends AccessIndexedNode implements Lowerable {
+
+    public static final NodeClass<HalfFloatLoadNode> TYPE = NodeClass.create(HalfFloatLoadNode.class);
+
+    public HalfFloatLoadNode(ValueNode array, ValueNode index) {
+        super(TYPE, StampFactory.forKind(JavaKind.Float), array, index, null, JavaKind.Short);
+    }
+}
@@ -31,4 +31,13 @@ package uk.ac.manchester.tornado.runtime.graal.phases;
  * scope of opencl-driver package
  */
 public interface MarkLocalArray {
+
+    /**
+     * @return true if the length of the array has been fixed by the compiler
+     *         (e.g., tiles of {@link TornadoLocalMemoryTiling}) and it must not
+     *         be resized by {@link TornadoLocalMemoryAllocation}.
+     */
+    default boolean isFixedSize() {
+        return false;
+    }
 }
@@ -33,6 +33,7 @@ import java.util.Queue;
 import org.graalvm.compiler.core.common.type.ObjectStamp;
 import org.graalvm.compiler.graph.Node;
 import org.graalvm.compiler.nodes.BinaryOpLogicNode;
+import org.graalvm.compiler.nodes.CallTargetNode;
 import org.graalvm.compiler.nodes.ConstantNode;
 import org.graalvm.compiler.nodes.IfNode;
 import org.graalvm.compiler.nodes.NodeView;
@@ -50,6 +51,10 @@ import org.graalvm.compiler.phases.BasePhase;
 import jdk.vm.ci.meta.Constant;
 import jdk.vm.ci.meta.MetaAccessProvider;
 import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.graal.nodes.AtomicIndexedNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatLoadNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.HalfFloatStoreNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.ParallelRangeNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
 import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
@@ -77,6 +82,107 @@ public class TornadoDataflowAnalysis extends BasePhase<TornadoSketchTierContext>
         }
     }
 
+    private static boolean isPrimitiveArray(Object object) {
+        return object != null && object.getClass().isArray() && object.getClass().getComponentType().isPrimitive();
+    }
+
+    private static boolean isWritten(Access access) {
+        return access == Access.WRITE || access == Access.READ_WRITE || access == Access.UNKNOWN;
+    }
+
+    /**
+     * Finds the arguments of a task that are only read by the kernel and that do
+     * not alias with any argument written by the kernel. Only primitive arrays
+     * are considered: if a written argument is an object, it may reference any
+     * of the arrays and no argument is reported.
+     *
+     * @param meta
+     *            Task meta data with the access of each argument, as computed
+     *            by this phase.
+     * @param args
+     *            Arguments of the task being compiled.
+     * @return for each argument, whether it is read-only and not aliased, or
+     *         null if none of them is.
+     */
+    public static boolean[] findReadOnlyArguments(TaskMetaData meta, Object[] args) {
+        if (!TornadoOptions.READ_ONLY_ARGUMENTS) {
+            return null;
+        }
+        return analyseReadOnlyArguments(meta, args);
+    }
+
+    /**
+     * Same as {@link #findReadOnlyArguments}, for the phases that depend on the
+     * aliasing of the arguments regardless of
+     * {@code -Dtornado.readonly.args}.
+     */
+    public static boolean[] analyseReadOnlyArguments(TaskMetaData meta, Object[] args) {
+        if (meta == null || args == null) {
+            return null;
+        }
+
+        final Access[] accesses = meta.getArgumentsAccess();
+        if (accesses == null || accesses.length != args.length) {
+            return null;
+        }
+
+        for (int i = 0; i < args.length; i++) {
+            if (isWritten(accesses[i]) && args[i] != null && !isPrimitiveArray(args[i])) {
+                return null;
+            }
+        }
+
+        boolean[] readOnly = new boolean[args.length];
+        boolean found = false;
+        for (int i = 0; i < args.length; i++) {
+            if (accesses[i] != Access.READ || !isPrimitiveArray(args[i])) {
+                continue;
+            }
+            readOnly[i] = true;
+            for (int j = 0; j < args.length; j++) {
+                if (isWritten(accesses[j]) && args[j] == args[i]) {
+                    readOnly[i] = false;
+                }
+            }
+            found |= readOnly[i];
+        }
+        return found ? readOnly : null;
+    }
+
+    /**
+     * Checks if the base of a memory access is a kernel parameter reported by
+     * {@link #findReadOnlyArguments}. Parameters passed to calls that have not
+     * been inlined are excluded, since the callee may write them.
+     */
+    public static boolean isReadOnlyArgument(ValueNode base, boolean[] readOnlyArguments) {
+        if (readOnlyArguments == null) {
+            return false;
+        }
+        ValueNode node = base;
+        while (node instanceof PiNode) {
+            node = ((PiNode) node).getOriginalNode();
+        }
+        if (!(node instanceof ParameterNode)) {
+            return false;
+        }
+        final int index = ((ParameterNode) node).index();
+        if (index >= readOnlyArguments.length || !readOnlyArguments[index]) {
+            return false;
+        }
+
+        Queue<Node> uses = new ArrayDeque<>();
+        node.usages().forEach(uses::add);
+        while (!uses.isEmpty()) {
+            Node usage = uses.remove();
+            if (usage instanceof CallTargetNode) {
+                return false;
+            } else if (usage instanceof PiNode) {
+                usage.usages().forEach(uses::add);
+            }
+        }
+        return true;
+    }
+
     private static class MetaControlFlow {
         private boolean isWrittenTrueCondition;
         private boolean isWrittenFalseCondition;
@@ -196,17 +302,22 @@ public class TornadoDataflowAnalysis extends BasePhase<TornadoSketchTierContext>
 
         while (!nf.isEmpty()) {
             Node currentNode = nf.remove();
-            if (currentNode instanceof LoadIndexedNode) {
+            if (currentNode instanceof LoadIndexedNode || currentNode instanceof HalfFloatLoadNode) {
                 isRead = true;
-                if (((ValueNode) currentNode).stamp(NodeView.DEFAULT).javaType(metaAccess).isArray()) {
+                // Follow loaded arrays and objects: a field store into an element is a write
+                if (((ValueNode) currentNode).stamp(NodeView.DEFAULT) instanceof ObjectStamp) {
                     nf.addAll(currentNode.usages().snapshot());
                 }
-            } else if (currentNode instanceof StoreIndexedNode || currentNode instanceof StoreAtomicIndexedNode) {
+            } else if (currentNode instanceof StoreIndexedNode || currentNode instanceof StoreAtomicIndexedNode || currentNode instanceof HalfFloatStoreNode) {
                 MetaControlFlow meta = analyseControlFlowForWriting(currentNode, fatherNodeStore, isWrittenTrueCondition, isWrittenFalseCondition);
                 fatherNodeStore = meta.getFatherNodeStore();
                 isWrittenTrueCondition = meta.isWrittenTrueCondition();
                 isWrittenFalseCondition = meta.isWrittenFalseCondition();
                 isStored = true;
+            } else if (currentNode instanceof AtomicIndexedNode) {
+                // Atomic updates read the element before writing it
+                isRead = true;
+                isStored = true;
             } else if (currentNode instanceof LoadFieldNode) {
                 LoadFieldNode loadField = (LoadFieldNode) currentNode;
                 if (loadField.stamp(NodeView.DEFAULT) instanceof ObjectStamp) {
@@ -50,7 +50,7 @@ public class TornadoLocalMemoryAllocation extends BasePhase<TornadoHighTierConte
                 NodeIterable<Node> sumNodes = graph.getNodes();
 
                 for (Node n : sumNodes) {
-                    if (n instanceof MarkLocalArray) {
+                    if (n instanceof MarkLocalArray && !((MarkLocalArray) n).isFixedSize()) {
                         ConstantNode newLengthNode = ConstantNode.forInt(calculateLocalMemAllocSize(context), graph);
                         if (newLengthNode != n.inputs().first()) {
                             n.inputs().first().replaceAndDelete(newLengthNode);
@@ -0,0 +1,580 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.phases;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.graalvm.compiler.core.common.cfg.Loop;
+import org.graalvm.compiler.graph.Node;
+import org.graalvm.compiler.loop.CountedLoopInfo;
+import org.graalvm.compiler.loop.InductionVariable;
+import org.graalvm.compiler.loop.LoopEx;
+import org.graalvm.compiler.loop.LoopsData;
+import org.graalvm.compiler.nodes.AbstractBeginNode;
+import org.graalvm.compiler.nodes.BeginNode;
+import org.graalvm.compiler.nodes.CallTargetNode;
+import org.graalvm.compiler.nodes.ConstantNode;
+import org.graalvm.compiler.nodes.EndNode;
+import org.graalvm.compiler.nodes.FixedNode;
+import org.graalvm.compiler.nodes.FixedWithNextNode;
+import org.graalvm.compiler.nodes.IfNode;
+import org.graalvm.compiler.nodes.LogicNode;
+import org.graalvm.compiler.nodes.LoopBeginNode;
+import org.graalvm.compiler.nodes.LoopExitNode;
+import org.graalvm.compiler.nodes.MergeNode;
+import org.graalvm.compiler.nodes.NodeView;
+import org.graalvm.compiler.nodes.ParameterNode;
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.nodes.ValueNode;
+import org.graalvm.compiler.nodes.ValuePhiNode;
+import org.graalvm.compiler.nodes.calc.AddNode;
+import org.graalvm.compiler.nodes.calc.AndNode;
+import org.graalvm.compiler.nodes.calc.BinaryArithmeticNode;
+import org.graalvm.compiler.nodes.calc.IntegerEqualsNode;
+import org.graalvm.compiler.nodes.calc.IntegerLessThanNode;
+import org.graalvm.compiler.nodes.calc.LeftShiftNode;
+import org.graalvm.compiler.nodes.calc.MulNode;
+import org.graalvm.compiler.nodes.calc.SubNode;
+import org.graalvm.compiler.nodes.cfg.Block;
+import org.graalvm.compiler.nodes.cfg.ControlFlowGraph;
+import org.graalvm.compiler.nodes.java.LoadIndexedNode;
+import org.graalvm.compiler.nodes.java.StoreIndexedNode;
+import org.graalvm.compiler.nodes.util.GraphUtil;
+import org.graalvm.compiler.phases.BasePhase;
+
+import jdk.vm.ci.meta.JavaKind;
+import jdk.vm.ci.meta.ResolvedJavaType;
+import uk.ac.manchester.tornado.runtime.common.Tornado;
+import uk.ac.manchester.tornado.runtime.common.TornadoAcceleratorDevice;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.common.TornadoSchedulingStrategy;
+import uk.ac.manchester.tornado.runtime.graal.nodes.ParallelOffsetNode;
+import uk.ac.manchester.tornado.runtime.graal.nodes.ParallelRangeNode;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
+
+/**
+ * Stages the reused tiles of read-only arrays into local memory for 2D parallel
+ * loop nests with an inner sequential loop, such as matrix multiplication:
+ *
+ * <pre>
+ * for (@Parallel int i = 0; i &lt; n; i++)
+ *     for (@Parallel int j = 0; j &lt; n; j++)
+ *         for (int k = 0; k &lt; n; k++)
+ *             sum += a[i * n + k] * b[k * n + j];
+ * </pre>
+ *
+ * Each read of the inner loop whose index is {@code base + k * stride}, where
+ * {@code base} only depends on one of the parallel indices, is read by all the
+ * threads of a work-group that share that parallel index. The iteration space
+ * is tiled to square work-groups of {@code T x T} threads, and every {@code T}
+ * iterations of the inner loop each thread copies one element of the tile into
+ * local memory, between two barriers. The original reads are rewritten to
+ * access the local tile.
+ *
+ * <p>
+ * The transformation is applied before the parallel loops are scheduled, and
+ * only when every thread executes exactly one iteration of the parallel loops
+ * (PER_ITERATION scheduling, offset 0 and stride 1, and the iteration space
+ * is a multiple of the tile size) and the inner loop is control-equivalent to
+ * the body of the parallel loops (it is not under a condition such as a bounds
+ * guard), so the barriers are reached by all the threads of the work-group.
+ * The trip count of the inner loop must be a compile-time multiple of the tile
+ * size, and the tiled arrays must not alias any argument written by the task.
+ * Tasks with a work-group size set by the user are not tiled. The backends
+ * provide the local arrays and the barrier nodes.
+ * </p>
+ */
+public abstract class TornadoLocalMemoryTiling extends BasePhase<TornadoHighTierContext> {
+
+    private static final int DIMENSIONS = 2;
+    private static final int DEPENDS_ON_INNER_INDEX = 1 << DIMENSIONS;
+    private static final int UNSUPPORTED = -1;
+
+    /**
+     * Creates a local array of {@code length} elements with a fixed size.
+     */
+    protected abstract ValueNode createLocalArray(StructuredGraph graph, ResolvedJavaType elementType, int length);
+
+    /**
+     * Creates a work-group barrier with a fence on local memory.
+     */
+    protected abstract FixedWithNextNode createLocalBarrier(StructuredGraph graph);
+
+    /**
+     * Index of a read decomposed as {@code base + innerIndex * stride}.
+     */
+    private static final class AffineIndex {
+        private final ValueNode base;
+        private final ValueNode stride;
+
+        private AffineIndex(ValueNode base, ValueNode stride) {
+            this.base = base;
+            this.stride = stride;
+        }
+    }
+
+    /**
+     * Read of a global array that is staged into a local tile. The base of the
+     * index only depends on the parallel index of {@code dimension}.
+     */
+    private static final class TiledRead {
+        private final LoadIndexedNode load;
+        private final AffineIndex index;
+        private final int dimension;
+
+        private TiledRead(LoadIndexedNode load, AffineIndex index, int dimension) {
+            this.load = load;
+            this.index = index;
+            this.dimension = dimension;
+        }
+    }
+
+    @Override
+    protected void run(StructuredGraph graph, TornadoHighTierContext context) {
+        if (!TornadoOptions.EXPERIMENTAL_TILING || !context.hasMeta() || !graph.hasLoops()) {
+            return;
+        }
+
+        final TaskMetaData meta = context.getMeta();
+        final int tileSize = resolveTileSize(meta, context.getDeviceMapping());
+        if (tileSize == UNSUPPORTED || !context.hasArgs()) {
+            return;
+        }
+
+        final boolean[] readOnlyArguments = TornadoDataflowAnalysis.analyseReadOnlyArguments(meta, context.getArgs());
+        if (readOnlyArguments == null) {
+            return;
+        }
+
+        final LoopsData data = new LoopsData(graph);
+        data.detectedCountedLoops();
+
+        final ValuePhiNode[] parallelIndexes = new ValuePhiNode[DIMENSIONS];
+        final LoopEx[] parallelLoops = new LoopEx[DIMENSIONS];
+        for (ParallelOffsetNode offset : graph.getNodes().filter(ParallelOffsetNode.class)) {
+            if (offset.index() >= DIMENSIONS || !isParallelLoopPerThread(offset)) {
+                return;
+            }
+            for (Node usage : offset.usages()) {
+                if (usage instanceof ValuePhiNode && ((ValuePhiNode) usage).merge() instanceof LoopBeginNode) {
+                    ValuePhiNode phi = (ValuePhiNode) usage;
+                    parallelIndexes[offset.index()] = phi;
+                    parallelLoops[offset.index()] = data.loop((LoopBeginNode) phi.merge());
+                }
+            }
+        }
+
+        if (parallelLoops[0] == null || parallelLoops[1] == null) {
+            return;
+        }
+
+        final LoopEx innerParallelLoop;
+        if (parallelLoops[1].parent() == parallelLoops[0]) {
+            innerParallelLoop = parallelLoops[1];
+        } else if (parallelLoops[0].parent() == parallelLoops[1]) {
+            innerParallelLoop = parallelLoops[0];
+        } else {
+            return;
+        }
+
+        final ControlFlowGraph cfg = ControlFlowGraph.compute(graph, true, true, true, true);
+        if (!isExecutedByAllThreads(cfg, innerParallelLoop.parent(), innerParallelLoop)) {
+            return;
+        }
+        final long localMemorySize = context.getDeviceMapping().getDevice().getDeviceLocalMemorySize();
+
+        boolean tiled = false;
+        for (LoopEx loop : data.countedLoops()) {
+            if (loop.parent() != innerParallelLoop || !isExecutedByAllThreads(cfg, innerParallelLoop, loop)) {
+                continue;
+            }
+            List<TiledRead> reads = findTiledReads(graph, cfg, loop, parallelIndexes, readOnlyArguments, tileSize);
+            if (reads.isEmpty()) {
+                continue;
+            }
+            long tileBytes = 0;
+            for (TiledRead read : reads) {
+                tileBytes += (long) tileSize * tileSize * read.load.elementKind().getByteCount();
+            }
+            if (tileBytes > localMemorySize) {
+                Tornado.debug("local memory tiling: %d bytes of tiles do not fit in local memory", tileBytes);
+                continue;
+            }
+            tileLoop(graph, context, loop, reads, parallelIndexes, tileSize);
+            tiled = true;
+        }
+
+        if (tiled) {
+            meta.setRequiredLocalWork(new long[] { tileSize, tileSize });
+            Tornado.debug("local memory tiling: task %s uses work-groups of %dx%d", meta.getId(), tileSize, tileSize);
+        }
+    }
+
+    private static boolean isPowerOfTwo(long number) {
+        return number > 0 && ((number & (number - 1)) == 0);
+    }
+
+    private static boolean isIntConstant(ValueNode node, int value) {
+        return node instanceof ConstantNode && node.isJavaConstant() && node.asJavaConstant().getJavaKind() == JavaKind.Int && node.asJavaConstant().asInt() == value;
+    }
+
+    /**
+     * @return the tile size, or {@link #UNSUPPORTED} if the task cannot be
+     *         launched with square work-groups.
+     */
+    private static int resolveTileSize(TaskMetaData meta, TornadoAcceleratorDevice device) {
+        if (!meta.hasDomain() || meta.getDomain().getDepth() != DIMENSIONS || !meta.enableParallelization() || meta.enableThreadCoarsener() || meta.shouldUseOpenCLDriverScheduling()
+                || meta.isWorkerGridAvailable() || meta.isGlobalWorkDefined() || meta.getNumThreads() > 0) {
+            return UNSUPPORTED;
+        }
+
+        if (device.getPreferredSchedule() != TornadoSchedulingStrategy.PER_ITERATION) {
+            return UNSUPPORTED;
+        }
+
+        final int tileSize;
+        if (meta.isLocalWorkDefined()) {
+            // Never override the work-group size set by the user. A previous
+            // compilation of this task sets the size of its tiles.
+            if (!meta.isLocalWorkRequired()) {
+                return UNSUPPORTED;
+            }
+            tileSize = (int) meta.getLocalWork()[0];
+        } else {
+            tileSize = TornadoOptions.TILING_SIZE;
+        }
+
+        long[] maxWorkItemSizes = device.getDevice().getDeviceMaxWorkItemSizes();
+        long[] maxWorkGroupSize = device.getDevice().getDeviceMaxWorkGroupSize();
+        if (!isPowerOfTwo(tileSize) || tileSize < 2 || maxWorkItemSizes[0] < tileSize || maxWorkItemSizes[1] < tileSize || maxWorkGroupSize[0] < (long) tileSize * tileSize) {
+            return UNSUPPORTED;
+        }
+
+        for (int i = 0; i < DIMENSIONS; i++) {
+            if (meta.getDomain().get(i).cardinality() % tileSize != 0) {
+                return UNSUPPORTED;
+            }
+        }
+        return tileSize;
+    }
+
+    /**
+     * Each thread executes a single iteration of the parallel loop, and its
+     * index is the global thread-id, if the loop starts at 0 with stride 1.
+     */
+    private static boolean isParallelLoopPerThread(ParallelOffsetNode offset) {
+        ParallelRangeNode range = offset.usages().filter(ParallelRangeNode.class).first();
+        return range != null && isIntConstant(offset.value(), 0) && isIntConstant(range.stride().value(), 1);
+    }
+
+    /**
+     * @return the successor of the loop condition that stays in the loop, or
+     *         null if the loop does not start with its condition.
+     */
+    private static AbstractBeginNode getLoopBody(LoopEx loop) {
+        FixedNode node = loop.loopBegin().next();
+        while (node instanceof FixedWithNextNode) {
+            node = ((FixedWithNextNode) node).next();
+        }
+        if (node instanceof IfNode) {
+            IfNode condition = (IfNode) node;
+            if (condition.falseSuccessor() instanceof LoopExitNode) {
+                return condition.trueSuccessor();
+            } else if (condition.trueSuccessor() instanceof LoopExitNode) {
+                return condition.falseSuccessor();
+            }
+        }
+        return null;
+    }
+
+    private static boolean postdominates(Block postdominator, Block block) {
+        for (Block current = block; current != null; current = current.getPostdominator()) {
+            if (current == postdominator) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The barriers inserted in {@code nested} are only reached by all the
+     * threads if every iteration of {@code parallel} enters {@code nested}: the
+     * entry of {@code nested} dominates and post-dominates the body of
+     * {@code parallel}.
+     */
+    private static boolean isExecutedByAllThreads(ControlFlowGraph cfg, LoopEx parallel, LoopEx nested) {
+        final AbstractBeginNode parallelBody = (parallel != null) ? getLoopBody(parallel) : null;
+        if (parallelBody == null || nested.loopBegin().forwardEndCount() != 1) {
+            return false;
+        }
+        final Block body = cfg.blockFor(parallelBody);
+        final Block entry = cfg.blockFor(nested.loopBegin().forwardEnd());
+        return body.dominates(entry) && postdominates(entry, body);
+    }
+
+    private static List<TiledRead> findTiledReads(StructuredGraph graph, ControlFlowGraph cfg, LoopEx loop, ValuePhiNode[] parallelIndexes, boolean[] readOnlyArguments, int tileSize) {
+        final List<TiledRead> reads = new ArrayList<>();
+        final LoopBeginNode loopBegin = loop.loopBegin();
+        final CountedLoopInfo counted = loop.counted();
+        final InductionVariable counter = counted.getCounter();
+
+        if (loopBegin.loopEnds().count() != 1 || loopBegin.loopExits().count() != 1 || !(counter.valueNode() instanceof ValuePhiNode)) {
+            return reads;
+        }
+
+        final ValuePhiNode innerIndex = (ValuePhiNode) counter.valueNode();
+        if (innerIndex.merge() != loopBegin || !counter.isConstantInit() || !counter.isConstantStride() || counter.constantStride() != 1) {
+            return reads;
+        }
+
+        // The loop must be `for (k = init; k < limit; k++)` with a trip count
+        // that is a multiple of the tile size
+        final ValueNode limit = counted.getLimit();
+        final IfNode limitTest = counted.getLimitTest();
+        if (!(limit instanceof ConstantNode) || !(limitTest.condition() instanceof IntegerLessThanNode) || limitTest.trueSuccessor() != counted.getBody()) {
+            return reads;
+        }
+        final IntegerLessThanNode condition = (IntegerLessThanNode) limitTest.condition();
+        if (condition.getX() != innerIndex || condition.getY() != limit) {
+            return reads;
+        }
+        final long tripCount = limit.asJavaConstant().asLong() - counter.constantInit();
+        if (tripCount <= 0 || tripCount % tileSize != 0) {
+            return reads;
+        }
+
+        final Block loopEndBlock = cfg.blockFor(loopBegin.loopEnds().first());
+        for (LoadIndexedNode load : graph.getNodes().filter(LoadIndexedNode.class)) {
+            if (!load.elementKind().isPrimitive()) {
+                continue;
+            }
+
+            // The read must be executed in every iteration of the inner loop,
+            // and not in a nested loop
+            Block block = cfg.blockFor(load);
+            Loop<Block> blockLoop = block.getLoop();
+            if (blockLoop == null || blockLoop.getHeader().getBeginNode() != loopBegin || !block.dominates(loopEndBlock)) {
+                continue;
+            }
+
+            ValueNode array = GraphUtil.unproxify(load.array());
+            if (!(array instanceof ParameterNode) || !isReadOnly(graph, array) || !TornadoDataflowAnalysis.isReadOnlyArgument(array, readOnlyArguments)) {
+                continue;
+            }
+
+            AffineIndex index = decompose(graph, load.index(), parallelIndexes, innerIndex);
+            if (index == null || dependencies(index.stride, parallelIndexes, innerIndex) != 0 || isIntConstant(index.stride, 0)) {
+                continue;
+            }
+
+            int baseDependencies = dependencies(index.base, parallelIndexes, innerIndex);
+            for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+                if (baseDependencies == (1 << dimension)) {
+                    reads.add(new TiledRead(load, index, dimension));
+                }
+            }
+        }
+        return reads;
+    }
+
+    private static boolean isReadOnly(StructuredGraph graph, ValueNode array) {
+        for (StoreIndexedNode store : graph.getNodes().filter(StoreIndexedNode.class)) {
+            if (GraphUtil.unproxify(store.array()) == array) {
+                return false;
+            }
+        }
+        for (CallTargetNode callTarget : graph.getNodes().filter(CallTargetNode.class)) {
+            for (ValueNode argument : callTarget.arguments()) {
+                if (GraphUtil.unproxify(argument) == array) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a bit mask with the indices (parallel and inner) the value depends
+     *         on, or {@link #UNSUPPORTED} if the value is not an integer
+     *         expression of the indices, constants and parameters.
+     */
+    private static int dependencies(ValueNode node, ValuePhiNode[] parallelIndexes, ValuePhiNode innerIndex) {
+        if (node == innerIndex) {
+            return DEPENDS_ON_INNER_INDEX;
+        }
+        for (int i = 0; i < DIMENSIONS; i++) {
+            if (node == parallelIndexes[i]) {
+                return 1 << i;
+            }
+        }
+        if (node instanceof ConstantNode || node instanceof ParameterNode) {
+            return 0;
+        }
+        if (node instanceof AddNode || node instanceof SubNode || node instanceof MulNode) {
+            BinaryArithmeticNode<?> binary = (BinaryArithmeticNode<?>) node;
+            int x = dependencies(binary.getX(), parallelIndexes, innerIndex);
+            int y = dependencies(binary.getY(), parallelIndexes, innerIndex);
+            return (x == UNSUPPORTED || y == UNSUPPORTED) ? UNSUPPORTED : (x | y);
+        }
+        if (node instanceof LeftShiftNode) {
+            LeftShiftNode shift = (LeftShiftNode) node;
+            int x = dependencies(shift.getX(), parallelIndexes, innerIndex);
+            return (x == UNSUPPORTED || !(shift.getY() instanceof ConstantNode)) ? UNSUPPORTED : x;
+        }
+        return UNSUPPORTED;
+    }
+
+    /**
+     * Decomposes an index as {@code base + innerIndex * stride}.
+     *
+     * @return the decomposition, or null if the index is not linear in the inner
+     *         index.
+     */
+    private static AffineIndex decompose(StructuredGraph graph, ValueNode node, ValuePhiNode[] parallelIndexes, ValuePhiNode innerIndex) {
+        final ConstantNode zero = ConstantNode.forInt(0, graph);
+        final int nodeDependencies = dependencies(node, parallelIndexes, innerIndex);
+        if (nodeDependencies == UNSUPPORTED || node.getStackKind() != JavaKind.Int) {
+            return null;
+        } else if (node == innerIndex) {
+            return new AffineIndex(zero, ConstantNode.forInt(1, graph));
+        } else if ((nodeDependencies & DEPENDS_ON_INNER_INDEX) == 0) {
+            return new AffineIndex(node, zero);
+        }
+
+        if (node instanceof AddNode || node instanceof SubNode) {
+            BinaryArithmeticNode<?> binary = (BinaryArithmeticNode<?>) node;
+            AffineIndex x = decompose(graph, binary.getX(), parallelIndexes, innerIndex);
+            AffineIndex y = decompose(graph, binary.getY(), parallelIndexes, innerIndex);
+            if (x == null || y == null) {
+                return null;
+            }
+            if (node instanceof AddNode) {
+                return new AffineIndex(BinaryArithmeticNode.add(graph, x.base, y.base, NodeView.DEFAULT), BinaryArithmeticNode.add(graph, x.stride, y.stride, NodeView.DEFAULT));
+            } else {
+                return new AffineIndex(BinaryArithmeticNode.sub(graph, x.base, y.base, NodeView.DEFAULT), BinaryArithmeticNode.sub(graph, x.stride, y.stride, NodeView.DEFAULT));
+            }
+        } else if (node instanceof MulNode) {
+            MulNode mul = (MulNode) node;
+            ValueNode factor;
+            AffineIndex x;
+            if ((dependencies(mul.getY(), parallelIndexes, innerIndex) & DEPENDS_ON_INNER_INDEX) == 0) {
+                x = decompose(graph, mul.getX(), parallelIndexes, innerIndex);
+                factor = mul.getY();
+            } else if ((dependencies(mul.getX(), parallelIndexes, innerIndex) & DEPENDS_ON_INNER_INDEX) == 0) {
+                x = decompose(graph, mul.getY(), parallelIndexes, innerIndex);
+                factor = mul.getX();
+            } else {
+                return null;
+            }
+            return (x == null) ? null : new AffineIndex(BinaryArithmeticNode.mul(graph, x.base, factor, NodeView.DEFAULT), BinaryArithmeticNode.mul(graph, x.stride, factor, NodeView.DEFAULT));
+        } else if (node instanceof LeftShiftNode) {
+            LeftShiftNode shift = (LeftShiftNode) node;
+            AffineIndex x = decompose(graph, shift.getX(), parallelIndexes, innerIndex);
+            if (x == null || !(shift.getY() instanceof ConstantNode)) {
+                return null;
+            }
+            ConstantNode factor = ConstantNode.forInt(1 << shift.getY().asJavaConstant().asInt(), graph);
+            return new AffineIndex(BinaryArithmeticNode.mul(graph, x.base, factor, NodeView.DEFAULT), BinaryArithmeticNode.mul(graph, x.stride, factor, NodeView.DEFAULT));
+        }
+        return null;
+    }
+
+    private static FixedWithNextNode append(FixedWithNextNode last, FixedWithNextNode node) {
+        last.setNext(node);
+        return node;
+    }
+
+    /**
+     * Inserts at the beginning of the loop body:
+     *
+     * <pre>
+     * if (((k - init) &amp; (T - 1)) == 0) {
+     *     barrier();
+     *     tile[localD * T + localO] = array[base + (k + localO) * stride];
+     *     barrier();
+     * }
+     * </pre>
+     *
+     * and replaces each read by {@code tile[localD * T + ((k - init) & (T - 1))]}.
+     */
+    private void tileLoop(StructuredGraph graph, TornadoHighTierContext context, LoopEx loop, List<TiledRead> reads, ValuePhiNode[] parallelIndexes, int tileSize) {
+        final CountedLoopInfo counted = loop.counted();
+        final ValuePhiNode innerIndex = (ValuePhiNode) counted.getCounter().valueNode();
+        final ConstantNode tileSizeNode = ConstantNode.forInt(tileSize, graph);
+        final ConstantNode tileMask = ConstantNode.forInt(tileSize - 1, graph);
+
+        final ValueNode[] localIndexes = new ValueNode[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            localIndexes[i] = graph.addOrUnique(new AndNode(parallelIndexes[i], tileMask));
+        }
+
+        final ConstantNode init = ConstantNode.forInt((int) counted.getCounter().constantInit(), graph);
+        final ValueNode iteration = graph.addOrUnique(new SubNode(innerIndex, init));
+        final ValueNode indexInTile = graph.addOrUnique(new AndNode(iteration, tileMask));
+        final LogicNode isFirstInTile = graph.addOrUnique(new IntegerEqualsNode(indexInTile, ConstantNode.forInt(0, graph)));
+
+        final BeginNode loadTile = graph.add(new BeginNode());
+        final BeginNode skipTile = graph.add(new BeginNode());
+        final EndNode loadTileEnd = graph.add(new EndNode());
+        final EndNode skipTileEnd = graph.add(new EndNode());
+        final MergeNode merge = graph.add(new MergeNode());
+        final IfNode ifNode = graph.add(new IfNode(isFirstInTile, loadTile, skipTile, 1.0 / tileSize));
+
+        final AbstractBeginNode body = counted.getBody();
+        final FixedNode first = body.next();
+        body.setNext(null);
+        merge.addForwardEnd(loadTileEnd);
+        merge.addForwardEnd(skipTileEnd);
+        merge.setNext(first);
+        skipTile.setNext(skipTileEnd);
+        body.setNext(ifNode);
+
+        FixedWithNextNode last = append(loadTile, createLocalBarrier(graph));
+        for (TiledRead read : reads) {
+            final LoadIndexedNode load = read.load;
+            final JavaKind kind = load.elementKind();
+            final ValueNode localD = localIndexes[read.dimension];
+            final ValueNode localO = localIndexes[1 - read.dimension];
+            final ValueNode row = graph.addOrUnique(new MulNode(localD, tileSizeNode));
+
+            final ResolvedJavaType elementType = context.getMetaAccess().lookupJavaType(kind.toJavaClass());
+            final ValueNode tile = createLocalArray(graph, elementType, tileSize * tileSize);
+
+            // Copy one element of the tile
+            final ValueNode globalInnerIndex = graph.addOrUnique(new AddNode(innerIndex, localO));
+            final ValueNode globalIndex = graph.addOrUnique(new AddNode(read.index.base, graph.addOrUnique(new MulNode(globalInnerIndex, read.index.stride))));
+            final LoadIndexedNode globalRead = graph.add(new LoadIndexedNode(graph.getAssumptions(), load.array(), globalIndex, null, kind));
+            last = append(last, globalRead);
+            final ValueNode localStoreIndex = graph.addOrUnique(new AddNode(row, localO));
+            last = append(last, graph.add(new StoreIndexedNode(tile, localStoreIndex, null, null, kind, globalRead)));
+
+            // Read the element of the current iteration from the tile
+            final ValueNode localReadIndex = graph.addOrUnique(new AddNode(row, indexInTile));
+            load.replaceFirstInput(load.index(), localReadIndex);
+            load.replaceFirstInput(load.array(), tile);
+        }
+        last = append(last, createLocalBarrier(graph));
+        last.setNext(loadTileEnd);
+
+        Tornado.debug("local memory tiling: %d reads staged in local memory in loop %s", reads.size(), loop.loopBegin());
+    }
+}
@@ -27,9 +27,11 @@ import java.lang.annotation.Annotation;
 
 import org.graalvm.compiler.graph.Node;
 import org.graalvm.compiler.graph.iterators.NodeIterable;
+import org.graalvm.compiler.nodes.ConstantNode;
 import org.graalvm.compiler.nodes.EndNode;
 import org.graalvm.compiler.nodes.IfNode;
 import org.graalvm.compiler.nodes.LoopBeginNode;
+import org.graalvm.compiler.nodes.LoopExitNode;
 import org.graalvm.compiler.nodes.MergeNode;
 import org.graalvm.compiler.nodes.ParameterNode;
 import org.graalvm.compiler.nodes.PhiNode;
@@ -42,13 +44,16 @@ import org.graalvm.compiler.nodes.calc.BinaryNode;
 import org.graalvm.compiler.nodes.calc.CompareNode;
 import org.graalvm.compiler.nodes.calc.MulNode;
 import org.graalvm.compiler.nodes.calc.SubNode;
+import org.graalvm.compiler.nodes.java.AccessIndexedNode;
 import org.graalvm.compiler.nodes.java.LoadIndexedNode;
 import org.graalvm.compiler.nodes.java.StoreFieldNode;
 import org.graalvm.compiler.nodes.java.StoreIndexedNode;
 import org.graalvm.compiler.phases.BasePhase;
 
 import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.common.ReduceCombiner;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.runtime.analyzer.ReduceCodeAnalysis;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNode;
 import uk.ac.manchester.tornado.runtime.graal.nodes.StoreAtomicIndexedNodeExtension;
 import uk.ac.manchester.tornado.runtime.graal.nodes.TornadoReduceAddNode;
@@ -310,6 +315,67 @@ public class TornadoReduceReplacement extends BasePhase<TornadoSketchTierContext
         }
     }
 
+    /**
+     * Returns the induction variable of the loop that contains the access, or
+     * null if the access is not in a loop.
+     */
+    private PhiNode obtainLoopIterationNode(AccessIndexedNode access) {
+        Node node = access.predecessor();
+        while (!(node instanceof StartNode) && !(node instanceof LoopExitNode)) {
+            if (node instanceof LoopBeginNode) {
+                for (PhiNode phi : ((LoopBeginNode) node).phis()) {
+                    ValueNode backValue = phi.singleBackValueOrThis();
+                    if (backValue instanceof AddNode && (((AddNode) backValue).getX() == phi || ((AddNode) backValue).getY() == phi)) {
+                        return phi;
+                    }
+                }
+                return null;
+            } else if (node instanceof MergeNode) {
+                MergeNode merge = (MergeNode) node;
+                EndNode endNode = merge.forwardEndAt(0);
+                node = endNode.predecessor();
+            } else {
+                node = node.predecessor();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reductions with a user-declared combiner are not replaced by snippets.
+     * Instead, every iteration of the loop gets its own partial result: the
+     * accesses to {@code reduce[c]} become
+     * {@code reduce[(i - start) * width + c]}. The runtime initialises every
+     * partial result with the identity and folds them with the combiner after
+     * the kernel (see {@link ReduceCombiner}).
+     */
+    private void processReduceCombiner(StructuredGraph graph, int index, int width) {
+
+        if (shouldSkip(index, graph)) {
+            return;
+        }
+
+        final ParameterNode reduceParameter = graph.getParameter(index);
+        assert (reduceParameter != null);
+        final ConstantNode widthNode = ConstantNode.forInt(width, graph);
+
+        for (Node node : reduceParameter.usages().snapshot()) {
+            if (node instanceof AccessIndexedNode) {
+                AccessIndexedNode access = (AccessIndexedNode) node;
+                PhiNode iteration = obtainLoopIterationNode(access);
+                if (iteration == null) {
+                    continue;
+                }
+                ValueNode slot = graph.addOrUnique(new SubNode(iteration, iteration.valueAt(0)));
+                ValueNode offset = graph.addOrUnique(new MulNode(slot, widthNode));
+                ValueNode slotIndex = graph.addOrUnique(new AddNode(offset, access.index()));
+                access.replaceFirstInput(access.index(), slotIndex);
+            } else if (node instanceof StoreFieldNode) {
+                throw new TornadoRuntimeException("\n[NOT SUPPORTED] Node StoreFieldNode is not supported yet.");
+            }
+        }
+    }
+
     private ValueNode obtainStartLoopNode(StoreIndexedNode store) {
         boolean startFound = false;
         ValueNode startNode = null;
@@ -370,6 +436,7 @@ public class TornadoReduceReplacement extends BasePhase<TornadoSketchTierContext
         for (int index = 0; index < parameterAnnotations.length; index++) {
             for (Annotation annotation : parameterAnnotations[index]) {
                 if (annotation instanceof Reduce) {
+                    ReduceCombiner combiner = ReduceCodeAnalysis.createReduceCombiner((Reduce) annotation);
                     // If the number of arguments does not match, then we increase the index to
                     // obtain the correct one when indexing from getParameters. This is an issue
                     // when having inheritance with interfaces from Apache Flink. See issue
@@ -377,7 +444,11 @@ public class TornadoReduceReplacement extends BasePhase<TornadoSketchTierContext
                     if (!graph.method().isStatic() || getNumberOfParameterNodes(graph) > parameterAnnotations.length) {
                         index++;
                     }
-                    processReduceAnnotation(graph, index);
+                    if (combiner != null) {
+                        processReduceCombiner(graph, index, combiner.getWidth());
+                    } else {
+                        processReduceAnnotation(graph, index);
+                    }
                 }
             }
         }
@@ -0,0 +1,90 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.phases.lir;
+
+import org.graalvm.compiler.lir.LIRInstruction;
+
+import jdk.vm.ci.meta.AllocatableValue;
+import jdk.vm.ci.meta.Value;
+
+/**
+ * Describes the LIR instructions of a backend to the Tornado LIR optimisations
+ * ({@link TornadoLIRLoopInvariantCodeMotion} and
+ * {@link TornadoLIRCommonSubexpressionElimination}).
+ *
+ * The OpenCL and PTX backends assign expressions to variables
+ * ({@code v = x op y}), so the optimisations only need to know which
+ * assignments are side-effect free and how to build a new assignment.
+ */
+public interface LIRExpressionModel {
+
+    /**
+     * @return the expression assigned by the instruction if the instruction is an
+     *         assignment of a side-effect free arithmetic, bitwise or conversion
+     *         operation, {@code null} otherwise. Memory accesses, divisions and
+     *         calls are never pure.
+     */
+    Value getPureExpression(LIRInstruction instruction);
+
+    /**
+     * @return the value defined by an instruction for which
+     *         {@link #getPureExpression} is not {@code null}.
+     */
+    AllocatableValue getResult(LIRInstruction instruction);
+
+    /**
+     * @return the opcode of a pure expression.
+     */
+    Object getOpcode(Value expression);
+
+    /**
+     * @return the inputs of a pure expression.
+     */
+    Value[] getOperands(Value expression);
+
+    /**
+     * @return an instruction that copies {@code input} into {@code result}.
+     */
+    LIRInstruction createMove(AllocatableValue result, Value input);
+
+    /**
+     * @return the instruction executed under a predicate by {@code instruction},
+     *         or {@code null}. Its outputs are definitions of
+     *         {@code instruction}.
+     */
+    LIRInstruction getGuardedInstruction(LIRInstruction instruction);
+
+    /**
+     * @return true if the instruction belongs to the structured loop emitted by
+     *         the backend (e.g., the {@code for} header in OpenCL C). Blocks with
+     *         these instructions do not receive hoisted code.
+     */
+    boolean isLoopControl(LIRInstruction instruction);
+
+    /**
+     * @return true if the instruction transfers the control to another block.
+     *         Hoisted instructions are inserted before it.
+     */
+    boolean isBlockEnd(LIRInstruction instruction);
+}
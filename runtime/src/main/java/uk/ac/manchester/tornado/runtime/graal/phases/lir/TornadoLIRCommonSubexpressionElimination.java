@@ -0,0 +1,97 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.phases.lir;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.graalvm.compiler.core.common.cfg.AbstractBlockBase;
+import org.graalvm.compiler.lir.LIR;
+import org.graalvm.compiler.lir.LIRInstruction;
+import org.graalvm.compiler.lir.gen.LIRGenerationResult;
+
+import jdk.vm.ci.code.TargetDescription;
+import jdk.vm.ci.meta.AllocatableValue;
+import jdk.vm.ci.meta.Value;
+
+/**
+ * Replaces a pure assignment by a copy of a variable that already holds the
+ * same expression in the same block or in a dominating block. Typical cases are
+ * the index and address computations of several accesses to the same element,
+ * and the expressions hoisted by {@link TornadoLIRLoopInvariantCodeMotion} from
+ * different loops.
+ *
+ * The copies are resolved by the OpenCL and PTX compilers, so only the
+ * arithmetic is removed.
+ */
+public class TornadoLIRCommonSubexpressionElimination extends TornadoLIRExpressionPhase {
+
+    public TornadoLIRCommonSubexpressionElimination(LIRExpressionModel model) {
+        super(model);
+    }
+
+    private static AllocatableValue lookup(AbstractBlockBase<?> block, List<Object> key, Map<AbstractBlockBase<?>, Map<List<Object>, AllocatableValue>> available) {
+        for (AbstractBlockBase<?> dominator = block; dominator != null; dominator = dominator.getDominator()) {
+            Map<List<Object>, AllocatableValue> expressions = available.get(dominator);
+            if (expressions != null && expressions.containsKey(key)) {
+                return expressions.get(key);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected void run(TargetDescription target, LIRGenerationResult lirGenRes, PreAllocationOptimizationContext context) {
+        LIR lir = lirGenRes.getLIR();
+        Definitions definitions = new Definitions(lir, model);
+        Map<AbstractBlockBase<?>, Map<List<Object>, AllocatableValue>> available = new HashMap<>();
+        // Variables replaced by a copy, so later expressions that use them are
+        // compared with the original value
+        Map<Value, Value> copies = new HashMap<>();
+
+        // Dominators are visited before the blocks they dominate
+        for (AbstractBlockBase<?> block : lir.linearScanOrder()) {
+            Map<List<Object>, AllocatableValue> expressions = new HashMap<>();
+            available.put(block, expressions);
+            List<LIRInstruction> instructions = lir.getLIRforBlock(block);
+            for (int i = 0; i < instructions.size(); i++) {
+                LIRInstruction instruction = instructions.get(i);
+                if (!isCandidate(instruction, definitions)) {
+                    continue;
+                }
+                List<Object> key = getKey(instruction);
+                key.replaceAll(element -> element instanceof Value ? copies.getOrDefault(element, (Value) element) : element);
+                AllocatableValue result = model.getResult(instruction);
+                AllocatableValue previous = lookup(block, key, available);
+                if (previous != null) {
+                    instructions.set(i, model.createMove(result, previous));
+                    copies.put(result, previous);
+                } else {
+                    expressions.put(key, result);
+                }
+            }
+        }
+    }
+}
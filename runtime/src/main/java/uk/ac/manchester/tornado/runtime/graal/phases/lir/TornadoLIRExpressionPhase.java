@@ -0,0 +1,133 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.phases.lir;
+
+import static org.graalvm.compiler.lir.LIRValueUtil.isConstantValue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.graalvm.compiler.core.common.cfg.AbstractBlockBase;
+import org.graalvm.compiler.lir.LIR;
+import org.graalvm.compiler.lir.LIRInstruction;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.phases.PreAllocationOptimizationPhase;
+
+import jdk.vm.ci.meta.AllocatableValue;
+import jdk.vm.ci.meta.Value;
+
+/**
+ * Common analysis of the Tornado LIR optimisations.
+ *
+ * The LIR of the Tornado backends is not register allocated: every variable is
+ * declared at the beginning of the kernel and emitted by name. Variables are
+ * in SSA form except the ones that hold loop-carried values, which are assigned
+ * before the loop and in the back-edge. The optimisations only consider pure
+ * assignments whose result and operands are defined exactly once, so the value
+ * of an expression only depends on where its operands are defined.
+ */
+public abstract class TornadoLIRExpressionPhase extends PreAllocationOptimizationPhase {
+
+    protected final LIRExpressionModel model;
+
+    protected TornadoLIRExpressionPhase(LIRExpressionModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Definitions of the variables of a method.
+     */
+    protected static final class Definitions {
+        private final Map<Variable, Integer> count = new HashMap<>();
+        private final Map<Variable, AbstractBlockBase<?>> block = new HashMap<>();
+
+        Definitions(LIR lir, LIRExpressionModel model) {
+            for (AbstractBlockBase<?> b : lir.linearScanOrder()) {
+                for (LIRInstruction instruction : lir.getLIRforBlock(b)) {
+                    for (LIRInstruction current = instruction; current != null; current = model.getGuardedInstruction(current)) {
+                        current.forEachOutput((value, mode, flags) -> {
+                            if (value instanceof Variable) {
+                                count.merge((Variable) value, 1, Integer::sum);
+                                block.put((Variable) value, b);
+                            }
+                            return value;
+                        });
+                    }
+                }
+            }
+        }
+
+        boolean isSingleDefinition(Value value) {
+            return value instanceof Variable && count.getOrDefault(value, 0) == 1;
+        }
+
+        AbstractBlockBase<?> getBlock(Variable variable) {
+            return block.get(variable);
+        }
+
+        void setBlock(Variable variable, AbstractBlockBase<?> b) {
+            block.put(variable, b);
+        }
+    }
+
+    /**
+     * @return true if the instruction is a pure assignment to a variable defined
+     *         once, and all its operands are constants or variables defined once.
+     */
+    protected boolean isCandidate(LIRInstruction instruction, Definitions definitions) {
+        Value expression = model.getPureExpression(instruction);
+        if (expression == null || !definitions.isSingleDefinition(model.getResult(instruction))) {
+            return false;
+        }
+        for (Value operand : model.getOperands(expression)) {
+            if (operand instanceof Variable) {
+                if (!definitions.isSingleDefinition(operand)) {
+                    return false;
+                }
+            } else if (!isConstantValue(operand)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a key that identifies the value computed by a candidate
+     *         instruction.
+     */
+    protected List<Object> getKey(LIRInstruction instruction) {
+        Value expression = model.getPureExpression(instruction);
+        AllocatableValue result = model.getResult(instruction);
+        Value[] operands = model.getOperands(expression);
+        Object[] key = new Object[operands.length + 4];
+        key[0] = expression.getClass();
+        key[1] = model.getOpcode(expression);
+        key[2] = expression.getValueKind();
+        key[3] = result.getValueKind();
+        System.arraycopy(operands, 0, key, 4, operands.length);
+        return Arrays.asList(key);
+    }
+}
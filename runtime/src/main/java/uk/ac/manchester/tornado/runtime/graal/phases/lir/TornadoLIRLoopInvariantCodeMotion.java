@@ -0,0 +1,135 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.phases.lir;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.graalvm.compiler.core.common.cfg.AbstractBlockBase;
+import org.graalvm.compiler.core.common.cfg.Loop;
+import org.graalvm.compiler.lir.LIR;
+import org.graalvm.compiler.lir.LIRInstruction;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGenerationResult;
+
+import jdk.vm.ci.code.TargetDescription;
+import jdk.vm.ci.meta.Value;
+
+/**
+ * Hoists pure assignments whose operands are defined outside of a loop (e.g.,
+ * the base and the constant offset of an address) to the block that precedes
+ * the loop. Inner loops are processed first, so invariant code can move across
+ * several levels of a loop nest.
+ *
+ * Loops with more than one entry, or whose preceding block also contains the
+ * structured loop code of the backend, are not modified. The loop header is
+ * not modified either, since the backends emit it as the loop condition.
+ */
+public class TornadoLIRLoopInvariantCodeMotion extends TornadoLIRExpressionPhase {
+
+    public TornadoLIRLoopInvariantCodeMotion(LIRExpressionModel model) {
+        super(model);
+    }
+
+    private AbstractBlockBase<?> getPreheader(LIR lir, Loop<?> loop, Set<AbstractBlockBase<?>> loopBlocks) {
+        AbstractBlockBase<?> preheader = null;
+        for (AbstractBlockBase<?> predecessor : loop.getHeader().getPredecessors()) {
+            if (!loopBlocks.contains(predecessor)) {
+                if (preheader != null) {
+                    return null;
+                }
+                preheader = predecessor;
+            }
+        }
+        if (preheader == null || preheader.getSuccessorCount() != 1) {
+            return null;
+        }
+        for (LIRInstruction instruction : lir.getLIRforBlock(preheader)) {
+            if (model.isLoopControl(instruction)) {
+                return null;
+            }
+        }
+        return preheader;
+    }
+
+    private boolean isInvariant(LIRInstruction instruction, Set<AbstractBlockBase<?>> loopBlocks, Definitions definitions) {
+        for (Value operand : model.getOperands(model.getPureExpression(instruction))) {
+            if (operand instanceof Variable && loopBlocks.contains(definitions.getBlock((Variable) operand))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void hoist(LIR lir, Loop<?> loop, Definitions definitions) {
+        Set<AbstractBlockBase<?>> loopBlocks = new HashSet<>(loop.getBlocks());
+        AbstractBlockBase<?> preheader = getPreheader(lir, loop, loopBlocks);
+        if (preheader == null) {
+            return;
+        }
+
+        List<LIRInstruction> hoisted = new ArrayList<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (AbstractBlockBase<?> block : loop.getBlocks()) {
+                if (block == loop.getHeader()) {
+                    continue;
+                }
+                List<LIRInstruction> instructions = lir.getLIRforBlock(block);
+                for (int i = 0; i < instructions.size(); i++) {
+                    LIRInstruction instruction = instructions.get(i);
+                    if (isCandidate(instruction, definitions) && isInvariant(instruction, loopBlocks, definitions)) {
+                        instructions.remove(i--);
+                        hoisted.add(instruction);
+                        definitions.setBlock((Variable) model.getResult(instruction), preheader);
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        if (!hoisted.isEmpty()) {
+            List<LIRInstruction> instructions = lir.getLIRforBlock(preheader);
+            int position = instructions.size();
+            if (position > 0 && model.isBlockEnd(instructions.get(position - 1))) {
+                position--;
+            }
+            instructions.addAll(position, hoisted);
+        }
+    }
+
+    @Override
+    protected void run(TargetDescription target, LIRGenerationResult lirGenRes, PreAllocationOptimizationContext context) {
+        LIR lir = lirGenRes.getLIR();
+        Definitions definitions = new Definitions(lir, model);
+        List<Loop<?>> loops = new ArrayList<>(lir.getControlFlowGraph().getLoops());
+        loops.sort((a, b) -> Integer.compare(b.getDepth(), a.getDepth()));
+        for (Loop<?> loop : loops) {
+            hoist(lir, loop, definitions);
+        }
+    }
+}
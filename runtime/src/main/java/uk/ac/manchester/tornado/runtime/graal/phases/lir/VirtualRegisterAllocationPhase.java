@@ -23,17 +23,194 @@
  */
 package uk.ac.manchester.tornado.runtime.graal.phases.lir;
 
-import static uk.ac.manchester.tornado.api.exceptions.TornadoInternalError.unimplemented;
+import static uk.ac.manchester.tornado.runtime.common.Tornado.debug;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.graalvm.compiler.core.common.cfg.AbstractBlockBase;
+import org.graalvm.compiler.lir.LIR;
+import org.graalvm.compiler.lir.LIRInstruction;
+import org.graalvm.compiler.lir.Variable;
 import org.graalvm.compiler.lir.gen.LIRGenerationResult;
 import org.graalvm.compiler.lir.phases.AllocationPhase;
+
 import jdk.vm.ci.code.TargetDescription;
 
+/**
+ * Reuses the names of the variables of a kernel with a linear scan over the
+ * LIR, so the backends declare fewer variables.
+ *
+ * The instructions are numbered in linear-scan order and the live ranges are
+ * computed with a backward dataflow analysis over the control-flow graph. Each
+ * variable gets the interval that covers all the positions where it is live or
+ * referenced. Two variables of the same register class whose intervals do not
+ * overlap are never live at the same time, whatever the order in which the
+ * blocks are emitted, so they are given the same name.
+ */
 public class VirtualRegisterAllocationPhase extends AllocationPhase {
 
+    private final VirtualRegisterModel model;
+
+    public VirtualRegisterAllocationPhase(VirtualRegisterModel model) {
+        this.model = model;
+    }
+
+    private static final class Interval {
+        private final Variable variable;
+        private final Set<Variable> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        private int from = Integer.MAX_VALUE;
+        private int to = Integer.MIN_VALUE;
+        private int register;
+
+        Interval(Variable variable) {
+            this.variable = variable;
+        }
+
+        void add(Variable instance, int position) {
+            instances.add(instance);
+            from = Math.min(from, position);
+            to = Math.max(to, position);
+        }
+    }
+
+    private static final class BlockData {
+        private int first;
+        private int last;
+        private final Set<Variable> gen = new HashSet<>();
+        private final Set<Variable> kill = new HashSet<>();
+        private Set<Variable> liveIn = new HashSet<>();
+        private final Set<Variable> liveOut = new HashSet<>();
+    }
+
     @Override
-    protected void run(TargetDescription td, LIRGenerationResult lirgr, AllocationContext c) {
-        unimplemented();
+    protected void run(TargetDescription target, LIRGenerationResult lirGenRes, AllocationContext context) {
+        LIR lir = lirGenRes.getLIR();
+        AbstractBlockBase<?>[] blocks = lir.linearScanOrder();
+        Map<AbstractBlockBase<?>, BlockData> blockData = new HashMap<>();
+        Map<Variable, Interval> intervals = new HashMap<>();
+        Set<Variable> defined = new HashSet<>();
+        Set<Variable> pinned = new HashSet<>();
+
+        int position = 0;
+        for (AbstractBlockBase<?> block : blocks) {
+            if (block == null) {
+                continue;
+            }
+            BlockData data = new BlockData();
+            blockData.put(block, data);
+            data.first = position++;
+            Set<Variable> referenced = new HashSet<>();
+            boolean reordered = false;
+            for (LIRInstruction instruction : lir.getLIRforBlock(block)) {
+                final int current = position++;
+                model.forEachInput(instruction, variable -> {
+                    intervals.computeIfAbsent(variable, Interval::new).add(variable, current);
+                    referenced.add(variable);
+                    if (!data.kill.contains(variable)) {
+                        data.gen.add(variable);
+                    }
+                });
+                model.forEachOutput(instruction, variable -> {
+                    intervals.computeIfAbsent(variable, Interval::new).add(variable, current);
+                    referenced.add(variable);
+                    defined.add(variable);
+                    data.kill.add(variable);
+                });
+                reordered |= model.isReordered(instruction);
+            }
+            data.last = position - 1;
+            if (reordered) {
+                pinned.addAll(referenced);
+            }
+        }
+
+        computeLiveness(blocks, blockData);
+        for (BlockData data : blockData.values()) {
+            for (Variable variable : data.liveIn) {
+                intervals.get(variable).add(variable, data.first);
+            }
+            for (Variable variable : data.liveOut) {
+                intervals.get(variable).add(variable, data.last);
+            }
+        }
+
+        Set<Variable> candidates = new HashSet<>(defined);
+        candidates.removeAll(pinned);
+        Map<Object, List<Variable>> registerClasses = model.getAllocatableVariables(lirGenRes, candidates);
+        for (Map.Entry<Object, List<Variable>> entry : registerClasses.entrySet()) {
+            List<Interval> classIntervals = new ArrayList<>();
+            for (Variable variable : entry.getValue()) {
+                classIntervals.add(intervals.get(variable));
+            }
+            int registers = allocate(entry.getKey(), classIntervals);
+            model.setRegisterCount(lirGenRes, entry.getKey(), registers);
+            debug("virtual registers: %s %d variables -> %d registers", entry.getKey(), classIntervals.size(), registers);
+        }
+    }
+
+    private static void computeLiveness(AbstractBlockBase<?>[] blocks, Map<AbstractBlockBase<?>, BlockData> blockData) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = blocks.length - 1; i >= 0; i--) {
+                BlockData data = blockData.get(blocks[i]);
+                if (data == null) {
+                    continue;
+                }
+                for (AbstractBlockBase<?> successor : blocks[i].getSuccessors()) {
+                    BlockData successorData = blockData.get(successor);
+                    if (successorData != null) {
+                        data.liveOut.addAll(successorData.liveIn);
+                    }
+                }
+                Set<Variable> liveIn = new HashSet<>(data.liveOut);
+                liveIn.removeAll(data.kill);
+                liveIn.addAll(data.gen);
+                if (!liveIn.equals(data.liveIn)) {
+                    data.liveIn = liveIn;
+                    changed = true;
+                }
+            }
+        }
     }
 
+    /**
+     * Assigns the lowest free register to each interval in order of start
+     * position. A register is free once the interval that holds it ends before
+     * the start of the current one, so a variable never shares its name with a
+     * variable used by the instruction that defines it.
+     *
+     * @return the number of registers.
+     */
+    private int allocate(Object registerClass, List<Interval> classIntervals) {
+        classIntervals.sort(Comparator.comparingInt((Interval interval) -> interval.from));
+        PriorityQueue<Interval> active = new PriorityQueue<>(Comparator.comparingInt((Interval interval) -> interval.to));
+        PriorityQueue<Integer> free = new PriorityQueue<>();
+        List<String> names = new ArrayList<>();
+        for (Interval interval : classIntervals) {
+            while (!active.isEmpty() && active.peek().to < interval.from) {
+                free.add(active.poll().register);
+            }
+            if (free.isEmpty()) {
+                interval.register = names.size();
+                names.add(model.getRegisterName(registerClass, interval.variable, interval.register));
+            } else {
+                interval.register = free.poll();
+            }
+            for (Variable instance : interval.instances) {
+                instance.setName(names.get(interval.register));
+            }
+            active.add(interval);
+        }
+        return names.size();
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.graal.phases.lir;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.graalvm.compiler.lir.LIRInstruction;
+import org.graalvm.compiler.lir.Variable;
+import org.graalvm.compiler.lir.gen.LIRGenerationResult;
+
+/**
+ * Describes the variables of a backend to the
+ * {@link VirtualRegisterAllocationPhase}.
+ *
+ * The OpenCL and PTX kernels declare their variables at the beginning of the
+ * kernel and reference them by name, so two variables of the same kind that
+ * are never live at the same time can be given the same name.
+ */
+public interface VirtualRegisterModel {
+
+    /**
+     * Visits the variables read by an instruction, including the ones nested in
+     * the expressions of the backend and the ones written under a predicate.
+     */
+    void forEachInput(LIRInstruction instruction, Consumer<Variable> action);
+
+    /**
+     * Visits the variables written by an instruction.
+     */
+    void forEachOutput(LIRInstruction instruction, Consumer<Variable> action);
+
+    /**
+     * @return true if the code emitter may move the instruction within its
+     *         block (e.g., the {@code for} header in OpenCL C). Variables
+     *         referenced in these blocks keep their own name.
+     */
+    boolean isReordered(LIRInstruction instruction);
+
+    /**
+     * @return the variables that can share a name, grouped by register class.
+     *         Only variables in {@code candidates} can be returned.
+     */
+    Map<Object, List<Variable>> getAllocatableVariables(LIRGenerationResult lirGenRes, Set<Variable> candidates);
+
+    /**
+     * @return the name of the {@code register}-th register of a class, whose
+     *         first variable is {@code variable}.
+     */
+    String getRegisterName(Object registerClass, Variable variable, int register);
+
+    /**
+     * Records the number of registers used by a class after the allocation.
+     */
+    void setRegisterCount(LIRGenerationResult lirGenRes, Object registerClass, int count);
+}
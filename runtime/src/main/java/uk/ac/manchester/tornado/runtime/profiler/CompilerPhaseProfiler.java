@@ -0,0 +1,209 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.phases.BasePhase;
+import org.graalvm.compiler.phases.PhaseSuite;
+
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Accumulates the time spent in each phase of the Tornado JIT compiler: the
+ * sketch tier, the high/mid/low tiers, the LIR generation and allocation
+ * stages and the code emission of the OpenCL/PTX assemblers.
+ *
+ * <p>
+ * The profiler is disabled by default and it can be enabled with
+ * {@code -Dtornado.profiler.compiler.phases=True} or programmatically with
+ * {@link #setEnabled(boolean)}. When it is disabled, the tiers execute their
+ * phases as in Graal and no timer is read.
+ * </p>
+ */
+public final class CompilerPhaseProfiler {
+
+    public static final String SKETCH_TIER = "SketchTier";
+    public static final String HIGH_TIER = "HighTier";
+    public static final String MID_TIER = "MidTier";
+    public static final String LOW_TIER = "LowTier";
+    public static final String BACKEND = "Backend";
+
+    public static final String GRAPH_BUILDER = "GraphBuilder";
+    public static final String LIR_GENERATION = "LIRGeneration";
+    public static final String LIR_PRE_ALLOCATION = "LIRPreAllocation";
+    public static final String LIR_ALLOCATION = "LIRAllocation";
+    public static final String CODE_EMISSION = "CodeEmission";
+
+    private static volatile boolean enabled = TornadoOptions.PROFILE_COMPILER_PHASES;
+
+    private static final Map<String, PhaseTime> phaseTimes = new LinkedHashMap<>();
+
+    /**
+     * Accumulated time of a phase within a tier.
+     */
+    public static final class PhaseTime {
+        private final String tier;
+        private final String phase;
+        private final LongAdder elapsedTime;
+        private final LongAdder invocations;
+
+        private PhaseTime(String tier, String phase) {
+            this.tier = tier;
+            this.phase = phase;
+            this.elapsedTime = new LongAdder();
+            this.invocations = new LongAdder();
+        }
+
+        public String getTier() {
+            return tier;
+        }
+
+        public String getPhase() {
+            return phase;
+        }
+
+        /**
+         * @return accumulated time in nanoseconds.
+         */
+        public long getElapsedTime() {
+            return elapsedTime.sum();
+        }
+
+        public long getInvocations() {
+            return invocations.sum();
+        }
+    }
+
+    private CompilerPhaseProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * Starts a measurement.
+     *
+     * @return the current timestamp, or 0 if the profiler is disabled.
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time elapsed since {@code start} for the given phase.
+     *
+     * @param tier
+     *            Name of the tier or stage.
+     * @param phase
+     *            Name of the phase.
+     * @param start
+     *            Timestamp returned by {@link #start()}.
+     */
+    public static void stop(String tier, String phase, long start) {
+        if (start != 0) {
+            record(tier, phase, System.nanoTime() - start);
+        }
+    }
+
+    public static void record(String tier, String phase, long elapsedTime) {
+        PhaseTime phaseTime;
+        synchronized (phaseTimes) {
+            phaseTime = phaseTimes.computeIfAbsent(tier + "." + phase, k -> new PhaseTime(tier, phase));
+        }
+        phaseTime.elapsedTime.add(elapsedTime);
+        phaseTime.invocations.increment();
+    }
+
+    /**
+     * Applies all phases of a suite, in order, recording the time of each of
+     * them. This is equivalent to {@link PhaseSuite#apply} with per-phase
+     * timers. Phases that appear several times in the suite (e.g., the
+     * canonicalizer) are accumulated under the same name.
+     */
+    public static <C> void runPhases(String tier, PhaseSuite<C> suite, StructuredGraph graph, C context) {
+        ListIterator<BasePhase<? super C>> iterator = suite.findLastPhase();
+        while (iterator.hasPrevious()) {
+            iterator.previous();
+        }
+        while (iterator.hasNext()) {
+            BasePhase<? super C> phase = iterator.next();
+            long start = System.nanoTime();
+            phase.apply(graph, context);
+            record(tier, phase.getClass().getSimpleName(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return a snapshot of the phase times recorded so far, in the order in
+     *         which the phases were first executed.
+     */
+    public static List<PhaseTime> getPhaseTimes() {
+        synchronized (phaseTimes) {
+            return new ArrayList<>(phaseTimes.values());
+        }
+    }
+
+    public static void reset() {
+        synchronized (phaseTimes) {
+            phaseTimes.clear();
+        }
+    }
+
+    /**
+     * @return a table with the accumulated time per phase, and the percentage of
+     *         each phase with respect to the total time of its tier.
+     */
+    public static String dump() {
+        List<PhaseTime> times = getPhaseTimes();
+        Map<String, Long> tierTimes = new LinkedHashMap<>();
+        for (PhaseTime time : times) {
+            tierTimes.merge(time.getTier(), time.getElapsedTime(), Long::sum);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-12s %-40s %10s %14s %8s\n", "Tier", "Phase", "Calls", "Time (ms)", "Tier %"));
+        for (Map.Entry<String, Long> tier : tierTimes.entrySet()) {
+            for (PhaseTime time : times) {
+                if (time.getTier().equals(tier.getKey())) {
+                    double percentage = tier.getValue() == 0 ? 0 : (100.0 * time.getElapsedTime()) / tier.getValue();
+                    sb.append(String.format("%-12s %-40s %10d %14.3f %8.2f\n", time.getTier(), time.getPhase(), time.getInvocations(), time.getElapsedTime() * 1e-6, percentage));
+                }
+            }
+            sb.append(String.format("%-12s %-40s %10s %14.3f %8.2f\n", tier.getKey(), "Total", "", tier.getValue() * 1e-6, 100.0));
+        }
+        return sb.toString();
+    }
+}
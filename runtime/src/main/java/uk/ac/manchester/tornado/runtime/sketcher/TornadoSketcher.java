@@ -66,6 +66,7 @@ import uk.ac.manchester.tornado.runtime.common.Tornado;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoCompilerIdentifier;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSketchTier;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoSketchTierContext;
+import uk.ac.manchester.tornado.runtime.profiler.CompilerPhaseProfiler;
 import uk.ac.manchester.tornado.runtime.tasks.meta.TaskMetaData;
 
 public class TornadoSketcher {
@@ -181,8 +182,10 @@ public class TornadoSketcher {
         try (DebugContext.Scope ignored = getDebugContext().scope("Tornado-Sketcher", new DebugDumpScope("Tornado-Sketcher")); DebugCloseable ignored1 = Sketcher.start(getDebugContext())) {
             final TornadoSketchTierContext highTierContext = new TornadoSketchTierContext(providers, graphBuilderSuite, optimisticOpts, resolvedMethod, meta);
             if (graph.start().next() == null) {
+                long start = CompilerPhaseProfiler.start();
                 graphBuilderSuite.apply(graph, highTierContext);
                 new DeadCodeEliminationPhase(Optional).apply(graph);
+                CompilerPhaseProfiler.stop(CompilerPhaseProfiler.SKETCH_TIER, CompilerPhaseProfiler.GRAPH_BUILDER, start);
             } else {
                 getDebugContext().dump(DebugContext.BASIC_LEVEL, graph, "initial state");
             }
@@ -156,6 +156,54 @@ class ReduceFactory {
         array[0] = acc;
     }
 
+    private static void rOr(int[] array, final int size) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc |= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rOr(long[] array, final int size) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc |= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rAnd(int[] array, final int size) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc &= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rAnd(long[] array, final int size) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc &= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rXor(int[] array, final int size) {
+        int acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc ^= array[i];
+        }
+        array[0] = acc;
+    }
+
+    private static void rXor(long[] array, final int size) {
+        long acc = array[0];
+        for (int i = 1; i < size; i++) {
+            acc ^= array[i];
+        }
+        array[0] = acc;
+    }
+
     static void handleAdd(Object newArray, TaskSchedule task, int sizeReduceArray, String taskName) {
         switch (newArray.getClass().getTypeName()) {
             case "int[]":
@@ -231,4 +279,43 @@ class ReduceFactory {
                 throw new TornadoRuntimeException("[ERROR] Reduce data type not supported yet: " + newArray.getClass().getTypeName());
         }
     }
+
+    static void handleOr(Object newArray, TaskSchedule task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rOr, (int[]) newArray, sizeReduceArray);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rOr, (long[]) newArray, sizeReduceArray);
+                break;
+            default:
+                throw new TornadoRuntimeException("[ERROR] Reduce data type not supported yet: " + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleAnd(Object newArray, TaskSchedule task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rAnd, (int[]) newArray, sizeReduceArray);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rAnd, (long[]) newArray, sizeReduceArray);
+                break;
+            default:
+                throw new TornadoRuntimeException("[ERROR] Reduce data type not supported yet: " + newArray.getClass().getTypeName());
+        }
+    }
+
+    static void handleXor(Object newArray, TaskSchedule task, int sizeReduceArray, String taskName) {
+        switch (newArray.getClass().getTypeName()) {
+            case "int[]":
+                task.task(taskName, ReduceFactory::rXor, (int[]) newArray, sizeReduceArray);
+                break;
+            case "long[]":
+                task.task(taskName, ReduceFactory::rXor, (long[]) newArray, sizeReduceArray);
+                break;
+            default:
+                throw new TornadoRuntimeException("[ERROR] Reduce data type not supported yet: " + newArray.getClass().getTypeName());
+        }
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import uk.ac.manchester.tornado.api.common.ReduceCombiner;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.runtime.analyzer.ReduceCodeAnalysis.REDUCE_OPERATION;
+
+/**
+ * {@link ReduceCombiner} for the operators that are recognised in the loop
+ * body, so that the host merges them in the same way as the user-declared
+ * combiners.
+ */
+final class ReduceOperationCombiner implements ReduceCombiner {
+
+    private final REDUCE_OPERATION operation;
+
+    ReduceOperationCombiner(REDUCE_OPERATION operation) {
+        this.operation = operation;
+    }
+
+    @Override
+    public int getWidth() {
+        return 1;
+    }
+
+    @Override
+    public void identity(Object array, int offset) {
+        if (array instanceof int[]) {
+            ((int[]) array)[offset] = (int) identity(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        } else if (array instanceof long[]) {
+            ((long[]) array)[offset] = identity(Long.MIN_VALUE, Long.MAX_VALUE);
+        } else if (array instanceof float[]) {
+            ((float[]) array)[offset] = (float) identity(Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY);
+        } else if (array instanceof double[]) {
+            ((double[]) array)[offset] = identity(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        } else {
+            throw new TornadoRuntimeException("[ERROR] reduce type not supported yet: " + array.getClass());
+        }
+    }
+
+    private long identity(long lowest, long highest) {
+        switch (operation) {
+            case ADD:
+            case OR:
+            case XOR:
+                return 0;
+            case MUL:
+                return 1;
+            case AND:
+                return -1;
+            case MAX:
+                return lowest;
+            case MIN:
+                return highest;
+            default:
+                throw new TornadoRuntimeException("Operation not supported");
+        }
+    }
+
+    private double identity(double lowest, double highest) {
+        switch (operation) {
+            case ADD:
+                return 0;
+            case MUL:
+                return 1;
+            case MAX:
+                return lowest;
+            case MIN:
+                return highest;
+            default:
+                throw new TornadoRuntimeException("Operation not supported");
+        }
+    }
+
+    @Override
+    public void combine(Object array, int offset, Object other, int otherOffset) {
+        if (array instanceof int[]) {
+            int[] a = (int[]) array;
+            a[offset] = (int) combine(a[offset], ((int[]) other)[otherOffset]);
+        } else if (array instanceof long[]) {
+            long[] a = (long[]) array;
+            a[offset] = combine(a[offset], ((long[]) other)[otherOffset]);
+        } else if (array instanceof float[]) {
+            float[] a = (float[]) array;
+            a[offset] = (float) combine(a[offset], (double) ((float[]) other)[otherOffset]);
+        } else if (array instanceof double[]) {
+            double[] a = (double[]) array;
+            a[offset] = combine(a[offset], ((double[]) other)[otherOffset]);
+        } else {
+            throw new TornadoRuntimeException("[ERROR] reduce type not supported yet: " + array.getClass());
+        }
+    }
+
+    private long combine(long a, long b) {
+        switch (operation) {
+            case ADD:
+                return a + b;
+            case MUL:
+                return a * b;
+            case MAX:
+                return Math.max(a, b);
+            case MIN:
+                return Math.min(a, b);
+            case OR:
+                return a | b;
+            case AND:
+                return a & b;
+            case XOR:
+                return a ^ b;
+            default:
+                throw new TornadoRuntimeException("Operation not supported");
+        }
+    }
+
+    private double combine(double a, double b) {
+        switch (operation) {
+            case ADD:
+                return a + b;
+            case MUL:
+                return a * b;
+            case MAX:
+                return Math.max(a, b);
+            case MIN:
+                return Math.min(a, b);
+            default:
+                throw new TornadoRuntimeException("Operation not supported");
+        }
+    }
+}
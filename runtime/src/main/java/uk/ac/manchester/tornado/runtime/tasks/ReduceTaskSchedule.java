@@ -27,9 +27,11 @@ package uk.ac.manchester.tornado.runtime.tasks;
 
 import static uk.ac.manchester.tornado.runtime.TornadoCoreRuntime.getDebugContext;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -40,6 +42,7 @@ import org.graalvm.compiler.nodes.StructuredGraph;
 import jdk.vm.ci.code.InstalledCode;
 import jdk.vm.ci.code.InvalidInstalledCodeException;
 import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.common.ReduceCombiner;
 import uk.ac.manchester.tornado.api.common.TaskPackage;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.enums.TornadoDeviceType;
@@ -78,7 +81,9 @@ class ReduceTaskSchedule {
     private HashMap<Object, LinkedList<Integer>> reduceOperandTable;
     private CachedGraph<?> sketchGraph;
     private boolean hybridMode;
-    private HashMap<Object, REDUCE_OPERATION> hybridMergeTable;
+    private HashMap<Object, ReduceCombiner> hybridMergeTable;
+    private HashSet<Object> singlePassReduceVariables = new HashSet<>();
+    private HashMap<Object, ReduceCombiner> combinerReduceVariables = new HashMap<>();
 
     ReduceTaskSchedule(String taskScheduleID, ArrayList<TaskPackage> taskPackages, ArrayList<Object> streamInObjects, ArrayList<Object> streamOutObjects, CachedGraph<?> graph) {
         this.taskPackages = taskPackages;
@@ -151,6 +156,13 @@ class ReduceTaskSchedule {
         }
     }
 
+    private void fillOutputArrayWithIdentity(Object reduceArray, ReduceCombiner combiner) {
+        final int width = combiner.getWidth();
+        for (int offset = 0; offset + width <= Array.getLength(reduceArray); offset += width) {
+            combiner.identity(reduceArray, offset);
+        }
+    }
+
     private Object createNewReduceArray(Object reduceVariable, int size) {
         if (size == 1) {
             return reduceVariable;
@@ -375,6 +387,61 @@ class ReduceTaskSchedule {
         }
     }
 
+    private ArrayList<REDUCE_OPERATION> getReduceOperations(MetaReduceTasks metaReduceTasks, int taskNumber) {
+        StructuredGraph graph = metaReduceTasks.getGraph();
+        // Parameters with a user-declared combiner are merged by the combiner
+        ArrayList<Integer> listOfReduceParameters = new ArrayList<>();
+        for (Integer paramIndex : metaReduceTasks.getListOfReduceParameters(taskNumber)) {
+            if (ReduceCodeAnalysis.getReduceCombiner(graph, paramIndex) == null) {
+                listOfReduceParameters.add(paramIndex);
+            }
+        }
+        ArrayList<REDUCE_OPERATION> operations = ReduceCodeAnalysis.getReduceOperation(graph, listOfReduceParameters);
+        if (operations.isEmpty()) {
+            // perform analysis with cached graph (after sketch phase)
+            operations = ReduceCodeAnalysis.getReduceOperatorFromSketch(sketchGraph, listOfReduceParameters);
+        }
+        return operations;
+    }
+
+    /**
+     * Returns true if the reduction is completed by the kernel. The OpenCL GPU
+     * snippets combine the result of every work-group with atomics, so the
+     * reduce array has a single element and no sequential task is added.
+     */
+    private boolean isSinglePassReduction(int driverIndex, int deviceIndex, Object reduceArray, ArrayList<REDUCE_OPERATION> operations) {
+        if (!TornadoOptions.REDUCE_SINGLE_PASS) {
+            return false;
+        }
+        String driverName = TornadoCoreRuntime.getTornadoRuntime().getDriver(driverIndex).getName();
+        TornadoDeviceType deviceType = TornadoCoreRuntime.getTornadoRuntime().getDriver(driverIndex).getDevice(deviceIndex).getDeviceType();
+        boolean isOpenCLAccelerator = driverName.equals("OpenCL") && (deviceType == TornadoDeviceType.GPU || deviceType == TornadoDeviceType.ACCELERATOR);
+        return isOpenCLAccelerator && ReduceCodeAnalysis.isSinglePassReduction(reduceArray, operations);
+    }
+
+    private void addHybridMergeOperation(Object newArray, REDUCE_OPERATION operation) {
+        if (hybridMergeTable == null) {
+            hybridMergeTable = new HashMap<>();
+        }
+        hybridMergeTable.put(newArray, new ReduceOperationCombiner(operation));
+    }
+
+    /**
+     * Creates the array of partial results of a reduction with a user-declared
+     * combiner: one partial result, of {@link ReduceCombiner#getWidth()}
+     * elements, per iteration of the loop.
+     */
+    private Object createCombinerReduceArray(Object originalReduceArray, ReduceCombiner combiner, int inputSize) {
+        final int width = combiner.getWidth();
+        if (Array.getLength(originalReduceArray) < width) {
+            throw new TornadoRuntimeException("[ERROR] The reduce array has fewer elements than the width of its combiner: " + Array.getLength(originalReduceArray) + " < " + width);
+        }
+        Object newDeviceArray = createNewReduceArray(originalReduceArray, Math.max(2, inputSize * width));
+        fillOutputArrayWithIdentity(newDeviceArray, combiner);
+        combinerReduceVariables.put(newDeviceArray, combiner);
+        return newDeviceArray;
+    }
+
     private Object createHostArrayForHybridMode(Object originalReduceArray, TaskPackage taskPackage, int sizeTargetDevice) {
         hybridMode = true;
         if (hostHybridVariables == null) {
@@ -457,6 +524,17 @@ class ReduceTaskSchedule {
 
                     inputSize = metaReduceTasks.getInputSize(taskNumber);
 
+                    // Combiner reductions keep a partial result per iteration, so they do not
+                    // need a power-of-two input and are not split between host and device
+                    ReduceCombiner combiner = ReduceCodeAnalysis.getReduceCombiner(metaReduceTasks.getGraph(), paramIndex);
+                    if (combiner != null) {
+                        Object newDeviceArray = createCombinerReduceArray(originalReduceArray, combiner, inputSize);
+                        streamReduceList.add(newDeviceArray);
+                        sizesReductionArray.add(Array.getLength(newDeviceArray));
+                        originalReduceVariables.put(originalReduceArray, newDeviceArray);
+                        continue;
+                    }
+
                     updateGlobalAndLocalDimensionsFPGA(deviceToRun, taskScheduleReduceName, taskPackage, inputSize);
 
                     // Analyse Input Size - if not power of 2 -> split host and device executions
@@ -474,8 +552,16 @@ class ReduceTaskSchedule {
                     }
 
                     // Set the new array size
-                    int sizeReductionArray = obtainSizeArrayResult(driverToRun, deviceToRun, inputSize);
-                    Object newDeviceArray = createNewReduceArray(originalReduceArray, sizeReductionArray);
+                    int sizeReductionArray;
+                    Object newDeviceArray;
+                    if (isSinglePassReduction(driverToRun, deviceToRun, originalReduceArray, getReduceOperations(metaReduceTasks, taskNumber))) {
+                        sizeReductionArray = 1;
+                        newDeviceArray = createNewReduceArray(originalReduceArray);
+                        singlePassReduceVariables.add(newDeviceArray);
+                    } else {
+                        sizeReductionArray = obtainSizeArrayResult(driverToRun, deviceToRun, inputSize);
+                        newDeviceArray = createNewReduceArray(originalReduceArray, sizeReductionArray);
+                    }
                     Object neutralElement = getNeutralElement(originalReduceArray);
                     fillOutputArrayWithNeutral(newDeviceArray, neutralElement);
 
@@ -533,6 +619,16 @@ class ReduceTaskSchedule {
                         }
                     }
                 }
+
+                // Single-pass kernels combine into the first element, and combiner kernels
+                // apply every iteration to its partial result, so they must hold the neutral
+                // element at the beginning of every execution
+                for (Object reduceArray : streamReduceTable.get(taskNumber)) {
+                    boolean isInitialisedByHost = singlePassReduceVariables.contains(reduceArray) || combinerReduceVariables.containsKey(reduceArray);
+                    if (isInitialisedByHost && !streamInObjects.contains(reduceArray)) {
+                        rewrittenTaskSchedule.forceCopyIn(reduceArray);
+                    }
+                }
             }
 
             rewrittenTaskSchedule.addTask(taskPackages.get(taskNumber));
@@ -541,20 +637,27 @@ class ReduceTaskSchedule {
             if (tableReduce.containsKey(taskNumber)) {
 
                 MetaReduceTasks metaReduceTasks = tableReduce.get(taskNumber);
-                ArrayList<Integer> listOfReduceParameters = metaReduceTasks.getListOfReduceParameters(taskNumber);
-                StructuredGraph graph = metaReduceTasks.getGraph();
-                ArrayList<REDUCE_OPERATION> operations = ReduceCodeAnalysis.getReduceOperation(graph, listOfReduceParameters);
-
-                if (operations.isEmpty()) {
-                    // perform analysis with cached graph (after sketch phase)
-                    operations = ReduceCodeAnalysis.getReduceOperatorFromSketch(sketchGraph, listOfReduceParameters);
-                }
+                ArrayList<REDUCE_OPERATION> operations = getReduceOperations(metaReduceTasks, taskNumber);
 
                 ArrayList<Object> streamUpdateList = streamReduceTable.get(taskNumber);
 
                 for (int i = 0; i < streamUpdateList.size(); i++) {
                     Object newArray = streamUpdateList.get(i);
                     int sizeReduceArray = sizesReductionArray.get(i);
+
+                    if (combinerReduceVariables.containsKey(newArray)) {
+                        // Merged on the host by the combiner
+                        continue;
+                    }
+
+                    if (singlePassReduceVariables.contains(newArray)) {
+                        // The kernel already combined the results of all work-groups
+                        if (hybridMode) {
+                            addHybridMergeOperation(newArray, operations.get(0));
+                        }
+                        continue;
+                    }
+
                     for (REDUCE_OPERATION operation : operations) {
                         final String newTaskSequentialName = SEQUENTIAL_TASK_REDUCE_NAME + counterSeqName.get();
                         String fullName = rewrittenTaskSchedule.getTaskScheduleName() + "." + newTaskSequentialName;
@@ -574,15 +677,21 @@ class ReduceTaskSchedule {
                             case MIN:
                                 ReduceFactory.handleMin(newArray, rewrittenTaskSchedule, sizeReduceArray, newTaskSequentialName);
                                 break;
+                            case OR:
+                                ReduceFactory.handleOr(newArray, rewrittenTaskSchedule, sizeReduceArray, newTaskSequentialName);
+                                break;
+                            case AND:
+                                ReduceFactory.handleAnd(newArray, rewrittenTaskSchedule, sizeReduceArray, newTaskSequentialName);
+                                break;
+                            case XOR:
+                                ReduceFactory.handleXor(newArray, rewrittenTaskSchedule, sizeReduceArray, newTaskSequentialName);
+                                break;
                             default:
                                 throw new TornadoRuntimeException("[ERROR] Reduce operation not supported yet.");
                         }
 
                         if (hybridMode) {
-                            if (hybridMergeTable == null) {
-                                hybridMergeTable = new HashMap<>();
-                            }
-                            hybridMergeTable.put(newArray, operation);
+                            addHybridMergeOperation(newArray, operation);
                         }
                         counterSeqName.incrementAndGet();
                     }
@@ -613,111 +722,34 @@ class ReduceTaskSchedule {
             Object neutralElement = pair.getValue();
             fillOutputArrayWithNeutral(newArray, neutralElement);
         }
-    }
 
-    private int operateFinalReduction(int a, int b, REDUCE_OPERATION operation) {
-        switch (operation) {
-            case ADD:
-                return a + b;
-            case MUL:
-                return a * b;
-            case MAX:
-                return Math.max(a, b);
-            case MIN:
-                return Math.min(a, b);
-            default:
-                throw new TornadoRuntimeException("Operation not supported");
-        }
-    }
-
-    private float operateFinalReduction(float a, float b, REDUCE_OPERATION operation) {
-        switch (operation) {
-            case ADD:
-                return a + b;
-            case MUL:
-                return a * b;
-            case MAX:
-                return Math.max(a, b);
-            case MIN:
-                return Math.min(a, b);
-            default:
-                throw new TornadoRuntimeException("Operation not supported");
-        }
-    }
-
-    private double operateFinalReduction(double a, double b, REDUCE_OPERATION operation) {
-        switch (operation) {
-            case ADD:
-                return a + b;
-            case MUL:
-                return a * b;
-            case MAX:
-                return Math.max(a, b);
-            case MIN:
-                return Math.min(a, b);
-            default:
-                throw new TornadoRuntimeException("Operation not supported");
-        }
-    }
-
-    private long operateFinalReduction(long a, long b, REDUCE_OPERATION operation) {
-        switch (operation) {
-            case ADD:
-                return a + b;
-            case MUL:
-                return a * b;
-            case MAX:
-                return Math.max(a, b);
-            case MIN:
-                return Math.min(a, b);
-            default:
-                throw new TornadoRuntimeException("Operation not supported");
+        for (Entry<Object, ReduceCombiner> pair : combinerReduceVariables.entrySet()) {
+            fillOutputArrayWithIdentity(pair.getKey(), pair.getValue());
         }
     }
 
     private void updateVariableFromAccelerator(Object originalReduceVariable, Object newArray) {
-        switch (newArray.getClass().getTypeName()) {
-            case "int[]":
-                ((int[]) originalReduceVariable)[0] = ((int[]) newArray)[0];
-                break;
-            case "float[]":
-                ((float[]) originalReduceVariable)[0] = ((float[]) newArray)[0];
-                break;
-            case "double[]":
-                ((double[]) originalReduceVariable)[0] = ((double[]) newArray)[0];
-                break;
-            case "long[]":
-                ((long[]) originalReduceVariable)[0] = ((long[]) newArray)[0];
-                break;
-            default:
-                throw new TornadoRuntimeException("[ERROR] Reduce data type not supported yet: " + newArray.getClass().getTypeName());
-        }
+        System.arraycopy(newArray, 0, originalReduceVariable, 0, 1);
     }
 
+    /**
+     * The device computed the first part of the iteration space and the host the
+     * rest, so the host result is combined after the device one.
+     */
     private void mergeHybridMode(Object originalReduceVariable, Object newArray) {
-        switch (newArray.getClass().getTypeName()) {
-            case "int[]":
-                int a = ((int[]) hostHybridVariables.get(newArray))[0];
-                int b = ((int[]) newArray)[0];
-                ((int[]) originalReduceVariable)[0] = operateFinalReduction(a, b, hybridMergeTable.get(newArray));
-                break;
-            case "float[]":
-                float af = ((float[]) hostHybridVariables.get(newArray))[0];
-                float bf = ((float[]) newArray)[0];
-                ((float[]) originalReduceVariable)[0] = operateFinalReduction(af, bf, hybridMergeTable.get(newArray));
-                break;
-            case "double[]":
-                double ad = ((double[]) hostHybridVariables.get(newArray))[0];
-                double bd = ((double[]) newArray)[0];
-                ((double[]) originalReduceVariable)[0] = operateFinalReduction(ad, bd, hybridMergeTable.get(newArray));
-                break;
-            case "long[]":
-                long al = ((long[]) hostHybridVariables.get(newArray))[0];
-                long bl = ((long[]) newArray)[0];
-                ((long[]) originalReduceVariable)[0] = operateFinalReduction(al, bl, hybridMergeTable.get(newArray));
-                break;
-            default:
-                throw new TornadoRuntimeException("[ERROR] Reduce data type not supported yet: " + newArray.getClass().getTypeName());
+        updateVariableFromAccelerator(originalReduceVariable, newArray);
+        hybridMergeTable.get(newArray).combine(originalReduceVariable, 0, hostHybridVariables.get(newArray), 0);
+    }
+
+    /**
+     * Folds the partial results of a combiner reduction, in iteration order, into
+     * the original reduce array.
+     */
+    private void mergeCombinerPartialResults(Object originalReduceVariable, Object newArray, ReduceCombiner combiner) {
+        final int width = combiner.getWidth();
+        combiner.identity(originalReduceVariable, 0);
+        for (int offset = 0; offset + width <= Array.getLength(newArray); offset += width) {
+            combiner.combine(originalReduceVariable, 0, newArray, offset);
         }
     }
 
@@ -734,7 +766,9 @@ class ReduceTaskSchedule {
         for (Entry<Object, Object> pair : originalReduceVariables.entrySet()) {
             Object originalReduceVariable = pair.getKey();
             Object newArray = pair.getValue();
-            if (hostHybridVariables != null && hostHybridVariables.containsKey(newArray)) {
+            if (combinerReduceVariables.containsKey(newArray)) {
+                mergeCombinerPartialResults(originalReduceVariable, newArray, combinerReduceVariables.get(newArray));
+            } else if (hostHybridVariables != null && hostHybridVariables.containsKey(newArray)) {
                 mergeHybridMode(originalReduceVariable, newArray);
             } else {
                 updateVariableFromAccelerator(originalReduceVariable, newArray);
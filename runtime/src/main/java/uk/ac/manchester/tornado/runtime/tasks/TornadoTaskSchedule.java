@@ -241,6 +241,11 @@ public class TornadoTaskSchedule implements AbstractTaskGraph {
         return this.isFinished;
     }
 
+    @Override
+    public boolean isLastExecutionReplayed() {
+        return vm != null && vm.isLastExecutionReplayed();
+    }
+
     @Override
     public SchedulableTask getTask(String id) {
         return executionContext.getTask(id);
@@ -387,11 +392,7 @@ public class TornadoTaskSchedule implements AbstractTaskGraph {
      *            boolean that specifies if set a new device or not.
      */
     private void compile(boolean setNewDevice) {
-        final ByteBuffer buffer = ByteBuffer.wrap(highLevelCode);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        buffer.limit(hlBuffer.position());
-
-        final TornadoGraph graph = TornadoGraphBuilder.buildGraph(executionContext, buffer);
+        final TornadoGraph graph = TornadoGraphBuilder.buildGraph(executionContext, getHighLevelCode());
         if (setNewDevice) {
             updateDeviceContext(graph);
         }
@@ -676,6 +677,18 @@ public class TornadoTaskSchedule implements AbstractTaskGraph {
         executionContext.sync();
     }
 
+    @Override
+    public void syncObject(Object object, long offset, long partialCopySize) {
+        if (vm == null) {
+            return;
+        }
+        final LocalObjectState localState = executionContext.getObjectState(object);
+        final GlobalObjectState globalState = localState.getGlobalState();
+        final DeviceObjectState deviceState = globalState.getDeviceState();
+        final TornadoAcceleratorDevice device = globalState.getOwner();
+        device.resolveEvent(device.streamOutBlocking(object, offset, partialCopySize, deviceState, null)).waitOn();
+    }
+
     private Event syncObjectInner(Object object) {
         final LocalObjectState localState = executionContext.getObjectState(object);
         final GlobalObjectState globalState = localState.getGlobalState();
@@ -713,6 +726,19 @@ public class TornadoTaskSchedule implements AbstractTaskGraph {
         return this.executionContext;
     }
 
+    /**
+     * It returns a view of the high-level task-schedule bytecodes emitted so far.
+     * This is the input of the {@link TornadoGraphBuilder}.
+     *
+     * @return {@link ByteBuffer} in little endian, limited to the code in use.
+     */
+    public ByteBuffer getHighLevelCode() {
+        final ByteBuffer buffer = ByteBuffer.wrap(highLevelCode);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.limit(hlBuffer.position());
+        return buffer;
+    }
+
     @Override
     public String getId() {
         return meta().getId();
@@ -794,6 +820,9 @@ public class TornadoTaskSchedule implements AbstractTaskGraph {
     @Override
     public AbstractTaskGraph schedule(GridTask gridTask) {
         this.gridTask = gridTask;
+        if (vm != null) {
+            vm.setGridTask(gridTask);
+        }
         return schedule();
     }
 
@@ -243,6 +243,15 @@ public abstract class AbstractMetaData implements TaskMetaDataInterface {
         return useThreadCoarsener;
     }
 
+    /**
+     * @return true if the kernels are compiled with reduced-precision math:
+     *         native math builtins in OpenCL, approximate instructions in PTX,
+     *         and relaxed floating-point optimizations.
+     */
+    public boolean enableFastMath() {
+        return enableFastMath;
+    }
+
     public boolean enableAutoParallelisation() {
         return enableAutoParallelisation;
     }
@@ -287,6 +296,7 @@ public abstract class AbstractMetaData implements TaskMetaDataInterface {
     private final boolean enableVectors;
     private final boolean enableMemChecks;
     private final boolean useThreadCoarsener;
+    private final boolean enableFastMath;
     private final boolean dumpTaskSchedule;
     private final boolean vmUseDeps;
     private final boolean coarsenWithCpuConfig;
@@ -445,6 +455,7 @@ public abstract class AbstractMetaData implements TaskMetaDataInterface {
         cpuConfig = getDefault("cpu.config", id, null);
         isCpuConfigDefined = getProperty(id + ".cpu.config") != null;
         useThreadCoarsener = Boolean.parseBoolean(getDefault("coarsener", id, "False"));
+        enableFastMath = Boolean.parseBoolean(getDefault("fastmath", id, "False"));
         enableAutoParallelisation = Boolean.parseBoolean(getDefault("parallelise.auto", id, "False"));
         vmUseDeps = Boolean.parseBoolean(getDefault("vm.deps", id, "False"));
     }
@@ -45,6 +45,8 @@ import uk.ac.manchester.tornado.runtime.domain.DomainTree;
 
 public class TaskMetaData extends AbstractMetaData {
 
+    private static final String FAST_MATH_FLAG = "-cl-fast-relaxed-math";
+
     private final byte[] constantData;
     private int constantSize;
     private long[] globalOffset;
@@ -57,7 +59,10 @@ public class TaskMetaData extends AbstractMetaData {
     protected Access[] argumentsAccess;
     protected DomainTree domain;
     protected final Map<TornadoAcceleratorDevice, BitSet> profiles;
+    private final Map<Integer, boolean[]> writtenFields;
     private boolean localWorkDefined;
+    private boolean localWorkRequired;
+    private boolean workGroupIndependent;
     private boolean globalWorkDefined;
     private boolean canAssumeExact;
 
@@ -70,6 +75,7 @@ public class TaskMetaData extends AbstractMetaData {
         this.privateSize = 0;
         this.constantData = null;
         profiles = new HashMap<>();
+        writtenFields = new HashMap<>();
         argumentsAccess = new Access[numParameters];
         Arrays.fill(argumentsAccess, Access.NONE);
 
@@ -150,6 +156,54 @@ public class TaskMetaData extends AbstractMetaData {
         localWorkDefined = true;
     }
 
+    /**
+     * Sets a work-group size that the generated code depends on, such as the
+     * size of the tiles staged in local memory. It is not changed by the
+     * auto-tuner.
+     */
+    public void setRequiredLocalWork(long[] values) {
+        setLocalWork(values);
+        localWorkRequired = true;
+    }
+
+    public boolean isLocalWorkRequired() {
+        return localWorkRequired;
+    }
+
+    /**
+     * Set by the compiler: true when the generated kernel uses neither local
+     * memory, barriers nor the work-group indices and sizes, so its results do
+     * not depend on the local work-group size. False for kernels that have not
+     * been compiled by TornadoVM (e.g., prebuilt kernels).
+     */
+    public void setWorkGroupIndependent(boolean workGroupIndependent) {
+        this.workGroupIndependent = workGroupIndependent;
+    }
+
+    public boolean isWorkGroupIndependent() {
+        return workGroupIndependent;
+    }
+
+    /**
+     * Set by the compiler for the parameters that are arrays stored as a struct
+     * of arrays (see {@link uk.ac.manchester.tornado.runtime.common.StructOfArraysLayout}):
+     * the fields of the elements that the compiled kernel writes, indexed as the
+     * columns of the layout.
+     */
+    public synchronized void setWrittenFields(int parameter, boolean[] fields) {
+        writtenFields.put(parameter, fields.clone());
+    }
+
+    /**
+     * @return the fields written by the compiled kernel in the elements of the
+     *         given parameter, or null if they are unknown (e.g., the kernel has
+     *         not been compiled for this task).
+     */
+    public synchronized boolean[] getWrittenFields(int parameter) {
+        final boolean[] fields = writtenFields.get(parameter);
+        return (fields == null) ? null : fields.clone();
+    }
+
     public void setLocalWorkToNull() {
         localWork = null;
     }
@@ -265,12 +319,25 @@ public class TaskMetaData extends AbstractMetaData {
             globalWork = new long[dims];
         }
         if (localWorkDefined) {
-            guarantee(localWork.length == dims, "task %s has local work dims specified of wrong length", getId());
+            // The local work is kept padded to three dimensions: the
+            // .local.dims property and setLocalWork both fill a { 1, 1, 1 }
+            // array. It must cover the dimensions of the domain, and the
+            // padding must be left at 1.
+            guarantee(localWork.length >= dims && isPaddedWithOnes(localWork, dims), "task %s has local work dims specified of wrong length", getId());
         } else {
             localWork = new long[] { 1, 1, 1 };
         }
     }
 
+    private static boolean isPaddedWithOnes(long[] values, int dims) {
+        for (int i = dims; i < values.length; i++) {
+            if (values[i] != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public long[] getGlobalOffset() {
         return globalOffset;
     }
@@ -291,7 +358,11 @@ public class TaskMetaData extends AbstractMetaData {
 
     @Override
     public String getCompilerFlags() {
-        return isOpenclCompilerFlagsDefined() ? super.getCompilerFlags() : scheduleMetaData.getCompilerFlags();
+        String flags = isOpenclCompilerFlagsDefined() ? super.getCompilerFlags() : scheduleMetaData.getCompilerFlags();
+        if (enableFastMath() && !flags.contains(FAST_MATH_FLAG)) {
+            flags = flags + " " + FAST_MATH_FLAG;
+        }
+        return flags;
     }
 
     @Override
@@ -400,6 +471,11 @@ public class TaskMetaData extends AbstractMetaData {
         return super.enableThreadCoarsener() || scheduleMetaData.enableThreadCoarsener();
     }
 
+    @Override
+    public boolean enableFastMath() {
+        return super.enableFastMath() || scheduleMetaData.enableFastMath();
+    }
+
     @Override
     public boolean shouldCoarsenWithCpuConfig() {
         return super.shouldCoarsenWithCpuConfig() || scheduleMetaData.shouldCoarsenWithCpuConfig();
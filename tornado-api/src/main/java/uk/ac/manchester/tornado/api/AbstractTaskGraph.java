@@ -98,6 +98,8 @@ public interface AbstractTaskGraph extends ProfileInterface {
 
     void syncObject(Object object);
 
+    void syncObject(Object object, long offset, long partialCopySize);
+
     void syncObjects();
 
     void syncObjects(Object... objects);
@@ -131,4 +133,6 @@ public interface AbstractTaskGraph extends ProfileInterface {
     void useDefaultThreadScheduler(boolean use);
 
     boolean isFinished();
+
+    boolean isLastExecutionReplayed();
 }
@@ -295,6 +295,11 @@ public class TaskSchedule implements TornadoAPI, ProfileInterface {
         taskScheduleImpl.syncObject(object);
     }
 
+    @Override
+    public void syncObject(Object object, long offset, long partialCopySize) {
+        taskScheduleImpl.syncObject(object, offset, partialCopySize);
+    }
+
     @Override
     public void syncObjects(Object... objects) {
         taskScheduleImpl.syncObjects(objects);
@@ -400,4 +405,9 @@ public class TaskSchedule implements TornadoAPI, ProfileInterface {
     public boolean isFinished() {
         return taskScheduleImpl.isFinished();
     }
+
+    @Override
+    public boolean isLastExecutionReplayed() {
+        return taskScheduleImpl.isLastExecutionReplayed();
+    }
 }
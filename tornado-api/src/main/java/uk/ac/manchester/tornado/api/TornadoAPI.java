@@ -480,6 +480,19 @@ public interface TornadoAPI {
 
     void syncObject(Object object);
 
+    /**
+     * Copies back only a range of an array that lives on the device, for
+     * example the densely packed prefix of a compacted output.
+     *
+     * @param object
+     *            array to be copied back.
+     * @param offset
+     *            offset in bytes within the array.
+     * @param partialCopySize
+     *            number of bytes to copy.
+     */
+    void syncObject(Object object, long offset, long partialCopySize);
+
     void syncObjects(Object... objects);
 
     SchedulableTask getTask(String id);
@@ -497,4 +510,12 @@ public interface TornadoAPI {
     void updateReference(Object oldRef, Object newRef);
 
     boolean isFinished();
+
+    /**
+     * Checks whether the last execution replayed the driver operations recorded
+     * in a previous execution instead of interpreting the TornadoVM bytecodes.
+     *
+     * @return true if the last execution was replayed.
+     */
+    boolean isLastExecutionReplayed();
 }
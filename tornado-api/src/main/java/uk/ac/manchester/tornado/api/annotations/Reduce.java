@@ -46,8 +46,31 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import uk.ac.manchester.tornado.api.common.ReduceCombiner;
+
+/**
+ * Marks an array of one element as the result of a reduction in a parallel
+ * loop. The combiner is taken from the loop body: {@code +}, {@code *},
+ * {@code Math.max} and {@code Math.min} for int, long, float and double, and
+ * the bitwise {@code |}, {@code &} and {@code ^} for int and long. The initial
+ * value of the array must be the identity of the combiner (e.g., 0 for
+ * {@code |} and {@code ^}, -1 for {@code &}).
+ * <p>
+ * Other associative reductions declare a {@link ReduceCombiner} with
+ * {@link #combiner()}. The partial result of such a reduction can span
+ * several elements (see
+ * {@link uk.ac.manchester.tornado.api.common.ReduceCombiners} for argmax and
+ * argmin), and the runtime initialises the array with the identity of the
+ * combiner.
+ * </p>
+ */
 @Target({ ElementType.PARAMETER, ElementType.LOCAL_VARIABLE, ElementType.FIELD })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Reduce {
 
+    /**
+     * Combiner of the reduction. The default, {@link ReduceCombiner} itself,
+     * takes the combiner from the loop body.
+     */
+    Class<? extends ReduceCombiner> combiner() default ReduceCombiner.class;
 }
@@ -0,0 +1,217 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.atomics;
+
+/**
+ * Atomic read-modify-write operations on elements of primitive arrays.
+ * <p>
+ * Inside a task, every call is compiled to a single atomic operation on the
+ * array element: the OpenCL {@code atomic_*} builtins for {@code int},
+ * {@code atom_*} ({@code cl_khr_int64_base_atomics}) for {@code long} and a
+ * compare-and-swap loop over the bits of the value for {@code float}; PTX uses
+ * the {@code atom.global} instructions, with the {@code float} min/max done as
+ * an integer min/max on the bits of the value. The array is copied to the device
+ * before the task runs, since every update reads the current value of the
+ * element.
+ * </p>
+ * <p>
+ * Every operation returns the value of the element before the update. When
+ * the task runs on the host, the updates are serialised on the array, so the
+ * results are the same as on the device, up to the order of the updates.
+ * </p>
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * public static void histogram(int[] keys, int[] bins) {
+ *     for (&#64;Parallel int i = 0; i &lt; keys.length; i++) {
+ *         TornadoAtomics.add(bins, keys[i], 1);
+ *     }
+ * }
+ * </pre>
+ * </p>
+ */
+public final class TornadoAtomics {
+
+    private TornadoAtomics() {
+    }
+
+    /**
+     * Atomically adds {@code value} to {@code array[index]}.
+     *
+     * @return the previous value of the element.
+     */
+    public static int add(int[] array, int index, int value) {
+        synchronized (array) {
+            int old = array[index];
+            array[index] = old + value;
+            return old;
+        }
+    }
+
+    public static long add(long[] array, int index, long value) {
+        synchronized (array) {
+            long old = array[index];
+            array[index] = old + value;
+            return old;
+        }
+    }
+
+    public static float add(float[] array, int index, float value) {
+        synchronized (array) {
+            float old = array[index];
+            array[index] = old + value;
+            return old;
+        }
+    }
+
+    /**
+     * Atomically stores the minimum of {@code array[index]} and {@code value}
+     * into {@code array[index]}.
+     *
+     * @return the previous value of the element.
+     */
+    public static int min(int[] array, int index, int value) {
+        synchronized (array) {
+            int old = array[index];
+            array[index] = Math.min(old, value);
+            return old;
+        }
+    }
+
+    public static long min(long[] array, int index, long value) {
+        synchronized (array) {
+            long old = array[index];
+            array[index] = Math.min(old, value);
+            return old;
+        }
+    }
+
+    /**
+     * Float variant of {@link #min(int[], int, int)}. On the device, the
+     * minimum is computed with {@code fmin}, which ignores a NaN operand.
+     */
+    public static float min(float[] array, int index, float value) {
+        synchronized (array) {
+            float old = array[index];
+            array[index] = Math.min(old, value);
+            return old;
+        }
+    }
+
+    /**
+     * Atomically stores the maximum of {@code array[index]} and {@code value}
+     * into {@code array[index]}.
+     *
+     * @return the previous value of the element.
+     */
+    public static int max(int[] array, int index, int value) {
+        synchronized (array) {
+            int old = array[index];
+            array[index] = Math.max(old, value);
+            return old;
+        }
+    }
+
+    public static long max(long[] array, int index, long value) {
+        synchronized (array) {
+            long old = array[index];
+            array[index] = Math.max(old, value);
+            return old;
+        }
+    }
+
+    /**
+     * Float variant of {@link #max(int[], int, int)}. On the device, the
+     * maximum is computed with {@code fmax}, which ignores a NaN operand.
+     */
+    public static float max(float[] array, int index, float value) {
+        synchronized (array) {
+            float old = array[index];
+            array[index] = Math.max(old, value);
+            return old;
+        }
+    }
+
+    /**
+     * Atomically stores {@code value} into {@code array[index]} if the element
+     * is equal to {@code expected}.
+     *
+     * @return the previous value of the element; the swap happened if it is
+     *         equal to {@code expected}.
+     */
+    public static int compareAndSwap(int[] array, int index, int expected, int value) {
+        synchronized (array) {
+            int old = array[index];
+            if (old == expected) {
+                array[index] = value;
+            }
+            return old;
+        }
+    }
+
+    public static long compareAndSwap(long[] array, int index, long expected, long value) {
+        synchronized (array) {
+            long old = array[index];
+            if (old == expected) {
+                array[index] = value;
+            }
+            return old;
+        }
+    }
+
+    /**
+     * Float variant of {@link #compareAndSwap(int[], int, int, int)}. The
+     * element and {@code expected} are compared bit by bit, as the device
+     * does, so {@code -0.0f} does not match {@code 0.0f} and a NaN matches
+     * the same NaN.
+     */
+    public static float compareAndSwap(float[] array, int index, float expected, float value) {
+        synchronized (array) {
+            float old = array[index];
+            if (Float.floatToRawIntBits(old) == Float.floatToRawIntBits(expected)) {
+                array[index] = value;
+            }
+            return old;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.collections.algorithms;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.atomics.TornadoAtomics;
+
+/**
+ * Histogram and group-by-key aggregation.
+ * <p>
+ * Keys are bucket indices in {@code [0, numBuckets)}; keys outside that range
+ * are ignored. With values, the count, sum, minimum and maximum of the values
+ * of every bucket are computed. Empty buckets have a count and sum of 0, a
+ * minimum of {@link Float#MAX_VALUE} and a maximum of {@code -Float.MAX_VALUE}.
+ * </p>
+ * <p>
+ * Every work-item handles one key and updates its bucket with
+ * {@link TornadoAtomics}. To keep skewed key distributions (a few very hot
+ * buckets) from serialising on a single counter, the histogram is privatised
+ * into {@code numCopies} copies ({@code partial[copy * numBuckets + bucket]})
+ * and key {@code i} goes to copy {@code i % numCopies}, so neighbouring
+ * work-items update different copies. A second task merges the copies of
+ * every bucket. The copies hold at most {@link #MAX_PARTIAL_ENTRIES} entries;
+ * with a single copy, which is the case when there are many buckets and
+ * collisions are rare, the work-items update the results directly and there is
+ * no merge.
+ * </p>
+ */
+public class Histogram {
+
+    public static final int DEFAULT_NUM_COPIES = 8;
+    public static final int MAX_PARTIAL_ENTRIES = 1 << 20;
+
+    private static final AtomicInteger SCHEDULE_ID = new AtomicInteger(0);
+
+    private final int numBuckets;
+    private final int[] counts;
+    private final float[] sums;
+    private final float[] mins;
+    private final float[] maxs;
+    private final TaskSchedule schedule;
+
+    /**
+     * Counts the keys per bucket.
+     */
+    public Histogram(int[] keys, int numBuckets) {
+        this(keys, null, numBuckets, defaultNumCopies(numBuckets));
+    }
+
+    /**
+     * Computes the count, sum, min and max of the values per bucket.
+     */
+    public Histogram(int[] keys, float[] values, int numBuckets) {
+        this(keys, values, numBuckets, defaultNumCopies(numBuckets));
+    }
+
+    public Histogram(int[] keys, float[] values, int numBuckets, int numCopies) {
+        checkArguments(keys, values, numBuckets, numCopies);
+        this.numBuckets = numBuckets;
+        this.counts = new int[numBuckets];
+
+        final int size = keys.length;
+        int[] partialCounts = (numCopies > 1) ? new int[numBuckets * numCopies] : counts;
+        schedule = new TaskSchedule("histogram" + SCHEDULE_ID.getAndIncrement());
+        schedule.streamIn(keys);
+        if (values == null) {
+            sums = null;
+            mins = null;
+            maxs = null;
+            schedule.task("clear", Histogram::clearCounts, partialCounts);
+            schedule.task("partial", Histogram::partialCounts, keys, partialCounts, size, numBuckets, numCopies);
+            if (numCopies > 1) {
+                schedule.task("merge", Histogram::mergeCounts, partialCounts, counts, numBuckets, numCopies);
+            }
+            schedule.streamOut(counts);
+        } else {
+            sums = new float[numBuckets];
+            mins = new float[numBuckets];
+            maxs = new float[numBuckets];
+            float[] partialSums = (numCopies > 1) ? new float[numBuckets * numCopies] : sums;
+            float[] partialMins = (numCopies > 1) ? new float[numBuckets * numCopies] : mins;
+            float[] partialMaxs = (numCopies > 1) ? new float[numBuckets * numCopies] : maxs;
+            schedule.streamIn(values);
+            schedule.task("clear", Histogram::clearAggregates, partialCounts, partialSums, partialMins, partialMaxs);
+            schedule.task("partial", Histogram::partialAggregates, keys, values, partialCounts, partialSums, partialMins, partialMaxs, size, numBuckets, numCopies);
+            if (numCopies > 1) {
+                schedule.task("merge", Histogram::mergeAggregates, partialCounts, partialSums, partialMins, partialMaxs, counts, sums, mins, maxs, numBuckets, numCopies);
+            }
+            schedule.streamOut(counts, sums, mins, maxs);
+        }
+    }
+
+    /**
+     * Aggregates the current contents of the keys (and values). It can be
+     * invoked repeatedly; the inputs are copied to the device on every
+     * invocation.
+     */
+    public void execute() {
+        schedule.execute();
+    }
+
+    public int getNumBuckets() {
+        return numBuckets;
+    }
+
+    public int[] getCounts() {
+        return counts;
+    }
+
+    public float[] getSums() {
+        return sums;
+    }
+
+    public float[] getMins() {
+        return mins;
+    }
+
+    public float[] getMaxs() {
+        return maxs;
+    }
+
+    public TaskSchedule getTaskSchedule() {
+        return schedule;
+    }
+
+    public static int[] histogram(int[] keys, int numBuckets) {
+        Histogram histogram = new Histogram(keys, numBuckets);
+        histogram.execute();
+        return histogram.getCounts();
+    }
+
+    /**
+     * Host reference implementation.
+     */
+    public static void histogramSequential(int[] keys, float[] values, int[] counts, float[] sums, float[] mins, float[] maxs) {
+        final int numBuckets = counts.length;
+        for (int bucket = 0; bucket < numBuckets; bucket++) {
+            counts[bucket] = 0;
+            if (values != null) {
+                sums[bucket] = 0.0f;
+                mins[bucket] = Float.MAX_VALUE;
+                maxs[bucket] = -Float.MAX_VALUE;
+            }
+        }
+        for (int i = 0; i < keys.length; i++) {
+            int bucket = keys[i];
+            if (bucket >= 0 && bucket < numBuckets) {
+                counts[bucket]++;
+                if (values != null) {
+                    float value = values[i];
+                    sums[bucket] += value;
+                    mins[bucket] = Math.min(mins[bucket], value);
+                    maxs[bucket] = Math.max(maxs[bucket], value);
+                }
+            }
+        }
+    }
+
+    private static int defaultNumCopies(int numBuckets) {
+        return Math.max(1, Math.min(DEFAULT_NUM_COPIES, MAX_PARTIAL_ENTRIES / numBuckets));
+    }
+
+    private static void checkArguments(int[] keys, float[] values, int numBuckets, int numCopies) {
+        if (keys.length == 0) {
+            throw new IllegalArgumentException("Keys array is empty");
+        }
+        if (values != null && values.length != keys.length) {
+            throw new IllegalArgumentException("Keys and values have different lengths: " + keys.length + " != " + values.length);
+        }
+        if (numBuckets < 1) {
+            throw new IllegalArgumentException("Number of buckets must be at least 1: " + numBuckets);
+        }
+        if (numCopies < 1) {
+            throw new IllegalArgumentException("Number of copies must be at least 1: " + numCopies);
+        }
+    }
+
+    /*
+     * Kernels
+     */
+    public static void clearCounts(int[] partialCounts) {
+        for (@Parallel int i = 0; i < partialCounts.length; i++) {
+            partialCounts[i] = 0;
+        }
+    }
+
+    public static void partialCounts(int[] keys, int[] partialCounts, final int size, final int numBuckets, final int numCopies) {
+        for (@Parallel int i = 0; i < size; i++) {
+            int bucket = keys[i];
+            if (bucket >= 0 && bucket < numBuckets) {
+                TornadoAtomics.add(partialCounts, (i % numCopies) * numBuckets + bucket, 1);
+            }
+        }
+    }
+
+    public static void mergeCounts(int[] partialCounts, int[] counts, final int numBuckets, final int numCopies) {
+        for (@Parallel int bucket = 0; bucket < numBuckets; bucket++) {
+            int count = 0;
+            for (int copy = 0; copy < numCopies; copy++) {
+                count += partialCounts[copy * numBuckets + bucket];
+            }
+            counts[bucket] = count;
+        }
+    }
+
+    public static void clearAggregates(int[] partialCounts, float[] partialSums, float[] partialMins, float[] partialMaxs) {
+        for (@Parallel int i = 0; i < partialCounts.length; i++) {
+            partialCounts[i] = 0;
+            partialSums[i] = 0.0f;
+            partialMins[i] = Float.MAX_VALUE;
+            partialMaxs[i] = -Float.MAX_VALUE;
+        }
+    }
+
+    public static void partialAggregates(int[] keys, float[] values, int[] partialCounts, float[] partialSums, float[] partialMins, float[] partialMaxs, final int size, final int numBuckets,
+            final int numCopies) {
+        for (@Parallel int i = 0; i < size; i++) {
+            int bucket = keys[i];
+            if (bucket >= 0 && bucket < numBuckets) {
+                int index = (i % numCopies) * numBuckets + bucket;
+                float value = values[i];
+                TornadoAtomics.add(partialCounts, index, 1);
+                TornadoAtomics.add(partialSums, index, value);
+                TornadoAtomics.min(partialMins, index, value);
+                TornadoAtomics.max(partialMaxs, index, value);
+            }
+        }
+    }
+
+    public static void mergeAggregates(int[] partialCounts, float[] partialSums, float[] partialMins, float[] partialMaxs, int[] counts, float[] sums, float[] mins, float[] maxs,
+            final int numBuckets, final int numCopies) {
+        for (@Parallel int bucket = 0; bucket < numBuckets; bucket++) {
+            int count = 0;
+            float sum = 0.0f;
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+            for (int copy = 0; copy < numCopies; copy++) {
+                int index = copy * numBuckets + bucket;
+                count += partialCounts[index];
+                sum += partialSums[index];
+                min = Math.min(min, partialMins[index]);
+                max = Math.max(max, partialMaxs[index]);
+            }
+            counts[bucket] = count;
+            sums[bucket] = sum;
+            mins[bucket] = min;
+            maxs[bucket] = max;
+        }
+    }
+}
@@ -0,0 +1,533 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.collections.algorithms;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+
+/**
+ * Parallel prefix-sum (scan) over int and float arrays.
+ * <p>
+ * The scan is expressed as a multi-level reduce-then-scan over blocks of
+ * {@code blockSize} elements:
+ * <ol>
+ * <li>each block of the input is scanned with a work-efficient (Blelloch)
+ * scan: an up-sweep builds a tree of partial sums in {@code log2(blockSize)}
+ * levels, the block totals are moved into a block-sums array, and a
+ * down-sweep of the same number of levels turns the tree into the scan of the
+ * block;</li>
+ * <li>the block-sums array is scanned (exclusively) in the same way, level by
+ * level, until it fits in a single block, which is scanned by one task;</li>
+ * <li>the scanned block sums are added back to every element of the level
+ * below.</li>
+ * </ol>
+ * Every level of the sweeps is one task whose work-items each combine one pair
+ * of elements, in place in a global-memory work array: level {@code d} runs
+ * {@code n >> (d + 1)} work-items, so the scan does {@code O(n)} work in
+ * {@code O(log n)} tasks. The block size is rounded up to a power of two and
+ * the work array is padded to a whole number of blocks. All the levels are
+ * built into a single {@link TaskSchedule}, so the intermediate arrays stay on
+ * the device between executions. Inputs that fit in a single block are
+ * scanned on the host.
+ * </p>
+ */
+public class PrefixSum {
+
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+
+    private static final AtomicInteger SCHEDULE_ID = new AtomicInteger(0);
+
+    private final Object input;
+    private final Object output;
+    private final boolean inclusive;
+    private final int blockSize;
+    private final TaskSchedule schedule;
+
+    public PrefixSum(int[] input, int[] output, boolean inclusive) {
+        this(input, output, inclusive, DEFAULT_BLOCK_SIZE);
+    }
+
+    public PrefixSum(int[] input, int[] output, boolean inclusive, int blockSize) {
+        checkArguments(input.length, output.length, blockSize);
+        this.input = input;
+        this.output = output;
+        this.inclusive = inclusive;
+        this.blockSize = roundBlockSize(blockSize);
+        this.schedule = (input.length > this.blockSize) ? buildIntSchedule(input, output, inclusive, this.blockSize) : null;
+    }
+
+    public PrefixSum(float[] input, float[] output, boolean inclusive) {
+        this(input, output, inclusive, DEFAULT_BLOCK_SIZE);
+    }
+
+    public PrefixSum(float[] input, float[] output, boolean inclusive, int blockSize) {
+        checkArguments(input.length, output.length, blockSize);
+        this.input = input;
+        this.output = output;
+        this.inclusive = inclusive;
+        this.blockSize = roundBlockSize(blockSize);
+        this.schedule = (input.length > this.blockSize) ? buildFloatSchedule(input, output, inclusive, this.blockSize) : null;
+    }
+
+    /**
+     * Computes the scan of the current contents of the input array into the
+     * output array. It can be invoked repeatedly; the input is copied to the
+     * device on every invocation.
+     */
+    public void execute() {
+        if (schedule != null) {
+            schedule.execute();
+        } else if (input instanceof int[]) {
+            scanSequential((int[]) input, (int[]) output, inclusive);
+        } else {
+            scanSequential((float[]) input, (float[]) output, inclusive);
+        }
+    }
+
+    public TaskSchedule getTaskSchedule() {
+        return schedule;
+    }
+
+    /**
+     * @return the block size of the scan: the requested block size rounded up
+     *         to a power of two.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public static void exclusiveScan(int[] input, int[] output) {
+        new PrefixSum(input, output, false).execute();
+    }
+
+    public static void inclusiveScan(int[] input, int[] output) {
+        new PrefixSum(input, output, true).execute();
+    }
+
+    public static void exclusiveScan(float[] input, float[] output) {
+        new PrefixSum(input, output, false).execute();
+    }
+
+    public static void inclusiveScan(float[] input, float[] output) {
+        new PrefixSum(input, output, true).execute();
+    }
+
+    public static void scanSequential(int[] input, int[] output, boolean inclusive) {
+        int sum = 0;
+        for (int i = 0; i < input.length; i++) {
+            int value = input[i];
+            if (inclusive) {
+                sum += value;
+                output[i] = sum;
+            } else {
+                output[i] = sum;
+                sum += value;
+            }
+        }
+    }
+
+    public static void scanSequential(float[] input, float[] output, boolean inclusive) {
+        float sum = 0.0f;
+        for (int i = 0; i < input.length; i++) {
+            float value = input[i];
+            if (inclusive) {
+                sum += value;
+                output[i] = sum;
+            } else {
+                output[i] = sum;
+                sum += value;
+            }
+        }
+    }
+
+    private static void checkArguments(int inputLength, int outputLength, int blockSize) {
+        if (outputLength < inputLength) {
+            throw new IllegalArgumentException("Output array is smaller than the input array: " + outputLength + " < " + inputLength);
+        }
+        if (blockSize < 2) {
+            throw new IllegalArgumentException("Block size must be at least 2: " + blockSize);
+        }
+    }
+
+    private static int numBlocks(int size, int blockSize) {
+        return (size + blockSize - 1) / blockSize;
+    }
+
+    /*
+     * Number of levels of each sweep over one block: log2(blockSize).
+     */
+    private static int numLevels(int blockSize) {
+        return Integer.numberOfTrailingZeros(blockSize);
+    }
+
+    /*
+     * The tree of the sweeps needs blocks whose size is a power of two.
+     */
+    private static int roundBlockSize(int blockSize) {
+        int rounded = Integer.highestOneBit(blockSize);
+        return (rounded == blockSize) ? blockSize : rounded << 1;
+    }
+
+    private static TaskSchedule buildIntSchedule(int[] input, int[] output, boolean inclusive, int blockSize) {
+        TaskSchedule ts = new TaskSchedule("prefixSum" + SCHEDULE_ID.getAndIncrement());
+        ts.streamIn(input);
+        addScanTasks(ts, "", input, output, inclusive, blockSize);
+        ts.streamOut(output);
+        return ts;
+    }
+
+    /**
+     * Appends the tasks that scan {@code input} into {@code output} to an
+     * existing schedule. Task names start with {@code prefix}, so that several
+     * scans can be added to the same schedule. The output stays on the device
+     * unless the caller streams it out.
+     */
+    static void addScanTasks(TaskSchedule ts, String prefix, int[] input, int[] output, boolean inclusive, int requestedBlockSize) {
+        // Scan the input per block and collect the block totals
+        final int blockSize = roundBlockSize(requestedBlockSize);
+        int size = input.length;
+        int[] sums = new int[numBlocks(size, blockSize)];
+        addBlockScanTasks(ts, prefix + "scan0", input, output, sums, inclusive, blockSize);
+
+        // Scan the block totals until they fit in a single block
+        ArrayList<int[]> scanned = new ArrayList<>();
+        while (sums.length > blockSize) {
+            int level = scanned.size() + 1;
+            int[] offsets = new int[sums.length];
+            int[] nextSums = new int[numBlocks(sums.length, blockSize)];
+            addBlockScanTasks(ts, prefix + "scan" + level, sums, offsets, nextSums, false, blockSize);
+            scanned.add(offsets);
+            sums = nextSums;
+        }
+        int[] topOffsets = new int[sums.length];
+        ts.task(prefix + "scanTop", PrefixSum::singleBlockScanExclusive, sums, topOffsets, sums.length);
+
+        // Propagate the scanned block totals back down to the output
+        int[] offsets = topOffsets;
+        for (int level = scanned.size(); level > 0; level--) {
+            int[] target = scanned.get(level - 1);
+            ts.task(prefix + "add" + level, PrefixSum::addBlockOffsets, target, offsets, target.length, blockSize);
+            offsets = target;
+        }
+        ts.task(prefix + "add0", PrefixSum::addBlockOffsets, output, offsets, size, blockSize);
+    }
+
+    /*
+     * Scans each block of {@code input} into {@code output} and writes the block
+     * totals into {@code sums}. The up-sweep reads the input into a work array
+     * padded to a whole number of blocks, and the last level of the down-sweep
+     * writes the scan of each block into {@code output}.
+     */
+    private static void addBlockScanTasks(TaskSchedule ts, String name, int[] input, int[] output, int[] sums, boolean inclusive, int blockSize) {
+        final int size = input.length;
+        final int[] work = new int[sums.length * blockSize];
+        final int levels = numLevels(blockSize);
+
+        ts.task(name + "up0", PrefixSum::upSweepLoad, input, work, size, work.length >> 1);
+        for (int level = 1; level < levels; level++) {
+            ts.task(name + "up" + level, PrefixSum::upSweep, work, work.length >> (level + 1), 1 << level);
+        }
+        ts.task(name + "sums", PrefixSum::blockTotals, work, sums, blockSize);
+        for (int level = levels - 1; level > 0; level--) {
+            ts.task(name + "down" + level, PrefixSum::downSweep, work, work.length >> (level + 1), 1 << level);
+        }
+        if (inclusive) {
+            ts.task(name + "down0", PrefixSum::downSweepStoreInclusive, input, work, output, size, work.length >> 1);
+        } else {
+            ts.task(name + "down0", PrefixSum::downSweepStoreExclusive, work, output, size, work.length >> 1);
+        }
+    }
+
+    private static TaskSchedule buildFloatSchedule(float[] input, float[] output, boolean inclusive, int blockSize) {
+        TaskSchedule ts = new TaskSchedule("prefixSum" + SCHEDULE_ID.getAndIncrement());
+        ts.streamIn(input);
+        addScanTasks(ts, "", input, output, inclusive, blockSize);
+        ts.streamOut(output);
+        return ts;
+    }
+
+    /**
+     * Appends the tasks that scan {@code input} into {@code output} to an
+     * existing schedule. Task names start with {@code prefix}, so that several
+     * scans can be added to the same schedule. The output stays on the device
+     * unless the caller streams it out.
+     */
+    static void addScanTasks(TaskSchedule ts, String prefix, float[] input, float[] output, boolean inclusive, int requestedBlockSize) {
+        // Scan the input per block and collect the block totals
+        final int blockSize = roundBlockSize(requestedBlockSize);
+        int size = input.length;
+        float[] sums = new float[numBlocks(size, blockSize)];
+        addBlockScanTasks(ts, prefix + "scan0", input, output, sums, inclusive, blockSize);
+
+        // Scan the block totals until they fit in a single block
+        ArrayList<float[]> scanned = new ArrayList<>();
+        while (sums.length > blockSize) {
+            int level = scanned.size() + 1;
+            float[] offsets = new float[sums.length];
+            float[] nextSums = new float[numBlocks(sums.length, blockSize)];
+            addBlockScanTasks(ts, prefix + "scan" + level, sums, offsets, nextSums, false, blockSize);
+            scanned.add(offsets);
+            sums = nextSums;
+        }
+        float[] topOffsets = new float[sums.length];
+        ts.task(prefix + "scanTop", PrefixSum::singleBlockScanExclusive, sums, topOffsets, sums.length);
+
+        // Propagate the scanned block totals back down to the output
+        float[] offsets = topOffsets;
+        for (int level = scanned.size(); level > 0; level--) {
+            float[] target = scanned.get(level - 1);
+            ts.task(prefix + "add" + level, PrefixSum::addBlockOffsets, target, offsets, target.length, blockSize);
+            offsets = target;
+        }
+        ts.task(prefix + "add0", PrefixSum::addBlockOffsets, output, offsets, size, blockSize);
+    }
+
+    /*
+     * Scans each block of {@code input} into {@code output} and writes the block
+     * totals into {@code sums}. The up-sweep reads the input into a work array
+     * padded to a whole number of blocks, and the last level of the down-sweep
+     * writes the scan of each block into {@code output}.
+     */
+    private static void addBlockScanTasks(TaskSchedule ts, String name, float[] input, float[] output, float[] sums, boolean inclusive, int blockSize) {
+        final int size = input.length;
+        final float[] work = new float[sums.length * blockSize];
+        final int levels = numLevels(blockSize);
+
+        ts.task(name + "up0", PrefixSum::upSweepLoad, input, work, size, work.length >> 1);
+        for (int level = 1; level < levels; level++) {
+            ts.task(name + "up" + level, PrefixSum::upSweep, work, work.length >> (level + 1), 1 << level);
+        }
+        ts.task(name + "sums", PrefixSum::blockTotals, work, sums, blockSize);
+        for (int level = levels - 1; level > 0; level--) {
+            ts.task(name + "down" + level, PrefixSum::downSweep, work, work.length >> (level + 1), 1 << level);
+        }
+        if (inclusive) {
+            ts.task(name + "down0", PrefixSum::downSweepStoreInclusive, input, work, output, size, work.length >> 1);
+        } else {
+            ts.task(name + "down0", PrefixSum::downSweepStoreExclusive, work, output, size, work.length >> 1);
+        }
+    }
+
+    /*
+     * Kernels
+     */
+    /*
+     * First level of the up-sweep: reads each pair of input elements, padding
+     * with zeros past the end of the input.
+     */
+    public static void upSweepLoad(int[] input, int[] work, final int size, final int numPairs) {
+        for (@Parallel int pair = 0; pair < numPairs; pair++) {
+            int left = pair << 1;
+            int a = (left < size) ? input[left] : 0;
+            int b = (left + 1 < size) ? input[left + 1] : 0;
+            work[left] = a;
+            work[left + 1] = a + b;
+        }
+    }
+
+    public static void upSweep(int[] work, final int numPairs, final int stride) {
+        for (@Parallel int pair = 0; pair < numPairs; pair++) {
+            int k = pair * (stride << 1);
+            work[k + (stride << 1) - 1] += work[k + stride - 1];
+        }
+    }
+
+    /*
+     * Moves the total of every block, at the root of its tree, into the block
+     * sums, and clears the root for the down-sweep.
+     */
+    public static void blockTotals(int[] work, int[] blockSums, final int blockSize) {
+        for (@Parallel int block = 0; block < blockSums.length; block++) {
+            int root = (block + 1) * blockSize - 1;
+            blockSums[block] = work[root];
+            work[root] = 0;
+        }
+    }
+
+    public static void downSweep(int[] work, final int numPairs, final int stride) {
+        for (@Parallel int pair = 0; pair < numPairs; pair++) {
+            int k = pair * (stride << 1);
+            int left = k + stride - 1;
+            int right = k + (stride << 1) - 1;
+            int leftValue = work[left];
+            work[left] = work[right];
+            work[right] += leftValue;
+        }
+    }
+
+    /*
+     * Last level of the down-sweep. The left element of each pair still holds
+     * its input value and the right one the exclusive prefix of the pair.
+     */
+    public static void downSweepStoreExclusive(int[] work, int[] output, final int size, final int numPairs) {
+        for (@Parallel int pair = 0; pair < numPairs; pair++) {
+            int left = pair << 1;
+            int prefix = work[left + 1];
+            if (left < size) {
+                output[left] = prefix;
+            }
+            if (left + 1 < size) {
+                output[left + 1] = prefix + work[left];
+            }
+        }
+    }
+
+    public static void downSweepStoreInclusive(int[] input, int[] work, int[] output, final int size, final int numPairs) {
+        for (@Parallel int pair = 0; pair < numPairs; pair++) {
+            int left = pair << 1;
+            int prefix = work[left + 1] + work[left];
+            if (left < size) {
+                output[left] = prefix;
+            }
+            if (left + 1 < size) {
+                output[left + 1] = prefix + input[left + 1];
+            }
+        }
+    }
+
+    public static void singleBlockScanExclusive(int[] input, int[] output, final int size) {
+        int sum = 0;
+        for (int i = 0; i < size; i++) {
+            int value = input[i];
+            output[i] = sum;
+            sum += value;
+        }
+    }
+
+    public static void addBlockOffsets(int[] data, int[] offsets, final int size, final int blockSize) {
+        for (@Parallel int i = 0; i < size; i++) {
+            data[i] += offsets[i / blockSize];
+        }
+    }
+
+    /*
+     * First level of the up-sweep: reads each pair of input elements, padding
+     * with zeros past the end of the input.
+     */
+    public static void upSweepLoad(float[] input, float[] work, final int size, final int numPairs) {
+        for (@Parallel int pair = 0; pair < numPairs; pair++) {
+            int left = pair << 1;
+            float a = (left < size) ? input[left] : 0.0f;
+            float b = (left + 1 < size) ? input[left + 1] : 0.0f;
+            work[left] = a;
+            work[left + 1] = a + b;
+        }
+    }
+
+    public static void upSweep(float[] work, final int numPairs, final int stride) {
+        for (@Parallel int pair = 0; pair < numPairs; pair++) {
+            int k = pair * (stride << 1);
+            work[k + (stride << 1) - 1] += work[k + stride - 1];
+        }
+    }
+
+    /*
+     * Moves the total of every block, at the root of its tree, into the block
+     * sums, and clears the root for the down-sweep.
+     */
+    public static void blockTotals(float[] work, float[] blockSums, final int blockSize) {
+        for (@Parallel int block = 0; block < blockSums.length; block++) {
+            int root = (block + 1) * blockSize - 1;
+            blockSums[block] = work[root];
+            work[root] = 0.0f;
+        }
+    }
+
+    public static void downSweep(float[] work, final int numPairs, final int stride) {
+        for (@Parallel int pair = 0; pair < numPairs; pair++) {
+            int k = pair * (stride << 1);
+            int left = k + stride - 1;
+            int right = k + (stride << 1) - 1;
+            float leftValue = work[left];
+            work[left] = work[right];
+            work[right] += leftValue;
+        }
+    }
+
+    /*
+     * Last level of the down-sweep. The left element of each pair still holds
+     * its input value and the right one the exclusive prefix of the pair.
+     */
+    public static void downSweepStoreExclusive(float[] work, float[] output, final int size, final int numPairs) {
+        for (@Parallel int pair = 0; pair < numPairs; pair++) {
+            int left = pair << 1;
+            float prefix = work[left + 1];
+            if (left < size) {
+                output[left] = prefix;
+            }
+            if (left + 1 < size) {
+                output[left + 1] = prefix + work[left];
+            }
+        }
+    }
+
+    public static void downSweepStoreInclusive(float[] input, float[] work, float[] output, final int size, final int numPairs) {
+        for (@Parallel int pair = 0; pair < numPairs; pair++) {
+            int left = pair << 1;
+            float prefix = work[left + 1] + work[left];
+            if (left < size) {
+                output[left] = prefix;
+            }
+            if (left + 1 < size) {
+                output[left + 1] = prefix + input[left + 1];
+            }
+        }
+    }
+
+    public static void singleBlockScanExclusive(float[] input, float[] output, final int size) {
+        float sum = 0.0f;
+        for (int i = 0; i < size; i++) {
+            float value = input[i];
+            output[i] = sum;
+            sum += value;
+        }
+    }
+
+    public static void addBlockOffsets(float[] data, float[] offsets, final int size, final int blockSize) {
+        for (@Parallel int i = 0; i < size; i++) {
+            data[i] += offsets[i / blockSize];
+        }
+    }
+}
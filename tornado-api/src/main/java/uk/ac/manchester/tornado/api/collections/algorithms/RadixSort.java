@@ -0,0 +1,722 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.collections.algorithms;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.atomics.TornadoAtomics;
+
+/**
+ * Parallel LSD radix sort for int, long, float and double keys, with an
+ * optional int payload that is permuted together with the keys.
+ * <p>
+ * Keys are sorted {@value #RADIX_BITS} bits at a time. The input is split into
+ * blocks of {@code blockSize} consecutive keys and every pass is expressed as
+ * Tornado tasks that run one work-item per key:
+ * <ol>
+ * <li>each work-item atomically counts the digit of its key into the
+ * histogram of its block; the histograms are private to each block and laid
+ * out digit-major ({@code histograms[digit * numBlocks + block]});</li>
+ * <li>the histogram is scanned with {@link PrefixSum}, which gives the first
+ * output position of every digit of every block;</li>
+ * <li>each work-item writes its key to that position plus the number of keys
+ * with the same digit that precede it in its block.</li>
+ * </ol>
+ * The rank within the block preserves the order of equal digits, so the sort
+ * is stable. Computing it reads up to {@code blockSize} neighbouring keys, all
+ * of which are shared with the other work-items of the block, so the block
+ * size trades scatter work against histogram size. The
+ * keys are ping-ponged through a temporary array; the number of passes is
+ * always even, so the sorted data ends in the original arrays. Floating-point
+ * keys are sorted by their bit patterns, mapped so that the unsigned order
+ * matches {@link java.util.Arrays#sort(float[])}.
+ * </p>
+ * <p>
+ * All the passes are built into a single {@link TaskSchedule}. Inputs that fit
+ * in a single block are sorted on the host by running the same kernels as plain
+ * Java methods.
+ * </p>
+ */
+public class RadixSort {
+
+    public static final int RADIX_BITS = 8;
+    public static final int RADIX = 1 << RADIX_BITS;
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+
+    private static final int RADIX_MASK = RADIX - 1;
+    private static final AtomicInteger SCHEDULE_ID = new AtomicInteger(0);
+
+    private final Object keys;
+    private final int[] values;
+    private final int blockSize;
+    private final TaskSchedule schedule;
+
+    public RadixSort(int[] keys) {
+        this(keys, null, DEFAULT_BLOCK_SIZE);
+    }
+
+    public RadixSort(int[] keys, int[] values) {
+        this(keys, values, DEFAULT_BLOCK_SIZE);
+    }
+
+    public RadixSort(int[] keys, int[] values, int blockSize) {
+        checkArguments(keys.length, values, blockSize);
+        this.keys = keys;
+        this.values = values;
+        this.blockSize = blockSize;
+        this.schedule = (keys.length > blockSize) ? buildSchedule(keys, values, blockSize) : null;
+    }
+
+    public RadixSort(long[] keys) {
+        this(keys, null, DEFAULT_BLOCK_SIZE);
+    }
+
+    public RadixSort(long[] keys, int[] values) {
+        this(keys, values, DEFAULT_BLOCK_SIZE);
+    }
+
+    public RadixSort(long[] keys, int[] values, int blockSize) {
+        checkArguments(keys.length, values, blockSize);
+        this.keys = keys;
+        this.values = values;
+        this.blockSize = blockSize;
+        this.schedule = (keys.length > blockSize) ? buildSchedule(keys, values, blockSize) : null;
+    }
+
+    public RadixSort(float[] keys) {
+        this(keys, null, DEFAULT_BLOCK_SIZE);
+    }
+
+    public RadixSort(float[] keys, int[] values) {
+        this(keys, values, DEFAULT_BLOCK_SIZE);
+    }
+
+    public RadixSort(float[] keys, int[] values, int blockSize) {
+        checkArguments(keys.length, values, blockSize);
+        this.keys = keys;
+        this.values = values;
+        this.blockSize = blockSize;
+        this.schedule = (keys.length > blockSize) ? buildSchedule(keys, values, blockSize) : null;
+    }
+
+    public RadixSort(double[] keys) {
+        this(keys, null, DEFAULT_BLOCK_SIZE);
+    }
+
+    public RadixSort(double[] keys, int[] values) {
+        this(keys, values, DEFAULT_BLOCK_SIZE);
+    }
+
+    public RadixSort(double[] keys, int[] values, int blockSize) {
+        checkArguments(keys.length, values, blockSize);
+        this.keys = keys;
+        this.values = values;
+        this.blockSize = blockSize;
+        this.schedule = (keys.length > blockSize) ? buildSchedule(keys, values, blockSize) : null;
+    }
+
+    /**
+     * Sorts the current contents of the keys (and values) arrays in place. It
+     * can be invoked repeatedly; the arrays are copied to the device on every
+     * invocation.
+     */
+    public void execute() {
+        if (schedule != null) {
+            schedule.execute();
+        } else if (keys instanceof int[]) {
+            sortOnHost((int[]) keys, values, blockSize);
+        } else if (keys instanceof long[]) {
+            sortOnHost((long[]) keys, values, blockSize);
+        } else if (keys instanceof float[]) {
+            sortOnHost((float[]) keys, values, blockSize);
+        } else {
+            sortOnHost((double[]) keys, values, blockSize);
+        }
+    }
+
+    public TaskSchedule getTaskSchedule() {
+        return schedule;
+    }
+
+    public static void sort(int[] keys) {
+        new RadixSort(keys).execute();
+    }
+
+    public static void sort(int[] keys, int[] values) {
+        new RadixSort(keys, values).execute();
+    }
+
+    public static void sort(long[] keys) {
+        new RadixSort(keys).execute();
+    }
+
+    public static void sort(long[] keys, int[] values) {
+        new RadixSort(keys, values).execute();
+    }
+
+    public static void sort(float[] keys) {
+        new RadixSort(keys).execute();
+    }
+
+    public static void sort(float[] keys, int[] values) {
+        new RadixSort(keys, values).execute();
+    }
+
+    public static void sort(double[] keys) {
+        new RadixSort(keys).execute();
+    }
+
+    public static void sort(double[] keys, int[] values) {
+        new RadixSort(keys, values).execute();
+    }
+
+    private static void checkArguments(int numKeys, int[] values, int blockSize) {
+        if (values != null && values.length != numKeys) {
+            throw new IllegalArgumentException("Keys and values have different lengths: " + numKeys + " != " + values.length);
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1: " + blockSize);
+        }
+    }
+
+    private static int numBlocks(int size, int blockSize) {
+        return (size + blockSize - 1) / blockSize;
+    }
+
+    /*
+     * Digits. The sign bit is flipped so that the unsigned order of the mapped
+     * keys is the signed order of the original ones. Negative floating-point
+     * numbers have all their bits flipped, since larger magnitudes must come
+     * first.
+     */
+    private static int digit(int key, int shift) {
+        return ((key ^ Integer.MIN_VALUE) >>> shift) & RADIX_MASK;
+    }
+
+    private static int digit(long key, int shift) {
+        return (int) (((key ^ Long.MIN_VALUE) >>> shift) & RADIX_MASK);
+    }
+
+    private static int digit(float key, int shift) {
+        int bits = Float.floatToRawIntBits(key);
+        int mapped = (bits < 0) ? ~bits : (bits ^ Integer.MIN_VALUE);
+        return (mapped >>> shift) & RADIX_MASK;
+    }
+
+    private static int digit(double key, int shift) {
+        long bits = Double.doubleToRawLongBits(key);
+        long mapped = (bits < 0) ? ~bits : (bits ^ Long.MIN_VALUE);
+        return (int) ((mapped >>> shift) & RADIX_MASK);
+    }
+
+    private static TaskSchedule buildSchedule(int[] keys, int[] values, int blockSize) {
+        final int size = keys.length;
+        final int numBlocks = numBlocks(size, blockSize);
+        int[] histograms = new int[RADIX * numBlocks];
+        int[] offsets = new int[RADIX * numBlocks];
+        int[] keysTmp = new int[size];
+        int[] valuesTmp = (values != null) ? new int[size] : null;
+
+        TaskSchedule ts = new TaskSchedule("radixSort" + SCHEDULE_ID.getAndIncrement());
+        ts.streamIn(keys);
+        if (values != null) {
+            ts.streamIn(values);
+        }
+
+        int[] keysIn = keys;
+        int[] keysOut = keysTmp;
+        int[] valuesIn = values;
+        int[] valuesOut = valuesTmp;
+        for (int pass = 0; pass < Integer.SIZE / RADIX_BITS; pass++) {
+            final int shift = pass * RADIX_BITS;
+            final String prefix = "pass" + pass + "_";
+            ts.task(prefix + "clear", RadixSort::clear, histograms);
+            ts.task(prefix + "histogram", RadixSort::histogram, keysIn, histograms, size, numBlocks, blockSize, shift);
+            PrefixSum.addScanTasks(ts, prefix, histograms, offsets, false, blockSize);
+            if (values == null) {
+                ts.task(prefix + "scatter", RadixSort::scatter, keysIn, keysOut, offsets, size, numBlocks, blockSize, shift);
+            } else {
+                ts.task(prefix + "scatter", RadixSort::scatter, keysIn, keysOut, valuesIn, valuesOut, offsets, size, numBlocks, blockSize, shift);
+            }
+
+            int[] keysSwap = keysIn;
+            keysIn = keysOut;
+            keysOut = keysSwap;
+            int[] valuesSwap = valuesIn;
+            valuesIn = valuesOut;
+            valuesOut = valuesSwap;
+        }
+
+        ts.streamOut(keys);
+        if (values != null) {
+            ts.streamOut(values);
+        }
+        return ts;
+    }
+
+    private static TaskSchedule buildSchedule(long[] keys, int[] values, int blockSize) {
+        final int size = keys.length;
+        final int numBlocks = numBlocks(size, blockSize);
+        int[] histograms = new int[RADIX * numBlocks];
+        int[] offsets = new int[RADIX * numBlocks];
+        long[] keysTmp = new long[size];
+        int[] valuesTmp = (values != null) ? new int[size] : null;
+
+        TaskSchedule ts = new TaskSchedule("radixSort" + SCHEDULE_ID.getAndIncrement());
+        ts.streamIn(keys);
+        if (values != null) {
+            ts.streamIn(values);
+        }
+
+        long[] keysIn = keys;
+        long[] keysOut = keysTmp;
+        int[] valuesIn = values;
+        int[] valuesOut = valuesTmp;
+        for (int pass = 0; pass < Long.SIZE / RADIX_BITS; pass++) {
+            final int shift = pass * RADIX_BITS;
+            final String prefix = "pass" + pass + "_";
+            ts.task(prefix + "clear", RadixSort::clear, histograms);
+            ts.task(prefix + "histogram", RadixSort::histogram, keysIn, histograms, size, numBlocks, blockSize, shift);
+            PrefixSum.addScanTasks(ts, prefix, histograms, offsets, false, blockSize);
+            if (values == null) {
+                ts.task(prefix + "scatter", RadixSort::scatter, keysIn, keysOut, offsets, size, numBlocks, blockSize, shift);
+            } else {
+                ts.task(prefix + "scatter", RadixSort::scatter, keysIn, keysOut, valuesIn, valuesOut, offsets, size, numBlocks, blockSize, shift);
+            }
+
+            long[] keysSwap = keysIn;
+            keysIn = keysOut;
+            keysOut = keysSwap;
+            int[] valuesSwap = valuesIn;
+            valuesIn = valuesOut;
+            valuesOut = valuesSwap;
+        }
+
+        ts.streamOut(keys);
+        if (values != null) {
+            ts.streamOut(values);
+        }
+        return ts;
+    }
+
+    private static TaskSchedule buildSchedule(float[] keys, int[] values, int blockSize) {
+        final int size = keys.length;
+        final int numBlocks = numBlocks(size, blockSize);
+        int[] histograms = new int[RADIX * numBlocks];
+        int[] offsets = new int[RADIX * numBlocks];
+        float[] keysTmp = new float[size];
+        int[] valuesTmp = (values != null) ? new int[size] : null;
+
+        TaskSchedule ts = new TaskSchedule("radixSort" + SCHEDULE_ID.getAndIncrement());
+        ts.streamIn(keys);
+        if (values != null) {
+            ts.streamIn(values);
+        }
+
+        float[] keysIn = keys;
+        float[] keysOut = keysTmp;
+        int[] valuesIn = values;
+        int[] valuesOut = valuesTmp;
+        for (int pass = 0; pass < Integer.SIZE / RADIX_BITS; pass++) {
+            final int shift = pass * RADIX_BITS;
+            final String prefix = "pass" + pass + "_";
+            ts.task(prefix + "clear", RadixSort::clear, histograms);
+            ts.task(prefix + "histogram", RadixSort::histogram, keysIn, histograms, size, numBlocks, blockSize, shift);
+            PrefixSum.addScanTasks(ts, prefix, histograms, offsets, false, blockSize);
+            if (values == null) {
+                ts.task(prefix + "scatter", RadixSort::scatter, keysIn, keysOut, offsets, size, numBlocks, blockSize, shift);
+            } else {
+                ts.task(prefix + "scatter", RadixSort::scatter, keysIn, keysOut, valuesIn, valuesOut, offsets, size, numBlocks, blockSize, shift);
+            }
+
+            float[] keysSwap = keysIn;
+            keysIn = keysOut;
+            keysOut = keysSwap;
+            int[] valuesSwap = valuesIn;
+            valuesIn = valuesOut;
+            valuesOut = valuesSwap;
+        }
+
+        ts.streamOut(keys);
+        if (values != null) {
+            ts.streamOut(values);
+        }
+        return ts;
+    }
+
+    private static TaskSchedule buildSchedule(double[] keys, int[] values, int blockSize) {
+        final int size = keys.length;
+        final int numBlocks = numBlocks(size, blockSize);
+        int[] histograms = new int[RADIX * numBlocks];
+        int[] offsets = new int[RADIX * numBlocks];
+        double[] keysTmp = new double[size];
+        int[] valuesTmp = (values != null) ? new int[size] : null;
+
+        TaskSchedule ts = new TaskSchedule("radixSort" + SCHEDULE_ID.getAndIncrement());
+        ts.streamIn(keys);
+        if (values != null) {
+            ts.streamIn(values);
+        }
+
+        double[] keysIn = keys;
+        double[] keysOut = keysTmp;
+        int[] valuesIn = values;
+        int[] valuesOut = valuesTmp;
+        for (int pass = 0; pass < Long.SIZE / RADIX_BITS; pass++) {
+            final int shift = pass * RADIX_BITS;
+            final String prefix = "pass" + pass + "_";
+            ts.task(prefix + "clear", RadixSort::clear, histograms);
+            ts.task(prefix + "histogram", RadixSort::histogram, keysIn, histograms, size, numBlocks, blockSize, shift);
+            PrefixSum.addScanTasks(ts, prefix, histograms, offsets, false, blockSize);
+            if (values == null) {
+                ts.task(prefix + "scatter", RadixSort::scatter, keysIn, keysOut, offsets, size, numBlocks, blockSize, shift);
+            } else {
+                ts.task(prefix + "scatter", RadixSort::scatter, keysIn, keysOut, valuesIn, valuesOut, offsets, size, numBlocks, blockSize, shift);
+            }
+
+            double[] keysSwap = keysIn;
+            keysIn = keysOut;
+            keysOut = keysSwap;
+            int[] valuesSwap = valuesIn;
+            valuesIn = valuesOut;
+            valuesOut = valuesSwap;
+        }
+
+        ts.streamOut(keys);
+        if (values != null) {
+            ts.streamOut(values);
+        }
+        return ts;
+    }
+
+    private static void sortOnHost(int[] keys, int[] values, int blockSize) {
+        final int size = keys.length;
+        final int numBlocks = numBlocks(size, blockSize);
+        int[] histograms = new int[RADIX * numBlocks];
+        int[] offsets = new int[RADIX * numBlocks];
+        int[] keysTmp = new int[size];
+        int[] valuesTmp = (values != null) ? new int[size] : null;
+
+        int[] keysIn = keys;
+        int[] keysOut = keysTmp;
+        int[] valuesIn = values;
+        int[] valuesOut = valuesTmp;
+        for (int pass = 0; pass < Integer.SIZE / RADIX_BITS; pass++) {
+            final int shift = pass * RADIX_BITS;
+            clear(histograms);
+            histogram(keysIn, histograms, size, numBlocks, blockSize, shift);
+            PrefixSum.scanSequential(histograms, offsets, false);
+            if (values == null) {
+                scatter(keysIn, keysOut, offsets, size, numBlocks, blockSize, shift);
+            } else {
+                scatter(keysIn, keysOut, valuesIn, valuesOut, offsets, size, numBlocks, blockSize, shift);
+            }
+
+            int[] keysSwap = keysIn;
+            keysIn = keysOut;
+            keysOut = keysSwap;
+            int[] valuesSwap = valuesIn;
+            valuesIn = valuesOut;
+            valuesOut = valuesSwap;
+        }
+    }
+
+    private static void sortOnHost(long[] keys, int[] values, int blockSize) {
+        final int size = keys.length;
+        final int numBlocks = numBlocks(size, blockSize);
+        int[] histograms = new int[RADIX * numBlocks];
+        int[] offsets = new int[RADIX * numBlocks];
+        long[] keysTmp = new long[size];
+        int[] valuesTmp = (values != null) ? new int[size] : null;
+
+        long[] keysIn = keys;
+        long[] keysOut = keysTmp;
+        int[] valuesIn = values;
+        int[] valuesOut = valuesTmp;
+        for (int pass = 0; pass < Long.SIZE / RADIX_BITS; pass++) {
+            final int shift = pass * RADIX_BITS;
+            clear(histograms);
+            histogram(keysIn, histograms, size, numBlocks, blockSize, shift);
+            PrefixSum.scanSequential(histograms, offsets, false);
+            if (values == null) {
+                scatter(keysIn, keysOut, offsets, size, numBlocks, blockSize, shift);
+            } else {
+                scatter(keysIn, keysOut, valuesIn, valuesOut, offsets, size, numBlocks, blockSize, shift);
+            }
+
+            long[] keysSwap = keysIn;
+            keysIn = keysOut;
+            keysOut = keysSwap;
+            int[] valuesSwap = valuesIn;
+            valuesIn = valuesOut;
+            valuesOut = valuesSwap;
+        }
+    }
+
+    private static void sortOnHost(float[] keys, int[] values, int blockSize) {
+        final int size = keys.length;
+        final int numBlocks = numBlocks(size, blockSize);
+        int[] histograms = new int[RADIX * numBlocks];
+        int[] offsets = new int[RADIX * numBlocks];
+        float[] keysTmp = new float[size];
+        int[] valuesTmp = (values != null) ? new int[size] : null;
+
+        float[] keysIn = keys;
+        float[] keysOut = keysTmp;
+        int[] valuesIn = values;
+        int[] valuesOut = valuesTmp;
+        for (int pass = 0; pass < Integer.SIZE / RADIX_BITS; pass++) {
+            final int shift = pass * RADIX_BITS;
+            clear(histograms);
+            histogram(keysIn, histograms, size, numBlocks, blockSize, shift);
+            PrefixSum.scanSequential(histograms, offsets, false);
+            if (values == null) {
+                scatter(keysIn, keysOut, offsets, size, numBlocks, blockSize, shift);
+            } else {
+                scatter(keysIn, keysOut, valuesIn, valuesOut, offsets, size, numBlocks, blockSize, shift);
+            }
+
+            float[] keysSwap = keysIn;
+            keysIn = keysOut;
+            keysOut = keysSwap;
+            int[] valuesSwap = valuesIn;
+            valuesIn = valuesOut;
+            valuesOut = valuesSwap;
+        }
+    }
+
+    private static void sortOnHost(double[] keys, int[] values, int blockSize) {
+        final int size = keys.length;
+        final int numBlocks = numBlocks(size, blockSize);
+        int[] histograms = new int[RADIX * numBlocks];
+        int[] offsets = new int[RADIX * numBlocks];
+        double[] keysTmp = new double[size];
+        int[] valuesTmp = (values != null) ? new int[size] : null;
+
+        double[] keysIn = keys;
+        double[] keysOut = keysTmp;
+        int[] valuesIn = values;
+        int[] valuesOut = valuesTmp;
+        for (int pass = 0; pass < Long.SIZE / RADIX_BITS; pass++) {
+            final int shift = pass * RADIX_BITS;
+            clear(histograms);
+            histogram(keysIn, histograms, size, numBlocks, blockSize, shift);
+            PrefixSum.scanSequential(histograms, offsets, false);
+            if (values == null) {
+                scatter(keysIn, keysOut, offsets, size, numBlocks, blockSize, shift);
+            } else {
+                scatter(keysIn, keysOut, valuesIn, valuesOut, offsets, size, numBlocks, blockSize, shift);
+            }
+
+            double[] keysSwap = keysIn;
+            keysIn = keysOut;
+            keysOut = keysSwap;
+            int[] valuesSwap = valuesIn;
+            valuesIn = valuesOut;
+            valuesOut = valuesSwap;
+        }
+    }
+
+    /*
+     * Kernels. All of them run one work-item per key (or per histogram entry),
+     * so consecutive work-items touch consecutive elements.
+     */
+    public static void clear(int[] histograms) {
+        for (@Parallel int i = 0; i < histograms.length; i++) {
+            histograms[i] = 0;
+        }
+    }
+
+    public static void histogram(int[] keys, int[] histograms, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            TornadoAtomics.add(histograms, digit(keys[i], shift) * numBlocks + i / blockSize, 1);
+        }
+    }
+
+    public static void scatter(int[] keysIn, int[] keysOut, int[] offsets, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            int key = keysIn[i];
+            int d = digit(key, shift);
+            int block = i / blockSize;
+            int rank = 0;
+            for (int j = block * blockSize; j < i; j++) {
+                if (digit(keysIn[j], shift) == d) {
+                    rank++;
+                }
+            }
+            keysOut[offsets[d * numBlocks + block] + rank] = key;
+        }
+    }
+
+    public static void scatter(int[] keysIn, int[] keysOut, int[] valuesIn, int[] valuesOut, int[] offsets, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            int key = keysIn[i];
+            int d = digit(key, shift);
+            int block = i / blockSize;
+            int rank = 0;
+            for (int j = block * blockSize; j < i; j++) {
+                if (digit(keysIn[j], shift) == d) {
+                    rank++;
+                }
+            }
+            int position = offsets[d * numBlocks + block] + rank;
+            keysOut[position] = key;
+            valuesOut[position] = valuesIn[i];
+        }
+    }
+
+    public static void histogram(long[] keys, int[] histograms, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            TornadoAtomics.add(histograms, digit(keys[i], shift) * numBlocks + i / blockSize, 1);
+        }
+    }
+
+    public static void scatter(long[] keysIn, long[] keysOut, int[] offsets, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            long key = keysIn[i];
+            int d = digit(key, shift);
+            int block = i / blockSize;
+            int rank = 0;
+            for (int j = block * blockSize; j < i; j++) {
+                if (digit(keysIn[j], shift) == d) {
+                    rank++;
+                }
+            }
+            keysOut[offsets[d * numBlocks + block] + rank] = key;
+        }
+    }
+
+    public static void scatter(long[] keysIn, long[] keysOut, int[] valuesIn, int[] valuesOut, int[] offsets, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            long key = keysIn[i];
+            int d = digit(key, shift);
+            int block = i / blockSize;
+            int rank = 0;
+            for (int j = block * blockSize; j < i; j++) {
+                if (digit(keysIn[j], shift) == d) {
+                    rank++;
+                }
+            }
+            int position = offsets[d * numBlocks + block] + rank;
+            keysOut[position] = key;
+            valuesOut[position] = valuesIn[i];
+        }
+    }
+
+    public static void histogram(float[] keys, int[] histograms, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            TornadoAtomics.add(histograms, digit(keys[i], shift) * numBlocks + i / blockSize, 1);
+        }
+    }
+
+    public static void scatter(float[] keysIn, float[] keysOut, int[] offsets, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            float key = keysIn[i];
+            int d = digit(key, shift);
+            int block = i / blockSize;
+            int rank = 0;
+            for (int j = block * blockSize; j < i; j++) {
+                if (digit(keysIn[j], shift) == d) {
+                    rank++;
+                }
+            }
+            keysOut[offsets[d * numBlocks + block] + rank] = key;
+        }
+    }
+
+    public static void scatter(float[] keysIn, float[] keysOut, int[] valuesIn, int[] valuesOut, int[] offsets, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            float key = keysIn[i];
+            int d = digit(key, shift);
+            int block = i / blockSize;
+            int rank = 0;
+            for (int j = block * blockSize; j < i; j++) {
+                if (digit(keysIn[j], shift) == d) {
+                    rank++;
+                }
+            }
+            int position = offsets[d * numBlocks + block] + rank;
+            keysOut[position] = key;
+            valuesOut[position] = valuesIn[i];
+        }
+    }
+
+    public static void histogram(double[] keys, int[] histograms, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            TornadoAtomics.add(histograms, digit(keys[i], shift) * numBlocks + i / blockSize, 1);
+        }
+    }
+
+    public static void scatter(double[] keysIn, double[] keysOut, int[] offsets, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            double key = keysIn[i];
+            int d = digit(key, shift);
+            int block = i / blockSize;
+            int rank = 0;
+            for (int j = block * blockSize; j < i; j++) {
+                if (digit(keysIn[j], shift) == d) {
+                    rank++;
+                }
+            }
+            keysOut[offsets[d * numBlocks + block] + rank] = key;
+        }
+    }
+
+    public static void scatter(double[] keysIn, double[] keysOut, int[] valuesIn, int[] valuesOut, int[] offsets, final int size, final int numBlocks, final int blockSize, final int shift) {
+        for (@Parallel int i = 0; i < size; i++) {
+            double key = keysIn[i];
+            int d = digit(key, shift);
+            int block = i / blockSize;
+            int rank = 0;
+            for (int j = block * blockSize; j < i; j++) {
+                if (digit(keysIn[j], shift) == d) {
+                    rank++;
+                }
+            }
+            int position = offsets[d * numBlocks + block] + rank;
+            keysOut[position] = key;
+            valuesOut[position] = valuesIn[i];
+        }
+    }
+}
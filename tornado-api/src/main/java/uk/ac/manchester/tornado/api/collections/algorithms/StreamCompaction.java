@@ -0,0 +1,184 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.collections.algorithms;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task2;
+
+/**
+ * Stream compaction (filter) over int and float arrays.
+ * <p>
+ * The predicate is a Tornado task that receives the input and a flags array,
+ * and sets {@code flags[i]} to 1 for every element to keep and to 0 otherwise,
+ * e.g.:
+ *
+ * <pre>
+ * new StreamCompaction(input, output, (in, flags) -> {
+ *     for (&#64;Parallel int i = 0; i < in.length; i++) {
+ *         flags[i] = (in[i] > threshold) ? 1 : 0;
+ *     }
+ * });
+ * </pre>
+ *
+ * The flags are scanned with {@link PrefixSum} to obtain the output position of
+ * every kept element, and the kept elements are scattered densely, in their
+ * original order, into the output array. The output array stays on the device:
+ * only the number of kept elements and the compacted prefix of the output are
+ * copied back to the host.
+ * </p>
+ */
+public class StreamCompaction {
+
+    private static final AtomicInteger SCHEDULE_ID = new AtomicInteger(0);
+
+    private final Object output;
+    private final int elementSize;
+    private final int[] count;
+    private final TaskSchedule schedule;
+
+    public StreamCompaction(int[] input, int[] output, Task2<int[], int[]> predicate) {
+        this(input, output, predicate, PrefixSum.DEFAULT_BLOCK_SIZE);
+    }
+
+    public StreamCompaction(int[] input, int[] output, Task2<int[], int[]> predicate, int blockSize) {
+        checkArguments(input.length, output.length);
+        this.output = output;
+        this.elementSize = Integer.BYTES;
+        this.count = new int[1];
+
+        final int size = input.length;
+        int[] flags = new int[size];
+        int[] positions = new int[size];
+        schedule = new TaskSchedule("compaction" + SCHEDULE_ID.getAndIncrement());
+        schedule.streamIn(input);
+        schedule.task("predicate", predicate, input, flags);
+        PrefixSum.addScanTasks(schedule, "", flags, positions, false, blockSize);
+        schedule.task("scatter", StreamCompaction::scatter, input, flags, positions, output, size);
+        schedule.task("count", StreamCompaction::count, flags, positions, count, size);
+        schedule.streamOut(count);
+    }
+
+    public StreamCompaction(float[] input, float[] output, Task2<float[], int[]> predicate) {
+        this(input, output, predicate, PrefixSum.DEFAULT_BLOCK_SIZE);
+    }
+
+    public StreamCompaction(float[] input, float[] output, Task2<float[], int[]> predicate, int blockSize) {
+        checkArguments(input.length, output.length);
+        this.output = output;
+        this.elementSize = Float.BYTES;
+        this.count = new int[1];
+
+        final int size = input.length;
+        int[] flags = new int[size];
+        int[] positions = new int[size];
+        schedule = new TaskSchedule("compaction" + SCHEDULE_ID.getAndIncrement());
+        schedule.streamIn(input);
+        schedule.task("predicate", predicate, input, flags);
+        PrefixSum.addScanTasks(schedule, "", flags, positions, false, blockSize);
+        schedule.task("scatter", StreamCompaction::scatter, input, flags, positions, output, size);
+        schedule.task("count", StreamCompaction::count, flags, positions, count, size);
+        schedule.streamOut(count);
+    }
+
+    /**
+     * Filters the current contents of the input array. It can be invoked
+     * repeatedly; the input is copied to the device on every invocation.
+     *
+     * @return the number of elements kept, which are stored at the beginning of
+     *         the output array.
+     */
+    public int execute() {
+        schedule.execute();
+        final int kept = count[0];
+        if (kept > 0) {
+            schedule.syncObject(output, 0, (long) kept * elementSize);
+        }
+        return kept;
+    }
+
+    public TaskSchedule getTaskSchedule() {
+        return schedule;
+    }
+
+    public static int filter(int[] input, int[] output, Task2<int[], int[]> predicate) {
+        return new StreamCompaction(input, output, predicate).execute();
+    }
+
+    public static int filter(float[] input, float[] output, Task2<float[], int[]> predicate) {
+        return new StreamCompaction(input, output, predicate).execute();
+    }
+
+    private static void checkArguments(int inputLength, int outputLength) {
+        if (inputLength == 0) {
+            throw new IllegalArgumentException("Input array is empty");
+        }
+        if (outputLength < inputLength) {
+            throw new IllegalArgumentException("Output array is smaller than the input array: " + outputLength + " < " + inputLength);
+        }
+    }
+
+    /*
+     * Kernels
+     */
+    public static void scatter(int[] input, int[] flags, int[] positions, int[] output, final int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            if (flags[i] == 1) {
+                output[positions[i]] = input[i];
+            }
+        }
+    }
+
+    public static void scatter(float[] input, int[] flags, int[] positions, float[] output, final int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            if (flags[i] == 1) {
+                output[positions[i]] = input[i];
+            }
+        }
+    }
+
+    public static void count(int[] flags, int[] positions, int[] count, final int size) {
+        count[0] = positions[size - 1] + flags[size - 1];
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.collections.math;
+
+/**
+ * Counter-based random number generator that can be used inside tasks.
+ * <p>
+ * The generator is Philox-4x32-10 (Salmon et al., "Parallel Random Numbers:
+ * As Easy as 1, 2, 3", SC'11). It has no state: every call maps a seed (the
+ * key) and a counter to four independent 32-bit words, selected with
+ * {@code lane}. A kernel usually passes its thread index, or a combination of
+ * the thread index and an iteration, as the counter, so no random numbers need
+ * to be generated on the host and copied to the device.
+ * </p>
+ * <p>
+ * Only integer arithmetic is used to compute the words, so {@link #nextInt}
+ * and {@link #nextFloat} return bit-identical values in Java and on the
+ * devices. {@link #nextGaussian} also uses {@link TornadoMath#log},
+ * {@link TornadoMath#sqrt}, {@link TornadoMath#floatCos} and
+ * {@link TornadoMath#floatSin}, so its values agree within the accuracy of
+ * those functions on the device.
+ * </p>
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * for (&#64;Parallel int i = 0; i &lt; size; i++) {
+ *     float sum = 0.0f;
+ *     for (int j = 0; j &lt; iterations; j++) {
+ *         long counter = (long) i * iterations + j;
+ *         float x = TornadoRandom.nextFloat(seed, counter, 0);
+ *         float y = TornadoRandom.nextFloat(seed, counter, 1);
+ *         if (x * x + y * y &lt;= 1.0f) {
+ *             sum += 1.0f;
+ *         }
+ *     }
+ *     result[i] = 4.0f * sum / iterations;
+ * }
+ * </pre>
+ * </p>
+ */
+public final class TornadoRandom {
+
+    /**
+     * Number of 32-bit words generated for each counter.
+     */
+    public static final int LANES = 4;
+
+    private static final int ROUNDS = 10;
+
+    private static final long MULTIPLIER_0 = 0xD2511F53L;
+    private static final long MULTIPLIER_1 = 0xCD9E8D57L;
+    private static final int WEYL_0 = 0x9E3779B9;
+    private static final int WEYL_1 = 0xBB67AE85;
+
+    private static final float INT_TO_FLOAT = 1.0f / (1 << 24);
+    private static final float TWO_PI = 6.2831855f;
+
+    private TornadoRandom() {
+    }
+
+    /**
+     * Philox-4x32-10 block function.
+     *
+     * @return the word {@code lane} (0 to 3) of the block for the 128-bit
+     *         counter {@code (c0, c1, c2, c3)} and the 64-bit key
+     *         {@code (k0, k1)}.
+     */
+    public static int philox(int c0, int c1, int c2, int c3, int k0, int k1, int lane) {
+        for (int round = 0; round < ROUNDS; round++) {
+            if (round > 0) {
+                k0 += WEYL_0;
+                k1 += WEYL_1;
+            }
+            final long product0 = MULTIPLIER_0 * (c0 & 0xFFFFFFFFL);
+            final long product1 = MULTIPLIER_1 * (c2 & 0xFFFFFFFFL);
+            final int x0 = ((int) (product1 >>> 32)) ^ c1 ^ k0;
+            final int x1 = (int) product1;
+            final int x2 = ((int) (product0 >>> 32)) ^ c3 ^ k1;
+            final int x3 = (int) product0;
+            c0 = x0;
+            c1 = x1;
+            c2 = x2;
+            c3 = x3;
+        }
+        if (lane == 0) {
+            return c0;
+        } else if (lane == 1) {
+            return c1;
+        } else if (lane == 2) {
+            return c2;
+        }
+        return c3;
+    }
+
+    /**
+     * Returns 32 random bits: the word {@code lane} (0 to 3) of the block for
+     * {@code counter} and {@code seed}.
+     */
+    public static int nextInt(long seed, long counter, int lane) {
+        return philox((int) counter, (int) (counter >>> 32), 0, 0, (int) seed, (int) (seed >>> 32), lane);
+    }
+
+    /**
+     * Returns a uniformly distributed float in {@code [0, 1)}, built from the
+     * 24 upper bits of {@link #nextInt}.
+     */
+    public static float nextFloat(long seed, long counter, int lane) {
+        return (nextInt(seed, counter, lane) >>> 8) * INT_TO_FLOAT;
+    }
+
+    /**
+     * Returns a normally distributed float with mean 0 and standard deviation 1,
+     * computed with the Box-Muller transform. The lanes 0 and 1 use the first
+     * two words of the block and the lanes 2 and 3 the last two, so the four
+     * lanes give four independent values for each counter.
+     */
+    public static float nextGaussian(long seed, long counter, int lane) {
+        final int first = lane & 2;
+        // (0, 1] avoids log(0)
+        final float u = ((nextInt(seed, counter, first) >>> 8) + 1) * INT_TO_FLOAT;
+        final float v = nextFloat(seed, counter, first + 1);
+        final float radius = TornadoMath.sqrt(-2.0f * TornadoMath.log(u));
+        if ((lane & 1) == 0) {
+            return radius * TornadoMath.floatCos(TWO_PI * v);
+        }
+        return radius * TornadoMath.floatSin(TWO_PI * v);
+    }
+}
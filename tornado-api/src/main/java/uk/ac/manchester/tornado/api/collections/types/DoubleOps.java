@@ -55,6 +55,7 @@ public class DoubleOps {
     public static final String fmt4em = "%.3e,%.3e,%.3e,%.3e";
     public static final String fmt6 = "{%.3f,%.3f,%.3f,%.3f,%.3f,%.3f}";
     public static final String fmt8 = "{%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f}";
+    public static final String fmt16 = "{%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f}";
     public static final String fmt6e = "{%e,%e,%e,%e,%e,%e}";
 
     public static boolean compareBits(double a, double b) {
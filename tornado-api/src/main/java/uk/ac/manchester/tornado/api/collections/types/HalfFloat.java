@@ -0,0 +1,138 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.collections.types;
+
+/**
+ * Half-precision (IEEE 754 binary16) floats stored in a {@code short[]}.
+ * <p>
+ * Half floats are a storage format: they halve the memory traffic of
+ * bandwidth-bound kernels, while the arithmetic is done in float. Inside a
+ * task, {@link #load} and {@link #store} are compiled to the device half
+ * conversions ({@code vload_half}/{@code vstore_half} in OpenCL,
+ * {@code cvt.f32.f16}/{@code cvt.rn.f16.f32} in PTX). The Java
+ * implementations round to the nearest even value, as the devices do.
+ * </p>
+ */
+public final class HalfFloat {
+
+    public static final String fmt = "%.4f";
+
+    private static final int FLOAT_INFINITY = 0x7F800000;
+    private static final int HALF_OVERFLOW = (127 + 16) << 23;
+    private static final int HALF_MIN_NORMAL = (127 - 14) << 23;
+    private static final float DENORMAL_MAGIC = 0.5f;
+    private static final float HALF_MIN_SUBNORMAL = 1.0f / (1 << 24);
+
+    private HalfFloat() {
+    }
+
+    /**
+     * Converts the half float {@code bits} to a float. The conversion is exact.
+     */
+    public static float toFloat(short bits) {
+        final int half = bits & 0xFFFF;
+        final int sign = (half & 0x8000) << 16;
+        final int exponent = (half >>> 10) & 0x1F;
+        final int mantissa = half & 0x3FF;
+        if (exponent == 0x1F) {
+            return Float.intBitsToFloat(sign | FLOAT_INFINITY | (mantissa << 13));
+        } else if (exponent == 0) {
+            final float value = mantissa * HALF_MIN_SUBNORMAL;
+            return sign == 0 ? value : -value;
+        }
+        return Float.intBitsToFloat(sign | ((exponent + 127 - 15) << 23) | (mantissa << 13));
+    }
+
+    /**
+     * Converts {@code value} to a half float, rounding to the nearest even
+     * value. Values too large for a half float become infinities and NaNs
+     * become a quiet half NaN with the same sign.
+     */
+    public static short fromFloat(float value) {
+        final int bits = Float.floatToRawIntBits(value);
+        final int sign = (bits >>> 16) & 0x8000;
+        int abs = bits & 0x7FFFFFFF;
+        int half;
+        if (abs >= HALF_OVERFLOW) {
+            half = abs > FLOAT_INFINITY ? 0x7E00 : 0x7C00;
+        } else if (abs < HALF_MIN_NORMAL) {
+            // The float addition rounds the subnormal mantissa to nearest even
+            half = Float.floatToRawIntBits(Float.intBitsToFloat(abs) + DENORMAL_MAGIC) - Float.floatToRawIntBits(DENORMAL_MAGIC);
+        } else {
+            final int mantissaOdd = (abs >>> 13) & 1;
+            abs += ((15 - 127) << 23) + 0xFFF;
+            abs += mantissaOdd;
+            half = abs >>> 13;
+        }
+        return (short) (sign | half);
+    }
+
+    /**
+     * Returns the half float at {@code index} of {@code array} as a float.
+     */
+    public static float load(short[] array, int index) {
+        return toFloat(array[index]);
+    }
+
+    /**
+     * Stores {@code value} at {@code index} of {@code array} as a half float.
+     */
+    public static void store(short[] array, int index, float value) {
+        array[index] = fromFloat(value);
+    }
+
+    public static short[] fromFloatArray(float[] values) {
+        final short[] result = new short[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = fromFloat(values[i]);
+        }
+        return result;
+    }
+
+    public static float[] toFloatArray(short[] values) {
+        final float[] result = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = toFloat(values[i]);
+        }
+        return result;
+    }
+}
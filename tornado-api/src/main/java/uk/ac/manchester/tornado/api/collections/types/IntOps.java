@@ -50,6 +50,7 @@ public class IntOps {
     public static final String fmt4 = "{%d,%d,%d,%d}";
     public static final String fmt6 = "{%d,%d,%d,%d,%d,%d}";
     public static final String fmt8 = "{%d,%d,%d,%d,%d,%d,%d,%d}";
+    public static final String fmt16 = "{%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d}";
 
     public static boolean compare(float a, float b) {
         return (a == b);
@@ -0,0 +1,100 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.collections.types;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Base class for primitive arrays whose elements live outside the Java heap,
+ * in a direct {@link ByteBuffer} using the native byte order. The memory is
+ * never moved by the garbage collector, so the drivers copy it to and from
+ * the device straight from its native address, without pinning or copying a
+ * Java array through JNI.
+ *
+ * On the device, an off-heap array is laid out as a regular Java array of the
+ * same element type, and {@code get}/{@code set} are compiled as plain array
+ * accesses.
+ */
+public abstract class OffHeapArray {
+
+    protected final int numElements;
+    protected final int elementSize;
+    protected final ByteBuffer segment;
+
+    protected OffHeapArray(int numElements, int elementSize) {
+        this.numElements = numElements;
+        this.elementSize = elementSize;
+        this.segment = ByteBuffer.allocateDirect(numElements * elementSize).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns the direct buffer that holds the elements of this array.
+     *
+     * @return direct {@link ByteBuffer}
+     */
+    public ByteBuffer getSegment() {
+        return segment;
+    }
+
+    /**
+     * Returns the size, in bytes, of a single element.
+     *
+     * @return element size
+     */
+    public int getElementSize() {
+        return elementSize;
+    }
+
+    /**
+     * Returns the total number of bytes used by the elements of this array.
+     *
+     * @return number of bytes
+     */
+    public long getNumBytes() {
+        return (long) numElements * elementSize;
+    }
+
+    public int size() {
+        return numElements;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.collections.types;
+
+import java.nio.IntBuffer;
+
+/**
+ * Off-heap array of {@code int} values backed by a direct buffer.
+ */
+public class OffHeapIntArray extends OffHeapArray {
+
+    private final IntBuffer view;
+
+    /**
+     * Creates an off-heap array of ints, initialised to zero.
+     *
+     * @param numElements
+     *            Number of elements
+     */
+    public OffHeapIntArray(int numElements) {
+        super(numElements, Integer.BYTES);
+        this.view = segment.asIntBuffer();
+    }
+
+    /**
+     * Creates an off-heap array with a copy of the given values.
+     *
+     * @param values
+     *            Values to be copied
+     * @return a new {@link OffHeapIntArray}
+     */
+    public static OffHeapIntArray fromArray(int[] values) {
+        OffHeapIntArray array = new OffHeapIntArray(values.length);
+        array.view.put(values);
+        array.view.rewind();
+        return array;
+    }
+
+    /**
+     * Returns the int at the given index of this array
+     *
+     * @param index
+     *            Position
+     * @return value
+     */
+    public int get(int index) {
+        return view.get(index);
+    }
+
+    /**
+     * Sets the int at the given index of this array
+     *
+     * @param index
+     *            Position
+     * @param value
+     *            Value to be stored
+     */
+    public void set(int index, int value) {
+        view.put(index, value);
+    }
+
+    /**
+     * Sets all elements to value
+     *
+     * @param value
+     *            Fill input array with value
+     */
+    public void fill(int value) {
+        for (int i = 0; i < numElements; i++) {
+            view.put(i, value);
+        }
+    }
+
+    /**
+     * Copies the elements of this array into a new on-heap Java array.
+     *
+     * @return int[]
+     */
+    public int[] toArray() {
+        int[] result = new int[numElements];
+        for (int i = 0; i < numElements; i++) {
+            result[i] = view.get(i);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OffHeapIntArray <%d>", numElements);
+    }
+}
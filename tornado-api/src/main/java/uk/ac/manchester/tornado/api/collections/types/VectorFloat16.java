@@ -0,0 +1,227 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.collections.types;
+
+import static java.lang.String.format;
+import static java.nio.FloatBuffer.wrap;
+import static uk.ac.manchester.tornado.api.collections.types.Float16.add;
+import static uk.ac.manchester.tornado.api.collections.types.Float16.loadFromArray;
+import static uk.ac.manchester.tornado.api.collections.types.FloatOps.fmt4;
+
+import java.nio.FloatBuffer;
+
+public class VectorFloat16 implements PrimitiveStorage<FloatBuffer> {
+
+    /**
+     * backing array
+     */
+    final protected float[] storage;
+
+    /**
+     * number of elements in the storage
+     */
+    final private int numElements;
+    final private static int elementSize = 16;
+
+    /**
+     * Creates a vector using the provided backing array
+     *
+     * @param numElements
+     * @param array
+     */
+    protected VectorFloat16(int numElements, float[] array) {
+        this.numElements = numElements;
+        this.storage = array;
+    }
+
+    /**
+     * Creates a vector using the provided backing array
+     */
+    public VectorFloat16(float[] array) {
+        this(array.length / elementSize, array);
+    }
+
+    /**
+     * Creates an empty vector with
+     *
+     * @param numElements
+     */
+    public VectorFloat16(int numElements) {
+        this(numElements, new float[numElements * elementSize]);
+    }
+
+    private int toIndex(int index) {
+        return (index * elementSize);
+    }
+
+    /**
+     * Returns the float at the given index of this vector
+     *
+     * @param index
+     *
+     * @return value
+     */
+    public Float16 get(int index) {
+        return loadFromArray(storage, toIndex(index));
+    }
+
+    /**
+     * Sets the float at the given index of this vector
+     *
+     * @param index
+     * @param value
+     */
+    public void set(int index, Float16 value) {
+        value.storeToArray(storage, toIndex(index));
+    }
+
+    /**
+     * Sets the elements of this vector to that of the provided vector
+     *
+     * @param values
+     */
+    public void set(VectorFloat16 values) {
+        for (int i = 0; i < numElements; i++) {
+            set(i, values.get(i));
+        }
+    }
+
+    /**
+     * Sets the elements of this vector to that of the provided array
+     *
+     * @param values
+     */
+    public void set(float[] values) {
+        VectorFloat16 vector = new VectorFloat16(values);
+        for (int i = 0; i < numElements; i++) {
+            set(i, vector.get(i));
+        }
+    }
+
+    public void fill(float value) {
+        for (int i = 0; i < storage.length; i++) {
+            storage[i] = value;
+        }
+    }
+
+    /**
+     * Duplicates this vector
+     *
+     * @return
+     */
+    public VectorFloat16 duplicate() {
+        VectorFloat16 vector = new VectorFloat16(numElements);
+        vector.set(this);
+        return vector;
+    }
+
+    /**
+     * Prints the vector using the specified format string
+     *
+     * @param fmt
+     *
+     * @return
+     */
+    public String toString(String fmt) {
+        String str = "";
+        for (int i = 0; i < numElements; i++) {
+            str += get(i).toString() + " ";
+        }
+
+        return str;
+    }
+
+    public String toString() {
+        if (numElements > elementSize) {
+            return format("VectorFloat16 <%d>", numElements);
+        } else {
+            return toString(fmt4);
+        }
+    }
+
+    public Float16 sum() {
+        Float16 result = new Float16();
+        for (int i = 0; i < numElements; i++) {
+            result = add(result, get(i));
+        }
+        return result;
+    }
+
+    public Float16 min() {
+        Float16 result = new Float16();
+        for (int i = 0; i < numElements; i++) {
+            result = Float16.min(result, get(i));
+        }
+        return result;
+    }
+
+    public Float16 max() {
+        Float16 result = new Float16();
+        for (int i = 0; i < numElements; i++) {
+            result = Float16.max(result, get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public void loadFromBuffer(FloatBuffer buffer) {
+        asBuffer().put(buffer);
+    }
+
+    @Override
+    public FloatBuffer asBuffer() {
+        return wrap(storage);
+    }
+
+    @Override
+    public int size() {
+        return storage.length;
+    }
+
+    public int getLength() {
+        return numElements;
+    }
+
+    public float[] getArray() {
+        return storage;
+    }
+}
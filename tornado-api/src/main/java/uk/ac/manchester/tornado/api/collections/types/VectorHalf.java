@@ -0,0 +1,235 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.collections.types;
+
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+
+/**
+ * Vector of half-precision floats backed by a {@code short[]}. Values are read
+ * and written as floats and converted with {@link HalfFloat}.
+ */
+public class VectorHalf implements PrimitiveStorage<ShortBuffer> {
+
+    private final int numElements;
+    private final short[] storage;
+    private static final int elementSize = 1;
+
+    protected VectorHalf(int numElements, short[] array) {
+        this.numElements = numElements;
+        this.storage = array;
+    }
+
+    /**
+     * Creates an empty vector with
+     *
+     * @param numElements
+     *            Number of elements
+     */
+    public VectorHalf(int numElements) {
+        this(numElements, new short[numElements]);
+    }
+
+    /**
+     * Creates an new vector from the provided storage of half floats
+     *
+     * @param storage
+     *            Array to be stored
+     */
+    public VectorHalf(short[] storage) {
+        this(storage.length / elementSize, storage);
+    }
+
+    /**
+     * Creates a new vector with the values of the array converted to half
+     * floats
+     *
+     * @param values
+     *            Float values
+     */
+    public VectorHalf(float[] values) {
+        this(values.length, HalfFloat.fromFloatArray(values));
+    }
+
+    public short[] getArray() {
+        return storage;
+    }
+
+    /**
+     * Returns the value at the given index of this vector
+     *
+     * @param index
+     *            Position
+     * @return value
+     */
+    public float get(int index) {
+        return HalfFloat.load(storage, index);
+    }
+
+    /**
+     * Sets the value at the given index of this vector, rounded to half
+     * precision
+     *
+     * @param index
+     *            Position
+     * @param value
+     *            Float value to be stored
+     */
+    public void set(int index, float value) {
+        HalfFloat.store(storage, index, value);
+    }
+
+    /**
+     * Sets the elements of this vector to that of the provided vector
+     *
+     * @param values
+     *            VectorHalf
+     */
+    public void set(VectorHalf values) {
+        for (int i = 0; i < values.storage.length; i++) {
+            storage[i] = values.storage[i];
+        }
+    }
+
+    /**
+     * Sets the elements of this vector to that of the provided array
+     *
+     * @param values
+     *            Float values, rounded to half precision
+     */
+    public void set(float[] values) {
+        for (int i = 0; i < values.length; i++) {
+            storage[i] = HalfFloat.fromFloat(values[i]);
+        }
+    }
+
+    /**
+     * Sets all elements to value
+     *
+     * @param value
+     *            Fill input array with value
+     */
+    public void fill(float value) {
+        Arrays.fill(storage, HalfFloat.fromFloat(value));
+    }
+
+    /**
+     * Returns slice of this vector
+     *
+     * @param start
+     *            starting index
+     * @param length
+     *            number of elements
+     * @return a new Vector Half
+     */
+    public VectorHalf subVector(int start, int length) {
+        return new VectorHalf(Arrays.copyOfRange(storage, start, start + length));
+    }
+
+    /**
+     * Duplicates this vector
+     *
+     * @return a new Vector Half
+     */
+    public VectorHalf duplicate() {
+        return new VectorHalf(Arrays.copyOf(storage, storage.length));
+    }
+
+    /**
+     * Returns the values of this vector as floats
+     *
+     * @return a new float array
+     */
+    public float[] toFloatArray() {
+        return HalfFloat.toFloatArray(storage);
+    }
+
+    /**
+     * Vector equality test
+     *
+     * @param vector
+     *            input vector
+     * @return true if vectors match
+     */
+    public boolean isEqual(VectorHalf vector) {
+        return Arrays.equals(storage, vector.storage);
+    }
+
+    /**
+     * Prints the vector using the specified format string
+     *
+     * @param fmt
+     *            String Format
+     * @return String
+     */
+    public String toString(String fmt) {
+        StringBuilder sb = new StringBuilder("[ ");
+        for (int i = 0; i < numElements; i++) {
+            sb.append(String.format(fmt, get(i)) + " ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    public String toString() {
+        String str = String.format("VectorHalf <%d>", numElements);
+        if (numElements < 32) {
+            str += toString(HalfFloat.fmt);
+        }
+        return str;
+    }
+
+    @Override
+    public void loadFromBuffer(ShortBuffer buffer) {
+        asBuffer().put(buffer);
+    }
+
+    @Override
+    public ShortBuffer asBuffer() {
+        return ShortBuffer.wrap(storage);
+    }
+
+    @Override
+    public int size() {
+        return numElements;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.common;
+
+/**
+ * User-declared combiner of a reduction, selected with
+ * {@code @Reduce(combiner = ...)}.
+ * <p>
+ * A partial result occupies {@link #getWidth()} consecutive elements of the
+ * reduce array, so a combiner can carry more than one value, e.g. a value and
+ * its index for an argmax. In the loop, every iteration sees the reduce array
+ * initialised with the identity and applies its own element to it; the
+ * runtime then folds the partial results of all the iterations, in iteration
+ * order, with {@link #combine}. The combiner must therefore be associative,
+ * and {@link #identity} must be its neutral element; it does not need to be
+ * commutative.
+ * </p>
+ * <p>
+ * Implementations need a public constructor without arguments. The arrays are
+ * passed as {@code Object} so that a combiner can be written for any of the
+ * primitive array types.
+ * </p>
+ */
+public interface ReduceCombiner {
+
+    /**
+     * Number of array elements that hold one partial result.
+     */
+    int getWidth();
+
+    /**
+     * Writes the identity to {@code array[offset]} ..
+     * {@code array[offset + getWidth() - 1]}.
+     */
+    void identity(Object array, int offset);
+
+    /**
+     * Combines the partial result at {@code other[otherOffset]} into the one at
+     * {@code array[offset]}. The result at {@code array} comes first in
+     * iteration order.
+     */
+    void combine(Object array, int offset, Object other, int otherOffset);
+}
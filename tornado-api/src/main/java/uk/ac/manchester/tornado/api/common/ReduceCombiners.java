@@ -0,0 +1,268 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework: 
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2013-2020, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * GNU Classpath is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2, or (at your option)
+ * any later version.
+ * 
+ * GNU Classpath is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with GNU Classpath; see the file COPYING.  If not, write to the
+ * Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ *
+ * Linking this library statically or dynamically with other modules is
+ * making a combined work based on this library.  Thus, the terms and
+ * conditions of the GNU General Public License cover the whole
+ * combination.
+ * 
+ * As a special exception, the copyright holders of this library give you
+ * permission to link this library with independent modules to produce an
+ * executable, regardless of the license terms of these independent
+ * modules, and to copy and distribute the resulting executable under
+ * terms of your choice, provided that you also meet, for each linked
+ * independent module, the terms and conditions of the license of that
+ * module.  An independent module is a module which is not derived from
+ * or based on this library.  If you modify this library, you may extend
+ * this exception to your version of the library, but you are not
+ * obligated to do so.  If you do not wish to do so, delete this
+ * exception statement from your version.
+ *
+ */
+package uk.ac.manchester.tornado.api.common;
+
+/**
+ * Predefined {@link ReduceCombiner}s.
+ * <p>
+ * The argmax and argmin combiners have a width of two: element 0 holds the
+ * value and element 1 its index, stored in the element type of the array (so
+ * float indices are exact up to 2^24). The identity has the index -1. When
+ * several elements have the same value, the first one is kept. For example:
+ *
+ * <pre>
+ * public static void argMax(float[] input, &#64;Reduce(combiner = ReduceCombiners.ArgMaxFloat.class) float[] result) {
+ *     for (&#64;Parallel int i = 0; i &lt; input.length; i++) {
+ *         if (result[1] &lt; 0 || input[i] &gt; result[0]) {
+ *             result[0] = input[i];
+ *             result[1] = i;
+ *         }
+ *     }
+ * }
+ * </pre>
+ * </p>
+ */
+public final class ReduceCombiners {
+
+    private ReduceCombiners() {
+    }
+
+    public static final class ArgMaxInt implements ReduceCombiner {
+
+        @Override
+        public int getWidth() {
+            return 2;
+        }
+
+        @Override
+        public void identity(Object array, int offset) {
+            int[] a = (int[]) array;
+            a[offset] = Integer.MIN_VALUE;
+            a[offset + 1] = -1;
+        }
+
+        @Override
+        public void combine(Object array, int offset, Object other, int otherOffset) {
+            int[] a = (int[]) array;
+            int[] b = (int[]) other;
+            if (b[otherOffset + 1] >= 0 && (a[offset + 1] < 0 || b[otherOffset] > a[offset])) {
+                a[offset] = b[otherOffset];
+                a[offset + 1] = b[otherOffset + 1];
+            }
+        }
+    }
+
+    public static final class ArgMinInt implements ReduceCombiner {
+
+        @Override
+        public int getWidth() {
+            return 2;
+        }
+
+        @Override
+        public void identity(Object array, int offset) {
+            int[] a = (int[]) array;
+            a[offset] = Integer.MAX_VALUE;
+            a[offset + 1] = -1;
+        }
+
+        @Override
+        public void combine(Object array, int offset, Object other, int otherOffset) {
+            int[] a = (int[]) array;
+            int[] b = (int[]) other;
+            if (b[otherOffset + 1] >= 0 && (a[offset + 1] < 0 || b[otherOffset] < a[offset])) {
+                a[offset] = b[otherOffset];
+                a[offset + 1] = b[otherOffset + 1];
+            }
+        }
+    }
+
+    public static final class ArgMaxLong implements ReduceCombiner {
+
+        @Override
+        public int getWidth() {
+            return 2;
+        }
+
+        @Override
+        public void identity(Object array, int offset) {
+            long[] a = (long[]) array;
+            a[offset] = Long.MIN_VALUE;
+            a[offset + 1] = -1;
+        }
+
+        @Override
+        public void combine(Object array, int offset, Object other, int otherOffset) {
+            long[] a = (long[]) array;
+            long[] b = (long[]) other;
+            if (b[otherOffset + 1] >= 0 && (a[offset + 1] < 0 || b[otherOffset] > a[offset])) {
+                a[offset] = b[otherOffset];
+                a[offset + 1] = b[otherOffset + 1];
+            }
+        }
+    }
+
+    public static final class ArgMinLong implements ReduceCombiner {
+
+        @Override
+        public int getWidth() {
+            return 2;
+        }
+
+        @Override
+        public void identity(Object array, int offset) {
+            long[] a = (long[]) array;
+            a[offset] = Long.MAX_VALUE;
+            a[offset + 1] = -1;
+        }
+
+        @Override
+        public void combine(Object array, int offset, Object other, int otherOffset) {
+            long[] a = (long[]) array;
+            long[] b = (long[]) other;
+            if (b[otherOffset + 1] >= 0 && (a[offset + 1] < 0 || b[otherOffset] < a[offset])) {
+                a[offset] = b[otherOffset];
+                a[offset + 1] = b[otherOffset + 1];
+            }
+        }
+    }
+
+    public static final class ArgMaxFloat implements ReduceCombiner {
+
+        @Override
+        public int getWidth() {
+            return 2;
+        }
+
+        @Override
+        public void identity(Object array, int offset) {
+            float[] a = (float[]) array;
+            a[offset] = Float.NEGATIVE_INFINITY;
+            a[offset + 1] = -1;
+        }
+
+        @Override
+        public void combine(Object array, int offset, Object other, int otherOffset) {
+            float[] a = (float[]) array;
+            float[] b = (float[]) other;
+            if (b[otherOffset + 1] >= 0 && (a[offset + 1] < 0 || b[otherOffset] > a[offset])) {
+                a[offset] = b[otherOffset];
+                a[offset + 1] = b[otherOffset + 1];
+            }
+        }
+    }
+
+    public static final class ArgMinFloat implements ReduceCombiner {
+
+        @Override
+        public int getWidth() {
+            return 2;
+        }
+
+        @Override
+        public void identity(Object array, int offset) {
+            float[] a = (float[]) array;
+            a[offset] = Float.POSITIVE_INFINITY;
+            a[offset + 1] = -1;
+        }
+
+        @Override
+        public void combine(Object array, int offset, Object other, int otherOffset) {
+            float[] a = (float[]) array;
+            float[] b = (float[]) other;
+            if (b[otherOffset + 1] >= 0 && (a[offset + 1] < 0 || b[otherOffset] < a[offset])) {
+                a[offset] = b[otherOffset];
+                a[offset + 1] = b[otherOffset + 1];
+            }
+        }
+    }
+
+    public static final class ArgMaxDouble implements ReduceCombiner {
+
+        @Override
+        public int getWidth() {
+            return 2;
+        }
+
+        @Override
+        public void identity(Object array, int offset) {
+            double[] a = (double[]) array;
+            a[offset] = Double.NEGATIVE_INFINITY;
+            a[offset + 1] = -1;
+        }
+
+        @Override
+        public void combine(Object array, int offset, Object other, int otherOffset) {
+            double[] a = (double[]) array;
+            double[] b = (double[]) other;
+            if (b[otherOffset + 1] >= 0 && (a[offset + 1] < 0 || b[otherOffset] > a[offset])) {
+                a[offset] = b[otherOffset];
+                a[offset + 1] = b[otherOffset + 1];
+            }
+        }
+    }
+
+    public static final class ArgMinDouble implements ReduceCombiner {
+
+        @Override
+        public int getWidth() {
+            return 2;
+        }
+
+        @Override
+        public void identity(Object array, int offset) {
+            double[] a = (double[]) array;
+            a[offset] = Double.POSITIVE_INFINITY;
+            a[offset + 1] = -1;
+        }
+
+        @Override
+        public void combine(Object array, int offset, Object other, int otherOffset) {
+            double[] a = (double[]) array;
+            double[] b = (double[]) other;
+            if (b[otherOffset + 1] >= 0 && (a[offset + 1] < 0 || b[otherOffset] < a[offset])) {
+                a[offset] = b[otherOffset];
+                a[offset + 1] = b[otherOffset + 1];
+            }
+        }
+    }
+}
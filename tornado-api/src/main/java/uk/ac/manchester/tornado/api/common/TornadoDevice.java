@@ -144,6 +144,26 @@ public interface TornadoDevice {
      */
     int streamOutBlocking(Object object, long hostOffset, TornadoDeviceObjectState objectState, int[] events);
 
+    /**
+     * It copies a range of a device buffer from the target device to the host.
+     * Copies are blocking between the device and the host.
+     *
+     * @param object
+     *            to be copied.
+     * @param hostOffset
+     *            offset in bytes for the copy, both within the device buffer and
+     *            the host array
+     * @param partialCopySize
+     *            number of bytes to copy
+     * @param objectState
+     *            state of the object in the target device
+     *            {@link TornadoDeviceObjectState}
+     * @param events
+     *            of pending events
+     * @return and event ID
+     */
+    int streamOutBlocking(Object object, long hostOffset, long partialCopySize, TornadoDeviceObjectState objectState, int[] events);
+
     /**
      * It resolves an pending event.
      *
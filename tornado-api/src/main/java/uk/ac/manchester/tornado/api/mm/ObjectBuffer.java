@@ -60,6 +60,13 @@ public interface ObjectBuffer {
 
     int read(Object reference, long hostOffset, int[] events, boolean useDeps);
 
+    /**
+     * Reads back only part of the buffer. The same byte offset is used for the
+     * device buffer and the host object. A partialReadSize smaller than or equal
+     * to 0 reads the whole buffer.
+     */
+    int read(Object reference, long hostOffset, long partialReadSize, int[] events, boolean useDeps);
+
     void write(Object reference);
 
     int enqueueRead(Object reference, long hostOffset, int[] events, boolean useDeps);
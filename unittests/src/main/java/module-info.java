@@ -15,6 +15,7 @@ open module tornado.unittests {
     exports uk.ac.manchester.tornado.unittests.fields;
     exports uk.ac.manchester.tornado.unittests.flatmap;
     exports uk.ac.manchester.tornado.unittests.functional;
+    exports uk.ac.manchester.tornado.unittests.histogram;
     exports uk.ac.manchester.tornado.unittests.images;
     exports uk.ac.manchester.tornado.unittests.instances;
     exports uk.ac.manchester.tornado.unittests.lambdas;
@@ -25,7 +26,9 @@ open module tornado.unittests {
     exports uk.ac.manchester.tornado.unittests.prebuilt;
     exports uk.ac.manchester.tornado.unittests.profiler;
     exports uk.ac.manchester.tornado.unittests.reductions;
+    exports uk.ac.manchester.tornado.unittests.scan;
     exports uk.ac.manchester.tornado.unittests.slam.graphics;
+    exports uk.ac.manchester.tornado.unittests.sort;
     exports uk.ac.manchester.tornado.unittests.tasks;
     exports uk.ac.manchester.tornado.unittests.tools;
     exports uk.ac.manchester.tornado.unittests.vectortypes;
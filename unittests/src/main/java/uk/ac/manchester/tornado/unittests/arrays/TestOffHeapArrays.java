@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+
+package uk.ac.manchester.tornado.unittests.arrays;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapDoubleArray;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapFloatArray;
+import uk.ac.manchester.tornado.api.collections.types.OffHeapIntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+public class TestOffHeapArrays extends TornadoTestBase {
+
+    public static void vectorAddFloat(OffHeapFloatArray a, OffHeapFloatArray b, OffHeapFloatArray c) {
+        for (@Parallel int i = 0; i < c.size(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    public static void vectorAddInteger(OffHeapIntArray a, OffHeapIntArray b, OffHeapIntArray c) {
+        for (@Parallel int i = 0; i < c.size(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    public static void saxpy(float alpha, OffHeapDoubleArray x, OffHeapDoubleArray y) {
+        for (@Parallel int i = 0; i < y.size(); i++) {
+            y.set(i, alpha * x.get(i) + y.get(i));
+        }
+    }
+
+    @Test
+    public void testVectorAdditionFloat() {
+        final int numElements = 4096;
+        OffHeapFloatArray a = new OffHeapFloatArray(numElements);
+        OffHeapFloatArray b = new OffHeapFloatArray(numElements);
+        OffHeapFloatArray c = new OffHeapFloatArray(numElements);
+
+        Random r = new Random();
+        for (int i = 0; i < numElements; i++) {
+            a.set(i, r.nextFloat());
+            b.set(i, r.nextFloat());
+        }
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .streamIn(a, b)
+            .task("t0", TestOffHeapArrays::vectorAddFloat, a, b, c)
+            .streamOut(c)
+            .execute();
+        //@formatter:on
+
+        for (int i = 0; i < numElements; i++) {
+            assertEquals(a.get(i) + b.get(i), c.get(i), 0.01f);
+        }
+    }
+
+    @Test
+    public void testVectorAdditionInteger() {
+        final int numElements = 4096;
+        int[] values = new int[numElements];
+        for (int i = 0; i < numElements; i++) {
+            values[i] = i;
+        }
+        OffHeapIntArray a = OffHeapIntArray.fromArray(values);
+        OffHeapIntArray b = OffHeapIntArray.fromArray(values);
+        OffHeapIntArray c = new OffHeapIntArray(numElements);
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .streamIn(a, b)
+            .task("t0", TestOffHeapArrays::vectorAddInteger, a, b, c)
+            .streamOut(c)
+            .execute();
+        //@formatter:on
+
+        for (int i = 0; i < numElements; i++) {
+            assertEquals(2 * i, c.get(i));
+        }
+    }
+
+    @Test
+    public void testSaxpyDouble() {
+        final int numElements = 4096;
+        final float alpha = 2f;
+        OffHeapDoubleArray x = new OffHeapDoubleArray(numElements);
+        OffHeapDoubleArray y = new OffHeapDoubleArray(numElements);
+        x.fill(3.0);
+        y.fill(1.0);
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .task("t0", TestOffHeapArrays::saxpy, alpha, x, y)
+            .streamOut(y)
+            .execute();
+        //@formatter:on
+
+        for (int i = 0; i < numElements; i++) {
+            assertEquals(7.0, y.get(i), 0.001);
+        }
+    }
+
+}
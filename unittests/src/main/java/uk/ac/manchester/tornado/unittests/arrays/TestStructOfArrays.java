@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+ */
+
+package uk.ac.manchester.tornado.unittests.arrays;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
+import uk.ac.manchester.tornado.unittests.common.PTXNotSupported;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+public class TestStructOfArrays extends TornadoTestBase {
+
+    public static class Particle {
+        float x;
+        float y;
+        float z;
+        float vx;
+        float vy;
+        float vz;
+    }
+
+    private void checkForPTX() {
+        if ("PTX".equals(TornadoRuntime.getTornadoRuntime().getDriver(TornadoRuntime.getTornadoRuntime().getDefaultDevice().getDriverIndex()).getName())) {
+            throw new PTXNotSupported("Arrays of objects are not supported for the PTX backend");
+        }
+    }
+
+    private static Particle[] createParticles(int numElements) {
+        Random r = new Random();
+        Particle[] particles = new Particle[numElements];
+        for (int i = 0; i < numElements; i++) {
+            particles[i] = new Particle();
+            particles[i].x = r.nextFloat();
+            particles[i].y = r.nextFloat();
+            particles[i].z = r.nextFloat();
+            particles[i].vx = r.nextFloat();
+            particles[i].vy = r.nextFloat();
+            particles[i].vz = r.nextFloat();
+        }
+        return particles;
+    }
+
+    public static void move(Particle[] particles) {
+        for (@Parallel int i = 0; i < particles.length; i++) {
+            particles[i].x += particles[i].vx;
+            particles[i].y += particles[i].vy;
+            particles[i].z += particles[i].vz;
+        }
+    }
+
+    public static void damp(Particle[] particles) {
+        for (@Parallel int i = 0; i < particles.length; i++) {
+            particles[i].vx *= 0.5f;
+            particles[i].vy *= 0.5f;
+            particles[i].vz *= 0.5f;
+        }
+    }
+
+    public static void kineticEnergy(Particle[] particles, float[] energy) {
+        for (@Parallel int i = 0; i < particles.length; i++) {
+            Particle p = particles[i];
+            energy[i] = 0.5f * (p.vx * p.vx + p.vy * p.vy + p.vz * p.vz);
+        }
+    }
+
+    @Test
+    public void testMoveParticles() {
+        checkForPTX();
+        final int numElements = 2048;
+        Particle[] particles = createParticles(numElements);
+        Particle[] expected = new Particle[numElements];
+        for (int i = 0; i < numElements; i++) {
+            expected[i] = new Particle();
+            expected[i].x = particles[i].x + particles[i].vx;
+            expected[i].y = particles[i].y + particles[i].vy;
+            expected[i].z = particles[i].z + particles[i].vz;
+            expected[i].vx = particles[i].vx;
+            expected[i].vy = particles[i].vy;
+            expected[i].vz = particles[i].vz;
+        }
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .streamIn(particles)
+            .task("t0", TestStructOfArrays::move, particles)
+            .streamOut(particles)
+            .execute();
+        //@formatter:on
+
+        for (int i = 0; i < numElements; i++) {
+            assertEquals(expected[i].x, particles[i].x, 0.001f);
+            assertEquals(expected[i].y, particles[i].y, 0.001f);
+            assertEquals(expected[i].z, particles[i].z, 0.001f);
+            assertEquals(expected[i].vx, particles[i].vx, 0.0f);
+            assertEquals(expected[i].vy, particles[i].vy, 0.0f);
+            assertEquals(expected[i].vz, particles[i].vz, 0.0f);
+        }
+    }
+
+    @Test
+    public void testReadOnlyParticles() {
+        checkForPTX();
+        final int numElements = 2048;
+        Particle[] particles = createParticles(numElements);
+        float[] energy = new float[numElements];
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .streamIn(particles)
+            .task("t0", TestStructOfArrays::kineticEnergy, particles, energy)
+            .streamOut(energy)
+            .execute();
+        //@formatter:on
+
+        for (int i = 0; i < numElements; i++) {
+            Particle p = particles[i];
+            assertEquals(0.5f * (p.vx * p.vx + p.vy * p.vy + p.vz * p.vz), energy[i], 0.001f);
+        }
+    }
+
+    /**
+     * Two tasks write different fields of the same array: the fields written by
+     * both of them are copied back.
+     */
+    @Test
+    public void testFieldsWrittenByTwoTasks() {
+        checkForPTX();
+        final int numElements = 2048;
+        Particle[] particles = createParticles(numElements);
+        Particle[] expected = createParticles(numElements);
+        for (int i = 0; i < numElements; i++) {
+            expected[i].x = particles[i].x;
+            expected[i].y = particles[i].y;
+            expected[i].z = particles[i].z;
+            expected[i].vx = particles[i].vx;
+            expected[i].vy = particles[i].vy;
+            expected[i].vz = particles[i].vz;
+        }
+
+        //@formatter:off
+        TaskSchedule s0 = new TaskSchedule("s0")
+            .streamIn(particles)
+            .task("t0", TestStructOfArrays::move, particles)
+            .task("t1", TestStructOfArrays::damp, particles)
+            .streamOut(particles);
+        //@formatter:on
+
+        for (int iteration = 0; iteration < 3; iteration++) {
+            s0.execute();
+            move(expected);
+            damp(expected);
+        }
+
+        for (int i = 0; i < numElements; i++) {
+            assertEquals(expected[i].x, particles[i].x, 0.001f);
+            assertEquals(expected[i].y, particles[i].y, 0.001f);
+            assertEquals(expected[i].z, particles[i].z, 0.001f);
+            assertEquals(expected[i].vx, particles[i].vx, 0.001f);
+            assertEquals(expected[i].vy, particles[i].vy, 0.001f);
+            assertEquals(expected[i].vz, particles[i].vz, 0.001f);
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package uk.ac.manchester.tornado.unittests.atomics;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -32,6 +33,7 @@ import uk.ac.manchester.tornado.api.TaskSchedule;
 import uk.ac.manchester.tornado.api.TornadoVM_Intrinsics;
 import uk.ac.manchester.tornado.api.annotations.Parallel;
 import uk.ac.manchester.tornado.api.atomics.TornadoAtomicInteger;
+import uk.ac.manchester.tornado.api.atomics.TornadoAtomics;
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
@@ -390,4 +392,170 @@ public class TestAtomics extends TornadoTestBase {
         assertTrue(!repeated);
     }
 
+    public static void atomicArrayAdd(int[] keys, int[] bins, long[] longBins, float[] floatBins) {
+        for (@Parallel int i = 0; i < keys.length; i++) {
+            TornadoAtomics.add(bins, keys[i], 1);
+            TornadoAtomics.add(longBins, keys[i], 1L << 32);
+            TornadoAtomics.add(floatBins, keys[i], 2.0f);
+        }
+    }
+
+    @Test
+    public void testAtomicArrayAdd() {
+        final int size = 8192;
+        final int numBins = 16;
+        int[] keys = new int[size];
+        int[] bins = new int[numBins];
+        long[] longBins = new long[numBins];
+        float[] floatBins = new float[numBins];
+        int[] expected = new int[numBins];
+
+        for (int i = 0; i < size; i++) {
+            keys[i] = (i * 7) % numBins;
+            expected[keys[i]]++;
+        }
+
+        new TaskSchedule("s0") //
+                .task("t0", TestAtomics::atomicArrayAdd, keys, bins, longBins, floatBins) //
+                .streamOut(bins, longBins, floatBins) //
+                .execute();
+
+        assertArrayEquals(expected, bins);
+        for (int i = 0; i < numBins; i++) {
+            assertEquals((long) expected[i] << 32, longBins[i]);
+            assertEquals(2.0f * expected[i], floatBins[i], 0.0f);
+        }
+    }
+
+    public static void atomicArrayMinMax(int[] input, int[] minMax, long[] longMinMax) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            TornadoAtomics.min(minMax, 0, input[i]);
+            TornadoAtomics.max(minMax, 1, input[i]);
+            TornadoAtomics.min(longMinMax, 0, (long) input[i] * input[i]);
+            TornadoAtomics.max(longMinMax, 1, (long) input[i] * input[i]);
+        }
+    }
+
+    @Test
+    public void testAtomicArrayMinMax() {
+        final int size = 4096;
+        int[] input = new int[size];
+        int[] minMax = new int[] { Integer.MAX_VALUE, Integer.MIN_VALUE };
+        long[] longMinMax = new long[] { Long.MAX_VALUE, Long.MIN_VALUE };
+
+        for (int i = 0; i < size; i++) {
+            input[i] = (i * 31) % 1000 - 500;
+        }
+
+        new TaskSchedule("s0") //
+                .streamIn(minMax, longMinMax) //
+                .task("t0", TestAtomics::atomicArrayMinMax, input, minMax, longMinMax) //
+                .streamOut(minMax, longMinMax) //
+                .execute();
+
+        assertEquals(-500, minMax[0]);
+        assertEquals(499, minMax[1]);
+        assertEquals(0L, longMinMax[0]);
+        assertEquals(250000L, longMinMax[1]);
+    }
+
+    public static void atomicArrayFloatMax(float[] input, float[] max) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            TornadoAtomics.max(max, i % max.length, input[i]);
+        }
+    }
+
+    @Test
+    public void testAtomicArrayFloatMax() {
+        final int size = 4096;
+        float[] input = new float[size];
+        float[] max = new float[4];
+        float[] expected = new float[max.length];
+        Arrays.fill(max, -Float.MAX_VALUE);
+        Arrays.fill(expected, -Float.MAX_VALUE);
+
+        for (int i = 0; i < size; i++) {
+            input[i] = (float) Math.sin(i);
+            expected[i % max.length] = Math.max(expected[i % max.length], input[i]);
+        }
+
+        new TaskSchedule("s0") //
+                .streamIn(max) //
+                .task("t0", TestAtomics::atomicArrayFloatMax, input, max) //
+                .streamOut(max) //
+                .execute();
+
+        assertArrayEquals(expected, max, 0.0f);
+    }
+
+    public static void atomicArrayCompareAndSwap(int[] owners, int[] previous) {
+        for (@Parallel int i = 0; i < previous.length; i++) {
+            previous[i] = TornadoAtomics.compareAndSwap(owners, i % owners.length, -1, i);
+        }
+    }
+
+    @Test
+    public void testAtomicArrayCompareAndSwap() {
+        final int size = 2048;
+        final int numSlots = 8;
+        int[] owners = new int[numSlots];
+        int[] previous = new int[size];
+        Arrays.fill(owners, -1);
+
+        new TaskSchedule("s0") //
+                .streamIn(owners) //
+                .task("t0", TestAtomics::atomicArrayCompareAndSwap, owners, previous) //
+                .streamOut(owners, previous) //
+                .execute();
+
+        // Exactly one thread claims every slot: it is the only one that saw
+        // the slot free, and the slot holds its index.
+        for (int slot = 0; slot < numSlots; slot++) {
+            int winners = 0;
+            for (int i = slot; i < size; i += numSlots) {
+                if (previous[i] == -1) {
+                    winners++;
+                    assertEquals(i, owners[slot]);
+                } else {
+                    assertEquals(owners[slot], previous[i]);
+                }
+            }
+            assertEquals(1, winners);
+        }
+    }
+
+    public static void atomicArrayFloatCompareAndSwap(float[] owners, float[] previous) {
+        for (@Parallel int i = 0; i < previous.length; i++) {
+            previous[i] = TornadoAtomics.compareAndSwap(owners, i % owners.length, -1.0f, i);
+        }
+    }
+
+    @Test
+    public void testAtomicArrayFloatCompareAndSwap() {
+        final int size = 2048;
+        final int numSlots = 8;
+        float[] owners = new float[numSlots];
+        float[] previous = new float[size];
+        Arrays.fill(owners, -1.0f);
+
+        new TaskSchedule("s0") //
+                .streamIn(owners) //
+                .task("t0", TestAtomics::atomicArrayFloatCompareAndSwap, owners, previous) //
+                .streamOut(owners, previous) //
+                .execute();
+
+        for (int slot = 0; slot < numSlots; slot++) {
+            int winners = 0;
+            for (int i = slot; i < size; i += numSlots) {
+                if (previous[i] == -1.0f) {
+                    winners++;
+                    assertEquals(i, owners[slot], 0.0f);
+                } else {
+                    assertEquals(owners[slot], previous[i], 0.0f);
+                }
+            }
+            assertEquals(1, winners);
+        }
+    }
+
 }
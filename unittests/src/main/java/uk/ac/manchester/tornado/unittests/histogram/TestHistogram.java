@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.histogram;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.collections.algorithms.Histogram;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+public class TestHistogram extends TornadoTestBase {
+
+    private static final int SIZE = 1 << 20;
+    private static final int NUM_BUCKETS = 256;
+
+    private static int[] createUniformKeys(int size, int numBuckets) {
+        int[] keys = new int[size];
+        Random r = new Random(7);
+        IntStream.range(0, size).forEach(i -> keys[i] = r.nextInt(numBuckets));
+        return keys;
+    }
+
+    /**
+     * Power-law keys: most of the keys fall in the first few buckets.
+     */
+    private static int[] createSkewedKeys(int size, int numBuckets) {
+        int[] keys = new int[size];
+        Random r = new Random(7);
+        IntStream.range(0, size).forEach(i -> keys[i] = (int) (numBuckets * Math.pow(r.nextDouble(), 8)));
+        return keys;
+    }
+
+    private static float[] createValues(int size) {
+        float[] values = new float[size];
+        Random r = new Random(7);
+        IntStream.range(0, size).forEach(i -> values[i] = r.nextFloat());
+        return values;
+    }
+
+    private static void checkCounts(int[] keys, int numBuckets) {
+        int[] sequential = new int[numBuckets];
+        Histogram.histogramSequential(keys, null, sequential, null, null, null);
+
+        int[] counts = Histogram.histogram(keys, numBuckets);
+
+        assertArrayEquals(sequential, counts);
+    }
+
+    private static void checkAggregates(int[] keys, float[] values, int numBuckets) {
+        int[] counts = new int[numBuckets];
+        float[] sums = new float[numBuckets];
+        float[] mins = new float[numBuckets];
+        float[] maxs = new float[numBuckets];
+        Histogram.histogramSequential(keys, values, counts, sums, mins, maxs);
+
+        Histogram histogram = new Histogram(keys, values, numBuckets);
+        histogram.execute();
+
+        assertArrayEquals(counts, histogram.getCounts());
+        assertArrayEquals(mins, histogram.getMins(), 0.0f);
+        assertArrayEquals(maxs, histogram.getMaxs(), 0.0f);
+        for (int i = 0; i < numBuckets; i++) {
+            // The partial sums are added in a different order
+            assertEquals(sums[i], histogram.getSums()[i], Math.max(0.01f, sums[i] * 1e-3f));
+        }
+    }
+
+    @Test
+    public void testHistogramUniform() {
+        checkCounts(createUniformKeys(SIZE, NUM_BUCKETS), NUM_BUCKETS);
+    }
+
+    @Test
+    public void testHistogramSkewed() {
+        checkCounts(createSkewedKeys(SIZE, NUM_BUCKETS), NUM_BUCKETS);
+    }
+
+    @Test
+    public void testHistogramOutOfRangeKeys() {
+        int[] keys = createUniformKeys(SIZE, NUM_BUCKETS + 16);
+        keys[0] = -1;
+        checkCounts(keys, NUM_BUCKETS);
+    }
+
+    @Test
+    public void testHistogramManyBuckets() {
+        // A single copy: the work-items update the counts directly
+        checkCounts(createUniformKeys(SIZE, 1 << 20), 1 << 20);
+    }
+
+    @Test
+    public void testGroupByUniform() {
+        checkAggregates(createUniformKeys(SIZE, NUM_BUCKETS), createValues(SIZE), NUM_BUCKETS);
+    }
+
+    @Test
+    public void testGroupBySkewed() {
+        checkAggregates(createSkewedKeys(SIZE, 4096), createValues(SIZE), 4096);
+    }
+
+    @Test
+    public void testGroupByManyBuckets() {
+        checkAggregates(createUniformKeys(SIZE, 1 << 20), createValues(SIZE), 1 << 20);
+    }
+}
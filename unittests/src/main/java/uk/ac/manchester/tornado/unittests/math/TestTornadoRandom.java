@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package uk.ac.manchester.tornado.unittests.math;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.collections.math.TornadoRandom;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+public class TestTornadoRandom extends TornadoTestBase {
+
+    private static final long SEED = 0x5DEECE66DL;
+
+    public static void randomInts(int[] output, long seed) {
+        for (@Parallel int i = 0; i < output.length; i++) {
+            output[i] = TornadoRandom.nextInt(seed, i / TornadoRandom.LANES, i % TornadoRandom.LANES);
+        }
+    }
+
+    public static void randomFloats(float[] output, long seed) {
+        for (@Parallel int i = 0; i < output.length; i++) {
+            output[i] = TornadoRandom.nextFloat(seed, i / TornadoRandom.LANES, i % TornadoRandom.LANES);
+        }
+    }
+
+    public static void randomGaussians(float[] output, long seed) {
+        for (@Parallel int i = 0; i < output.length; i++) {
+            output[i] = TornadoRandom.nextGaussian(seed, i / TornadoRandom.LANES, i % TornadoRandom.LANES);
+        }
+    }
+
+    public static void monteCarloPi(float[] output, int iterations, long seed) {
+        for (@Parallel int i = 0; i < output.length; i++) {
+            float sum = 0.0f;
+            for (int j = 0; j < iterations; j++) {
+                long counter = (long) i * iterations + j;
+                float x = TornadoRandom.nextFloat(seed, counter, 0);
+                float y = TornadoRandom.nextFloat(seed, counter, 1);
+                if (x * x + y * y <= 1.0f) {
+                    sum += 1.0f;
+                }
+            }
+            output[i] = 4.0f * sum / iterations;
+        }
+    }
+
+    @Test
+    public void testKnownAnswers() {
+        // Known-answer vectors of the Random123 reference implementation
+        int[] zero = new int[TornadoRandom.LANES];
+        int[] ones = new int[TornadoRandom.LANES];
+        for (int lane = 0; lane < TornadoRandom.LANES; lane++) {
+            zero[lane] = TornadoRandom.philox(0, 0, 0, 0, 0, 0, lane);
+            ones[lane] = TornadoRandom.philox(-1, -1, -1, -1, -1, -1, lane);
+        }
+        assertArrayEquals(new int[] { 0x6627e8d5, 0xe169c58d, 0xbc57ac4c, 0x9b00dbd8 }, zero);
+        assertArrayEquals(new int[] { 0x408f276d, 0x41c83b0e, 0xa20bc7c6, 0x6d5451fd }, ones);
+    }
+
+    @Test
+    public void testRandomInts() {
+        final int size = 8192;
+        int[] output = new int[size];
+        int[] sequential = new int[size];
+
+        new TaskSchedule("s0") //
+                .task("t0", TestTornadoRandom::randomInts, output, SEED) //
+                .streamOut(output) //
+                .execute();
+
+        randomInts(sequential, SEED);
+        assertArrayEquals(sequential, output);
+    }
+
+    @Test
+    public void testRandomFloats() {
+        final int size = 8192;
+        float[] output = new float[size];
+        float[] sequential = new float[size];
+
+        new TaskSchedule("s0") //
+                .task("t0", TestTornadoRandom::randomFloats, output, SEED) //
+                .streamOut(output) //
+                .execute();
+
+        randomFloats(sequential, SEED);
+        // Uniform floats are bit-identical
+        assertArrayEquals(sequential, output, 0.0f);
+    }
+
+    @Test
+    public void testRandomGaussians() {
+        final int size = 8192;
+        float[] output = new float[size];
+        float[] sequential = new float[size];
+
+        new TaskSchedule("s0") //
+                .task("t0", TestTornadoRandom::randomGaussians, output, SEED) //
+                .streamOut(output) //
+                .execute();
+
+        randomGaussians(sequential, SEED);
+        assertArrayEquals(sequential, output, 1e-3f);
+    }
+
+    @Test
+    public void testMonteCarloPi() {
+        final int size = 1024;
+        final int iterations = 1024;
+        float[] output = new float[size];
+        float[] sequential = new float[size];
+
+        new TaskSchedule("s0") //
+                .task("t0", TestTornadoRandom::monteCarloPi, output, iterations, SEED) //
+                .streamOut(output) //
+                .execute();
+
+        monteCarloPi(sequential, iterations, SEED);
+        assertArrayEquals(sequential, output, 0.0f);
+
+        float pi = 0.0f;
+        for (float value : output) {
+            pi += value;
+        }
+        assertEquals(Math.PI, pi / size, 0.01);
+    }
+}
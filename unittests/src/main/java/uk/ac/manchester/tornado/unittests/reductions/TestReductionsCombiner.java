@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2013-2020, APT Group, School of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package uk.ac.manchester.tornado.unittests.reductions;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.common.ReduceCombiner;
+import uk.ac.manchester.tornado.api.common.ReduceCombiners;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+public class TestReductionsCombiner extends TornadoTestBase {
+
+    private static final int SIZE = 4096;
+
+    /**
+     * Minimum and maximum in a single pass: element 0 holds the minimum and
+     * element 1 the maximum.
+     */
+    public static class MinMaxFloat implements ReduceCombiner {
+
+        @Override
+        public int getWidth() {
+            return 2;
+        }
+
+        @Override
+        public void identity(Object array, int offset) {
+            float[] a = (float[]) array;
+            a[offset] = Float.POSITIVE_INFINITY;
+            a[offset + 1] = Float.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        public void combine(Object array, int offset, Object other, int otherOffset) {
+            float[] a = (float[]) array;
+            float[] b = (float[]) other;
+            a[offset] = Math.min(a[offset], b[otherOffset]);
+            a[offset + 1] = Math.max(a[offset + 1], b[otherOffset + 1]);
+        }
+    }
+
+    private static void argMax(float[] input, @Reduce(combiner = ReduceCombiners.ArgMaxFloat.class) float[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            if (result[1] < 0 || input[i] > result[0]) {
+                result[0] = input[i];
+                result[1] = i;
+            }
+        }
+    }
+
+    private static void argMin(int[] input, @Reduce(combiner = ReduceCombiners.ArgMinInt.class) int[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            if (result[1] < 0 || input[i] < result[0]) {
+                result[0] = input[i];
+                result[1] = i;
+            }
+        }
+    }
+
+    private static void minMax(float[] input, @Reduce(combiner = MinMaxFloat.class) float[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            result[0] = Math.min(result[0], input[i]);
+            result[1] = Math.max(result[1], input[i]);
+        }
+    }
+
+    private static float[] createInput(int size) {
+        float[] input = new float[size];
+        Random r = new Random();
+        IntStream.range(0, size).forEach(i -> input[i] = r.nextFloat());
+        return input;
+    }
+
+    private static void checkArgMax(int size) {
+        float[] input = createInput(size);
+        float[] result = new float[2];
+
+        //@formatter:off
+        TaskSchedule ts = new TaskSchedule("s0")
+                .streamIn(input)
+                .task("t0", TestReductionsCombiner::argMax, input, result)
+                .streamOut(result);
+        //@formatter:on
+        ts.execute();
+
+        float[] sequential = new float[] { Float.NEGATIVE_INFINITY, -1 };
+        argMax(input, sequential);
+
+        assertEquals(sequential[0], result[0], 0.0f);
+        assertEquals(sequential[1], result[1], 0.0f);
+
+        // The partial results are initialised again on every execution
+        input[size / 2] = 2.0f;
+        ts.execute();
+        assertEquals(2.0f, result[0], 0.0f);
+        assertEquals(size / 2, result[1], 0.0f);
+    }
+
+    @Test
+    public void testArgMax() {
+        checkArgMax(SIZE);
+    }
+
+    @Test
+    public void testArgMaxNotPowerOfTwo() {
+        checkArgMax(1000);
+    }
+
+    @Test
+    public void testArgMinFirstOccurrence() {
+        int[] input = new int[SIZE];
+        int[] result = new int[2];
+        Random r = new Random();
+        IntStream.range(0, SIZE).forEach(i -> input[i] = 10 + r.nextInt(100));
+        input[100] = 1;
+        input[3000] = 1;
+
+        //@formatter:off
+        new TaskSchedule("s0")
+                .streamIn(input)
+                .task("t0", TestReductionsCombiner::argMin, input, result)
+                .streamOut(result)
+                .execute();
+        //@formatter:on
+
+        assertEquals(1, result[0]);
+        assertEquals(100, result[1]);
+    }
+
+    @Test
+    public void testUserCombiner() {
+        float[] input = createInput(SIZE);
+        float[] result = new float[2];
+
+        //@formatter:off
+        new TaskSchedule("s0")
+                .streamIn(input)
+                .task("t0", TestReductionsCombiner::minMax, input, result)
+                .streamOut(result)
+                .execute();
+        //@formatter:on
+
+        float[] sequential = new float[] { Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY };
+        minMax(input, sequential);
+
+        assertEquals(sequential[0], result[0], 0.0f);
+        assertEquals(sequential[1], result[1], 0.0f);
+    }
+}
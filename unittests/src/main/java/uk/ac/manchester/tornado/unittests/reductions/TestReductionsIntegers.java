@@ -631,4 +631,97 @@ public class TestReductionsIntegers extends TornadoTestBase {
         assertEquals(sequential[0], result[0]);
     }
 
+    private static void orReductionAnnotation(int[] input, @Reduce int[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            result[0] |= input[i];
+        }
+    }
+
+    @Test
+    public void testOrReduction() {
+        int[] input = new int[SIZE];
+
+        Random r = new Random();
+        IntStream.range(0, SIZE).forEach(idx -> {
+            input[idx] = r.nextInt();
+        });
+
+        int[] result = new int[] { 0 };
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .streamIn(input)
+            .task("t0", TestReductionsIntegers::orReductionAnnotation, input, result)
+            .streamOut(result)
+            .execute();
+        //@formatter:on
+
+        int[] sequential = new int[] { 0 };
+        orReductionAnnotation(input, sequential);
+
+        assertEquals(sequential[0], result[0]);
+    }
+
+    private static void andReductionAnnotation(int[] input, @Reduce int[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            result[0] &= input[i];
+        }
+    }
+
+    @Test
+    public void testAndReduction() {
+        int[] input = new int[SIZE];
+
+        Random r = new Random();
+        IntStream.range(0, SIZE).forEach(idx -> {
+            input[idx] = r.nextInt();
+        });
+
+        int[] result = new int[] { -1 };
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .streamIn(input)
+            .task("t0", TestReductionsIntegers::andReductionAnnotation, input, result)
+            .streamOut(result)
+            .execute();
+        //@formatter:on
+
+        int[] sequential = new int[] { -1 };
+        andReductionAnnotation(input, sequential);
+
+        assertEquals(sequential[0], result[0]);
+    }
+
+    private static void xorReductionAnnotation(int[] input, @Reduce int[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            result[0] ^= input[i];
+        }
+    }
+
+    @Test
+    public void testXorReduction() {
+        int[] input = new int[SIZE];
+
+        Random r = new Random();
+        IntStream.range(0, SIZE).forEach(idx -> {
+            input[idx] = r.nextInt();
+        });
+
+        int[] result = new int[] { 0 };
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .streamIn(input)
+            .task("t0", TestReductionsIntegers::xorReductionAnnotation, input, result)
+            .streamOut(result)
+            .execute();
+        //@formatter:on
+
+        int[] sequential = new int[] { 0 };
+        xorReductionAnnotation(input, sequential);
+
+        assertEquals(sequential[0], result[0]);
+    }
+
 }
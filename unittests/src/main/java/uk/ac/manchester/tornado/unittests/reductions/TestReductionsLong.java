@@ -219,4 +219,97 @@ public class TestReductionsLong extends TornadoTestBase {
         assertEquals(sequential[0], result[0]);
     }
 
+    private static void orReductionAnnotation(long[] input, @Reduce long[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            result[0] |= input[i];
+        }
+    }
+
+    @Test
+    public void testOrReduction() {
+        long[] input = new long[SIZE];
+
+        Random r = new Random();
+        IntStream.range(0, SIZE).forEach(idx -> {
+            input[idx] = r.nextLong();
+        });
+
+        long[] result = new long[] { 0L };
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .streamIn(input)
+            .task("t0", TestReductionsLong::orReductionAnnotation, input, result)
+            .streamOut(result)
+            .execute();
+        //@formatter:on
+
+        long[] sequential = new long[] { 0L };
+        orReductionAnnotation(input, sequential);
+
+        assertEquals(sequential[0], result[0]);
+    }
+
+    private static void andReductionAnnotation(long[] input, @Reduce long[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            result[0] &= input[i];
+        }
+    }
+
+    @Test
+    public void testAndReduction() {
+        long[] input = new long[SIZE];
+
+        Random r = new Random();
+        IntStream.range(0, SIZE).forEach(idx -> {
+            input[idx] = r.nextLong();
+        });
+
+        long[] result = new long[] { -1L };
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .streamIn(input)
+            .task("t0", TestReductionsLong::andReductionAnnotation, input, result)
+            .streamOut(result)
+            .execute();
+        //@formatter:on
+
+        long[] sequential = new long[] { -1L };
+        andReductionAnnotation(input, sequential);
+
+        assertEquals(sequential[0], result[0]);
+    }
+
+    private static void xorReductionAnnotation(long[] input, @Reduce long[] result) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            result[0] ^= input[i];
+        }
+    }
+
+    @Test
+    public void testXorReduction() {
+        long[] input = new long[SIZE];
+
+        Random r = new Random();
+        IntStream.range(0, SIZE).forEach(idx -> {
+            input[idx] = r.nextLong();
+        });
+
+        long[] result = new long[] { 0L };
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .streamIn(input)
+            .task("t0", TestReductionsLong::xorReductionAnnotation, input, result)
+            .streamOut(result)
+            .execute();
+        //@formatter:on
+
+        long[] sequential = new long[] { 0L };
+        xorReductionAnnotation(input, sequential);
+
+        assertEquals(sequential[0], result[0]);
+    }
+
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.scan;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.collections.algorithms.PrefixSum;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+public class TestPrefixSum extends TornadoTestBase {
+
+    private static int[] createIntInput(int size) {
+        int[] input = new int[size];
+        Random r = new Random(7);
+        IntStream.range(0, size).forEach(i -> input[i] = r.nextInt(100));
+        return input;
+    }
+
+    private static float[] createFloatInput(int size) {
+        float[] input = new float[size];
+        Random r = new Random(7);
+        IntStream.range(0, size).forEach(i -> input[i] = r.nextFloat());
+        return input;
+    }
+
+    private static void checkInt(int size, int blockSize, boolean inclusive) {
+        int[] input = createIntInput(size);
+        int[] output = new int[size];
+        int[] sequential = new int[size];
+
+        new PrefixSum(input, output, inclusive, blockSize).execute();
+        PrefixSum.scanSequential(input, sequential, inclusive);
+
+        assertArrayEquals(sequential, output);
+    }
+
+    private static void checkFloat(int size, int blockSize, boolean inclusive) {
+        float[] input = createFloatInput(size);
+        float[] output = new float[size];
+        float[] sequential = new float[size];
+
+        new PrefixSum(input, output, inclusive, blockSize).execute();
+        PrefixSum.scanSequential(input, sequential, inclusive);
+
+        // The parallel scan adds the values in a different order
+        for (int i = 0; i < size; i++) {
+            assertEquals(sequential[i], output[i], Math.max(0.01f, sequential[i] * 1e-4f));
+        }
+    }
+
+    @Test
+    public void testExclusiveScanInt() {
+        checkInt(1 << 16, PrefixSum.DEFAULT_BLOCK_SIZE, false);
+    }
+
+    @Test
+    public void testInclusiveScanInt() {
+        checkInt(1 << 16, PrefixSum.DEFAULT_BLOCK_SIZE, true);
+    }
+
+    @Test
+    public void testScanIntNonPowerOfTwo() {
+        checkInt(100_003, PrefixSum.DEFAULT_BLOCK_SIZE, false);
+    }
+
+    @Test
+    public void testScanIntThreeLevels() {
+        // Needs two levels of block sums before the top-level scan
+        checkInt(16 * 16 * 16 * 3 + 5, 16, true);
+    }
+
+    @Test
+    public void testScanIntBlockSizeNonPowerOfTwo() {
+        // Blocks of 100 elements are scanned with steps of distance 1 to 64
+        checkInt(12_345, 100, false);
+        checkInt(12_345, 100, true);
+    }
+
+    @Test
+    public void testScanIntSingleBlock() {
+        // Fits in one block: computed on the host
+        checkInt(100, PrefixSum.DEFAULT_BLOCK_SIZE, false);
+    }
+
+    @Test
+    public void testExclusiveScanFloat() {
+        checkFloat(1 << 16, PrefixSum.DEFAULT_BLOCK_SIZE, false);
+    }
+
+    @Test
+    public void testInclusiveScanFloat() {
+        checkFloat(100_003, PrefixSum.DEFAULT_BLOCK_SIZE, true);
+    }
+
+    @Test
+    public void testScanReuse() {
+        final int size = 1 << 14;
+        int[] input = createIntInput(size);
+        int[] output = new int[size];
+        int[] sequential = new int[size];
+
+        PrefixSum scan = new PrefixSum(input, output, false);
+        scan.execute();
+        PrefixSum.scanSequential(input, sequential, false);
+        assertArrayEquals(sequential, output);
+
+        // The input is streamed in on every execution
+        IntStream.range(0, size).forEach(i -> input[i] = i % 3);
+        scan.execute();
+        PrefixSum.scanSequential(input, sequential, false);
+        assertArrayEquals(sequential, output);
+    }
+}
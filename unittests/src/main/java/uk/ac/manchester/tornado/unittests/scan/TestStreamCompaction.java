@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.scan;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.collections.algorithms.StreamCompaction;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+public class TestStreamCompaction extends TornadoTestBase {
+
+    private static final int SIZE = 1 << 18;
+
+    private static void selectMultiplesOfFifty(int[] input, int[] flags) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            flags[i] = (input[i] % 50 == 0) ? 1 : 0;
+        }
+    }
+
+    private static void selectLarge(float[] input, int[] flags) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            flags[i] = (input[i] > 0.98f) ? 1 : 0;
+        }
+    }
+
+    @Test
+    public void testCompactionInt() {
+        int[] input = new int[SIZE];
+        int[] output = new int[SIZE];
+        Random r = new Random(7);
+        IntStream.range(0, SIZE).forEach(i -> input[i] = r.nextInt(1000));
+
+        int count = StreamCompaction.filter(input, output, TestStreamCompaction::selectMultiplesOfFifty);
+
+        int expected = 0;
+        for (int value : input) {
+            if (value % 50 == 0) {
+                assertEquals(value, output[expected]);
+                expected++;
+            }
+        }
+        assertEquals(expected, count);
+    }
+
+    @Test
+    public void testCompactionFloat() {
+        float[] input = new float[SIZE];
+        float[] output = new float[SIZE];
+        Random r = new Random(7);
+        IntStream.range(0, SIZE).forEach(i -> input[i] = r.nextFloat());
+
+        int count = StreamCompaction.filter(input, output, TestStreamCompaction::selectLarge);
+
+        int expected = 0;
+        for (float value : input) {
+            if (value > 0.98f) {
+                assertEquals(value, output[expected], 0.0f);
+                expected++;
+            }
+        }
+        assertEquals(expected, count);
+    }
+
+    @Test
+    public void testCompactionLambda() {
+        final int size = 100_003;
+        int[] input = new int[size];
+        int[] output = new int[size];
+        IntStream.range(0, size).forEach(i -> input[i] = i);
+
+        StreamCompaction compaction = new StreamCompaction(input, output, (in, flags) -> {
+            for (@Parallel int i = 0; i < in.length; i++) {
+                flags[i] = ((in[i] & 1) == 0) ? 1 : 0;
+            }
+        });
+
+        int count = compaction.execute();
+        assertEquals((size + 1) / 2, count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(2 * i, output[i]);
+        }
+
+        // Nothing matches after updating the input
+        IntStream.range(0, size).forEach(i -> input[i] = 2 * i + 1);
+        assertEquals(0, compaction.execute());
+    }
+}
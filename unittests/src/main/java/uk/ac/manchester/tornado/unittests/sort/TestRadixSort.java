@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.sort;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.collections.algorithms.RadixSort;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+public class TestRadixSort extends TornadoTestBase {
+
+    private static final int SIZE = 1 << 18;
+
+    @Test
+    public void testSortInt() {
+        int[] keys = new int[SIZE];
+        Random r = new Random(7);
+        IntStream.range(0, SIZE).forEach(i -> keys[i] = r.nextInt());
+        int[] sequential = keys.clone();
+
+        RadixSort.sort(keys);
+        Arrays.sort(sequential);
+
+        assertArrayEquals(sequential, keys);
+    }
+
+    @Test
+    public void testSortLong() {
+        long[] keys = new long[SIZE];
+        Random r = new Random(7);
+        IntStream.range(0, SIZE).forEach(i -> keys[i] = r.nextLong());
+        long[] sequential = keys.clone();
+
+        RadixSort.sort(keys);
+        Arrays.sort(sequential);
+
+        assertArrayEquals(sequential, keys);
+    }
+
+    @Test
+    public void testSortFloat() {
+        float[] keys = new float[SIZE];
+        Random r = new Random(7);
+        IntStream.range(0, SIZE).forEach(i -> keys[i] = (r.nextFloat() - 0.5f) * 1000.0f);
+        keys[0] = -0.0f;
+        keys[1] = 0.0f;
+        keys[2] = Float.NEGATIVE_INFINITY;
+        keys[3] = Float.POSITIVE_INFINITY;
+        float[] sequential = keys.clone();
+
+        RadixSort.sort(keys);
+        Arrays.sort(sequential);
+
+        assertArrayEquals(sequential, keys, 0.0f);
+    }
+
+    @Test
+    public void testSortDouble() {
+        double[] keys = new double[SIZE];
+        Random r = new Random(7);
+        IntStream.range(0, SIZE).forEach(i -> keys[i] = r.nextGaussian());
+        double[] sequential = keys.clone();
+
+        RadixSort.sort(keys);
+        Arrays.sort(sequential);
+
+        assertArrayEquals(sequential, keys, 0.0);
+    }
+
+    @Test
+    public void testSortKeyValue() {
+        final int size = 100_003;
+        int[] keys = new int[size];
+        int[] values = new int[size];
+        Random r = new Random(7);
+        IntStream.range(0, size).forEach(i -> {
+            keys[i] = r.nextInt(1000);
+            values[i] = i;
+        });
+        int[] original = keys.clone();
+
+        RadixSort.sort(keys, values);
+
+        // The sort is stable: equal keys keep the order of their original index
+        for (int i = 0; i < size; i++) {
+            assertEquals(original[values[i]], keys[i]);
+            if (i > 0) {
+                assertTrue(keys[i - 1] <= keys[i]);
+                if (keys[i - 1] == keys[i]) {
+                    assertTrue(values[i - 1] < values[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSortSmall() {
+        // Fits in one block: sorted on the host
+        int[] keys = new int[] { 5, -3, 12, 0, -3, 7 };
+        RadixSort.sort(keys);
+        assertArrayEquals(new int[] { -3, -3, 0, 5, 7, 12 }, keys);
+    }
+
+    @Test
+    public void testSortReuse() {
+        float[] keys = new float[SIZE];
+        Random r = new Random(7);
+        IntStream.range(0, SIZE).forEach(i -> keys[i] = r.nextFloat());
+
+        RadixSort sort = new RadixSort(keys);
+        for (int i = 0; i < 3; i++) {
+            float[] sequential = keys.clone();
+            Arrays.sort(sequential);
+            sort.execute();
+            assertArrayEquals(sequential, keys, 0.0f);
+            IntStream.range(0, SIZE).forEach(j -> keys[j] = r.nextFloat());
+        }
+    }
+}
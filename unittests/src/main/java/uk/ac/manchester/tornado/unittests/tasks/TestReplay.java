@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package uk.ac.manchester.tornado.unittests.tasks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridTask;
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.TornadoDriver;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntime;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Repeated executions of the same {@link TaskSchedule}. After the first
+ * execution, the TornadoVM replays the recorded driver operations. These tests
+ * check that the replay observes the new input data and that updating the
+ * references, using a grid or changing the device invalidates the recording.
+ */
+public class TestReplay extends TornadoTestBase {
+
+    private static final int ITERATIONS = 20;
+
+    /**
+     * The replay is disabled with -Dtornado.vm.replay=False, the profiler and the
+     * printing of the bytecodes.
+     */
+    private static boolean isReplayEnabled() {
+        return Boolean.parseBoolean(System.getProperty("tornado.vm.replay", "True")) //
+                && !Boolean.parseBoolean(System.getProperty("tornado.profiler", "False")) //
+                && !Boolean.parseBoolean(System.getProperty("tornado.print.bytecodes", "False"));
+    }
+
+    public static void add(int[] a, int[] b, int[] c) {
+        for (@Parallel int i = 0; i < c.length; i++) {
+            c[i] = a[i] + b[i];
+        }
+    }
+
+    public static void multiply(int[] c, int value) {
+        for (@Parallel int i = 0; i < c.length; i++) {
+            c[i] = c[i] * value;
+        }
+    }
+
+    @Test
+    public void testReplayWithNewInputs() {
+        final int numElements = 1024;
+        int[] a = new int[numElements];
+        int[] b = new int[numElements];
+        int[] c = new int[numElements];
+
+        //@formatter:off
+        TaskSchedule s0 = new TaskSchedule("s0")
+                .streamIn(a, b)
+                .task("t0", TestReplay::add, a, b, c)
+                .streamOut(c);
+        //@formatter:on
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            Arrays.fill(a, iteration);
+            Arrays.fill(b, 2 * iteration);
+            s0.execute();
+            assertEquals(isReplayEnabled() && iteration > 0, s0.isLastExecutionReplayed());
+            for (int i = 0; i < numElements; i++) {
+                assertEquals(3 * iteration, c[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testReplayMultipleTasks() {
+        final int numElements = 1024;
+        int[] a = new int[numElements];
+        int[] b = new int[numElements];
+        int[] c = new int[numElements];
+
+        //@formatter:off
+        TaskSchedule s0 = new TaskSchedule("s0")
+                .streamIn(a, b)
+                .task("t0", TestReplay::add, a, b, c)
+                .task("t1", TestReplay::multiply, c, 2)
+                .streamOut(c);
+        //@formatter:on
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            Arrays.fill(a, iteration);
+            Arrays.fill(b, 1);
+            s0.execute();
+            assertEquals(isReplayEnabled() && iteration > 0, s0.isLastExecutionReplayed());
+            for (int i = 0; i < numElements; i++) {
+                assertEquals(2 * (iteration + 1), c[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testReplayAfterUpdateReference() {
+        final int numElements = 1024;
+        int[] a = new int[numElements];
+        int[] b = new int[numElements];
+        int[] c = new int[numElements];
+        int[] d = new int[numElements];
+
+        Arrays.fill(a, 1);
+        Arrays.fill(b, 2);
+        Arrays.fill(d, 10);
+
+        //@formatter:off
+        TaskSchedule s0 = new TaskSchedule("s0")
+                .streamIn(a, b)
+                .task("t0", TestReplay::add, a, b, c)
+                .streamOut(c);
+        //@formatter:on
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            s0.execute();
+        }
+        for (int i = 0; i < numElements; i++) {
+            assertEquals(3, c[i]);
+        }
+
+        s0.updateReference(b, d);
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            s0.execute();
+            // The first execution after the update compiles a new TornadoVM
+            assertEquals(isReplayEnabled() && iteration > 0, s0.isLastExecutionReplayed());
+            for (int i = 0; i < numElements; i++) {
+                assertEquals(11, c[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testReplayInvalidatedByGrid() {
+        final int numElements = 1024;
+        int[] a = new int[numElements];
+        int[] b = new int[numElements];
+        int[] c = new int[numElements];
+
+        //@formatter:off
+        TaskSchedule s0 = new TaskSchedule("s0")
+                .streamIn(a, b)
+                .task("t0", TestReplay::add, a, b, c)
+                .streamOut(c);
+        //@formatter:on
+
+        Arrays.fill(a, 1);
+        Arrays.fill(b, 2);
+        s0.execute();
+        s0.execute();
+        assertEquals(isReplayEnabled(), s0.isLastExecutionReplayed());
+
+        // The launch uses the grid, so the recorded operations cannot be replayed
+        WorkerGrid1D worker = new WorkerGrid1D(numElements);
+        GridTask gridTask = new GridTask();
+        gridTask.set("s0.t0", worker);
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            Arrays.fill(a, iteration);
+            s0.execute(gridTask);
+            assertFalse(s0.isLastExecutionReplayed());
+            for (int i = 0; i < numElements; i++) {
+                assertEquals(iteration + 2, c[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testReplayInvalidatedByNewDevice() {
+        TornadoDriver driver = TornadoRuntime.getTornadoRuntime().getDriver(0);
+        if (driver.getDeviceCount() < 2) {
+            return;
+        }
+
+        final int numElements = 1024;
+        int[] a = new int[numElements];
+        int[] b = new int[numElements];
+        int[] c = new int[numElements];
+
+        //@formatter:off
+        TaskSchedule s0 = new TaskSchedule("s0")
+                .streamIn(a, b)
+                .task("t0", TestReplay::add, a, b, c)
+                .streamOut(c);
+        //@formatter:on
+
+        Arrays.fill(a, 1);
+        Arrays.fill(b, 2);
+        s0.mapAllTo(driver.getDevice(0));
+        s0.execute();
+        s0.execute();
+        assertEquals(isReplayEnabled(), s0.isLastExecutionReplayed());
+
+        // The new device compiles a new TornadoVM
+        s0.mapAllTo(driver.getDevice(1));
+        s0.execute();
+        assertFalse(s0.isLastExecutionReplayed());
+        for (int i = 0; i < numElements; i++) {
+            assertEquals(3, c[i]);
+        }
+
+        Arrays.fill(b, 3);
+        s0.execute();
+        assertEquals(isReplayEnabled(), s0.isLastExecutionReplayed());
+        for (int i = 0; i < numElements; i++) {
+            assertEquals(4, c[i]);
+        }
+    }
+}
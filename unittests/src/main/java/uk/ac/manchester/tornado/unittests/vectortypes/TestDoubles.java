@@ -30,6 +30,7 @@ import uk.ac.manchester.tornado.api.collections.types.Double2;
 import uk.ac.manchester.tornado.api.collections.types.Double3;
 import uk.ac.manchester.tornado.api.collections.types.Double4;
 import uk.ac.manchester.tornado.api.collections.types.Double8;
+import uk.ac.manchester.tornado.api.collections.types.Double16;
 import uk.ac.manchester.tornado.api.collections.types.VectorDouble;
 import uk.ac.manchester.tornado.api.collections.types.VectorDouble2;
 import uk.ac.manchester.tornado.api.collections.types.VectorDouble3;
@@ -138,6 +139,32 @@ public class TestDoubles extends TornadoTestBase {
         }
     }
 
+    private static void addDouble16(Double16 a, Double16 b, VectorDouble results) {
+        Double16 d16 = Double16.add(a, b);
+        double r = d16.getS0() + d16.getS1() + d16.getS2() + d16.getS3() + d16.getS4() + d16.getS5() + d16.getS6() + d16.getS7() + d16.getS8() + d16.getS9() + d16.getS10() + d16.getS11()
+                + d16.getS12() + d16.getS13() + d16.getS14() + d16.getS15();
+        results.set(0, r);
+    }
+
+    @Test
+    public void testDoubleAdd16() {
+        int size = 1;
+        Double16 a = new Double16(1., 2., 3., 4., 5., 6., 7., 8., 9., 10., 11., 12., 13., 14., 15., 16.);
+        Double16 b = new Double16(16., 15., 14., 13., 12., 11., 10., 9., 8., 7., 6., 5., 4., 3., 2., 1.);
+        VectorDouble output = new VectorDouble(size);
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .task("t0", TestDoubles::addDouble16, a, b, output)
+            .streamOut(output)
+            .execute();
+        //@formatter:on
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(272., output.get(i), 0.001);
+        }
+    }
+
     private static void addDouble(double[] a, double[] b, double[] result) {
         for (@Parallel int i = 0; i < a.length; i++) {
             result[i] = a[i] + b[i];
@@ -32,11 +32,13 @@ import uk.ac.manchester.tornado.api.collections.types.Float3;
 import uk.ac.manchester.tornado.api.collections.types.Float4;
 import uk.ac.manchester.tornado.api.collections.types.Float6;
 import uk.ac.manchester.tornado.api.collections.types.Float8;
+import uk.ac.manchester.tornado.api.collections.types.Float16;
 import uk.ac.manchester.tornado.api.collections.types.VectorFloat;
 import uk.ac.manchester.tornado.api.collections.types.VectorFloat2;
 import uk.ac.manchester.tornado.api.collections.types.VectorFloat3;
 import uk.ac.manchester.tornado.api.collections.types.VectorFloat4;
 import uk.ac.manchester.tornado.api.collections.types.VectorFloat8;
+import uk.ac.manchester.tornado.api.collections.types.VectorFloat16;
 import uk.ac.manchester.tornado.unittests.common.TornadoNotSupported;
 import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
 
@@ -147,6 +149,27 @@ public class TestFloats extends TornadoTestBase {
         assertEquals(120, output.get(0), 0.001f);
     }
 
+    private static void dotMethodFloat16(Float16 a, Float16 b, VectorFloat result) {
+        float dot = Float16.dot(a, b);
+        result.set(0, dot);
+    }
+
+    @Test
+    public void testSimpleDotProductFloat16() {
+        Float16 a = new Float16(1f, 2f, 3f, 4f, 5f, 6f, 7f, 8f, 9f, 10f, 11f, 12f, 13f, 14f, 15f, 16f);
+        Float16 b = new Float16(16f, 15f, 14f, 13f, 12f, 11f, 10f, 9f, 8f, 7f, 6f, 5f, 4f, 3f, 2f, 1f);
+        VectorFloat output = new VectorFloat(1);
+
+        //@formatter:off
+        new TaskSchedule("s0")
+            .task("t0", TestFloats::dotMethodFloat16, a, b, output)
+            .streamOut(output)
+            .execute();
+        //@formatter:on
+
+        assertEquals(816, output.get(0), 0.001f);
+    }
+
     // This is currently not supported
     @Ignore
     public void simpleDotProduct() {
@@ -427,6 +450,46 @@ public class TestFloats extends TornadoTestBase {
         }
     }
 
+    public static void addVectorFloat16(VectorFloat16 a, VectorFloat16 b, VectorFloat16 results) {
+        for (@Parallel int i = 0; i < a.getLength(); i++) {
+            results.set(i, Float16.add(a.get(i), b.get(i)));
+        }
+    }
+
+    @Test
+    public void testVectorFloat16() {
+        int size = 256;
+
+        VectorFloat16 a = new VectorFloat16(size);
+        VectorFloat16 b = new VectorFloat16(size);
+        VectorFloat16 output = new VectorFloat16(size);
+
+        for (int i = 0; i < size; i++) {
+            Float16 x = new Float16();
+            Float16 y = new Float16();
+            for (int j = 0; j < 16; j++) {
+                x.set(j, i + j);
+                y.set(j, size - i);
+            }
+            a.set(i, x);
+            b.set(i, y);
+        }
+
+        //@formatter:off
+        new TaskSchedule("s0")
+                .task("t0", TestFloats::addVectorFloat16, a, b, output)
+                .streamOut(output)
+                .execute();
+        //@formatter:on
+
+        for (int i = 0; i < size; i++) {
+            Float16 result = output.get(i);
+            for (int j = 0; j < 16; j++) {
+                assertEquals(size + j, result.get(j), 0.001);
+            }
+        }
+    }
+
     public static void dotProductFunctionMap(float[] a, float[] b, float[] results) {
         for (@Parallel int i = 0; i < a.length; i++) {
             results[i] = a[i] * b[i];
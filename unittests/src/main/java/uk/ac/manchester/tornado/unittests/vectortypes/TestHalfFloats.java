@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package uk.ac.manchester.tornado.unittests.vectortypes;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskSchedule;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.collections.types.HalfFloat;
+import uk.ac.manchester.tornado.api.collections.types.VectorHalf;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+public class TestHalfFloats extends TornadoTestBase {
+
+    private static void saxpyHalf(float alpha, short[] x, short[] y, short[] result) {
+        for (@Parallel int i = 0; i < result.length; i++) {
+            HalfFloat.store(result, i, alpha * HalfFloat.load(x, i) + HalfFloat.load(y, i));
+        }
+    }
+
+    private static void widenHalf(short[] input, float[] output) {
+        for (@Parallel int i = 0; i < output.length; i++) {
+            output[i] = HalfFloat.load(input, i);
+        }
+    }
+
+    private static void narrowHalf(float[] input, short[] output) {
+        for (@Parallel int i = 0; i < input.length; i++) {
+            HalfFloat.store(output, i, input[i]);
+        }
+    }
+
+    private static void addVectorHalf(VectorHalf a, VectorHalf b, VectorHalf result) {
+        for (@Parallel int i = 0; i < result.size(); i++) {
+            result.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    @Test
+    public void testConversions() {
+        assertEquals(1.0f, HalfFloat.toFloat(HalfFloat.fromFloat(1.0f)), 0.0f);
+        assertEquals(65504.0f, HalfFloat.toFloat(HalfFloat.fromFloat(65504.0f)), 0.0f);
+        assertEquals(Float.POSITIVE_INFINITY, HalfFloat.toFloat(HalfFloat.fromFloat(65520.0f)), 0.0f);
+        assertEquals(5.9604645E-8f, HalfFloat.toFloat(HalfFloat.fromFloat(5.9604645E-8f)), 0.0f);
+        assertEquals((short) 0x3c00, HalfFloat.fromFloat(1.0f));
+        assertEquals((short) 0x3c00, HalfFloat.fromFloat(1.00048828125f));
+        assertEquals((short) 0x3c02, HalfFloat.fromFloat(1.00146484375f));
+    }
+
+    @Test
+    public void testWidenHalf() {
+        final int numElements = 1024;
+        short[] input = new short[numElements];
+        float[] output = new float[numElements];
+        float[] expected = new float[numElements];
+
+        Random r = new Random();
+        for (int i = 0; i < numElements; i++) {
+            input[i] = HalfFloat.fromFloat(r.nextFloat() * 100 - 50);
+        }
+
+        //@formatter:off
+        new TaskSchedule("s0")
+                .streamIn(input)
+                .task("t0", TestHalfFloats::widenHalf, input, output)
+                .streamOut(output)
+                .execute();
+        //@formatter:on
+
+        widenHalf(input, expected);
+        assertArrayEquals(expected, output, 0.0f);
+    }
+
+    @Test
+    public void testNarrowHalf() {
+        final int numElements = 1024;
+        float[] input = new float[numElements];
+        short[] output = new short[numElements];
+        short[] expected = new short[numElements];
+
+        Random r = new Random();
+        for (int i = 0; i < numElements; i++) {
+            input[i] = r.nextFloat() * 100 - 50;
+        }
+
+        //@formatter:off
+        new TaskSchedule("s0")
+                .streamIn(input)
+                .task("t0", TestHalfFloats::narrowHalf, input, output)
+                .streamOut(output)
+                .execute();
+        //@formatter:on
+
+        narrowHalf(input, expected);
+        assertArrayEquals(expected, output);
+    }
+
+    @Test
+    public void testSaxpyHalf() {
+        final int numElements = 4096;
+        final float alpha = 2.0f;
+        short[] x = new short[numElements];
+        short[] y = new short[numElements];
+        short[] result = new short[numElements];
+        short[] expected = new short[numElements];
+
+        Random r = new Random();
+        for (int i = 0; i < numElements; i++) {
+            x[i] = HalfFloat.fromFloat(r.nextFloat());
+            y[i] = HalfFloat.fromFloat(r.nextFloat());
+        }
+
+        //@formatter:off
+        new TaskSchedule("s0")
+                .streamIn(x, y)
+                .task("t0", TestHalfFloats::saxpyHalf, alpha, x, y, result)
+                .streamOut(result)
+                .execute();
+        //@formatter:on
+
+        saxpyHalf(alpha, x, y, expected);
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    public void testVectorHalfAdd() {
+        final int numElements = 256;
+        VectorHalf a = new VectorHalf(numElements);
+        VectorHalf b = new VectorHalf(numElements);
+        VectorHalf result = new VectorHalf(numElements);
+
+        for (int i = 0; i < numElements; i++) {
+            a.set(i, i * 0.5f);
+            b.set(i, i * 0.25f);
+        }
+
+        //@formatter:off
+        new TaskSchedule("s0")
+                .streamIn(a, b)
+                .task("t0", TestHalfFloats::addVectorHalf, a, b, result)
+                .streamOut(result)
+                .execute();
+        //@formatter:on
+
+        for (int i = 0; i < numElements; i++) {
+            assertEquals(HalfFloat.toFloat(HalfFloat.fromFloat(i * 0.75f)), result.get(i), 0.0f);
+        }
+    }
+}
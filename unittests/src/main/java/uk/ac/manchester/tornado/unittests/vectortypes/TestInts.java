@@ -30,11 +30,13 @@ import uk.ac.manchester.tornado.api.collections.types.Int2;
 import uk.ac.manchester.tornado.api.collections.types.Int3;
 import uk.ac.manchester.tornado.api.collections.types.Int4;
 import uk.ac.manchester.tornado.api.collections.types.Int8;
+import uk.ac.manchester.tornado.api.collections.types.Int16;
 import uk.ac.manchester.tornado.api.collections.types.VectorInt;
 import uk.ac.manchester.tornado.api.collections.types.VectorInt2;
 import uk.ac.manchester.tornado.api.collections.types.VectorInt3;
 import uk.ac.manchester.tornado.api.collections.types.VectorInt4;
 import uk.ac.manchester.tornado.api.collections.types.VectorInt8;
+import uk.ac.manchester.tornado.api.collections.types.VectorInt16;
 import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
 
 public class TestInts extends TornadoTestBase {
@@ -642,4 +644,43 @@ public class TestInts extends TornadoTestBase {
         }
     }
 
-}
\ No newline at end of file
+    public static void addVectorInt16(VectorInt16 a, VectorInt16 b, VectorInt16 results) {
+        for (@Parallel int i = 0; i < a.getLength(); i++) {
+            results.set(i, Int16.add(a.get(i), b.get(i)));
+        }
+    }
+
+    @Test
+    public void testVectorAddInt16() {
+        int size = 256;
+
+        VectorInt16 a = new VectorInt16(size);
+        VectorInt16 b = new VectorInt16(size);
+        VectorInt16 output = new VectorInt16(size);
+
+        for (int i = 0; i < size; i++) {
+            Int16 x = new Int16();
+            Int16 y = new Int16();
+            for (int j = 0; j < 16; j++) {
+                x.set(j, i + j);
+                y.set(j, size - i);
+            }
+            a.set(i, x);
+            b.set(i, y);
+        }
+
+        //@formatter:off
+        new TaskSchedule("s0")
+                .task("t0", TestInts::addVectorInt16, a, b, output)
+                .streamOut(output)
+                .execute();
+        //@formatter:on
+
+        for (int i = 0; i < size; i++) {
+            Int16 result = output.get(i);
+            for (int j = 0; j < 16; j++) {
+                assertEquals(size + j, result.get(j));
+            }
+        }
+    }
+}